@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.messaging;
+
+import io.netty.buffer.ByteBuf;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.sxp.util.inet.NodeIdConv;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.Sgt;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBinding;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBindingBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.CapabilityType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.Version;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.sxp.messages.Notification;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures throughput of {@link MessageFactory#parse} for Update messages of specified size, both fully decoded
+ * and as {@link UpdateMessageView},
+ * primary score is in messages per second and auxiliary counter {@code bindings} in bindings per second.
+ * Largest size matches {@link org.opendaylight.sxp.core.Constants#MESSAGE_EXPORT_QUANTITY}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MessageParseBenchmark {
+
+    /**
+     * Counts bindings parsed by one benchmark thread
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+
+        public long bindings;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bindings = 0;
+        }
+    }
+
+    @Param({"1", "50", "150"})
+    private int bindingsPerMessage;
+
+    @Param({"4"})
+    private int peers;
+
+    private ByteBuf message;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final List<NodeId> peerSequence = new ArrayList<>();
+        for (int i = 0; i < peers; i++) {
+            peerSequence.add(NodeIdConv.createNodeId("10.0.0." + (i + 1)));
+        }
+        final List<MasterDatabaseBinding> bindings = new ArrayList<>();
+        for (int i = 0; i < bindingsPerMessage; i++) {
+            final String prefix = i % 4 == 0 ?
+                    "2001:db8::" + Integer.toHexString(i + 1) + "/128" :
+                    "10." + (i >> 8 & 0xFF) + "." + (i & 0xFF) + ".0/24";
+            bindings.add(new MasterDatabaseBindingBuilder().setIpPrefix(new IpPrefix(prefix.toCharArray()))
+                    .setSecurityGroupTag(new Sgt(10 + i % 10))
+                    .setPeerSequence(NodeIdConv.createPeerSequence(peerSequence))
+                    .build());
+        }
+        message =
+                MessageFactory.createUpdate(Collections.<MasterDatabaseBinding>emptyList(), bindings,
+                        NodeIdConv.createNodeId("10.0.0.254"),
+                        Arrays.asList(CapabilityType.Ipv4Unicast, CapabilityType.Ipv6Unicast), null, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        message.release();
+    }
+
+    @Benchmark
+    public Notification parse(Counters counters) throws Exception {
+        final Notification notification = MessageFactory.parse(Version.Version4, message);
+        counters.bindings += bindingsPerMessage;
+        return notification;
+    }
+
+    @Benchmark
+    public Notification parseView(Counters counters) throws Exception {
+        final Notification notification = MessageFactory.parse(Version.Version4, message, true);
+        counters.bindings += bindingsPerMessage;
+        return notification;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.messaging;
+
+import com.google.common.collect.Lists;
+import io.netty.buffer.ByteBuf;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.sxp.core.Configuration;
+import org.opendaylight.sxp.core.messaging.legacy.LegacyMessageFactory;
+import org.opendaylight.sxp.util.BindingGenerator;
+import org.opendaylight.sxp.util.inet.NodeIdConv;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBinding;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.CapabilityType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.Version;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.sxp.messages.Notification;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures encoding and decoding of Update messages carrying add and delete bindings for Version 4
+ * and legacy versions, score is in messages per second.
+ * Bindings are limited to those supported by version, IPv4 hosts for Version 1 and hosts for Version 2.
+ * {@link #encodeTable} encodes unsorted table of bindings with few distinct attribute combinations
+ * into messages of {@code bindingsPerMessage} bindings, optionally grouped by attributes first,
+ * auxiliary counters {@code messages} and {@code bytes} report encoded messages and bytes per second.
+ * Grouping by attributes applies to Version 4 only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class UpdateCodecBenchmark {
+
+    /**
+     * Counts messages and bytes encoded by one benchmark thread
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+
+        public long messages, bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            messages = 0;
+            bytes = 0;
+        }
+    }
+
+    @Param({"Version4", "Version3", "Version2", "Version1"})
+    private Version version;
+
+    @Param({"150"})
+    private int bindingsPerMessage;
+
+    @Param({"true", "false"})
+    private boolean groupByAttributes;
+
+    @Param({"3000"})
+    private int tableSize;
+
+    private NodeId nodeId;
+    private List<CapabilityType> capabilities;
+    private List<MasterDatabaseBinding> addBindings, deleteBindings, table;
+    private ByteBuf message;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final BindingGenerator generator = new BindingGenerator();
+        if (version == Version.Version1) {
+            generator.setIpv6Ratio(0).setSubnetRatio(0);
+        } else if (version == Version.Version2) {
+            generator.setSubnetRatio(0);
+        }
+        deleteBindings = generator.generate(bindingsPerMessage / 2);
+        addBindings = generator.generate(bindingsPerMessage / 2, bindingsPerMessage - bindingsPerMessage / 2);
+        nodeId = NodeIdConv.createNodeId("10.0.0.254");
+        capabilities = Configuration.getCapabilities(version).getCapability();
+        message = createUpdate();
+        table = generator.setSgtCount(4).setPeerCount(4).setPeerSequenceLength(1, 2).generate(tableSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        message.release();
+    }
+
+    /**
+     * @return Update message of benchmarked version
+     */
+    private ByteBuf createUpdate() throws Exception {
+        return createUpdate(deleteBindings, addBindings);
+    }
+
+    /**
+     * @param deleteBindings Bindings that will be deleted
+     * @param addBindings    Bindings that will be added
+     * @return Update message of benchmarked version
+     */
+    private ByteBuf createUpdate(List<MasterDatabaseBinding> deleteBindings, List<MasterDatabaseBinding> addBindings)
+            throws Exception {
+        if (version == Version.Version4) {
+            return MessageFactory.createUpdate(deleteBindings, addBindings, nodeId, capabilities, null,
+                    groupByAttributes);
+        }
+        return LegacyMessageFactory.createUpdate(deleteBindings, addBindings, version, null);
+    }
+
+    @Benchmark
+    public int encode() throws Exception {
+        final ByteBuf update = createUpdate();
+        final int length = update.readableBytes();
+        update.release();
+        return length;
+    }
+
+    @Benchmark
+    public void encodeTable(Counters counters) throws Exception {
+        final List<MasterDatabaseBinding>
+                bindings =
+                groupByAttributes && version == Version.Version4 ? MessageFactory.groupByAttributes(table) : table;
+        for (List<MasterDatabaseBinding> partition : Lists.partition(bindings, bindingsPerMessage)) {
+            final ByteBuf update = createUpdate(null, partition);
+            counters.messages++;
+            counters.bytes += update.readableBytes();
+            update.release();
+        }
+    }
+
+    @Benchmark
+    public Notification decode() throws Exception {
+        return MessageFactory.parse(version, message);
+    }
+}
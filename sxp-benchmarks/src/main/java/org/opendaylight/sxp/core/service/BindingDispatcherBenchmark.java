@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.service;
+
+import io.netty.buffer.ByteBuf;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import org.opendaylight.sxp.core.Configuration;
+import org.opendaylight.sxp.core.SxpConnection;
+import org.opendaylight.sxp.core.SxpNode;
+import org.opendaylight.sxp.core.threading.ThreadsWorker;
+import org.opendaylight.sxp.util.BindingGenerator;
+import org.opendaylight.sxp.util.database.MasterDatabaseImpl;
+import org.opendaylight.sxp.util.database.SxpDatabaseImpl;
+import org.opendaylight.sxp.util.filtering.SxpBindingFilter;
+import org.opendaylight.sxp.util.inet.ExpandedBindings;
+import org.opendaylight.sxp.util.inet.PrefixExpansionCache;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBinding;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.SxpNodeIdentityBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.sxp.connections.fields.connections.ConnectionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.ConnectionMode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures export path of {@link BindingDispatcher} for one peer, {@code partition} only splits bindings
+ * into parts and {@code partitionAndEncode} also creates all Update messages. Version 3 peer requires expansion
+ * of subnet bindings, which is measured alone by {@code expand} with empty expansion cache and by
+ * {@code expandCached} with cache shared by all invocations. Score is time of one invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BindingDispatcherBenchmark {
+
+    @Param({"Version4", "Version3"})
+    private Version version;
+
+    @Param({"10000"})
+    private int bindingsCount;
+
+    @Param({"50"})
+    private int expansionQuantity;
+
+    private ThreadsWorker worker;
+    private SxpNode node;
+    private SxpConnection connection;
+    private BindingDispatcher dispatcher;
+    private List<MasterDatabaseBinding> deleteBindings, addBindings;
+    private PrefixExpansionCache expansionCache;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        worker = new ThreadsWorker(1, 1, 1, 1);
+        node = SxpNode.createInstance(new NodeId("10.0.0.254"),
+                new SxpNodeIdentityBuilder().setSourceIp(new IpAddress("10.0.0.254".toCharArray()))
+                        .setCapabilities(Configuration.getCapabilities(Version.Version4))
+                        .setVersion(Version.Version4)
+                        .setMappingExpanded(expansionQuantity)
+                        .build(), new MasterDatabaseImpl(), new SxpDatabaseImpl(), worker);
+        connection = SxpConnection.create(node,
+                new ConnectionBuilder().setPeerAddress(new IpAddress("10.0.0.1".toCharArray()))
+                        .setVersion(version)
+                        .setMode(ConnectionMode.Listener)
+                        .build(), SxpNode.DEFAULT_DOMAIN);
+        connection.setCapabilitiesRemote(Configuration.getCapabilities(version).getCapability());
+        dispatcher = node.getSvcBindingDispatcher();
+        final BindingGenerator generator = new BindingGenerator();
+        deleteBindings = generator.generate(bindingsCount / 10);
+        addBindings = generator.generate(bindingsCount / 10, bindingsCount - bindingsCount / 10);
+        expansionCache = new PrefixExpansionCache();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        worker.close();
+    }
+
+    @Benchmark
+    public List<BiFunction<SxpConnection, SxpBindingFilter, ByteBuf>> partition() {
+        return dispatcher.partitionBindings(connection, deleteBindings, addBindings);
+    }
+
+    @Benchmark
+    public int partitionAndEncode() {
+        int length = 0;
+        for (BiFunction<SxpConnection, SxpBindingFilter, ByteBuf> part : dispatcher.partitionBindings(connection,
+                deleteBindings, addBindings)) {
+            final ByteBuf message = part.apply(connection, null);
+            length += message.readableBytes();
+            message.release();
+        }
+        return length;
+    }
+
+    /**
+     * @param cache Cache used for expansion
+     * @return Number of bindings after expansion
+     */
+    private int expand(PrefixExpansionCache cache) {
+        int count = 0;
+        for (MasterDatabaseBinding binding : new ExpandedBindings<>(addBindings, expansionQuantity, cache)) {
+            if (binding != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int expand() {
+        return expand(new PrefixExpansionCache());
+    }
+
+    @Benchmark
+    public int expandCached() {
+        return expand(expansionCache);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * DequeMapSequencer class is copy of lock based sequencing previously used by ThreadsWorker,
+ * kept only as baseline for comparison with {@link KeyedSerialExecutor}
+ *
+ * @param <K> Type of key specifying sequence of tasks
+ */
+final class DequeMapSequencer<K> {
+
+    private final Map<K, Deque<SettableListenableFuture>> dequeMap = new HashMap<>();
+    private final FairExecutor executor;
+
+    /**
+     * @param executor Executor used for tasks of all keys
+     */
+    DequeMapSequencer(FairExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @param key  Key specifying sequence of task
+     * @param task Task to be executed
+     * @param <T>  Type of result
+     * @return ListenableFuture that can be used to extract result
+     */
+    <T> ListenableFuture<T> submit(final K key, final Callable<T> task) {
+        synchronized (dequeMap) {
+            if (!dequeMap.containsKey(key)) {
+                dequeMap.put(key, new ArrayDeque<>());
+            }
+        }
+        synchronized (dequeMap.get(key)) {
+            SettableListenableFuture<T> future = new SettableListenableFuture<>(task, executor.getExecutor());
+            dequeMap.get(key).addLast(future);
+            if (dequeMap.get(key).size() == 1) {
+                ListenableFuture<T> callback = executor.submit(future.getTask());
+                callback.addListener(() -> {
+                    synchronized (dequeMap.get(key)) {
+                        dequeMap.get(key).pollFirst();
+                        sequenceRecursion(key);
+                    }
+                }, executor.getExecutor());
+                return callback;
+            } else {
+                return future;
+            }
+        }
+    }
+
+    /**
+     * @return Number of keys held by sequencer
+     */
+    int size() {
+        synchronized (dequeMap) {
+            return dequeMap.size();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void sequenceRecursion(final K key) {
+        SettableListenableFuture future = dequeMap.get(key).peekFirst();
+        if (future != null) {
+            if (!future.isDone()) {
+                future.setFuture(executor.submit(future.getTask())).addListener(() -> {
+                    synchronized (dequeMap.get(key)) {
+                        dequeMap.get(key).pollFirst();
+                        sequenceRecursion(key);
+                    }
+                }, future.getExecutor());
+            } else {
+                dequeMap.get(key).pollFirst();
+                sequenceRecursion(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares sequencing of tasks by {@link KeyedSerialExecutor} with previously used {@link DequeMapSequencer},
+ * each invocation submits specified number of tasks per key over all keys and waits until all of them are done.
+ * Auxiliary counter {@code keysHeld} reports number of keys left in sequencer after the last invocation of iteration,
+ * as old implementation never releases them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class KeyedSerialExecutorBenchmark {
+
+    /**
+     * Holds number of keys left in sequencer by one benchmark thread
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+
+        public long keysHeld;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            keysHeld = 0;
+        }
+    }
+
+    @Param({"10000"})
+    private int keys;
+
+    @Param({"4"})
+    private int tasksPerKey;
+
+    @Param({"4"})
+    private int threads;
+
+    private ListeningExecutorService executorService;
+    private KeyedSerialExecutor<Integer> keyedSerialExecutor;
+    private DequeMapSequencer<Integer> dequeMapSequencer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executorService = MoreExecutors.listeningDecorator(ThreadsWorker.generateExecutor(threads, "BENCHMARK"));
+        final FairExecutor fairExecutor = new FairExecutor(executorService);
+        keyedSerialExecutor = new KeyedSerialExecutor<>(key -> fairExecutor);
+        dequeMapSequencer = new DequeMapSequencer<>(fairExecutor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public void keyedSerialExecutor(Counters counters) throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(keys * tasksPerKey);
+        final Callable<Void> task = () -> {
+            latch.countDown();
+            return null;
+        };
+        for (int i = 0; i < tasksPerKey; i++) {
+            for (int key = 0; key < keys; key++) {
+                keyedSerialExecutor.submit(key, task);
+            }
+        }
+        latch.await();
+        counters.keysHeld = keyedSerialExecutor.size();
+    }
+
+    @Benchmark
+    public void dequeMapSequencer(Counters counters) throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(keys * tasksPerKey);
+        final Callable<Void> task = () -> {
+            latch.countDown();
+            return null;
+        };
+        for (int i = 0; i < tasksPerKey; i++) {
+            for (int key = 0; key < keys; key++) {
+                dequeMapSequencer.submit(key, task);
+            }
+        }
+        latch.await();
+        counters.keysHeld = dequeMapSequencer.size();
+    }
+}
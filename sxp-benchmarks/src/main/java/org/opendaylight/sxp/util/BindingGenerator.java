@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.util;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.opendaylight.sxp.util.inet.NodeIdConv;
+import org.opendaylight.sxp.util.time.TimeConv;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.Sgt;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBinding;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBindingBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.NodeId;
+
+/**
+ * BindingGenerator creates reproducible synthetic bindings for benchmarks.
+ * Prefix of binding depends only on its index and configured ratios, so that the same prefixes can be generated
+ * again with other attributes, while SGTs and PeerSequences of distinct peers are drawn from random generator
+ * with fixed seed.
+ */
+public final class BindingGenerator {
+
+    public static final long DEFAULT_SEED = 0x5350_4E4F_4445L;
+
+    private final long seed;
+    private double ipv6Ratio = 0.25, subnetRatio = 0.1;
+    private int sgtCount = 100, peerCount = 16, minPeerSequence = 1, maxPeerSequence = 4;
+    private long timestamp = 1_500_000_000_000L;
+
+    /**
+     * Creates generator using {@link #DEFAULT_SEED}
+     */
+    public BindingGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    /**
+     * @param seed Seed of random generator used for attributes of bindings
+     */
+    public BindingGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @param ipv6Ratio Ratio of IPv6 prefixes in range [0, 1]
+     * @return This generator
+     */
+    public BindingGenerator setIpv6Ratio(double ipv6Ratio) {
+        Preconditions.checkArgument(ipv6Ratio >= 0 && ipv6Ratio <= 1, "Ratio must be in range [0, 1]");
+        this.ipv6Ratio = ipv6Ratio;
+        return this;
+    }
+
+    /**
+     * @param subnetRatio Ratio of subnet prefixes in range [0, 1]
+     * @return This generator
+     */
+    public BindingGenerator setSubnetRatio(double subnetRatio) {
+        Preconditions.checkArgument(subnetRatio >= 0 && subnetRatio <= 1, "Ratio must be in range [0, 1]");
+        this.subnetRatio = subnetRatio;
+        return this;
+    }
+
+    /**
+     * @param sgtCount Number of distinct SGTs assigned to bindings
+     * @return This generator
+     */
+    public BindingGenerator setSgtCount(int sgtCount) {
+        Preconditions.checkArgument(sgtCount > 0, "Number of SGTs must be positive");
+        this.sgtCount = sgtCount;
+        return this;
+    }
+
+    /**
+     * @param peerCount Number of distinct peers used in PeerSequences
+     * @return This generator
+     */
+    public BindingGenerator setPeerCount(int peerCount) {
+        Preconditions.checkArgument(peerCount > 0 && peerCount < 65536, "Number of peers must be in range [1, 65535]");
+        this.peerCount = peerCount;
+        return this;
+    }
+
+    /**
+     * @param min Minimal length of PeerSequence
+     * @param max Maximal length of PeerSequence
+     * @return This generator
+     */
+    public BindingGenerator setPeerSequenceLength(int min, int max) {
+        Preconditions.checkArgument(min >= 0 && min <= max, "Illegal PeerSequence length range");
+        this.minPeerSequence = min;
+        this.maxPeerSequence = max;
+        return this;
+    }
+
+    /**
+     * @param timestamp Time in milliseconds assigned to all bindings
+     * @return This generator
+     */
+    public BindingGenerator setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    /**
+     * @return NodeIds of all peers that may appear in PeerSequences
+     */
+    public List<NodeId> getPeers() {
+        final List<NodeId> peers = new ArrayList<>(peerCount);
+        for (int i = 0; i < peerCount; i++) {
+            peers.add(getPeer(i));
+        }
+        return peers;
+    }
+
+    /**
+     * @param index Index of peer
+     * @return NodeId of peer
+     */
+    private static NodeId getPeer(int index) {
+        return new NodeId("172.16." + (index >> 8 & 0xFF) + "." + (index & 0xFF));
+    }
+
+    /**
+     * Mixes bits of value, so that consecutive indexes are spread uniformly
+     *
+     * @param value Value to be mixed
+     * @return Mixed value
+     */
+    private static long mix(long value) {
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @param index Index of prefix
+     * @return Prefix with specified index, unique for every index lower than 2^24
+     */
+    public IpPrefix getPrefix(int index) {
+        Preconditions.checkArgument(index >= 0 && index < 1 << 24, "Index must be in range [0, 2^24)");
+        final long hash = mix(index);
+        final boolean ipv6 = (hash & 0xFFFF) < ipv6Ratio * 0x10000,
+                subnet = (hash >>> 16 & 0xFFFF) < subnetRatio * 0x10000;
+        final String prefix;
+        if (ipv6) {
+            prefix = "2001:db8:0:0:0:0:" + Integer.toHexString(index >>> 16) + ":" + Integer.toHexString(
+                    index & 0xFFFF) + "/" + (subnet ? 112 + (hash >>> 32 & 0xF) : 128);
+        } else {
+            prefix = "10." + (index >>> 16 & 0xFF) + "." + (index >>> 8 & 0xFF) + "." + (index & 0xFF) + "/" + (
+                    subnet ? 24 + (hash >>> 32 & 0x7) : 32);
+        }
+        return new IpPrefix(prefix.toCharArray());
+    }
+
+    /**
+     * @param count Number of bindings
+     * @return Bindings with prefixes of indexes [0, count)
+     */
+    public List<MasterDatabaseBinding> generate(int count) {
+        return generate(0, count);
+    }
+
+    /**
+     * Generates bindings, each call with the same arguments returns equal bindings
+     *
+     * @param offset Index of first prefix
+     * @param count  Number of bindings
+     * @return Bindings with prefixes of indexes [offset, offset + count)
+     */
+    public List<MasterDatabaseBinding> generate(int offset, int count) {
+        Preconditions.checkArgument(offset >= 0 && count >= 0, "Offset and count must not be negative");
+        final Random random = new Random(seed ^ offset);
+        final DateAndTime dateAndTime = TimeConv.toDt(timestamp);
+        final MasterDatabaseBindingBuilder builder = new MasterDatabaseBindingBuilder().setTimestamp(dateAndTime);
+        final List<MasterDatabaseBinding> bindings = new ArrayList<>(count);
+        for (int i = offset; i < offset + count; i++) {
+            final int peerSequenceLength =
+                    Math.min(peerCount, minPeerSequence + random.nextInt(maxPeerSequence - minPeerSequence + 1)),
+                    firstPeer = random.nextInt(peerCount);
+            final List<NodeId> peerSequence = new ArrayList<>(peerSequenceLength);
+            for (int j = 0; j < peerSequenceLength; j++) {
+                peerSequence.add(getPeer((firstPeer + j) % peerCount));
+            }
+            bindings.add(builder.setIpPrefix(getPrefix(i))
+                    .setSecurityGroupTag(new Sgt(10 + random.nextInt(sgtCount)))
+                    .setPeerSequence(NodeIdConv.createPeerSequence(peerSequence))
+                    .build());
+        }
+        return Collections.unmodifiableList(bindings);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.util.database;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.sxp.util.BindingGenerator;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBinding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures best path selection of {@link MasterDatabaseImpl}, each invocation adds, replaces or deletes
+ * all bindings of database, score is time of one invocation.
+ * Database is prepared again before every invocation, so that each of them starts from the same state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class MasterDatabaseBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int bindingsCount;
+
+    private List<MasterDatabaseBinding> bindings, betterBindings;
+    private MasterDatabaseImpl database;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bindings = new BindingGenerator().setPeerSequenceLength(2, 4).generate(bindingsCount);
+        betterBindings = new BindingGenerator(~BindingGenerator.DEFAULT_SEED).setPeerSequenceLength(1, 1)
+                .generate(bindingsCount);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpDatabase() {
+        database = new MasterDatabaseImpl();
+    }
+
+    @Benchmark
+    public List<MasterDatabaseBinding> add() {
+        return database.addBindings(bindings);
+    }
+
+    @Benchmark
+    public List<MasterDatabaseBinding> replace(Filled filled) {
+        return filled.database.addBindings(betterBindings);
+    }
+
+    @Benchmark
+    public List<MasterDatabaseBinding> delete(Filled filled) {
+        return filled.database.deleteBindings(bindings);
+    }
+
+    /**
+     * Database already containing all bindings
+     */
+    @State(Scope.Thread)
+    public static class Filled {
+
+        private MasterDatabaseImpl database;
+
+        @Setup(Level.Iteration)
+        public void setUp(MasterDatabaseBenchmark benchmark) {
+            database = new MasterDatabaseImpl();
+            database.addBindings(benchmark.bindings);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.util.database;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.sxp.util.BindingGenerator;
+import org.opendaylight.sxp.util.filtering.SxpBindingFilter;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBinding;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.sxp.database.fields.binding.database.binding.sources.binding.source.sxp.database.bindings.SxpDatabaseBinding;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.NodeId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link SxpDatabaseImpl} holding the same prefixes learned from several peers,
+ * {@code add} and {@code delete} process all bindings of one peer and {@code replace} looks up
+ * replacements for bindings withdrawn by that peer among bindings of the remaining peers.
+ * Database is prepared again before every invocation, so that each of them starts from the same state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class SxpDatabaseBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int bindingsCount;
+
+    @Param({"4"})
+    private int peers;
+
+    private List<NodeId> nodeIds;
+    private List<List<MasterDatabaseBinding>> bindings;
+    private Map<NodeId, SxpBindingFilter> filters;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        nodeIds = new BindingGenerator().setPeerCount(peers).getPeers();
+        bindings = new ArrayList<>(peers);
+        filters = new HashMap<>();
+        for (int i = 0; i < peers; i++) {
+            bindings.add(new BindingGenerator(BindingGenerator.DEFAULT_SEED + i).generate(bindingsCount));
+            if (i > 0) {
+                filters.put(nodeIds.get(i), null);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<SxpDatabaseBinding> add(Filled filled) {
+        return filled.database.addBinding(nodeIds.get(0), bindings.get(0));
+    }
+
+    @Benchmark
+    public List<SxpDatabaseBinding> delete(Filled filled) {
+        return filled.database.deleteBindings(nodeIds.get(1), bindings.get(1));
+    }
+
+    @Benchmark
+    public List<SxpDatabaseBinding> replace(Filled filled) {
+        return SxpDatabase.getReplaceForBindings(bindings.get(0), filled.database, filters);
+    }
+
+    /**
+     * Database containing bindings of all peers except the first one
+     */
+    @State(Scope.Thread)
+    public static class Filled {
+
+        private SxpDatabaseImpl database;
+
+        @Setup(Level.Iteration)
+        public void setUp(SxpDatabaseBenchmark benchmark) {
+            database = new SxpDatabaseImpl();
+            for (int i = 1; i < benchmark.peers; i++) {
+                database.addBinding(benchmark.nodeIds.get(i), benchmark.bindings.get(i));
+            }
+        }
+    }
+}
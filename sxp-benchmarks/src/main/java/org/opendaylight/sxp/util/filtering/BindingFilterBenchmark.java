@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.util.filtering;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.sxp.util.BindingGenerator;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.Sgt;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBinding;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.FilterEntryType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.FilterSpecific;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.FilterType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.MaskRangeOperator;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.PrefixListMask;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.WildcardMask;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.acl.entry.AclMatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.filter.entries.fields.filter.entries.AclFilterEntriesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.filter.entries.fields.filter.entries.PeerSequenceFilterEntriesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.filter.entries.fields.filter.entries.PrefixListFilterEntriesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.filter.entries.fields.filter.entries.acl.filter.entries.AclEntry;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.filter.entries.fields.filter.entries.acl.filter.entries.AclEntryBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.filter.entries.fields.filter.entries.peer.sequence.filter.entries.PeerSequenceEntry;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.filter.entries.fields.filter.entries.peer.sequence.filter.entries.PeerSequenceEntryBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.filter.entries.fields.filter.entries.prefix.list.filter.entries.PrefixListEntry;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.filter.entries.fields.filter.entries.prefix.list.filter.entries.PrefixListEntryBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.prefix.list.entry.PrefixListMatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.prefix.list.match.fields.MaskBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.sgt.match.fields.sgt.match.SgtRangeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.sxp.peer.group.fields.SxpFilterBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures evaluation of ACL, prefix-list and peer-sequence filters with specified number of entries,
+ * score is in bindings per second. Entries are generated so that bindings are matched by different entries
+ * and some of them by none.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BindingFilterBenchmark {
+
+    private static final int BINDINGS = 10000;
+
+    @Param({"AccessList", "PrefixList", "PeerSequence"})
+    private FilterKind filterKind;
+
+    @Param({"10", "100"})
+    private int entries;
+
+    private List<MasterDatabaseBinding> bindings;
+    private SxpBindingFilter<?, ?> filter;
+
+    /**
+     * Kind of benchmarked filter
+     */
+    public enum FilterKind {
+        AccessList, PrefixList, PeerSequence
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bindings = new BindingGenerator().setPeerSequenceLength(0, 8).generate(BINDINGS);
+        final SxpFilterBuilder builder = new SxpFilterBuilder().setFilterType(FilterType.Outbound);
+        switch (filterKind) {
+            case AccessList:
+                builder.setFilterSpecific(FilterSpecific.AccessOrPrefixList)
+                        .setFilterEntries(new AclFilterEntriesBuilder().setAclEntry(getAclEntries()).build());
+                break;
+            case PrefixList:
+                builder.setFilterSpecific(FilterSpecific.AccessOrPrefixList)
+                        .setFilterEntries(new PrefixListFilterEntriesBuilder().setPrefixListEntry(
+                                getPrefixListEntries()).build());
+                break;
+            default:
+                builder.setFilterSpecific(FilterSpecific.PeerSequence)
+                        .setFilterEntries(new PeerSequenceFilterEntriesBuilder().setPeerSequenceEntry(
+                                getPeerSequenceEntries()).build());
+        }
+        filter = SxpBindingFilter.generateFilter(builder.build(), "BENCHMARK");
+    }
+
+    /**
+     * @param i Index of entry
+     * @return Type of entry, every third entry is Deny
+     */
+    private static FilterEntryType getEntryType(int i) {
+        return i % 3 == 2 ? FilterEntryType.Deny : FilterEntryType.Permit;
+    }
+
+    /**
+     * @return ACL entries matching either addresses under 10.0.0.0/16 or ranges of SGTs
+     */
+    private List<AclEntry> getAclEntries() {
+        final List<AclEntry> aclEntries = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            final AclEntryBuilder entryBuilder = new AclEntryBuilder().setEntrySeq(i).setEntryType(getEntryType(i));
+            if (i % 2 == 0) {
+                entryBuilder.setAclMatch(new AclMatchBuilder().setIpAddress(
+                        new IpAddress(("10.0." + (i * 7 & 0xFF) + ".0").toCharArray()))
+                        .setWildcardMask(new WildcardMask(new Ipv4Address("0.0.0.255")))
+                        .build());
+            } else {
+                entryBuilder.setSgtMatch(new SgtRangeBuilder().setSgtStart(new Sgt(10 + i % 100))
+                        .setSgtEnd(new Sgt(12 + i % 100))
+                        .build());
+            }
+            aclEntries.add(entryBuilder.build());
+        }
+        return aclEntries;
+    }
+
+    /**
+     * @return Prefix-list entries matching subnets of 10.0.0.0/16 with various length ranges
+     */
+    private List<PrefixListEntry> getPrefixListEntries() {
+        final List<PrefixListEntry> prefixListEntries = new ArrayList<>(entries);
+        final MaskRangeOperator[] operators = MaskRangeOperator.values();
+        for (int i = 0; i < entries; i++) {
+            prefixListEntries.add(new PrefixListEntryBuilder().setEntrySeq(i)
+                    .setEntryType(getEntryType(i))
+                    .setPrefixListMatch(new PrefixListMatchBuilder().setIpPrefix(
+                            new IpPrefix(("10.0." + (i * 7 & 0xFF) + ".0/24").toCharArray()))
+                            .setMask(new MaskBuilder().setMaskRange(operators[i % operators.length])
+                                    .setMaskValue(PrefixListMask.getDefaultInstance(String.valueOf(24 + i % 9)))
+                                    .build())
+                            .build())
+                    .build());
+        }
+        return prefixListEntries;
+    }
+
+    /**
+     * @return Peer-sequence entries with various lengths and operators
+     */
+    private List<PeerSequenceEntry> getPeerSequenceEntries() {
+        final List<PeerSequenceEntry> peerSequenceEntries = new ArrayList<>(entries);
+        final MaskRangeOperator[] operators = MaskRangeOperator.values();
+        for (int i = 0; i < entries; i++) {
+            peerSequenceEntries.add(new PeerSequenceEntryBuilder().setEntrySeq(i)
+                    .setEntryType(getEntryType(i))
+                    .setPeerSequenceLength(i % 9)
+                    .setPeerSequenceRange(operators[i % operators.length])
+                    .build());
+        }
+        return peerSequenceEntries;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BINDINGS)
+    public int apply() {
+        int filtered = 0;
+        for (MasterDatabaseBinding binding : bindings) {
+            if (filter.apply(binding)) {
+                filtered++;
+            }
+        }
+        return filtered;
+    }
+}
@@ -14,8 +14,10 @@ import org.opendaylight.sxp.core.Configuration;
 import org.opendaylight.sxp.core.SxpNode;
 import org.opendaylight.sxp.util.exception.unknown.UnknownVersionException;
 import org.opendaylight.sxp.util.inet.NodeIdConv;
+import org.opendaylight.sxp.util.time.TimeConv;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.PortNumber;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.capabilities.fields.Capabilities;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.network.topology.topology.node.SxpDomains;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.network.topology.topology.node.sxp.domains.SxpDomain;
@@ -36,6 +38,7 @@ public class SxpDatastoreConnection extends org.opendaylight.sxp.core.SxpConnect
     private final IpAddress address;
     private final DatastoreAccess datastoreAccess;
     private final String nodeId;
+    private volatile DateAndTime writtenTimestamp;
 
     /**
      * Creates SxpDatastoreConnection using provided values
@@ -141,10 +144,13 @@ public class SxpDatastoreConnection extends org.opendaylight.sxp.core.SxpConnect
     @Override
     public void setUpdateOrKeepaliveMessageTimestamp() {
         super.setUpdateOrKeepaliveMessageTimestamp();
-        if (datastoreAccess != null) {
+        // datastore keeps timestamp with accuracy to seconds, so it is written at most once per second
+        final DateAndTime timestamp = TimeConv.toDt(getTimestampUpdateOrKeepAliveMessage());
+        if (datastoreAccess != null && !timestamp.equals(writtenTimestamp)) {
+            writtenTimestamp = timestamp;
             datastoreAccess.checkAndMerge(getIdentifier(), new ConnectionBuilder().setPeerAddress(address)
                     .setTcpPort(port)
-                    .setTimestampUpdateOrKeepAliveMessage(connectionBuilder.getTimestampUpdateOrKeepAliveMessage())
+                    .setTimestampUpdateOrKeepAliveMessage(timestamp)
                     .build(), LogicalDatastoreType.OPERATIONAL, true);
         }
     }
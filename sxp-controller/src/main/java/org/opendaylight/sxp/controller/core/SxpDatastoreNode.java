@@ -10,10 +10,13 @@ package org.opendaylight.sxp.controller.core;
 
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.ListenableFuture;
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.sxp.controller.util.database.MasterDatastoreImpl;
 import org.opendaylight.sxp.controller.util.database.SxpDatastoreImpl;
@@ -21,16 +24,28 @@ import org.opendaylight.sxp.core.Configuration;
 import org.opendaylight.sxp.core.SxpConnection;
 import org.opendaylight.sxp.core.handler.ConnectionDecoder;
 import org.opendaylight.sxp.core.handler.HandlerFactory;
+import org.opendaylight.sxp.core.threading.TaskInstrumentation;
+import org.opendaylight.sxp.core.threading.TaskInstrumentationMXBean.Snapshot;
 import org.opendaylight.sxp.core.threading.ThreadsWorker;
 import org.opendaylight.sxp.util.database.SxpDatabase;
 import org.opendaylight.sxp.util.exception.node.DomainNotFoundException;
 import org.opendaylight.sxp.util.filtering.SxpBindingFilter;
 import org.opendaylight.sxp.util.inet.NodeIdConv;
+import org.opendaylight.sxp.util.time.HashedWheelTimer;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBinding;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.SxpNodeIdentity;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.SxpNodeTaskStatisticsFields;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.network.topology.topology.node.SxpDomains;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.network.topology.topology.node.ThreadPoolsStatistics;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.network.topology.topology.node.ThreadPoolsStatisticsBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.network.topology.topology.node.sxp.domains.SxpDomain;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.network.topology.topology.node.sxp.domains.SxpDomainKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.network.topology.topology.node.thread.pools.statistics.ConnectionStatistics;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.network.topology.topology.node.thread.pools.statistics.ConnectionStatisticsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.network.topology.topology.node.thread.pools.statistics.ConnectionStatisticsKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.network.topology.topology.node.thread.pools.statistics.WorkerStatistics;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.network.topology.topology.node.thread.pools.statistics.WorkerStatisticsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.network.topology.topology.node.thread.pools.statistics.WorkerStatisticsKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.sxp.connections.fields.Connections;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.sxp.connections.fields.connections.Connection;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.sxp.connections.fields.connections.ConnectionKey;
@@ -48,6 +63,11 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
  */
 public class SxpDatastoreNode extends org.opendaylight.sxp.core.SxpNode implements AutoCloseable {
 
+    /**
+     * Period in seconds in which statistics of tasks are written into Operational Datastore
+     */
+    public static final int STATISTICS_PERIOD = 10;
+
     /**
      * @param nodeId Id representing Node in Topology
      * @return InstanceIdentifier pointing to specific node
@@ -64,7 +84,7 @@ public class SxpDatastoreNode extends org.opendaylight.sxp.core.SxpNode implemen
 
     /**
      * Create new instance of SxpNode with empty databases
-     * and default ThreadWorkers
+     * and ThreadWorkers configured by node setup data
      *
      * @param nodeId          ID of newly created Node
      * @param datastoreAccess Handle used for writing and reading from Datastore
@@ -93,6 +113,7 @@ public class SxpDatastoreNode extends org.opendaylight.sxp.core.SxpNode implemen
 
     private final DatastoreAccess datastoreAccess;
     private final String nodeId;
+    private HashedWheelTimer.Timeout statisticsTimeout;
 
     /**
      * Default constructor that creates and start SxpDatastoreNode using provided values
@@ -100,11 +121,68 @@ public class SxpDatastoreNode extends org.opendaylight.sxp.core.SxpNode implemen
      * @param node Node setup data
      */
     protected SxpDatastoreNode(NodeId nodeId, DatastoreAccess datastoreAccess, SxpNodeIdentity node) {
-        super(Preconditions.checkNotNull(nodeId), Preconditions.checkNotNull(node), new ThreadsWorker(4, 4, 4, 4));
+        super(Preconditions.checkNotNull(nodeId), Preconditions.checkNotNull(node),
+                ThreadsWorker.createInstance(NodeIdConv.toString(nodeId), node.getThreadPools(), 4, 4, 4, 4));
         this.datastoreAccess = Preconditions.checkNotNull(datastoreAccess);
         this.nodeId = NodeIdConv.toString(nodeId);
     }
 
+    /**
+     * Writes statistics of tasks into Operational Datastore and re-arms its timer
+     *
+     * @return null
+     */
+    private synchronized Void writeStatistics() {
+        final TaskInstrumentation instrumentation = getWorker().getInstrumentation();
+        if (instrumentation == null || statisticsTimeout == null) {
+            return null;
+        }
+        final List<WorkerStatistics> workerStatistics = new ArrayList<>();
+        instrumentation.getWorkerStatistics()
+                .forEach((type, snapshot) -> workerStatistics.add(
+                        new WorkerStatisticsBuilder(toTaskStatistics(type, snapshot)).setKey(
+                                new WorkerStatisticsKey(type)).build()));
+        final List<ConnectionStatistics> connectionStatistics = new ArrayList<>();
+        instrumentation.getConnectionStatistics()
+                .forEach((peer, snapshot) -> connectionStatistics.add(
+                        new ConnectionStatisticsBuilder(toTaskStatistics(peer, snapshot)).setKey(
+                                new ConnectionStatisticsKey(peer)).build()));
+        datastoreAccess.put(getIdentifier(nodeId).child(ThreadPoolsStatistics.class),
+                new ThreadPoolsStatisticsBuilder().setWorkerStatistics(workerStatistics)
+                        .setConnectionStatistics(connectionStatistics)
+                        .build(), LogicalDatastoreType.OPERATIONAL);
+        statisticsTimeout.rearm(STATISTICS_PERIOD, TimeUnit.SECONDS);
+        return null;
+    }
+
+    /**
+     * @param name     Name of statistics entry
+     * @param snapshot Snapshot of task statistics
+     * @return Task statistics fields shared by worker and connection statistics
+     */
+    private static SxpNodeTaskStatisticsFields toTaskStatistics(String name, Snapshot snapshot) {
+        return new WorkerStatisticsBuilder().setKey(new WorkerStatisticsKey(name))
+                .setSubmitted(toUint64(snapshot.getSubmitted()))
+                .setCompleted(toUint64(snapshot.getCompleted()))
+                .setFailed(toUint64(snapshot.getFailed()))
+                .setRejected(toUint64(snapshot.getRejected()))
+                .setCancelled(toUint64(snapshot.getCancelled()))
+                .setQueueDepth(toUint64(snapshot.getQueueDepth()))
+                .setWaitTimeMean(toUint64(snapshot.getWaitTimeMean()))
+                .setWaitTime99thPercentile(toUint64(snapshot.getWaitTime99thPercentile()))
+                .setRunTimeMean(toUint64(snapshot.getRunTimeMean()))
+                .setRunTime99thPercentile(toUint64(snapshot.getRunTime99thPercentile()))
+                .build();
+    }
+
+    /**
+     * @param value Non negative value
+     * @return Value as uint64
+     */
+    private static BigInteger toUint64(long value) {
+        return BigInteger.valueOf(value);
+    }
+
     @Override
     public boolean addDomain(SxpDomain domain) {
         Preconditions.checkNotNull(domain);
@@ -168,8 +246,20 @@ public class SxpDatastoreNode extends org.opendaylight.sxp.core.SxpNode implemen
         return datastoreAccess;
     }
 
+    @Override
+    public synchronized ListenableFuture<Boolean> start() {
+        if (statisticsTimeout == null && getWorker().getInstrumentation() != null) {
+            statisticsTimeout = getWorker().scheduleTimer(this::writeStatistics, STATISTICS_PERIOD, TimeUnit.SECONDS);
+        }
+        return super.start();
+    }
+
     @Override
     public synchronized ListenableFuture shutdown() {
+        if (statisticsTimeout != null) {
+            statisticsTimeout.cancel();
+            statisticsTimeout = null;
+        }
         datastoreAccess.close();
         return super.shutdown();
     }
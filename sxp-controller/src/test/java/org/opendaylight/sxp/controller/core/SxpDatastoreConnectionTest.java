@@ -20,7 +20,6 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.ListenableFuture;
-import com.google.common.util.concurrent.ListenableScheduledFuture;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 import org.junit.Before;
@@ -30,7 +29,9 @@ import org.mockito.ArgumentCaptor;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.sxp.core.Configuration;
 import org.opendaylight.sxp.core.SxpNode;
+import org.opendaylight.sxp.core.service.ConnectScheduler;
 import org.opendaylight.sxp.core.threading.ThreadsWorker;
+import org.opendaylight.sxp.util.time.HashedWheelTimer;
 import org.opendaylight.sxp.util.time.TimeConv;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.PortNumber;
@@ -61,8 +62,8 @@ public class SxpDatastoreConnectionTest {
     @Before
     public void setUp() throws Exception {
         worker = mock(ThreadsWorker.class);
-        when(worker.scheduleTask(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(
-                mock(ListenableScheduledFuture.class));
+        when(worker.scheduleTimer(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(
+                mock(HashedWheelTimer.Timeout.class));
         when(worker.executeTask(any(Runnable.class), any(ThreadsWorker.WorkerType.class))).thenReturn(
                 mock(ListenableFuture.class));
         when(worker.executeTask(any(Callable.class), any(ThreadsWorker.WorkerType.class))).thenReturn(
@@ -70,6 +71,7 @@ public class SxpDatastoreConnectionTest {
         sxpNode = PowerMockito.mock(SxpNode.class);
         datastoreAccess = mock(DatastoreAccess.class);
         PowerMockito.when(sxpNode.getWorker()).thenReturn(worker);
+        PowerMockito.when(sxpNode.getConnectScheduler()).thenReturn(mock(ConnectScheduler.class));
         connection =
                 SxpDatastoreConnection.create(datastoreAccess, sxpNode,
                         new ConnectionBuilder().setPeerAddress(new IpAddress("127.0.0.1".toCharArray()))
@@ -147,8 +149,8 @@ public class SxpDatastoreConnectionTest {
         connection.setUpdateOrKeepaliveMessageTimestamp();
         verify(datastoreAccess, atLeastOnce()).checkAndMerge(any(InstanceIdentifier.class), captor.capture(),
                 any(LogicalDatastoreType.class), anyBoolean());
-        assertEquals(connection.getTimestampUpdateOrKeepAliveMessage(),
-                TimeConv.toLong(captor.getValue().getTimestampUpdateOrKeepAliveMessage()));
+        assertEquals(TimeConv.toDt(connection.getTimestampUpdateOrKeepAliveMessage()),
+                captor.getValue().getTimestampUpdateOrKeepAliveMessage());
     }
 
     @Test
@@ -29,6 +29,34 @@ public final class Configuration {
 
     public static final boolean NETTY_LOGGER_HANDLER = false;
 
+    /**
+     * Bounds of adaptive receive buffer of SXP channels, may be overridden by system properties
+     */
+    public static final int NETTY_RECV_BUFFER_MIN = Integer.getInteger("sxp.netty.recv.buffer.min", 64);
+
+    public static final int NETTY_RECV_BUFFER_INITIAL =
+            Integer.getInteger("sxp.netty.recv.buffer.initial", Constants.MESSAGE_LENGTH_MAX);
+
+    public static final int NETTY_RECV_BUFFER_MAX =
+            Integer.getInteger("sxp.netty.recv.buffer.max", 16 * Constants.MESSAGE_LENGTH_MAX);
+
+    /**
+     * Use OpenSSL provider for TLS connections if available, JDK provider is used otherwise
+     */
+    public static final boolean TLS_OPENSSL = Boolean.getBoolean("sxp.tls.openssl");
+
+    /**
+     * Size of TLS session cache and timeout of cached sessions in seconds, zero keeps provider default
+     */
+    public static final long TLS_SESSION_CACHE_SIZE = Long.getLong("sxp.tls.session.cache.size", 0);
+
+    public static final long TLS_SESSION_TIMEOUT = Long.getLong("sxp.tls.session.timeout", 0);
+
+    /**
+     * Path to file with TLS session ticket keys of OpenSSL server, so that tickets survive restart
+     */
+    public static final String TLS_SESSION_TICKET_KEYS = System.getProperty("sxp.tls.session.ticket.keys");
+
     private static final Map<String, SxpNode> NODES = new ConcurrentHashMap<>();
 
     public static final boolean SET_COMPOSITION_ATTRIBUTE_COMPACT_NO_RESERVED_FIELDS = true;
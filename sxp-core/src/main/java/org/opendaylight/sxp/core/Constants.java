@@ -13,6 +13,7 @@ public final class Constants {
     public static final int MESSAGE_HEADER_TYPE_LENGTH = 4;
     public static final int MESSAGE_LENGTH_MAX = 4096;
     public static final int MESSAGE_EXPORT_QUANTITY = 150;
+    public static final int MESSAGE_EXPORT_SLICE = 8;
     public static final int NODE_CONNECTIONS_INITIAL_SIZE = 20;
     public static final int PORT = 64999;
 
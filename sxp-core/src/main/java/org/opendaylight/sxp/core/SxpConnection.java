@@ -9,8 +9,8 @@
 package org.opendaylight.sxp.core;
 
 import com.google.common.base.Preconditions;
-import com.google.common.util.concurrent.ListenableScheduledFuture;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoop;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.ArrayList;
@@ -19,11 +19,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import org.opendaylight.sxp.core.behavior.Context;
 import org.opendaylight.sxp.core.messaging.AttributeList;
 import org.opendaylight.sxp.core.messaging.MessageFactory;
+import org.opendaylight.sxp.core.messaging.UpdateMessageView;
 import org.opendaylight.sxp.core.service.BindingDispatcher;
 import org.opendaylight.sxp.core.service.BindingHandler;
 import org.opendaylight.sxp.core.threading.ThreadsWorker;
@@ -40,13 +42,14 @@ import org.opendaylight.sxp.util.exception.unknown.UnknownVersionException;
 import org.opendaylight.sxp.util.filtering.SxpBindingFilter;
 import org.opendaylight.sxp.util.inet.NodeIdConv;
 import org.opendaylight.sxp.util.inet.Search;
+import org.opendaylight.sxp.util.time.HashedWheelTimer;
 import org.opendaylight.sxp.util.time.SxpTimerTask;
 import org.opendaylight.sxp.util.time.TimeConv;
 import org.opendaylight.sxp.util.time.connection.DeleteHoldDownTimerTask;
-import org.opendaylight.sxp.util.time.connection.HoldTimerTask;
 import org.opendaylight.sxp.util.time.connection.KeepAliveTimerTask;
 import org.opendaylight.sxp.util.time.connection.ReconcilationTimerTask;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.SxpBindingFields;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBinding;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.sxp.database.fields.binding.database.binding.sources.binding.source.sxp.database.bindings.SxpDatabaseBinding;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.FilterSpecific;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.FilterType;
@@ -120,7 +123,11 @@ public class SxpConnection {
     protected final String domain;
     private final NodeId connectionId;
 
-    protected final HashMap<TimerType, ListenableScheduledFuture<?>> timers = new HashMap<>(5);
+    protected final HashMap<TimerType, HashedWheelTimer.Timeout> timers = new HashMap<>(5);
+    private volatile long lastSeen = Long.MIN_VALUE;
+    private boolean holdTimerRegistered = false;
+    private final List<Callable<Void>> inboundBatch = new ArrayList<>();
+    private boolean inboundBatchOpen = false;
     private final Map<FilterType, Map<FilterSpecific, SxpBindingFilter<?, ? extends SxpFilterFields>>>
             bindingFilterMap =
             new HashMap<>(FilterType.values().length);
@@ -135,12 +142,22 @@ public class SxpConnection {
         }
     }
 
+    /**
+     * @return If remote peer has to be resynchronized using PurgeAll after change of outbound filter,
+     * that is when capabilities of peer are not known and differential export cannot be used
+     */
+    private boolean isPurgeAllRequired() {
+        return isVersion4() && getCapabilitiesRemote().isEmpty();
+    }
+
     /**
      * Defines how to setup flags after filter of specific type is set in SxpConnection
      *
      * @param filterType Type of SxpBindingFilter that was set
+     * @param oldFilter  SxpBindingFilter of specified type used before change
      */
-    private void updateFlagsForDatabase(final FilterType filterType, boolean filterRemoved) {
+    private void updateFlagsForDatabase(final FilterType filterType,
+            final SxpBindingFilter<?, ? extends SxpFilterFields> oldFilter, boolean filterRemoved) {
         if (!isStateOn(ChannelHandlerContextType.SpeakerContext)
                 || filterType.equals(FilterType.Outbound) && !isModeSpeaker()
                 || (filterType.equals(FilterType.Inbound) || filterType.equals(FilterType.InboundDiscarding))
@@ -148,12 +165,23 @@ public class SxpConnection {
             return;
         }
         final SxpDomain sxpDomain = owner.getDomain(getDomainName());
-        if (filterType.equals(FilterType.Outbound)) {
+        if (filterType.equals(FilterType.Outbound) && isPurgeAllRequired()) {
             //Sends PurgeAll, All bindings in this order
             owner.getWorker()
                     .addListener(BindingDispatcher.sendPurgeAllMessage(this), () -> getOwner().getSvcBindingDispatcher()
                             .propagateUpdate(null, sxpDomain.getMasterDatabase().getBindings(),
                                     Collections.singletonList(this)));
+        } else if (filterType.equals(FilterType.Outbound)) {
+            //Sends only Bindings which visibility was changed by filter
+            final SxpBindingFilter<?, ? extends SxpFilterFields> newFilter = getFilter(filterType);
+            owner.getWorker().executeTaskInSequence(() -> {
+                final List<MasterDatabaseBinding> bindings;
+                synchronized (sxpDomain) {
+                    bindings = sxpDomain.getMasterDatabase().getBindings();
+                }
+                getOwner().getSvcBindingDispatcher().propagateFilterUpdate(this, bindings, oldFilter, newFilter);
+                return null;
+            }, ThreadsWorker.WorkerType.OUTBOUND, this);
         } else if (filterRemoved && filterType.equals(FilterType.Inbound)) {
             //Adds all Bindings learned from peer to MasterDB and sends it to All Listeners
             owner.getWorker().executeTaskInSequence(() -> {
@@ -207,10 +235,11 @@ public class SxpConnection {
             synchronized (bindingFilterMap) {
                 LOG.debug("{} put filter {}", this, filter.getSxpFilter());
                 FilterType filterType = Preconditions.checkNotNull(filter.getSxpFilter()).getFilterType();
+                SxpBindingFilter<?, ? extends SxpFilterFields> oldFilter = getFilter(filterType);
                 bindingFilterMap.get(filterType)
                         .put(Preconditions.checkNotNull(filter.getSxpFilter().getFilterSpecific()), filter);
                 if (FilterUpdatePolicy.AutoUpdate.equals(filter.getSxpFilter().getFilterPolicy())) {
-                    updateFlagsForDatabase(filterType, false);
+                    updateFlagsForDatabase(filterType, oldFilter, false);
                 }
             }
         }
@@ -239,6 +268,9 @@ public class SxpConnection {
             FilterSpecific specific) {
         List<SxpBindingFilter<?, ? extends SxpFilterFields>> filters = new ArrayList<>();
         synchronized (bindingFilterMap) {
+            SxpBindingFilter<?, ? extends SxpFilterFields>
+                    oldFilter =
+                    getFilter(Preconditions.checkNotNull(filterType));
             if (specific == null) {
                 filters.addAll(bindingFilterMap.get(Preconditions.checkNotNull(filterType)).values());
                 bindingFilterMap.get(Preconditions.checkNotNull(filterType)).clear();
@@ -247,7 +279,7 @@ public class SxpConnection {
             }
             if (!filters.isEmpty() && filters.stream()
                     .allMatch(f -> FilterUpdatePolicy.AutoUpdate.equals(f.getSxpFilter().getFilterPolicy()))) {
-                updateFlagsForDatabase(filterType, true);
+                updateFlagsForDatabase(filterType, oldFilter, true);
             }
         }
         return filters;
@@ -264,6 +296,7 @@ public class SxpConnection {
         this.owner = Preconditions.checkNotNull(owner);
         this.domain = Preconditions.checkNotNull(domain);
         this.connectionBuilder = new ConnectionBuilder(Preconditions.checkNotNull(connection));
+        setLastSeen(TimeConv.toLong(connection.getTimestampUpdateOrKeepAliveMessage()));
         if (Objects.isNull(connectionBuilder.getState())) {
             this.connectionBuilder.setState(ConnectionState.Off);
         }
@@ -317,13 +350,23 @@ public class SxpConnection {
      */
     protected void setConnection(Connection connection) {
         connectionBuilder = new ConnectionBuilder(Preconditions.checkNotNull(connection));
+        setLastSeen(TimeConv.toLong(connection.getTimestampUpdateOrKeepAliveMessage()));
+    }
+
+    /**
+     * @param timestamp Wall clock time in milliseconds when connection was seen for the last time, or -1 if never
+     */
+    private void setLastSeen(long timestamp) {
+        lastSeen =
+                timestamp < 0 ? Long.MIN_VALUE : System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(
+                        Math.max(0, System.currentTimeMillis() - timestamp));
     }
 
     /**
      * Update KeepAlive TimeStamp
      */
     public void setUpdateOrKeepaliveMessageTimestamp() {
-        connectionBuilder.setTimestampUpdateOrKeepAliveMessage(TimeConv.toDt(System.currentTimeMillis()));
+        lastSeen = System.nanoTime();
     }
 
     /**
@@ -345,13 +388,34 @@ public class SxpConnection {
             LOG.warn(getOwner() + " Unknown message relevant peer node ID");
             return;
         }
-        owner.getWorker().executeTaskInSequence(() -> {
+        submitInboundTask(() -> {
             owner.getSvcBindingHandler()
                     .processUpdate(BindingHandler.processMessageDeletion(message),
                             BindingHandler.processMessageAddition(message, getFilter(FilterType.InboundDiscarding)),
                             this);
             return null;
-        }, ThreadsWorker.WorkerType.INBOUND, this);
+        });
+    }
+
+    /**
+     * Propagate changes learned from network to SxpDatabase,
+     * Attributes are decoded from view while bindings are created
+     *
+     * @param message View of UpdateMessage containing changes
+     */
+    public void processUpdateMessage(UpdateMessageView message) {
+        if (getNodeIdRemote() == null) {
+            LOG.warn(getOwner() + " Unknown message relevant peer node ID");
+            return;
+        }
+        final NodeId loopNodeId = getCapabilities().contains(CapabilityType.LoopDetection) ? getOwnerId() : null;
+        submitInboundTask(() -> {
+            owner.getSvcBindingHandler()
+                    .processUpdate(BindingHandler.processMessageDeletion(message),
+                            BindingHandler.processMessageAddition(message, getFilter(FilterType.InboundDiscarding),
+                                    loopNodeId), this);
+            return null;
+        });
     }
 
     /**
@@ -364,13 +428,92 @@ public class SxpConnection {
             LOG.warn(getOwner() + " Unknown message relevant peer node ID");
             return;
         }
-        owner.getWorker().executeTaskInSequence(() -> {
+        submitInboundTask(() -> {
             owner.getSvcBindingHandler()
                     .processUpdate(BindingHandler.processMessageDeletion(message),
                             BindingHandler.processMessageAddition(message, getFilter(FilterType.InboundDiscarding),
                                     getNodeIdRemote()), this);
             return null;
-        }, ThreadsWorker.WorkerType.INBOUND, this);
+        });
+    }
+
+    /**
+     * Opens batch of inbound Update processing, Updates received until batch is completed
+     * are handed to BindingHandler together in one inbound task
+     */
+    public void beginInboundBatch() {
+        synchronized (inboundBatch) {
+            inboundBatchOpen = true;
+        }
+    }
+
+    /**
+     * Closes batch of inbound Update processing and executes all Updates collected by it,
+     * failure of Update does not stop the rest of batch and first one is propagated after batch completes
+     */
+    public void completeInboundBatch() {
+        final List<Callable<Void>> tasks;
+        synchronized (inboundBatch) {
+            inboundBatchOpen = false;
+            if (inboundBatch.isEmpty()) {
+                return;
+            }
+            tasks = new ArrayList<>(inboundBatch);
+            inboundBatch.clear();
+        }
+        executeInboundTask(() -> {
+            Exception failure = null;
+            for (Callable<Void> task : tasks) {
+                try {
+                    task.call();
+                } catch (Exception e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Adds inbound task into opened batch or executes it if there is none
+     *
+     * @param task Task that will be executed
+     */
+    private void submitInboundTask(Callable<Void> task) {
+        synchronized (inboundBatch) {
+            if (inboundBatchOpen) {
+                inboundBatch.add(task);
+                return;
+            }
+        }
+        executeInboundTask(task);
+    }
+
+    /**
+     * Executes inbound task in sequence of connection, if inbound work is executed on event loop of connection
+     * and caller already runs there, task is executed directly as ordering is given by channel itself
+     *
+     * @param task Task that will be executed
+     */
+    private void executeInboundTask(Callable<Void> task) {
+        final EventLoop eventLoop = owner.getWorker().isExecutedOnEventLoop(ThreadsWorker.WorkerType.INBOUND) ?
+                getEventLoop() : null;
+        if (eventLoop != null && eventLoop.inEventLoop()) {
+            try {
+                task.call();
+            } catch (Exception e) {
+                LOG.warn("{} Error processing update", this, e);
+            }
+        } else {
+            owner.getWorker().executeTaskInSequence(task, ThreadsWorker.WorkerType.INBOUND, this);
+        }
     }
 
     /**
@@ -562,6 +705,20 @@ public class SxpConnection {
         }
     }
 
+    /**
+     * @return Gets EventLoop of channel on which bindings are received from peer,
+     * or null if connection has no active channel
+     */
+    public EventLoop getEventLoop() {
+        synchronized (ctxs) {
+            ChannelHandlerContext ctx = ctxs.get(ChannelHandlerContextType.ListenerContext);
+            if (ctx == null || ctx.isRemoved()) {
+                ctx = ctxs.values().stream().filter(c -> !c.isRemoved()).findFirst().orElse(null);
+            }
+            return ctx == null || ctx.channel() == null ? null : ctx.channel().eventLoop();
+        }
+    }
+
     /**
      * @return Gets Context selecting logic
      */
@@ -738,15 +895,24 @@ public class SxpConnection {
      * @param timerType Type of Timer
      * @return TimerType or null if not present
      */
-    public ListenableScheduledFuture<?> getTimer(TimerType timerType) {
+    public HashedWheelTimer.Timeout getTimer(TimerType timerType) {
         return timers.get(timerType);
     }
 
     /**
-     * @return Gets KeepAlive timestamp
+     * @return Gets KeepAlive timestamp in milliseconds or -1 if not set
      */
     public long getTimestampUpdateOrKeepAliveMessage() {
-        return TimeConv.toLong(connectionBuilder.getTimestampUpdateOrKeepAliveMessage());
+        final long seen = lastSeen;
+        return seen == Long.MIN_VALUE ? -1 : System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(
+                System.nanoTime() - seen);
+    }
+
+    /**
+     * @return Gets monotonic KeepAlive timestamp in nanoseconds or {@link Long#MIN_VALUE} if not set
+     */
+    public long getLastSeenNanos() {
+        return lastSeen;
     }
 
     /**
@@ -897,11 +1063,15 @@ public class SxpConnection {
     }
 
     /**
-     * Removes all learned Bindings on current connection and shutdown connection
+     * Removes all learned Bindings on current connection and shutdown connection,
+     * purge is batched with other connections of domain which DeleteHoldDown expired at the same time,
+     * connection that left DeleteHoldDown or PendingOn state meanwhile is not shut down
      */
     public void purgeBindings() {
-        // Get message relevant peer node ID.
-        getOwner().getWorker().addListener(getOwner().getSvcBindingHandler().processPurgeAllMessage(this), () -> {
+        getOwner().getWorker().addListener(getOwner().getSvcBindingHandler().processBatchedPurge(this), () -> {
+            if (!isStateDeleteHoldDown() && !isStatePendingOn()) {
+                return;
+            }
             try {
                 setStateOff(getChannelHandlerContext(ChannelHandlerContextType.ListenerContext));
             } catch (ChannelHandlerContextNotFoundException | ChannelHandlerContextDiscrepancyException e) {
@@ -1099,7 +1269,7 @@ public class SxpConnection {
             return;
         LOG.info("{} onChannelInactivation/setDeleteHoldDownTimer", this);
         setTimer(TimerType.DeleteHoldDownTimer, connectionBuilder.getConnectionTimers().getDeleteHoldDownTime());
-        ListenableScheduledFuture<?> ctReconciliation = getTimer(TimerType.ReconciliationTimer);
+        HashedWheelTimer.Timeout ctReconciliation = getTimer(TimerType.ReconciliationTimer);
         if (ctReconciliation != null && !ctReconciliation.isDone()
                 && connectionBuilder.getConnectionTimers().getReconciliationTime() != 0) {
             LOG.info("{} Stopping Reconciliation timer cause | Connection DOWN.", this);
@@ -1178,7 +1348,7 @@ public class SxpConnection {
      */
     public void setReconciliationTimer() {
         if (getReconciliationTime() > 0) {
-            ListenableScheduledFuture<?> ctDeleteHoldDown = getTimer(TimerType.DeleteHoldDownTimer);
+            HashedWheelTimer.Timeout ctDeleteHoldDown = getTimer(TimerType.DeleteHoldDownTimer);
             if (ctDeleteHoldDown != null && !ctDeleteHoldDown.isDone()) {
                 LOG.info("{} Stopping Delete Hold Down timer.", this);
                 setTimer(TimerType.DeleteHoldDownTimer, null);
@@ -1198,11 +1368,13 @@ public class SxpConnection {
 
     /**
      * Set State to Off resets all flags, stop timers,
-     * clear Handling of messages and close ChannelHandlerContexts
+     * clear Handling of messages and close ChannelHandlerContexts,
+     * connect of connection that did not reach state On is treated as failed
      */
     public void setStateOff() {
         stopTimers();
         setState(ConnectionState.Off);
+        owner.getConnectScheduler().disconnected(this);
         getOwner().getWorker().cancelTasksInSequence(true, ThreadsWorker.WorkerType.INBOUND, this);
         getOwner().getWorker().cancelTasksInSequence(true, ThreadsWorker.WorkerType.OUTBOUND, this);
         closeChannelHandlerContexts();
@@ -1266,20 +1438,14 @@ public class SxpConnection {
     }
 
     /**
-     * Set State to On and if Connection is mode speaker
+     * Set State to On, completes its connect and if Connection is mode speaker
      * notifies export of Bindings
      */
     public void setStateOn() {
         setState(ConnectionState.On);
+        owner.getConnectScheduler().connected(this);
         if (isModeSpeaker() || isModeBoth()) {
-            getOwner().getWorker().executeTaskInSequence(() -> {
-                synchronized (getOwner().getDomain(getDomainName())) {
-                    owner.getSvcBindingDispatcher()
-                            .propagateUpdate(null, getOwner().getBindingMasterDatabase(getDomainName()).getBindings(),
-                                    Collections.singletonList(this));
-                }
-                return null;
-            }, ThreadsWorker.WorkerType.OUTBOUND, this);
+            owner.getSvcBindingDispatcher().propagateFullSync(this);
         }
     }
 
@@ -1291,23 +1457,29 @@ public class SxpConnection {
     }
 
     /**
-     * Sets SxpConnection specific Timer
+     * Sets SxpConnection specific Timer, running timer with the same period is re-armed instead of replaced
      *
      * @param timerType Type of Timer that will be set
      * @param period    Time period to wait till execution in Seconds
-     * @return ListenableScheduledFuture callback
+     * @return Timeout callback or null for HoldTimer which is checked by HoldTimeSweeper of node
      * @throws UnknownTimerTypeException If current TimerType isn't supported
      */
-    public synchronized ListenableScheduledFuture<?> setTimer(TimerType timerType, int period)
+    public synchronized HashedWheelTimer.Timeout setTimer(TimerType timerType, int period)
             throws UnknownTimerTypeException {
+        if (TimerType.HoldTimer.equals(timerType)) {
+            setHoldTimer(period);
+            return null;
+        }
+        HashedWheelTimer.Timeout timer_ = getTimer(timerType);
+        if (period > 0 && timer_ != null && timer_.getTask() instanceof SxpTimerTask
+                && ((SxpTimerTask) timer_.getTask()).getPeriod() == period && timer_.rearm(period, TimeUnit.SECONDS)) {
+            return timer_;
+        }
         SxpTimerTask timer;
         switch (timerType) {
             case DeleteHoldDownTimer:
                 timer = new DeleteHoldDownTimerTask(this, period);
                 break;
-            case HoldTimer:
-                timer = new HoldTimerTask(this, period);
-                break;
             case KeepAliveTimer:
                 timer = new KeepAliveTimerTask(this, period);
                 break;
@@ -1317,25 +1489,39 @@ public class SxpConnection {
             default:
                 throw new UnknownTimerTypeException(timerType);
         }
-        ListenableScheduledFuture<?> timer_ = getTimer(timerType);
         if (period > 0 && (timer_ == null || !timer_.isCancelled())) {
-            return this.setTimer(timerType, owner.getWorker().scheduleTask(timer, period, TimeUnit.SECONDS));
+            return this.setTimer(timerType, owner.getWorker().scheduleTimer(timer, period, TimeUnit.SECONDS));
         } else {
             return this.setTimer(timerType, null);
         }
     }
 
+    /**
+     * Registers connection into HoldTimeSweeper of node instead of scheduling timer
+     *
+     * @param period Hold Time in Seconds, zero stops checking of connection liveness
+     */
+    private void setHoldTimer(int period) {
+        if (period > 0) {
+            owner.getHoldTimeSweeper().register(this, period);
+            holdTimerRegistered = true;
+        } else if (holdTimerRegistered) {
+            owner.getHoldTimeSweeper().unregister(this);
+            holdTimerRegistered = false;
+        }
+    }
+
     /**
      * Sets SxpConnection specific Timer
      *
      * @param timerType Type of Timer that will be set
      * @param timer     Timer logic
-     * @return ListenableScheduledFuture callback
+     * @return Timeout callback
      */
-    private ListenableScheduledFuture<?> setTimer(TimerType timerType, ListenableScheduledFuture<?> timer) {
-        ListenableScheduledFuture<?> t = this.timers.put(timerType, timer);
+    private HashedWheelTimer.Timeout setTimer(TimerType timerType, HashedWheelTimer.Timeout timer) {
+        HashedWheelTimer.Timeout t = this.timers.put(timerType, timer);
         if (t != null && !t.isDone()) {
-            t.cancel(false);
+            t.cancel();
         }
         return timer;
     }
@@ -8,14 +8,11 @@
 
 package org.opendaylight.sxp.core;
 
-import static org.opendaylight.sxp.util.ArraysUtil.getBitAddress;
-
 import com.google.common.base.Preconditions;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -29,7 +26,7 @@ import org.opendaylight.sxp.util.database.SxpDatabaseImpl;
 import org.opendaylight.sxp.util.database.spi.MasterDatabaseInf;
 import org.opendaylight.sxp.util.database.spi.SxpDatabaseInf;
 import org.opendaylight.sxp.util.filtering.SxpBindingFilter;
-import org.opendaylight.sxp.util.inet.IpPrefixConv;
+import org.opendaylight.sxp.util.inet.BinaryPrefix;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.SxpBindingFields;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.sxp.database.fields.binding.database.binding.sources.binding.source.sxp.database.bindings.SxpDatabaseBinding;
@@ -572,20 +569,12 @@ public class SxpDomain implements AutoCloseable {
      * @return Associated Template
      */
     public SxpConnectionTemplateFields getTemplate(InetSocketAddress address) {
-        final BitSet bitAddress = getBitAddress(Preconditions.checkNotNull(address).getAddress().getHostAddress());
+        final BinaryPrefix binaryAddress = BinaryPrefix.of(Preconditions.checkNotNull(address).getAddress());
         synchronized (templates) {
-            for (IpPrefix ipPrefix : templates.keySet()) {
-                boolean found = true;
-                final BitSet prefixMatch = getBitAddress(IpPrefixConv.toString(ipPrefix).split("/")[0]);
-                final int prefixMask = Integer.parseInt(IpPrefixConv.toString(ipPrefix).split("/")[1]);
-                for (int i = 0; i < prefixMask; i++) {
-                    if (bitAddress.get(i) != prefixMatch.get(i)) {
-                        found = false;
-                        break;
-                    }
-                }
-                if (found) {
-                    return templates.get(ipPrefix);
+            for (Map.Entry<IpPrefix, SxpConnectionTemplateFields> entry : templates.entrySet()) {
+                final BinaryPrefix prefixMatch = BinaryPrefix.of(entry.getKey());
+                if (binaryAddress.matches(prefixMatch, prefixMatch.getLength())) {
+                    return entry.getValue();
                 }
             }
         }
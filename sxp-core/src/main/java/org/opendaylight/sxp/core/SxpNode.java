@@ -15,7 +15,6 @@ import com.google.common.collect.Sets;
 import com.google.common.net.InetAddresses;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
-import com.google.common.util.concurrent.ListenableScheduledFuture;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import java.net.InetAddress;
@@ -33,14 +32,15 @@ import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
-import javax.annotation.Nullable;
 import org.opendaylight.sxp.core.handler.ConnectionDecoder;
 import org.opendaylight.sxp.core.handler.HandlerFactory;
 import org.opendaylight.sxp.core.handler.MessageDecoder;
 import org.opendaylight.sxp.core.service.BindingDispatcher;
 import org.opendaylight.sxp.core.service.BindingHandler;
 import org.opendaylight.sxp.core.service.ConnectFacade;
+import org.opendaylight.sxp.core.service.ConnectScheduler;
 import org.opendaylight.sxp.core.service.SslContextFactory;
+import org.opendaylight.sxp.core.service.TlsStatistics;
 import org.opendaylight.sxp.core.threading.ThreadsWorker;
 import org.opendaylight.sxp.util.Security;
 import org.opendaylight.sxp.util.database.MasterDatabaseImpl;
@@ -53,7 +53,9 @@ import org.opendaylight.sxp.util.exception.unknown.UnknownTimerTypeException;
 import org.opendaylight.sxp.util.filtering.SxpBindingFilter;
 import org.opendaylight.sxp.util.inet.NodeIdConv;
 import org.opendaylight.sxp.util.inet.Search;
+import org.opendaylight.sxp.util.time.HashedWheelTimer;
 import org.opendaylight.sxp.util.time.SxpTimerTask;
+import org.opendaylight.sxp.util.time.node.HoldTimeSweeper;
 import org.opendaylight.sxp.util.time.node.RetryOpenTimerTask;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBinding;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.FilterSpecific;
@@ -90,22 +92,30 @@ public class SxpNode {
 
     protected static final Logger LOG = LoggerFactory.getLogger(SxpNode.class);
     public static final String DEFAULT_DOMAIN = "global";
+    /**
+     * Period in seconds in which HoldTimeSweeper checks buckets of connections
+     */
+    public static final int HOLD_TIME_SWEEP_PERIOD = 1;
+    /**
+     * Time in milliseconds during which changes of TCP-MD5 passwords are collected and applied to server together
+     */
+    public static final int MD5_UPDATE_BATCH_WINDOW = 100;
 
     /**
      * Create new instance of SxpNode with empty databases
-     * and default ThreadWorkers
+     * and ThreadWorkers configured by node setup data
      *
      * @param nodeId ID of newly created Node
      * @param node   Node setup data
      * @return New instance of SxpNode
      */
     public static SxpNode createInstance(NodeId nodeId, SxpNodeIdentity node) {
-        return createInstance(nodeId, node, new MasterDatabaseImpl(), new SxpDatabaseImpl(), new ThreadsWorker());
+        return createInstance(nodeId, node, new MasterDatabaseImpl(), new SxpDatabaseImpl());
     }
 
     /**
      * Create new instance of SxpNode containing provided database data
-     * and default ThreadWorkers
+     * and ThreadWorkers configured by node setup data
      * Be aware that sharing of the same DB among multiple SxpNode isn't
      * supported and may cause unexpected behaviour
      *
@@ -117,7 +127,9 @@ public class SxpNode {
      */
     public static SxpNode createInstance(NodeId nodeId, SxpNodeIdentity node, MasterDatabaseInf masterDatabase,
             SxpDatabaseInf sxpDatabase) {
-        return createInstance(nodeId, node, masterDatabase, sxpDatabase, new ThreadsWorker());
+        return createInstance(nodeId, node, masterDatabase, sxpDatabase,
+                ThreadsWorker.createInstance(NodeIdConv.toString(Preconditions.checkNotNull(nodeId)),
+                        Preconditions.checkNotNull(node).getThreadPools(), 2, 2, 2, 1));
     }
 
     /**
@@ -167,14 +179,17 @@ public class SxpNode {
     private final AtomicReference<ListenableFuture> openConnectionFuture = new AtomicReference<>();
     private final AtomicReference<ListenableFuture<Boolean>> bindServerFuture = new AtomicReference<>();
     private final ReentrantLock md5UpdateLock = new ReentrantLock();
-    private volatile boolean processingConnectionData = false;
+    private boolean md5UpdateScheduled = false;
     private final ThreadsWorker worker;
     protected InetAddress sourceIp;
     private SslContextFactory sslContextFactory;
+    private final TlsStatistics tlsStatistics = new TlsStatistics();
     private final SxpNodeIdentityBuilder nodeBuilder;
     private final NodeId nodeId;
-    private Channel serverChannel;
-    private final HashMap<TimerType, ListenableScheduledFuture<?>> timers = new HashMap<>(6);
+    private volatile Channel serverChannel;
+    private final HashMap<TimerType, HashedWheelTimer.Timeout> timers = new HashMap<>(6);
+    private final HoldTimeSweeper holdTimeSweeper = new HoldTimeSweeper(this, HOLD_TIME_SWEEP_PERIOD);
+    private final ConnectScheduler connectScheduler;
 
     /**
      * Default constructor that creates and start SxpNode using provided values
@@ -189,7 +204,8 @@ public class SxpNode {
         this.worker = Preconditions.checkNotNull(worker);
         this.svcBindingDispatcher = new BindingDispatcher(this);
         this.sslContextFactory =
-                new SslContextFactory(Objects.isNull(node.getSecurity()) ? null : node.getSecurity().getTls());
+                new SslContextFactory(Objects.isNull(node.getSecurity()) ? null : node.getSecurity().getTls(),
+                        tlsStatistics);
         if (Objects.nonNull(node.getMessageBuffering()) && Objects.nonNull(node.getMessageBuffering().getInBuffer())
                 && Objects.nonNull(node.getMessageBuffering().getOutBuffer())) {
             this.svcBindingHandler =
@@ -198,6 +214,8 @@ public class SxpNode {
         } else {
             this.svcBindingHandler = new BindingHandler(this, this.svcBindingDispatcher);
         }
+        this.connectScheduler = ConnectScheduler.createInstance(this, this::connect, node.getConnectScheduling());
+        this.worker.registerInstrumentation(NodeIdConv.toString(nodeId));
     }
 
     /**
@@ -996,7 +1014,7 @@ public class SxpNode {
      * @param timerType Type of Timer
      * @return TimerType or null if not present
      */
-    public ListenableScheduledFuture<?> getTimer(TimerType timerType) {
+    public HashedWheelTimer.Timeout getTimer(TimerType timerType) {
         return timers.get(timerType);
     }
 
@@ -1011,7 +1029,8 @@ public class SxpNode {
      * @return If Node is enabled
      */
     public boolean isEnabled() {
-        return Objects.nonNull(serverChannel) && serverChannel.isActive();
+        final Channel channel = serverChannel;
+        return Objects.nonNull(channel) && channel.isActive();
     }
 
     /**
@@ -1031,8 +1050,10 @@ public class SxpNode {
                     final List<SxpConnection>
                             connections =
                             filterConnections(RetryOpenTimerTask.INACTIVE_CONNECTION_FILTER::test);
-                    LOG.info("{} Open connections [X/O/All=\"{}/{}/{}\"]", node, connections.size(), connectionsOnSize,
-                            connectionsAllSize);
+                    LOG.info("{} Open connections [X/O/All=\"{}/{}/{}\"] [Pending/InFlight/Failed=\"{}/{}/{}\"]",
+                            node, connections.size(), connectionsOnSize, connectionsAllSize,
+                            connectScheduler.getPending(), connectScheduler.getInFlight(),
+                            connectScheduler.getFailed());
                     connections.forEach(this::openConnection);
                 }, ThreadsWorker.WorkerType.DEFAULT);
             }
@@ -1041,20 +1062,40 @@ public class SxpNode {
     }
 
     /**
-     * Connect specified connection to remote peer
+     * Schedules connect of specified connection to remote peer
      *
      * @param connection Connection containing necessary information for connecting to peer
      */
     public void openConnection(final SxpConnection connection) {
         if (isEnabled() && !Preconditions.checkNotNull(connection).isStateOn()) {
+            connectScheduler.submit(connection);
+        }
+    }
+
+    /**
+     * Connect specified connection to remote peer if it is still inactive
+     *
+     * @param connection Connection containing necessary information for connecting to peer
+     * @return ChannelFuture callback or null if connect was not started
+     */
+    private ChannelFuture connect(final SxpConnection connection) {
+        if (isEnabled() && !connection.isStateOn()) {
             if (!connection.isModeBoth()) {
                 connection.closeChannelHandlerContextComplements(null);
             }
             if (!connection.isModeBoth() || !connection.hasChannelHandlerContext(
                     SxpConnection.ChannelHandlerContextType.ListenerContext)) {
-                ConnectFacade.createClient(this, connection, handlerFactoryClient);
+                return ConnectFacade.createClient(this, connection, handlerFactoryClient);
             }
         }
+        return null;
+    }
+
+    /**
+     * @return ConnectScheduler limiting outgoing connects of current Node
+     */
+    public ConnectScheduler getConnectScheduler() {
+        return connectScheduler;
     }
 
     /**
@@ -1154,7 +1195,9 @@ public class SxpNode {
             }
         }
         if (connection != null) {
+            connectScheduler.remove(connection);
             connection.shutdown();
+            worker.removeInstrumentation(connection);
             updateMD5keys(connection);
         }
         return connection;
@@ -1172,20 +1215,26 @@ public class SxpNode {
             securityBuilder.setPassword("");
         }
         securityBuilder.setMd5Digest(Security.getMD5s(securityBuilder.getPassword()));
-        this.sslContextFactory = new SslContextFactory(securityBuilder.getTls());
+        this.sslContextFactory = new SslContextFactory(securityBuilder.getTls(), tlsStatistics);
         this.nodeBuilder.setSecurity(securityBuilder.build());
     }
 
     /**
-     * Sets SxpNode specific Timer
+     * Sets SxpNode specific Timer, running timer with the same period is re-armed instead of replaced
      *
      * @param timerType Type of Timer that will be set
      * @param period    Time period to wait till execution in Seconds
-     * @return ListenableScheduledFuture callback
+     * @return Timeout callback
      * @throws UnknownTimerTypeException If current TimerType isn't supported
      */
-    public ListenableScheduledFuture<?> setTimer(TimerType timerType, int period) throws UnknownTimerTypeException {
+    public HashedWheelTimer.Timeout setTimer(TimerType timerType, int period) throws UnknownTimerTypeException {
         synchronized (timers) {
+            HashedWheelTimer.Timeout timer_ = getTimer(timerType);
+            if (period > 0 && timer_ != null && timer_.getTask() instanceof SxpTimerTask
+                    && ((SxpTimerTask) timer_.getTask()).getPeriod() == period && timer_.rearm(period,
+                    TimeUnit.SECONDS)) {
+                return timer_;
+            }
             SxpTimerTask timer;
             switch (timerType) {
                 case RetryOpenTimer:
@@ -1194,9 +1243,8 @@ public class SxpNode {
                 default:
                     throw new UnknownTimerTypeException(timerType);
             }
-            ListenableScheduledFuture<?> timer_ = getTimer(timerType);
             if (period > 0 && (timer_ == null || !timer_.isCancelled())) {
-                return this.setTimer(timerType, getWorker().scheduleTask(timer, period, TimeUnit.SECONDS));
+                return this.setTimer(timerType, getWorker().scheduleTimer(timer, period, TimeUnit.SECONDS));
             } else {
                 return this.setTimer(timerType, null);
             }
@@ -1208,12 +1256,12 @@ public class SxpNode {
      *
      * @param timerType Type of Timer that will be set
      * @param timer     Timer logic
-     * @return ListenableScheduledFuture callback
+     * @return Timeout callback
      */
-    private ListenableScheduledFuture<?> setTimer(TimerType timerType, ListenableScheduledFuture<?> timer) {
-        ListenableScheduledFuture<?> t = this.timers.put(timerType, timer);
+    private HashedWheelTimer.Timeout setTimer(TimerType timerType, HashedWheelTimer.Timeout timer) {
+        HashedWheelTimer.Timeout t = this.timers.put(timerType, timer);
         if (t != null && !t.isDone()) {
-            t.cancel(false);
+            t.cancel();
         }
         return timer;
     }
@@ -1247,6 +1295,15 @@ public class SxpNode {
         return worker;
     }
 
+    /**
+     * Gets HoldTimeSweeper checking liveness of connections of current Node
+     *
+     * @return HoldTimeSweeper reference
+     */
+    public HoldTimeSweeper getHoldTimeSweeper() {
+        return holdTimeSweeper;
+    }
+
     /**
      * Shutdown all Connections
      */
@@ -1269,7 +1326,9 @@ public class SxpNode {
                             serverChannel.close().awaitUninterruptibly();
                             LOG.info("{} Server stopped", node);
                         }
+                        tlsStatistics.unregister();
                         setTimer(TimerType.RetryOpenTimer, 0);
+                        connectScheduler.clear();
                         shutdownConnections();
                         return isEnabled();
                     }, ThreadsWorker.WorkerType.DEFAULT);
@@ -1284,6 +1343,7 @@ public class SxpNode {
      */
     public ListenableFuture<Boolean> start() {
         this.sourceIp = InetAddresses.forString(Search.getAddress(getNodeIdentity().getSourceIp()));
+        this.tlsStatistics.register(NodeIdConv.toString(nodeId));
         return bindServerFuture.updateAndGet(listenableFuture -> {
             if (!isEnabled() && (Objects.isNull(listenableFuture) || listenableFuture.isDone())) {
                 return getWorker().executeTask(() -> {
@@ -1306,17 +1366,7 @@ public class SxpNode {
     }
 
     /**
-     * Updates TCP-MD5 keys of SxpNode.
-     * This method is thread safe and uses fast path optimization to avoid unnecessary server restarts in high-load
-     * situations.
-     * As a result, two situations may occur when calling this method. If the calling thread:
-     * 1. is the first to arrive at the critical section, it sets the processing flag on and restarts the server
-     *  with new keyset
-     * 2. invokes the method while the processing flag is on, it returns side-effect free
-     *
-     * The server restart is guarded by a separate mutex, so successive invocations of this method resulting in
-     * a server restart will block until previous restarts are done. However, please do note, this method does not
-     * guarantee fair order of such invocations.
+     * Schedules update of TCP-MD5 keys of SxpNode if connection uses password
      *
      * @param connection Connection containing the password for MD5 key update
      */
@@ -1324,79 +1374,54 @@ public class SxpNode {
         if (SecurityType.Default.equals(connection.getSecurityType())
                 && connection.getPassword() != null
                 && !connection.getPassword().trim().isEmpty()) {
-            getWorker().executeTask(()-> {doUpdateMD5keys(connection);}, ThreadsWorker.WorkerType.DEFAULT);
+            updateMD5keys();
         }
     }
 
     /**
-     * Updates TCP-MD5 keys of SxpNode.
-     * This method is thread safe and uses fast path optimization to avoid unnecessary server restarts in high-load
-     * situations.
-     * As a result, two situations may occur when calling this method. If the calling thread:
-     * 1. is the first to arrive at the critical section, it sets the processing flag on and restarts the server
-     *  with new keyset
-     * 2. invokes the method while the processing flag is on, it returns side-effect free
-     *
-     * The server restart is guarded by a separate mutex, so successive invocations of this method resulting in
-     * a server restart will block until previous restarts are done. However, please do note, this method does not
-     * guarantee fair order of such invocations.
-     *
+     * Schedules update of TCP-MD5 keys of SxpNode.
+     * Changes requested during {@link #MD5_UPDATE_BATCH_WINDOW} are applied together
+     * to key map of running server, server itself is never rebound.
      */
     public void updateMD5keys() {
-        getWorker().executeTask(()-> {doUpdateMD5keys(null);}, ThreadsWorker.WorkerType.DEFAULT);
+        md5UpdateLock.lock();
+        try {
+            if (md5UpdateScheduled) {
+                return;
+            }
+            md5UpdateScheduled = true;
+        } finally {
+            md5UpdateLock.unlock();
+        }
+        getWorker().scheduleTask(() -> {
+            doUpdateMD5keys();
+            return null;
+        }, MD5_UPDATE_BATCH_WINDOW, TimeUnit.MILLISECONDS);
     }
 
     /**
-     * Updates TCP-MD5 keys of SxpNode.
-     * This method is thread safe and uses fast path optimization to avoid unnecessary server restarts in high-load
-     * situations.
-     * As a result, two situations may occur when calling this method. If the calling thread:
-     * 1. is the first to arrive at the critical section, it sets the processing flag on and restarts the server
-     *  with new keyset
-     * 2. invokes the method while the processing flag is on, it returns side-effect free
-     *
-     * The server restart is guarded by a separate mutex, so successive invocations of this method resulting in
-     * a server restart will block until previous restarts are done. However, please do note, this method does not
-     * guarantee fair order of such invocations.
-     *
-     * @param con Connection containing the password for MD5 key update, or null
+     * Applies actual TCP-MD5 keys of all connections and templates to running server,
+     * if server is being bound update is postponed until bind finishes and failed update is scheduled again
      */
-    private void doUpdateMD5keys(@Nullable SxpConnection con) {
+    private void doUpdateMD5keys() {
         md5UpdateLock.lock();
-        if (processingConnectionData) {
-            md5UpdateLock.unlock();
-            return;
-        }
-        processingConnectionData = true;
-        md5UpdateLock.unlock();
-
-        LOG.debug("{} - Updating MD5 keys", con);
-        bindServerFuture.updateAndGet(listenableFuture -> {
-            if (isEnabled() && listenableFuture != null) {
-                if (listenableFuture.isDone()) {
-                    Map<InetAddress, byte[]> keyMapping;
-                    md5UpdateLock.lock();
-                    try { // exclusive password extraction from all node connections
-                        //revoke processing flag
-                        processingConnectionData = false;
-                        //read keyMap
-                        keyMapping = ConnectFacade.collectAllPasswords(this);
-                    } finally {
-                        md5UpdateLock.unlock();
-                    }
-
-                    synchronized (md5UpdateLock) {
-                        if (serverChannel != null) {
-                            LOG.debug("{} - shutting down the server", con);
-                            serverChannel.close().awaitUninterruptibly();
-                        }
-                        serverChannel = ConnectFacade.createServer(this, handlerFactoryServer, keyMapping)
-                                .awaitUninterruptibly().channel();
-                    }
+        try {
+            md5UpdateScheduled = false;
+            final ListenableFuture<Boolean> bindFuture = bindServerFuture.get();
+            if (Objects.nonNull(bindFuture) && !bindFuture.isDone()) {
+                getWorker().addListener(bindFuture, this::updateMD5keys);
+                return;
+            }
+            if (isEnabled()) {
+                LOG.debug("{} Updating MD5 keys", this);
+                if (!ConnectFacade.updateServerPasswords(this, serverChannel)) {
+                    LOG.warn("{} Update of MD5 keys failed, scheduling retry", this);
+                    updateMD5keys();
                 }
             }
-            return listenableFuture;
-        });
+        } finally {
+            md5UpdateLock.unlock();
+        }
     }
 
     /**
@@ -16,6 +16,7 @@ import org.opendaylight.sxp.core.SxpConnection;
 import org.opendaylight.sxp.core.SxpConnection.ChannelHandlerContextType;
 import org.opendaylight.sxp.core.messaging.AttributeList;
 import org.opendaylight.sxp.core.messaging.MessageFactory;
+import org.opendaylight.sxp.core.messaging.UpdateMessageView;
 import org.opendaylight.sxp.util.exception.ErrorMessageReceivedException;
 import org.opendaylight.sxp.util.exception.message.ErrorMessageException;
 import org.opendaylight.sxp.util.exception.message.UpdateMessageCompositionException;
@@ -331,6 +332,14 @@ public final class Sxpv4 extends SxpLegacy {
             connection.setUpdateOrKeepaliveMessageTimestamp();
             connection.processUpdateMessage((UpdateMessage) message);
             return;
+        } else if (message instanceof UpdateMessageView) {
+            // Accepted only if connection is in ON state.
+            if (!connection.isStateOn(SxpConnection.ChannelHandlerContextType.ListenerContext)) {
+                throw new UpdateMessageConnectionStateException(connection.getState());
+            }
+            connection.setUpdateOrKeepaliveMessageTimestamp();
+            connection.processUpdateMessage((UpdateMessageView) message);
+            return;
         } else if (message instanceof ErrorMessage) {
             throw new ErrorMessageReceivedException(((ErrorMessage) message).getInformation());
         } else if (message instanceof PurgeAllMessage) {
@@ -347,7 +356,7 @@ public final class Sxpv4 extends SxpLegacy {
     @Override
     public Notification onParseInput(ByteBuf request) throws ErrorMessageException {
         try {
-            return MessageFactory.parse(Version.Version4, request);
+            return MessageFactory.parse(Version.Version4, request, true);
         } catch (AttributeVariantException | UnknownSxpMessageTypeException | AddressLengthException | UnknownHostException | AttributeLengthException | TlvNotFoundException | UnknownNodeIdException | UnknownPrefixException e) {
             throw new ErrorMessageException(ErrorCodeNonExtended.MessageParseError, e);
         }
@@ -357,8 +366,9 @@ public final class Sxpv4 extends SxpLegacy {
     public <T extends SxpBindingFields> ByteBuf onUpdateMessage(SxpConnection connection, List<T> deleteBindings,
             List<T> addBindings, SxpBindingFilter bindingFilter) throws UpdateMessageCompositionException {
         try {
+            //Bindings are already grouped by attributes in BindingDispatcher before partitioning
             return MessageFactory.createUpdate(deleteBindings, addBindings, getOwner().getNodeId(),
-                    connection.getCapabilitiesRemote(), bindingFilter);
+                    connection.getCapabilitiesRemote(), bindingFilter, false);
         } catch (SecurityGroupTagValueException | AttributeVariantException e) {
             throw new UpdateMessageCompositionException(connection.getVersion(), false, e);
         }
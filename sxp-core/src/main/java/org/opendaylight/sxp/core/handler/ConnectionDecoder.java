@@ -109,6 +109,12 @@ public class ConnectionDecoder extends SimpleChannelInboundHandler<ByteBuf> {
             throws ErrorCodeDataLengthException, AttributeLengthException, TlvNotFoundException, AddressLengthException,
             UnknownNodeIdException, ErrorMessageException, UnknownSxpMessageTypeException, AttributeVariantException,
             UnknownHostException, UnknownPrefixException {
+        if (ctx.channel().hasAttr(MessageDecoder.CONNECTION)
+                && ctx.channel().attr(MessageDecoder.CONNECTION).get() != null) {
+            ReferenceCountUtil.retain(message);
+            ctx.fireChannelRead(message);
+            return;
+        }
         InetSocketAddress address = getAddress(ctx);
         final SxpConnection connection = owner.getConnection(address);
         final SxpDomain domain = getTemplateDomain(address);
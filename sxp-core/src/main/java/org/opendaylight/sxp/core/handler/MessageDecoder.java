@@ -14,6 +14,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandler;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.DecoderException;
+import io.netty.util.AttributeKey;
 import java.io.IOException;
 import java.net.SocketAddress;
 import javax.net.ssl.SSLException;
@@ -22,6 +23,7 @@ import org.opendaylight.sxp.core.SxpConnection;
 import org.opendaylight.sxp.core.SxpConnection.ChannelHandlerContextType;
 import org.opendaylight.sxp.core.SxpNode;
 import org.opendaylight.sxp.core.messaging.MessageFactory;
+import org.opendaylight.sxp.core.messaging.UpdateMessageView;
 import org.opendaylight.sxp.core.messaging.legacy.LegacyMessageFactory;
 import org.opendaylight.sxp.util.exception.ErrorCodeDataLengthException;
 import org.opendaylight.sxp.util.exception.ErrorMessageReceivedException;
@@ -31,6 +33,8 @@ import org.opendaylight.sxp.util.exception.connection.SocketAddressNotRecognized
 import org.opendaylight.sxp.util.exception.message.ErrorMessageException;
 import org.opendaylight.sxp.util.exception.message.UpdateMessageConnectionStateException;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.sxp.messages.Notification;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.sxp.messages.UpdateMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.sxp.messages.UpdateMessageLegacy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +51,11 @@ public class MessageDecoder extends SimpleChannelInboundHandler<ByteBuf> {
 
     private static final Logger LOG = LoggerFactory.getLogger(MessageDecoder.class.getName());
 
+    /**
+     * Channel attribute holding SxpConnection resolved at channel activation
+     */
+    static final AttributeKey<SxpConnection> CONNECTION = AttributeKey.valueOf(MessageDecoder.class, "connection");
+
     /**
      * Creates MessageDecoder for Connection
      *
@@ -186,6 +195,24 @@ public class MessageDecoder extends SimpleChannelInboundHandler<ByteBuf> {
         this.profile = profile;
     }
 
+    /**
+     * Gets SxpConnection bound to channel, if channel was not bound yet
+     * connection is looked up in owner and bound to channel afterwards
+     *
+     * @param ctx ChannelHandlerContext of channel
+     * @return SxpConnection associated with channel or null if not found
+     */
+    private SxpConnection getConnection(ChannelHandlerContext ctx) {
+        SxpConnection connection = ctx.channel().attr(CONNECTION).get();
+        if (connection == null) {
+            connection = owner.getConnection(ctx.channel().remoteAddress());
+            if (connection != null) {
+                ctx.channel().attr(CONNECTION).set(connection);
+            }
+        }
+        return connection;
+    }
+
     @Override
     public void channelActive(ChannelHandlerContext ctx) throws SocketAddressNotRecognizedException {
         final SxpConnection connection = owner.getConnection(ctx.channel().remoteAddress());
@@ -194,6 +221,7 @@ public class MessageDecoder extends SimpleChannelInboundHandler<ByteBuf> {
             ctx.close();
             return;
         }
+        ctx.channel().attr(CONNECTION).set(connection);
         if (profile.equals(Profile.Server)) {
             // System.out.println("L" + ctx.channel().remoteAddress());
             connection.setInetSocketAddresses(ctx.channel().localAddress());
@@ -208,25 +236,35 @@ public class MessageDecoder extends SimpleChannelInboundHandler<ByteBuf> {
     @Override
     public void channelInactive(ChannelHandlerContext ctx) {
         LOG.warn(getLogMessage(owner, ctx, "Channel inactivation"));
-        final SxpConnection connection = owner.getConnection(ctx.channel().remoteAddress());
+        SxpConnection connection = ctx.channel().attr(CONNECTION).getAndSet(null);
+        if (connection == null) {
+            connection = owner.getConnection(ctx.channel().remoteAddress());
+        }
         if (connection == null) {
             return;
         }
+        connection.completeInboundBatch();
         connection.getContext().executeChannelInactivationStrategy(ctx, connection);
     }
 
     @Override
     public void channelRead0(ChannelHandlerContext ctx, ByteBuf message) {
         // LOG.debug(getLogMessage(owner, ctx, "Input received", null) + ": {}", MessageFactory.toString(message));
-        final SxpConnection connection = owner.getConnection(ctx.channel().remoteAddress());
+        final SxpConnection connection = getConnection(ctx);
         if (connection == null) {
             LOG.warn(getLogMessage(owner, ctx, "Channel read0"));
             return;
         }
+        connection.beginInboundBatch();
         while (message.readableBytes() != 0) {
             // Execute selected strategy.
             try {
                 Notification notification = connection.getContext().executeParseInput(message);
+                if (!isUpdate(notification)) {
+                    // Updates batched so far are processed before message that does not join batch, e.g. PurgeAll
+                    connection.completeInboundBatch();
+                    connection.beginInboundBatch();
+                }
                 connection.getContext().executeInputMessageStrategy(ctx, connection, notification);
             } catch (ErrorMessageException messageValidationException) {
                 // Attributes validation: Low-level filter of non-valid
@@ -250,14 +288,27 @@ public class MessageDecoder extends SimpleChannelInboundHandler<ByteBuf> {
         }
     }
 
+    /**
+     * @param notification Notification to check
+     * @return If Notification is Update message and joins inbound batch of connection
+     */
+    private static boolean isUpdate(Notification notification) {
+        return notification instanceof UpdateMessageView || notification instanceof UpdateMessage
+                || notification instanceof UpdateMessageLegacy;
+    }
+
     @Override
     public void channelReadComplete(ChannelHandlerContext ctx) {
+        final SxpConnection connection = ctx.channel().attr(CONNECTION).get();
+        if (connection != null) {
+            connection.completeInboundBatch();
+        }
         ctx.flush();
     }
 
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
-        final SxpConnection connection = owner.getConnection(ctx.channel().remoteAddress());
+        final SxpConnection connection = getConnection(ctx);
         if (connection == null) {
             LOG.warn(getLogMessage(owner, ctx, "Channel exception"));
             return;
@@ -8,6 +8,8 @@
 
 package org.opendaylight.sxp.core.messaging;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.List;
@@ -411,11 +413,35 @@ public final class AttributeFactory {
         return attributeBuilder.build();
     }
 
+    /**
+     * Decode Attribute from provided Byte Array
+     *
+     * @param array Byte Array starting with Attribute
+     * @return Decoded Attribute
+     * @throws AttributeLengthException If length of Attribute is incorrect
+     */
     protected static Attribute decode(byte[] array)
             throws AttributeLengthException, AddressLengthException, UnknownNodeIdException, UnknownPrefixException,
             TlvNotFoundException, UnknownHostException, AttributeVariantException {
+        return decode(Unpooled.wrappedBuffer(array));
+    }
+
+    /**
+     * Decode Attribute at reader index of provided ByteBuf, header is read in place
+     * and reader index is moved behind the Attribute
+     *
+     * @param buffer ByteBuf starting with Attribute
+     * @return Decoded Attribute
+     * @throws AttributeLengthException If length of Attribute is incorrect
+     */
+    protected static Attribute decode(ByteBuf buffer)
+            throws AttributeLengthException, AddressLengthException, UnknownNodeIdException, UnknownPrefixException,
+            TlvNotFoundException, UnknownHostException, AttributeVariantException {
+        if (!buffer.isReadable()) {
+            throw new AttributeLengthException();
+        }
         // 1 or 0 byte: O N P C E 0 0 0
-        Flags flags = getFlags(array[0]);
+        Flags flags = getFlags(buffer.getByte(buffer.readerIndex()));
 
         AttributeVariant variant = AttributeVariant.NonCompact;
         if (flags.isCompact()) {
@@ -425,48 +451,50 @@ public final class AttributeFactory {
             }
         }
 
-        AttributeType type = AttributeType.Unspecified;
-        int length = 0;
-        byte[] value = new byte[length];
+        final int index = buffer.readerIndex();
+        final int headerLength;
+        switch (variant) {
+            case Compact:
+                headerLength = Configuration.SET_COMPOSITION_ATTRIBUTE_COMPACT_NO_RESERVED_FIELDS ? 3 : 4;
+                break;
+            case CompactExtendedLength:
+                headerLength = 4;
+                break;
+            default:
+                headerLength = 8;
+        }
+        if (buffer.readableBytes() < headerLength) {
+            throw new AttributeLengthException();
+        }
 
+        AttributeType type;
+        int length;
         switch (variant) {
             case Compact:
-                type = AttributeType.forValue(ArraysUtil.bytes2int(ArraysUtil.readBytes(array, 1, 1)));
-                length = ArraysUtil.bytes2int(ArraysUtil.readBytes(array, 2, 1));
-                if (length < 0 || 255 < length) {
-                    throw new AttributeLengthException();
-                }
-                if (Configuration.SET_COMPOSITION_ATTRIBUTE_COMPACT_NO_RESERVED_FIELDS) {
-                    value = ArraysUtil.readBytes(array, 3, length);
-                    length += 3;
-                    break;
-                }
-                value = ArraysUtil.readBytes(array, 4, length);
-                length += 4;
+                type = AttributeType.forValue(buffer.getUnsignedByte(index + 1));
+                length = buffer.getUnsignedByte(index + 2);
                 break;
             case CompactExtendedLength:
-                type = AttributeType.forValue(ArraysUtil.bytes2int(ArraysUtil.readBytes(array, 1, 1)));
-                length = ArraysUtil.bytes2int(ArraysUtil.readBytes(array, 2, 2));
+                type = AttributeType.forValue(buffer.getUnsignedByte(index + 1));
+                length = buffer.getUnsignedShort(index + 2);
                 if (length < 256 || 4084 < length) {
                     throw new AttributeLengthException();
                 }
-                value = ArraysUtil.readBytes(array, 4, length);
-                length += 4;
                 break;
-            case NonCompact:
-                type = AttributeType.forValue(ArraysUtil.bytes2int(ArraysUtil.readBytes(array, 1, 3)));
-                length = ArraysUtil.bytes2int(ArraysUtil.readBytes(array, 4, 4));
+            default:
+                type = AttributeType.forValue(buffer.getUnsignedMedium(index + 1));
+                length = buffer.getInt(index + 4);
                 if (length < 0 || 4080 < length) {
                     throw new AttributeLengthException();
                 }
-                value = ArraysUtil.readBytes(array, 8, length);
-                length += 8;
-                break;
-            default:
-                variant = AttributeVariant.None;
         }
-
-        return decode(flags, variant, type, length, value);
+        if (buffer.readableBytes() < headerLength + length) {
+            throw new AttributeLengthException();
+        }
+        buffer.skipBytes(headerLength);
+        byte[] value = new byte[length];
+        buffer.readBytes(value);
+        return decode(flags, variant, type, headerLength + length, value);
     }
 
     /**
@@ -478,15 +506,16 @@ public final class AttributeFactory {
      * @param length  Length of attribute
      * @param value   Data that will be decoded
      * @return Attribute with specific type and data
-     * @throws AddressLengthException If length of Attribute is incorrect
-     * @throws TlvNotFoundException   If Attribute doesn't have Tlv
-     * @throws UnknownPrefixException If Attribute has incorrect or none Prefix
-     * @throws UnknownHostException   If address in Attribute is incorrect
-     * @throws UnknownNodeIdException If Attribute doesn't have NodeId
+     * @throws AddressLengthException   If length of Attribute is incorrect
+     * @throws TlvNotFoundException     If Attribute doesn't have Tlv
+     * @throws UnknownPrefixException   If Attribute has incorrect or none Prefix
+     * @throws UnknownHostException     If address in Attribute is incorrect
+     * @throws UnknownNodeIdException   If Attribute doesn't have NodeId
+     * @throws AttributeLengthException If length of PeerSequence Attribute is incorrect
      */
     private static Attribute decode(Flags flags, AttributeVariant variant, AttributeType type, int length, byte[] value)
             throws AddressLengthException, TlvNotFoundException, UnknownPrefixException, UnknownHostException,
-            UnknownNodeIdException, AttributeVariantException {
+            UnknownNodeIdException, AttributeVariantException, AttributeLengthException {
 
         AttributeBuilder attributeBuilder = new AttributeBuilder();
         attributeBuilder.setFlags(flags);
@@ -592,9 +621,10 @@ public final class AttributeFactory {
      * @return Decoded AddIpv4 prefix attribute
      * @throws UnknownHostException   If address in Attribute is incorrect
      * @throws UnknownPrefixException If Attribute has incorrect or none Prefix
+     * @throws AddressLengthException If Prefix exceeds Attribute
      */
     private static AttributeOptionalFields decodeIpv4AddPrefix(byte[] value, boolean compact)
-            throws UnknownHostException, UnknownPrefixException {
+            throws UnknownHostException, UnknownPrefixException, AddressLengthException {
         Ipv4AddPrefixAttributeBuilder attributeBuilder = new Ipv4AddPrefixAttributeBuilder();
         Ipv4AddPrefixAttributesBuilder attributesBuilder = new Ipv4AddPrefixAttributesBuilder();
         attributesBuilder.setIpPrefix(IpPrefixConv.decodeIpv4(value, compact));
@@ -610,9 +640,10 @@ public final class AttributeFactory {
      * @return Decoded DeleteIpv4 prefix attribute
      * @throws UnknownHostException   If address in Attribute is incorrect
      * @throws UnknownPrefixException If Attribute has incorrect or none Prefix
+     * @throws AddressLengthException If Prefix exceeds Attribute
      */
     private static AttributeOptionalFields decodeIpv4DeletePrefix(byte[] value, boolean compact)
-            throws UnknownHostException, UnknownPrefixException {
+            throws UnknownHostException, UnknownPrefixException, AddressLengthException {
         Ipv4DeletePrefixAttributeBuilder attributeBuilder = new Ipv4DeletePrefixAttributeBuilder();
         Ipv4DeletePrefixAttributesBuilder attributesBuilder = new Ipv4DeletePrefixAttributesBuilder();
         attributesBuilder.setIpPrefix(IpPrefixConv.decodeIpv4(value, compact));
@@ -628,9 +659,10 @@ public final class AttributeFactory {
      * @return Decoded AddIpv6 prefix attribute
      * @throws UnknownHostException   If address in Attribute is incorrect
      * @throws UnknownPrefixException If Attribute has incorrect or none Prefix
+     * @throws AddressLengthException If Prefix exceeds Attribute
      */
     private static AttributeOptionalFields decodeIpv6AddPrefix(byte[] value, boolean compact)
-            throws UnknownHostException, UnknownPrefixException {
+            throws UnknownHostException, UnknownPrefixException, AddressLengthException {
         Ipv6AddPrefixAttributeBuilder attributeBuilder = new Ipv6AddPrefixAttributeBuilder();
         Ipv6AddPrefixAttributesBuilder attributesBuilder = new Ipv6AddPrefixAttributesBuilder();
         attributesBuilder.setIpPrefix(IpPrefixConv.decodeIpv6(value, compact));
@@ -646,9 +678,10 @@ public final class AttributeFactory {
      * @return Decoded DeleteIpv4 prefix attribute
      * @throws UnknownHostException   If address in Attribute is incorrect
      * @throws UnknownPrefixException If Attribute has incorrect or none Prefix
+     * @throws AddressLengthException If Prefix exceeds Attribute
      */
     private static AttributeOptionalFields decodeIpv6DeletePrefix(byte[] value, boolean compact)
-            throws UnknownHostException, UnknownPrefixException {
+            throws UnknownHostException, UnknownPrefixException, AddressLengthException {
         Ipv6DeletePrefixAttributeBuilder attributeBuilder = new Ipv6DeletePrefixAttributeBuilder();
         Ipv6DeletePrefixAttributesBuilder attributesBuilder = new Ipv6DeletePrefixAttributesBuilder();
         attributesBuilder.setIpPrefix(IpPrefixConv.decodeIpv6(value, compact));
@@ -661,10 +694,11 @@ public final class AttributeFactory {
      *
      * @param value Byte Array containing PeerSequence attribute
      * @return Decoded PeerSequence attribute
-     * @throws UnknownHostException If address in Attribute is incorrect
+     * @throws UnknownHostException     If address in Attribute is incorrect
+     * @throws AttributeLengthException If length of Attribute is not multiple of NodeId length
      */
     private static AttributeOptionalFields decodePeerSequence(byte[] value)
-            throws UnknownHostException, UnknownNodeIdException {
+            throws UnknownHostException, UnknownNodeIdException, AttributeLengthException {
         PeerSequenceAttributeBuilder attributeBuilder = new PeerSequenceAttributeBuilder();
         PeerSequenceAttributesBuilder attributesBuilder = new PeerSequenceAttributesBuilder();
         attributesBuilder.setNodeId(NodeIdConv.decode(value));
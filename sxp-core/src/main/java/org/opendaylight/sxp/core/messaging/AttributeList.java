@@ -8,6 +8,8 @@
 
 package org.opendaylight.sxp.core.messaging;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.List;
@@ -60,11 +62,28 @@ public class AttributeList extends ArrayList<Attribute> {
     public static AttributeList decode(byte[] array)
             throws AttributeLengthException, AddressLengthException, UnknownNodeIdException, TlvNotFoundException,
             UnknownPrefixException, UnknownHostException, AttributeVariantException {
+        return decode(Unpooled.wrappedBuffer(array));
+    }
+
+    /**
+     * Decode AttributeList from readable bytes of provided ByteBuf,
+     * attributes are read in place and reader index is moved behind them
+     *
+     * @param buffer ByteBuf containing Attributes
+     * @return AttributeList decoded from provided data
+     * @throws AttributeLengthException If length of some attribute is incorrect
+     * @throws AddressLengthException   If address length of some attribute is incorrect
+     * @throws UnknownNodeIdException   If NodeId is missing in some attribute
+     * @throws TlvNotFoundException     If Tlv is missing in some attribute
+     * @throws UnknownPrefixException   If some attribute has incorrect or none Prefix
+     * @throws UnknownHostException     If some attribute have incorrect or none address
+     */
+    public static AttributeList decode(ByteBuf buffer)
+            throws AttributeLengthException, AddressLengthException, UnknownNodeIdException, TlvNotFoundException,
+            UnknownPrefixException, UnknownHostException, AttributeVariantException {
         AttributeList attributes = new AttributeList();
-        while (array.length != 0) {
-            Attribute attribute = AttributeFactory.decode(array);
-            attributes.add(attribute);
-            array = ArraysUtil.readBytes(array, attribute.getLength());
+        while (buffer.isReadable()) {
+            attributes.add(AttributeFactory.decode(buffer));
         }
         return attributes;
     }
@@ -153,15 +172,24 @@ public class AttributeList extends ArrayList<Attribute> {
     }
 
     /**
-     * Generate byte representation of AttributeList
+     * Generate byte representation of AttributeList, messages are encoded by {@link MessageEncoder}
      *
      * @return Encoded AttributeList
      * @throws AttributeVariantException If attribute variant isn't supported
      */
     public byte[] toBytes() throws AttributeVariantException {
-        byte[] attributes = new byte[0];
+        final List<byte[]> encoded = new ArrayList<>(size());
+        int length = 0;
         for (Attribute attribute : this) {
-            attributes = ArraysUtil.combine(attributes, toBytes(attribute));
+            final byte[] bytes = toBytes(attribute);
+            encoded.add(bytes);
+            length += bytes.length;
+        }
+        final byte[] attributes = new byte[length];
+        int offset = 0;
+        for (byte[] bytes : encoded) {
+            System.arraycopy(bytes, 0, attributes, offset, bytes.length);
+            offset += bytes.length;
         }
         return attributes;
     }
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.messaging;
+
+import com.google.common.net.InetAddresses;
+import io.netty.buffer.ByteBuf;
+import java.net.UnknownHostException;
+import java.util.List;
+import org.opendaylight.sxp.core.Configuration;
+import org.opendaylight.sxp.util.exception.message.attribute.AddressLengthException;
+import org.opendaylight.sxp.util.exception.message.attribute.AttributeLengthException;
+import org.opendaylight.sxp.util.exception.message.attribute.AttributeVariantException;
+import org.opendaylight.sxp.util.exception.message.attribute.TlvNotFoundException;
+import org.opendaylight.sxp.util.exception.unknown.UnknownNodeIdException;
+import org.opendaylight.sxp.util.exception.unknown.UnknownPrefixException;
+import org.opendaylight.sxp.util.inet.IpPrefixConv;
+import org.opendaylight.sxp.util.inet.NodeIdConv;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.AttributeType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.attributes.fields.Attribute;
+
+/**
+ * AttributeView class is flyweight over one Attribute of received message,
+ * header is read in place and value is decoded only when some of typed accessors is called.
+ * Instance is reused for all Attributes of message, so it must not be stored while iterating.
+ */
+public final class AttributeView {
+
+    /**
+     * Consumer of prefixes which are not materialized into IpPrefix
+     */
+    @FunctionalInterface
+    public interface PrefixConsumer {
+
+        /**
+         * @param address Address of prefix with bytes behind prefix length set to zero,
+         *                array is reused for all prefixes of Attribute
+         * @param length  Length of prefix
+         */
+        void accept(byte[] address, int length);
+    }
+
+    private static final int COMPACT_HEADER_LENGTH =
+            Configuration.SET_COMPOSITION_ATTRIBUTE_COMPACT_NO_RESERVED_FIELDS ? 3 : 4;
+
+    private ByteBuf buffer;
+    private int offset, flags, type, valueOffset, valueLength;
+
+    /**
+     * Moves view onto Attribute starting at specified offset and validates its header
+     *
+     * @param buffer Buffer containing Attributes
+     * @param offset Index of first byte of Attribute
+     * @return This view
+     * @throws AttributeLengthException If Attribute does not fit into buffer or its length is incorrect
+     */
+    AttributeView reset(ByteBuf buffer, int offset) throws AttributeLengthException {
+        if (buffer.writerIndex() <= offset) {
+            throw new AttributeLengthException();
+        }
+        this.buffer = buffer;
+        this.offset = offset;
+        flags = buffer.getUnsignedByte(offset);
+        final int headerLength;
+        if (isCompact() && !isExtendedLength()) {
+            headerLength = COMPACT_HEADER_LENGTH;
+        } else if (isCompact()) {
+            headerLength = 4;
+        } else {
+            headerLength = 8;
+        }
+        if (buffer.writerIndex() < offset + headerLength) {
+            throw new AttributeLengthException();
+        }
+        if (isCompact() && !isExtendedLength()) {
+            type = buffer.getUnsignedByte(offset + 1);
+            valueLength = buffer.getUnsignedByte(offset + 2);
+        } else if (isCompact()) {
+            type = buffer.getUnsignedByte(offset + 1);
+            valueLength = buffer.getUnsignedShort(offset + 2);
+            if (valueLength < 256 || 4084 < valueLength) {
+                throw new AttributeLengthException();
+            }
+        } else {
+            type = buffer.getUnsignedMedium(offset + 1);
+            valueLength = buffer.getInt(offset + 4);
+            if (valueLength < 0 || 4080 < valueLength) {
+                throw new AttributeLengthException();
+            }
+        }
+        valueOffset = offset + headerLength;
+        if (buffer.writerIndex() < valueOffset + valueLength) {
+            throw new AttributeLengthException();
+        }
+        return this;
+    }
+
+    /**
+     * @return Type of Attribute or null if type is not known
+     */
+    public AttributeType getType() {
+        return AttributeType.forValue(type);
+    }
+
+    /**
+     * @return Length of Attribute including its header
+     */
+    public int getLength() {
+        return valueOffset - offset + valueLength;
+    }
+
+    public boolean isOptional() {
+        return (flags & 0x80) != 0;
+    }
+
+    public boolean isNonTransitive() {
+        return (flags & 0x40) != 0;
+    }
+
+    public boolean isPartial() {
+        return (flags & 0x20) != 0;
+    }
+
+    public boolean isCompact() {
+        return (flags & 0x10) != 0;
+    }
+
+    public boolean isExtendedLength() {
+        return (flags & 0x08) != 0;
+    }
+
+    /**
+     * @return Read only slice of Attribute value sharing content with message
+     */
+    public ByteBuf getValue() {
+        return buffer.slice(valueOffset, valueLength).asReadOnly();
+    }
+
+    /**
+     * @return Value of SourceGroupTag Attribute
+     */
+    public int getSgt() {
+        return buffer.getUnsignedShort(valueOffset);
+    }
+
+    /**
+     * @return NodeIds of PeerSequence Attribute
+     * @throws UnknownHostException     If one of addresses has illegal format
+     * @throws UnknownNodeIdException   If one of addresses isn't in IPv4 format
+     * @throws AttributeLengthException If length of Attribute is not multiple of NodeId length
+     */
+    public List<NodeId> getNodeIds() throws UnknownHostException, UnknownNodeIdException, AttributeLengthException {
+        return NodeIdConv.read(buffer.slice(valueOffset, valueLength));
+    }
+
+    /**
+     * Checks PeerSequence Attribute for NodeId without decoding any of its NodeIds
+     *
+     * @param nodeId NodeId to look for
+     * @return If NodeId is part of PeerSequence
+     */
+    public boolean containsNodeId(NodeId nodeId) {
+        if (nodeId == null) {
+            return false;
+        }
+        final int address = InetAddresses.coerceToInteger(InetAddresses.forString(NodeIdConv.toString(nodeId)));
+        for (int i = valueOffset; i + 4 <= valueOffset + valueLength; i += 4) {
+            if (buffer.getInt(i) == address) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return If Attribute carries IPv6 prefixes
+     */
+    private boolean isIpv6() {
+        return type == AttributeType.Ipv6AddPrefix.getIntValue()
+                || type == AttributeType.Ipv6DeletePrefix.getIntValue();
+    }
+
+    /**
+     * Passes each prefix of prefix Attribute to consumer without creating IpPrefix
+     *
+     * @param consumer Consumer of prefixes
+     * @return Number of prefixes
+     */
+    public int forEachPrefix(PrefixConsumer consumer) {
+        final byte[] address = new byte[isIpv6() ? 16 : 4];
+        final int end = valueOffset + valueLength;
+        int count = 0;
+        for (int i = valueOffset; i < end; count++) {
+            final int length = buffer.getUnsignedByte(i), bytesLength = IpPrefixConv.getBytesLength(length);
+            i += isCompact() ? 1 : 4;
+            buffer.getBytes(i, address, 0, bytesLength);
+            for (int j = bytesLength; j < address.length; j++) {
+                address[j] = 0;
+            }
+            i += bytesLength;
+            consumer.accept(address, length);
+        }
+        return count;
+    }
+
+    /**
+     * @return Prefixes of prefix Attribute
+     * @throws UnknownPrefixException If one of addresses has incorrect format
+     * @throws UnknownHostException   If one of addresses has illegal format
+     * @throws AddressLengthException If one of prefixes exceeds Attribute
+     */
+    public List<IpPrefix> getPrefixes() throws UnknownPrefixException, UnknownHostException, AddressLengthException {
+        final ByteBuf value = buffer.slice(valueOffset, valueLength);
+        return isIpv6() ? IpPrefixConv.readIpv6(value, isCompact()) : IpPrefixConv.readIpv4(value, isCompact());
+    }
+
+    /**
+     * Checks that all prefixes of prefix Attribute fit into its value
+     *
+     * @throws AddressLengthException If some prefix is longer than address or exceeds Attribute
+     */
+    void validatePrefixes() throws AddressLengthException {
+        final int maxLength = isIpv6() ? 128 : 32, end = valueOffset + valueLength;
+        for (int i = valueOffset; i < end; ) {
+            final int length = buffer.getUnsignedByte(i);
+            i += (isCompact() ? 1 : 4) + IpPrefixConv.getBytesLength(length);
+            if (length > maxLength || i > end) {
+                throw new AddressLengthException();
+            }
+        }
+    }
+
+    /**
+     * @return Fully decoded Attribute
+     * @throws AttributeLengthException If length of Attribute is incorrect
+     */
+    public Attribute toAttribute()
+            throws AttributeLengthException, AddressLengthException, UnknownNodeIdException, UnknownPrefixException,
+            TlvNotFoundException, UnknownHostException, AttributeVariantException {
+        return AttributeFactory.decode(buffer.slice(offset, getLength()));
+    }
+
+    @Override
+    public String toString() {
+        return "AttributeView[" + getType() + ", " + getLength() + "]";
+    }
+}
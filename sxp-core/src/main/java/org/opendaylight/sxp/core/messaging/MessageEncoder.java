@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.messaging;
+
+import static org.opendaylight.sxp.core.Constants.MESSAGE_HEADER_LENGTH_LENGTH;
+import static org.opendaylight.sxp.core.Constants.MESSAGE_HEADER_TYPE_LENGTH;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.util.ArrayList;
+import java.util.List;
+import org.opendaylight.sxp.core.Configuration;
+import org.opendaylight.sxp.util.exception.message.attribute.AttributeVariantException;
+import org.opendaylight.sxp.util.inet.BinaryPrefix;
+import org.opendaylight.sxp.util.inet.IpPrefixConv;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.AttributeType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.AttributeVariant;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.FlagsFields.Flags;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.MessageType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.attributes.fields.Attribute;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.mapping.records.fields.MappingRecord;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.tlvs.fields.Tlv;
+
+/**
+ * MessageEncoder class collects parts of message and writes them into one pooled ByteBuf.
+ * Length of each part is computed when part is added, so that buffer of exact size is allocated
+ * and header, attribute headers and values are written in single pass without intermediate arrays.
+ */
+public final class MessageEncoder {
+
+    /**
+     * Part of message payload
+     */
+    private abstract static class Segment {
+
+        private final int length;
+
+        private Segment(int length) {
+            this.length = length;
+        }
+
+        /**
+         * @param buffer Buffer where segment will be written
+         */
+        abstract void write(ByteBuf buffer);
+    }
+
+    private static final int
+            COMPACT_HEADER_LENGTH =
+            Configuration.SET_COMPOSITION_ATTRIBUTE_COMPACT_NO_RESERVED_FIELDS ? 3 : 4;
+
+    private final MessageType messageType;
+    private final List<Segment> segments = new ArrayList<>();
+    private int payloadLength = 0;
+
+    /**
+     * @param messageType Type of encoded message
+     */
+    public MessageEncoder(MessageType messageType) {
+        this.messageType = Preconditions.checkNotNull(messageType);
+    }
+
+    /**
+     * @param segment Segment appended to payload
+     * @return This encoder
+     */
+    private MessageEncoder add(Segment segment) {
+        segments.add(segment);
+        payloadLength += segment.length;
+        return this;
+    }
+
+    /**
+     * Appends raw bytes to payload
+     *
+     * @param bytes Bytes to be appended
+     * @return This encoder
+     */
+    public MessageEncoder addBytes(byte[] bytes) {
+        Preconditions.checkNotNull(bytes);
+        return add(new Segment(bytes.length) {
+
+            @Override
+            void write(ByteBuf buffer) {
+                buffer.writeBytes(bytes);
+            }
+        });
+    }
+
+    /**
+     * Appends 32 bit integer to payload
+     *
+     * @param value Value to be appended
+     * @return This encoder
+     */
+    public MessageEncoder addInt(int value) {
+        return add(new Segment(4) {
+
+            @Override
+            void write(ByteBuf buffer) {
+                buffer.writeInt(value);
+            }
+        });
+    }
+
+    /**
+     * Appends encoded Attribute to payload
+     *
+     * @param attribute Attribute to be appended
+     * @return This encoder
+     * @throws AttributeVariantException If attribute variant isn't supported
+     */
+    public MessageEncoder addAttribute(Attribute attribute) throws AttributeVariantException {
+        final byte[] value = attribute.getValue();
+        final int headerLength = getHeaderLength(attribute.getAttributeVariant());
+        final byte flags = toByte(attribute.getFlags());
+        return add(new Segment(headerLength + value.length) {
+
+            @Override
+            void write(ByteBuf buffer) {
+                writeHeader(buffer, attribute.getAttributeVariant(), flags, attribute.getType(), value.length);
+                buffer.writeBytes(value);
+            }
+        });
+    }
+
+    /**
+     * Appends compact attribute containing prefixes, prefixes are encoded directly into message buffer.
+     * Attribute uses extended length if its value does not fit into one byte.
+     *
+     * @param type     Type of attribute
+     * @param flags    Flags of attribute
+     * @param prefixes Prefixes of attribute
+     * @return This encoder
+     */
+    public MessageEncoder addPrefixAttribute(AttributeType type, byte flags, List<IpPrefix> prefixes) {
+        final List<IpPrefix> values = new ArrayList<>(prefixes);
+        int valueLength = 0;
+        for (IpPrefix prefix : values) {
+            valueLength += getEncodedLength(prefix);
+        }
+        final int length = valueLength;
+        final AttributeVariant
+                variant =
+                length < 256 ? AttributeVariant.Compact : AttributeVariant.CompactExtendedLength;
+        final byte attributeFlags = length < 256 ? flags : (byte) (flags + 8);
+        return add(new Segment((length < 256 ? COMPACT_HEADER_LENGTH : 4) + length) {
+
+            @Override
+            void write(ByteBuf buffer) {
+                writeHeader(buffer, variant, attributeFlags, type, length);
+                values.forEach(prefix -> writePrefix(buffer, prefix));
+            }
+        });
+    }
+
+    /**
+     * Appends legacy MappingRecord to payload
+     *
+     * @param mappingRecord MappingRecord to be appended
+     * @return This encoder
+     */
+    public MessageEncoder addMappingRecord(MappingRecord mappingRecord) {
+        return add(new Segment(8 + mappingRecord.getLength()) {
+
+            @Override
+            void write(ByteBuf buffer) {
+                buffer.writeInt(mappingRecord.getOperationCode().getIntValue());
+                buffer.writeInt(mappingRecord.getLength());
+                buffer.writeBytes(BinaryPrefix.of(mappingRecord.getAddress()).getAddress());
+                for (Tlv tlv : mappingRecord.getTlv()) {
+                    buffer.writeInt(tlv.getType().getIntValue());
+                    buffer.writeInt(tlv.getLength());
+                    buffer.writeBytes(tlv.getValue());
+                }
+            }
+        });
+    }
+
+    /**
+     * @return Length of payload added so far
+     */
+    public int getPayloadLength() {
+        return payloadLength;
+    }
+
+    /**
+     * Writes message header and all parts of payload into pooled buffer of exact size
+     *
+     * @return ByteBuf representation of message
+     */
+    public ByteBuf encode() {
+        final int messageLength = MESSAGE_HEADER_LENGTH_LENGTH + MESSAGE_HEADER_TYPE_LENGTH + payloadLength;
+        final ByteBuf message = PooledByteBufAllocator.DEFAULT.buffer(messageLength, messageLength);
+        try {
+            message.writeInt(messageLength);
+            message.writeInt(messageType.getIntValue());
+            for (Segment segment : segments) {
+                segment.write(message);
+            }
+        } catch (RuntimeException e) {
+            message.release();
+            throw e;
+        }
+        return message;
+    }
+
+    /**
+     * @param variant Variant of attribute
+     * @return Length of attribute header
+     * @throws AttributeVariantException If attribute variant isn't supported
+     */
+    private static int getHeaderLength(AttributeVariant variant) throws AttributeVariantException {
+        if (AttributeVariant.Compact.equals(variant)) {
+            return COMPACT_HEADER_LENGTH;
+        } else if (AttributeVariant.CompactExtendedLength.equals(variant)) {
+            return 4;
+        } else if (AttributeVariant.NonCompact.equals(variant)) {
+            return 7;
+        }
+        throw new AttributeVariantException();
+    }
+
+    /**
+     * Writes attribute header, NonCompact header does not contain flags
+     *
+     * @param buffer  Buffer where header will be written
+     * @param variant Variant of attribute
+     * @param flags   Flags of attribute
+     * @param type    Type of attribute
+     * @param length  Length of attribute value
+     */
+    private static void writeHeader(ByteBuf buffer, AttributeVariant variant, byte flags, AttributeType type,
+            int length) {
+        switch (variant) {
+            case Compact:
+                buffer.writeByte(flags);
+                buffer.writeByte(type.getIntValue());
+                buffer.writeByte(length);
+                if (!Configuration.SET_COMPOSITION_ATTRIBUTE_COMPACT_NO_RESERVED_FIELDS) {
+                    buffer.writeByte(0x00);
+                }
+                break;
+            case CompactExtendedLength:
+                buffer.writeByte(flags);
+                buffer.writeByte(type.getIntValue());
+                buffer.writeShort(length);
+                break;
+            default:
+                buffer.writeMedium(type.getIntValue());
+                buffer.writeInt(length);
+        }
+    }
+
+    /**
+     * @param flags Flags of attribute
+     * @return Byte representation of flags
+     */
+    private static byte toByte(Flags flags) {
+        int value = 0;
+        if (Boolean.TRUE.equals(flags.isOptional())) {
+            value |= 0x80;
+        }
+        if (Boolean.TRUE.equals(flags.isNonTransitive())) {
+            value |= 0x40;
+        }
+        if (Boolean.TRUE.equals(flags.isPartial())) {
+            value |= 0x20;
+        }
+        if (Boolean.TRUE.equals(flags.isCompact())) {
+            value |= 0x10;
+        }
+        if (Boolean.TRUE.equals(flags.isExtendedLength())) {
+            value |= 0x08;
+        }
+        return (byte) value;
+    }
+
+    /**
+     * @param prefix IpPrefix to be encoded
+     * @return Number of bytes of encoded prefix
+     */
+    static int getEncodedLength(IpPrefix prefix) {
+        return IpPrefixConv.getEncodedLength(BinaryPrefix.of(prefix));
+    }
+
+    /**
+     * Writes prefix length followed by significant bytes of address
+     *
+     * @param buffer Buffer where prefix will be written
+     * @param prefix IpPrefix to be written
+     */
+    private static void writePrefix(ByteBuf buffer, IpPrefix prefix) {
+        IpPrefixConv.write(buffer, BinaryPrefix.of(prefix));
+    }
+}
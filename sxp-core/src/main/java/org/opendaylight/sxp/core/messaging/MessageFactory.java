@@ -15,11 +15,16 @@ import static org.opendaylight.sxp.core.Constants.MESSAGE_LENGTH_MAX;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Collections2;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import java.net.UnknownHostException;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import org.opendaylight.sxp.core.messaging.legacy.LegacyMessageFactory;
 import org.opendaylight.sxp.util.ArraysUtil;
 import org.opendaylight.sxp.util.exception.ErrorCodeDataLengthException;
@@ -123,11 +128,7 @@ public class MessageFactory {
             attributes.add(attribute);
         }
         // Add optional attributes..
-        byte[]
-                payload =
-                ArraysUtil.combine(new byte[] {0x00, 0x00, 0x00, (byte) version.getIntValue(), 0x00, 0x00, 0x00,
-                        (byte) nodeMode.getIntValue()}, attributes.toBytes());
-        return getMessage(MessageType.Open, payload);
+        return encodeOpen(MessageType.Open, version, nodeMode, attributes);
     }
 
     /**
@@ -210,11 +211,29 @@ public class MessageFactory {
             attributes.add(attribute);
         }
         // Add optional attributes..
-        byte[]
-                payload =
-                ArraysUtil.combine(new byte[] {0x00, 0x00, 0x00, (byte) version.getIntValue(), 0x00, 0x00, 0x00,
-                        (byte) nodeMode.getIntValue()}, attributes.toBytes());
-        return getMessage(MessageType.OpenResp, payload);
+        return encodeOpen(MessageType.OpenResp, version, nodeMode, attributes);
+    }
+
+    /**
+     * Encodes OpenMessage or OpenRespMessage
+     *
+     * @param messageType Type of message
+     * @param version     Version included in message
+     * @param nodeMode    ConnectionMode included in message
+     * @param attributes  Attributes included in message
+     * @return ByteBuf representation of message
+     * @throws AttributeVariantException If attribute variant isn't supported
+     */
+    private static ByteBuf encodeOpen(MessageType messageType, Version version, ConnectionMode nodeMode,
+            List<Attribute> attributes) throws AttributeVariantException {
+        final MessageEncoder
+                encoder =
+                new MessageEncoder(messageType).addInt(0xFF & version.getIntValue())
+                        .addInt(0xFF & nodeMode.getIntValue());
+        for (Attribute attribute : attributes) {
+            encoder.addAttribute(attribute);
+        }
+        return encoder.encode();
     }
 
     /**
@@ -294,7 +313,55 @@ public class MessageFactory {
     public static <R extends SxpBindingFields, T extends SxpBindingFields> ByteBuf createUpdate(List<R> deleteBindings,
             List<T> addBindings, NodeId nodeId, List<CapabilityType> capabilities, SxpBindingFilter bindingFilter)
             throws SecurityGroupTagValueException, AttributeVariantException {
-        AttributeList attributes = new AttributeList();
+        return createUpdate(deleteBindings, addBindings, nodeId, capabilities, bindingFilter, false);
+    }
+
+    /**
+     * Groups bindings by their PeerSequence and SourceGroupTag, so that bindings sharing
+     * these attributes are next to each other. Order of groups is given by first occurrence
+     * of their attributes and order of bindings inside group is preserved.
+     *
+     * @param bindings Bindings to be grouped
+     * @param <T>      Any type extending SxpBindingFields
+     * @return New List containing grouped bindings
+     */
+    public static <T extends SxpBindingFields> List<T> groupByAttributes(List<T> bindings) {
+        if (bindings == null || bindings.size() < 2) {
+            return bindings;
+        }
+        Map<Map.Entry<PeerSequence, Sgt>, List<T>> groups = new LinkedHashMap<>();
+        for (T binding : bindings) {
+            groups.computeIfAbsent(
+                    new AbstractMap.SimpleImmutableEntry<>(binding.getPeerSequence(), binding.getSecurityGroupTag()),
+                    k -> new ArrayList<>()).add(binding);
+        }
+        if (groups.size() == 1) {
+            return bindings;
+        }
+        List<T> grouped = new ArrayList<>(bindings.size());
+        groups.values().forEach(grouped::addAll);
+        return grouped;
+    }
+
+    /**
+     * Creates UpdateMessage using provided values
+     *
+     * @param deleteBindings    Bindings that will be deleted
+     * @param addBindings       Bindings that will be added
+     * @param nodeId            NodeId included in message
+     * @param groupByAttributes If add bindings will be grouped by PeerSequence and SourceGroupTag,
+     *                          so that these attributes are encoded only once for each group
+     * @return ByteBuf representation of UpdateMessage
+     * @throws SecurityGroupTagValueException If some Sgt isn't in rage [2, 65519]
+     * @throws AttributeVariantException      If some attribute variant isn't supported
+     */
+    public static <R extends SxpBindingFields, T extends SxpBindingFields> ByteBuf createUpdate(List<R> deleteBindings,
+            List<T> addBindings, NodeId nodeId, List<CapabilityType> capabilities, SxpBindingFilter bindingFilter,
+            boolean groupByAttributes) throws SecurityGroupTagValueException, AttributeVariantException {
+        if (groupByAttributes) {
+            addBindings = groupByAttributes(addBindings);
+        }
+        final MessageEncoder encoder = new MessageEncoder(MessageType.Update);
         List<IpPrefix> ipv4Prefixes = new ArrayList<>();
         List<IpPrefix> ipv6Prefixes = new ArrayList<>();
 
@@ -310,17 +377,22 @@ public class MessageFactory {
             // Binding delete attributes include any of IPv4-Del-Prefix,
             // IPv6-Del-Prefix, Del-IPv4, or Del-IPv6 attributes.
             if (!ipv4Prefixes.isEmpty()) {
-                attributes.add(AttributeFactory.createIpv4DeletePrefix(ipv4Prefixes, AttributeFactory._oNpCe));
+                encoder.addPrefixAttribute(AttributeType.Ipv4DeletePrefix, AttributeFactory._oNpCe, ipv4Prefixes);
                 ipv4Prefixes.clear();
             }
             if (!ipv6Prefixes.isEmpty()) {
-                attributes.add(AttributeFactory.createIpv6DeletePrefix(ipv6Prefixes, AttributeFactory._oNpCe));
+                encoder.addPrefixAttribute(AttributeType.Ipv6DeletePrefix, AttributeFactory._oNpCe, ipv6Prefixes);
                 ipv6Prefixes.clear();
             }
         }
 
         // Processing of binding add attributes.
         if (addBindings != null && !addBindings.isEmpty()) {
+            final byte
+                    ipv4AddFlags =
+                    capabilities.contains(CapabilityType.Ipv4Unicast) ? AttributeFactory._oNpCe : AttributeFactory._OnpCe,
+                    ipv6AddFlags =
+                    capabilities.contains(CapabilityType.Ipv6Unicast) ? AttributeFactory._oNpCe : AttributeFactory._OnpCe;
             Sgt sgt = null;
             PeerSequence peerSequence = null;
             for (T binding : addBindings) {
@@ -329,20 +401,18 @@ public class MessageFactory {
                 if ((!binding.getPeerSequence().equals(peerSequence) || !binding.getSecurityGroupTag().equals(sgt))) {
 
                     if (!ipv4Prefixes.isEmpty() && sgt != null && peerSequence != null) {
-                        attributes.add(AttributeFactory.createIpv4AddPrefix(ipv4Prefixes, capabilities.contains(
-                                CapabilityType.Ipv4Unicast) ? AttributeFactory._oNpCe : AttributeFactory._OnpCe));
+                        encoder.addPrefixAttribute(AttributeType.Ipv4AddPrefix, ipv4AddFlags, ipv4Prefixes);
                         ipv4Prefixes.clear();
                     }
                     if (!ipv6Prefixes.isEmpty() && sgt != null && peerSequence != null) {
-                        attributes.add(AttributeFactory.createIpv6AddPrefix(ipv6Prefixes, capabilities.contains(
-                                CapabilityType.Ipv6Unicast) ? AttributeFactory._oNpCe : AttributeFactory._OnpCe));
+                        encoder.addPrefixAttribute(AttributeType.Ipv6AddPrefix, ipv6AddFlags, ipv6Prefixes);
                         ipv6Prefixes.clear();
                     }
 
                     List<NodeId> peers = NodeIdConv.getPeerSequence(binding.getPeerSequence());
                     peers.add(0, nodeId);
-                    attributes.add(AttributeFactory.createPeerSequence(peers));
-                    attributes.add(AttributeFactory.createSourceGroupTag(binding.getSecurityGroupTag().getValue()));
+                    encoder.addAttribute(AttributeFactory.createPeerSequence(peers));
+                    encoder.addAttribute(AttributeFactory.createSourceGroupTag(binding.getSecurityGroupTag().getValue()));
 
                     sgt = binding.getSecurityGroupTag();
                     peerSequence = binding.getPeerSequence();
@@ -356,17 +426,15 @@ public class MessageFactory {
 
             }
             if (!ipv4Prefixes.isEmpty()) {
-                attributes.add(AttributeFactory.createIpv4AddPrefix(ipv4Prefixes, capabilities.contains(
-                        CapabilityType.Ipv4Unicast) ? AttributeFactory._oNpCe : AttributeFactory._OnpCe));
+                encoder.addPrefixAttribute(AttributeType.Ipv4AddPrefix, ipv4AddFlags, ipv4Prefixes);
                 ipv4Prefixes.clear();
             }
             if (!ipv6Prefixes.isEmpty()) {
-                attributes.add(AttributeFactory.createIpv6AddPrefix(ipv6Prefixes, capabilities.contains(
-                        CapabilityType.Ipv6Unicast) ? AttributeFactory._oNpCe : AttributeFactory._OnpCe));
+                encoder.addPrefixAttribute(AttributeType.Ipv6AddPrefix, ipv6AddFlags, ipv6Prefixes);
                 ipv6Prefixes.clear();
             }
         }
-        return getMessage(MessageType.Update, attributes.toBytes());
+        return encoder.encode();
     }
 
     /**
@@ -374,7 +442,8 @@ public class MessageFactory {
      *
      * @param version    Version used for decoding
      * @param headerType Type of header
-     * @param payload    Byte Array containing message
+     * @param payload    ByteBuf containing message
+     * @param updateView If Version 4 Update message is returned as {@link UpdateMessageView}
      * @return Decoded message
      * @throws ErrorMessageException          If version Mismatch occurs
      * @throws UnknownPrefixException         If some attribute has incorrect or none Prefix
@@ -385,12 +454,35 @@ public class MessageFactory {
      * @throws TlvNotFoundException           If Tvl isn't found
      * @throws UnknownSxpMessageTypeException If data contains unsupported message
      */
-    private static Notification decode(Version version, byte[] headerType, byte[] payload)
+    private static Notification decode(Version version, int headerType, ByteBuf payload, boolean updateView)
             throws ErrorMessageException, UnknownPrefixException, AddressLengthException, AttributeLengthException,
             UnknownHostException, UnknownNodeIdException, TlvNotFoundException, UnknownSxpMessageTypeException,
             AttributeVariantException {
-        MessageType messageType = MessageType.forValue(ArraysUtil.bytes2int(headerType));
+        MessageType messageType = MessageType.forValue(headerType);
+        if (messageType == null) {
+            throw new UnknownSxpMessageTypeException();
+        }
+        // Update is decoded directly from received data, other messages are small and rare
+        if (messageType == MessageType.Update && version.equals(Version.Version4)) {
+            return updateView ? UpdateMessageView.create(ByteBufUtil.getBytes(payload)) : decodeUpdate(payload);
+        }
+        return decode(version, messageType, ByteBufUtil.getBytes(payload));
+    }
 
+    /**
+     * Decode message of specific type
+     *
+     * @param version     Version used for decoding
+     * @param messageType Type of message
+     * @param payload     Byte Array containing message
+     * @return Decoded message
+     * @throws ErrorMessageException          If version Mismatch occurs
+     * @throws UnknownSxpMessageTypeException If data contains unsupported message
+     */
+    private static Notification decode(Version version, MessageType messageType, byte[] payload)
+            throws ErrorMessageException, UnknownPrefixException, AddressLengthException, AttributeLengthException,
+            UnknownHostException, UnknownNodeIdException, TlvNotFoundException, UnknownSxpMessageTypeException,
+            AttributeVariantException {
         // Remote can send OpenResp with different version
         if (messageType == MessageType.OpenResp || messageType == MessageType.Open) {
             final Version remoteVersion = extractVersion(payload);
@@ -575,10 +667,29 @@ public class MessageFactory {
     public static Notification decodeUpdate(byte[] payload)
             throws AttributeLengthException, AddressLengthException, UnknownNodeIdException, UnknownPrefixException,
             TlvNotFoundException, UnknownHostException, AttributeVariantException {
+        return decodeUpdate(Unpooled.wrappedBuffer(payload));
+    }
+
+    /**
+     * Decode UpdateMessage from readable bytes of provided ByteBuf,
+     * attributes are decoded in place without copying the payload into intermediate arrays
+     *
+     * @param payload ByteBuf containing message
+     * @return Notification with decoded UpdateMessage
+     * @throws AddressLengthException   If address length of some attribute is incorrect
+     * @throws AttributeLengthException If length of some attribute is incorrect
+     * @throws UnknownNodeIdException   If NodeId isn't found or is incorrect
+     * @throws UnknownPrefixException   If some attribute has incorrect or none Prefix
+     * @throws TlvNotFoundException     If Tvl isn't found
+     * @throws UnknownHostException     If some attribute have incorrect or none address
+     */
+    public static Notification decodeUpdate(ByteBuf payload)
+            throws AttributeLengthException, AddressLengthException, UnknownNodeIdException, UnknownPrefixException,
+            TlvNotFoundException, UnknownHostException, AttributeVariantException {
         UpdateMessageBuilder messageBuilder = new UpdateMessageBuilder();
         messageBuilder.setType(MessageType.Update);
-        messageBuilder.setLength(MESSAGE_HEADER_LENGTH_LENGTH + MESSAGE_HEADER_TYPE_LENGTH + payload.length);
-        messageBuilder.setPayload(payload);
+        messageBuilder.setLength(MESSAGE_HEADER_LENGTH_LENGTH + MESSAGE_HEADER_TYPE_LENGTH + payload.readableBytes());
+        messageBuilder.setPayload(ByteBufUtil.getBytes(payload));
 
         messageBuilder.setAttribute(AttributeList.decode(payload));
         return messageBuilder.build();
@@ -657,29 +768,45 @@ public class MessageFactory {
             throws ErrorMessageException, UnknownSxpMessageTypeException, AddressLengthException, UnknownHostException,
             AttributeLengthException, TlvNotFoundException, UnknownPrefixException, UnknownNodeIdException,
             AttributeVariantException {
+        return parse(version, request, false);
+    }
+
+    /**
+     * Decode received message into specific message type,
+     * Version 4 Update message may be returned as lazily decoded {@link UpdateMessageView}
+     *
+     * @param version    Version used for decoding
+     * @param request    ByteBuf containing data to be decoded
+     * @param updateView If Version 4 Update message is returned as {@link UpdateMessageView}
+     * @return Decoded message
+     * @throws ErrorMessageException          If version Mismatch occurs
+     * @throws UnknownSxpMessageTypeException If data contains unsupported message
+     * @throws AddressLengthException         If address length of some attribute is incorrect
+     * @throws UnknownHostException           If some attribute have incorrect or none address
+     * @throws AttributeLengthException       If length of some attribute is incorrect
+     * @throws TlvNotFoundException           If Tvl isn't found
+     * @throws UnknownPrefixException         If some attribute has incorrect or none Prefix
+     * @throws UnknownNodeIdException         If NodeId isn't found or is incorrect
+     */
+    public static Notification parse(Version version, ByteBuf request, boolean updateView)
+            throws ErrorMessageException, UnknownSxpMessageTypeException, AddressLengthException, UnknownHostException,
+            AttributeLengthException, TlvNotFoundException, UnknownPrefixException, UnknownNodeIdException,
+            AttributeVariantException {
         request.resetReaderIndex();
-        byte[] headerLength, headerType, payload;
-        int messageLength;
-        try {
-            headerLength = new byte[MESSAGE_HEADER_LENGTH_LENGTH];
-            request = request.readBytes(headerLength);
-
-            headerType = new byte[MESSAGE_HEADER_TYPE_LENGTH];
-            request = request.readBytes(headerType);
-
-            messageLength = ArraysUtil.bytes2int(headerLength);
-            int
-                    payloadLength =
-                    messageLength - (MESSAGE_HEADER_LENGTH_LENGTH + MESSAGE_HEADER_TYPE_LENGTH);
-
-            payload = new byte[payloadLength];
-            request = request.readBytes(payload);
-        } catch (IndexOutOfBoundsException | NegativeArraySizeException e) {
-            throw new ErrorMessageException(ErrorCode.MessageHeaderError, e);
+        final int headerLength = MESSAGE_HEADER_LENGTH_LENGTH + MESSAGE_HEADER_TYPE_LENGTH;
+        if (request.readableBytes() < headerLength) {
+            throw new ErrorMessageException(ErrorCode.MessageHeaderError,
+                    new Exception("Message header is not complete"));
+        }
+        final int messageLength = request.readInt(), headerType = request.readInt();
+        final int payloadLength = messageLength - headerLength;
+        if (payloadLength < 0 || payloadLength > request.readableBytes()) {
+            throw new ErrorMessageException(ErrorCode.MessageHeaderError,
+                    new Exception("Message incorporated length is not consistent"));
         }
 
-        validate(headerLength.length + headerType.length, payload.length, messageLength);
-        return decode(version, headerType, payload);
+        validate(headerLength, payloadLength, messageLength);
+        return decode(version, headerType, request.readSlice(payloadLength), updateView);
     }
 
     /**
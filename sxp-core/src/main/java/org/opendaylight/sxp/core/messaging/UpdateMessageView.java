@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.messaging;
+
+import static org.opendaylight.sxp.core.Constants.MESSAGE_HEADER_LENGTH_LENGTH;
+import static org.opendaylight.sxp.core.Constants.MESSAGE_HEADER_TYPE_LENGTH;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.net.UnknownHostException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.opendaylight.sxp.util.exception.message.attribute.AddressLengthException;
+import org.opendaylight.sxp.util.exception.message.attribute.AttributeLengthException;
+import org.opendaylight.sxp.util.exception.message.attribute.AttributeVariantException;
+import org.opendaylight.sxp.util.exception.message.attribute.TlvNotFoundException;
+import org.opendaylight.sxp.util.exception.unknown.UnknownNodeIdException;
+import org.opendaylight.sxp.util.exception.unknown.UnknownPrefixException;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.AttributeType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.MessageType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.SxpHeader;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.SxpPayload;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.sxp.messages.Notification;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.sxp.messages.UpdateMessage;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
+
+/**
+ * UpdateMessageView class is flyweight over payload of received Update message.
+ * Framing of all Attributes is validated when view is created, so that malformed message is
+ * still refused during parsing, but values are decoded only when {@link AttributeView} accessors are used.
+ * Iteration reuses one {@link AttributeView} instance.
+ */
+public final class UpdateMessageView implements Notification, SxpHeader, SxpPayload, Iterable<AttributeView> {
+
+    private final byte[] payload;
+    private final ByteBuf buffer;
+
+    /**
+     * @param payload Payload of Update message
+     */
+    private UpdateMessageView(byte[] payload) {
+        this.payload = Preconditions.checkNotNull(payload);
+        this.buffer = Unpooled.wrappedBuffer(payload);
+    }
+
+    /**
+     * Creates view over payload and validates its Attributes
+     *
+     * @param payload Payload of Update message, view takes ownership of array
+     * @return View of Update message
+     * @throws AttributeLengthException If length of some attribute is incorrect
+     * @throws AddressLengthException   If some prefix does not fit into attribute or its address
+     */
+    public static UpdateMessageView create(byte[] payload)
+            throws AttributeLengthException, AddressLengthException, UnknownNodeIdException, UnknownPrefixException,
+            TlvNotFoundException, UnknownHostException, AttributeVariantException {
+        final UpdateMessageView view = new UpdateMessageView(payload);
+        final AttributeView attribute = new AttributeView();
+        for (int offset = 0; offset < payload.length; offset += attribute.getLength()) {
+            attribute.reset(view.buffer, offset);
+            final AttributeType type = attribute.getType();
+            if (type == null) {
+                attribute.toAttribute();
+                continue;
+            }
+            switch (type) {
+                case Ipv4AddPrefix:
+                case Ipv6AddPrefix:
+                case Ipv4DeletePrefix:
+                case Ipv6DeletePrefix:
+                    attribute.validatePrefixes();
+                    break;
+                case PeerSequence:
+                    if (attribute.getValue().readableBytes() % 4 != 0) {
+                        throw new AttributeLengthException();
+                    }
+                    break;
+                case SourceGroupTag:
+                    if (attribute.getValue().readableBytes() < 2) {
+                        throw new AttributeLengthException();
+                    }
+                    break;
+                default:
+                    // Rare attributes are validated by full decoding
+                    attribute.toAttribute();
+            }
+        }
+        return view;
+    }
+
+    @Override
+    public Iterator<AttributeView> iterator() {
+        final AttributeView attribute = new AttributeView();
+        return new Iterator<AttributeView>() {
+
+            private int offset = 0;
+
+            @Override
+            public boolean hasNext() {
+                return offset < payload.length;
+            }
+
+            @Override
+            public AttributeView next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    attribute.reset(buffer, offset);
+                } catch (AttributeLengthException e) {
+                    throw new IllegalStateException("Attributes were validated when view was created", e);
+                }
+                offset += attribute.getLength();
+                return attribute;
+            }
+        };
+    }
+
+    /**
+     * @return Fully decoded UpdateMessage
+     */
+    public UpdateMessage toUpdateMessage()
+            throws AttributeLengthException, AddressLengthException, UnknownNodeIdException, UnknownPrefixException,
+            TlvNotFoundException, UnknownHostException, AttributeVariantException {
+        return (UpdateMessage) MessageFactory.decodeUpdate(payload);
+    }
+
+    @Override
+    public Integer getLength() {
+        return MESSAGE_HEADER_LENGTH_LENGTH + MESSAGE_HEADER_TYPE_LENGTH + payload.length;
+    }
+
+    @Override
+    public MessageType getType() {
+        return MessageType.Update;
+    }
+
+    @Override
+    public byte[] getPayload() {
+        return payload.clone();
+    }
+
+    @Override
+    public Class<? extends DataContainer> getImplementedInterface() {
+        return UpdateMessageView.class;
+    }
+
+    @Override
+    public String toString() {
+        return "UpdateMessageView[" + payload.length + "]";
+    }
+}
@@ -13,6 +13,7 @@ import static org.opendaylight.sxp.core.Constants.MESSAGE_HEADER_TYPE_LENGTH;
 import io.netty.buffer.ByteBuf;
 import java.net.UnknownHostException;
 import java.util.List;
+import org.opendaylight.sxp.core.messaging.MessageEncoder;
 import org.opendaylight.sxp.core.messaging.MessageFactory;
 import org.opendaylight.sxp.util.ArraysUtil;
 import org.opendaylight.sxp.util.exception.ErrorCodeDataLengthException;
@@ -113,28 +114,28 @@ public class LegacyMessageFactory extends MessageFactory {
         if (version == null || !MessageFactory.isLegacy(version))
             throw new UnknownVersionException();
 
-        MappingRecordList mappingRecords = new MappingRecordList();
+        final MessageEncoder encoder = new MessageEncoder(MessageType.Update);
         if (deleteBindings != null && !deleteBindings.isEmpty()) {
             deleteBindings.forEach(binding -> {
                 switch (version) {
                     case Version3:
                         if (binding.getIpPrefix().getIpv4Prefix() != null) {
-                            mappingRecords.add(LegacyAttributeFactory.createDeleteIpv4(binding.getIpPrefix()));
+                            encoder.addMappingRecord(LegacyAttributeFactory.createDeleteIpv4(binding.getIpPrefix()));
                         } else if (binding.getIpPrefix().getIpv6Prefix() != null) {
-                            mappingRecords.add(LegacyAttributeFactory.createDeleteIpv6(binding.getIpPrefix()));
+                            encoder.addMappingRecord(LegacyAttributeFactory.createDeleteIpv6(binding.getIpPrefix()));
                         }
                         break;
                     case Version2:
                         if (binding.getIpPrefix().getIpv6Prefix() != null) {
                             if (IpPrefixConv.getPrefixLength(binding.getIpPrefix()) == 128) {
-                                mappingRecords.add(LegacyAttributeFactory.createDeleteIpv6(binding.getIpPrefix()));
+                                encoder.addMappingRecord(LegacyAttributeFactory.createDeleteIpv6(binding.getIpPrefix()));
                             }
                             break;
                         }
                     case Version1:
                         if (binding.getIpPrefix().getIpv4Prefix() != null) {
                             if (IpPrefixConv.getPrefixLength(binding.getIpPrefix()) == 32) {
-                                mappingRecords.add(LegacyAttributeFactory.createDeleteIpv4(binding.getIpPrefix()));
+                                encoder.addMappingRecord(LegacyAttributeFactory.createDeleteIpv4(binding.getIpPrefix()));
                             }
                         }
                         break;
@@ -149,17 +150,17 @@ public class LegacyMessageFactory extends MessageFactory {
                 switch (version) {
                     case Version3:
                         if (binding.getIpPrefix().getIpv4Prefix() != null) {
-                            mappingRecords.add(LegacyAttributeFactory.createAddIpv4(binding.getSecurityGroupTag(),
+                            encoder.addMappingRecord(LegacyAttributeFactory.createAddIpv4(binding.getSecurityGroupTag(),
                                     binding.getIpPrefix()));
                         } else if (binding.getIpPrefix().getIpv6Prefix() != null) {
-                            mappingRecords.add(LegacyAttributeFactory.createAddIpv6(binding.getSecurityGroupTag(),
+                            encoder.addMappingRecord(LegacyAttributeFactory.createAddIpv6(binding.getSecurityGroupTag(),
                                     binding.getIpPrefix()));
                         }
                         break;
                     case Version2:
                         if (binding.getIpPrefix().getIpv6Prefix() != null) {
                             if (IpPrefixConv.getPrefixLength(binding.getIpPrefix()) == 128) {
-                                mappingRecords.add(LegacyAttributeFactory.createAddIpv6(binding.getSecurityGroupTag(),
+                                encoder.addMappingRecord(LegacyAttributeFactory.createAddIpv6(binding.getSecurityGroupTag(),
                                         binding.getIpPrefix()));
                             }
                             break;
@@ -167,7 +168,7 @@ public class LegacyMessageFactory extends MessageFactory {
                     case Version1:
                         if (binding.getIpPrefix().getIpv4Prefix() != null) {
                             if (IpPrefixConv.getPrefixLength(binding.getIpPrefix()) == 32) {
-                                mappingRecords.add(LegacyAttributeFactory.createAddIpv4(binding.getSecurityGroupTag(),
+                                encoder.addMappingRecord(LegacyAttributeFactory.createAddIpv4(binding.getSecurityGroupTag(),
                                         binding.getIpPrefix()));
                             }
                         }
@@ -175,7 +176,7 @@ public class LegacyMessageFactory extends MessageFactory {
                 }
             });
         }
-        return getMessage(MessageType.Update, mappingRecords.toBytes());
+        return encoder.encode();
     }
 
     /**
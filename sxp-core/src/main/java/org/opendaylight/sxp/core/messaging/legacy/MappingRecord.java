@@ -8,7 +8,6 @@
 
 package org.opendaylight.sxp.core.messaging.legacy;
 
-import com.google.common.net.InetAddresses;
 import java.net.Inet4Address;
 import java.net.Inet6Address;
 import java.net.InetAddress;
@@ -20,6 +19,7 @@ import org.opendaylight.sxp.util.exception.message.attribute.AddressLengthExcept
 import org.opendaylight.sxp.util.exception.message.attribute.AttributeLengthException;
 import org.opendaylight.sxp.util.exception.message.attribute.TlvNotFoundException;
 import org.opendaylight.sxp.util.exception.unknown.UnknownPrefixException;
+import org.opendaylight.sxp.util.inet.BinaryPrefix;
 import org.opendaylight.sxp.util.inet.IpPrefixConv;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.Sgt;
@@ -95,20 +95,10 @@ public class MappingRecord extends ArrayList<Tlv> {
      */
     public static org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.mapping.records.fields.MappingRecord create(
             AttributeType operationCode, IpPrefix prefix, Sgt sgt) {
-        String _prefix = new String(prefix.getValue());
-        if (_prefix.startsWith("/")) {
-            _prefix = _prefix.substring(1);
-        }
-        int i = _prefix.lastIndexOf('/');
-        if (i != -1) {
-            _prefix = _prefix.substring(0, i);
-        }
-
         MappingRecord tlvs = new MappingRecord();
-        InetAddress inetAddress = InetAddresses.forString(_prefix);
-        int length = IpPrefixConv.getPrefixLength(prefix);
-        if (inetAddress instanceof Inet4Address && length < 32 || inetAddress instanceof Inet6Address && length < 128) {
-            tlvs.add(getTlvPrefixLength(length));
+        BinaryPrefix binaryPrefix = BinaryPrefix.of(prefix);
+        if (!binaryPrefix.isHost()) {
+            tlvs.add(getTlvPrefixLength(binaryPrefix.getLength()));
         }
         if (sgt != null) {
             tlvs.add(getTlvSgt(sgt.getValue()));
@@ -121,7 +111,7 @@ public class MappingRecord extends ArrayList<Tlv> {
 
         MappingRecordBuilder recordBuilder = new MappingRecordBuilder();
         recordBuilder.setOperationCode(operationCode);
-        recordBuilder.setLength(inetAddress.getAddress().length + mappingRecordLength);
+        recordBuilder.setLength(binaryPrefix.getAddressBits() / 8 + mappingRecordLength);
         recordBuilder.setAddress(prefix);
         recordBuilder.setTlv(tlvs);
         return recordBuilder.build();
@@ -8,13 +8,13 @@
 
 package org.opendaylight.sxp.core.messaging.legacy;
 
-import com.google.common.net.InetAddresses;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
 import org.opendaylight.sxp.util.ArraysUtil;
 import org.opendaylight.sxp.util.exception.message.attribute.AddressLengthException;
 import org.opendaylight.sxp.util.exception.message.attribute.AttributeLengthException;
 import org.opendaylight.sxp.util.exception.unknown.UnknownPrefixException;
+import org.opendaylight.sxp.util.inet.BinaryPrefix;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.mapping.records.fields.MappingRecord;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.tlvs.fields.Tlv;
 
@@ -49,16 +49,7 @@ public class MappingRecordList extends ArrayList<MappingRecord> {
      * @return Byte representation of MappingRecord
      */
     private static byte[] toBytes(MappingRecord mappingRecord) {
-        String _prefix = new String(mappingRecord.getAddress().getValue());
-        if (_prefix.startsWith("/")) {
-            _prefix = _prefix.substring(1);
-        }
-        int i = _prefix.lastIndexOf('/');
-        if (i != -1) {
-            _prefix = _prefix.substring(0, i);
-        }
-
-        byte[] bprefix = InetAddresses.forString(_prefix).getAddress();
+        byte[] bprefix = BinaryPrefix.of(mappingRecord.getAddress()).getAddress();
         byte[]
                 _mappingRecord =
                 ArraysUtil.combine(ArraysUtil.int2bytes(mappingRecord.getOperationCode().getIntValue()),
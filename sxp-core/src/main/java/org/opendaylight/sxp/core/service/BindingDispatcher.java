@@ -7,14 +7,13 @@
  */
 package org.opendaylight.sxp.core.service;
 
-import static org.opendaylight.sxp.util.inet.Search.expandBindings;
-
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ListenableFuture;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +30,8 @@ import org.opendaylight.sxp.util.exception.connection.ChannelHandlerContextDiscr
 import org.opendaylight.sxp.util.exception.connection.ChannelHandlerContextNotFoundException;
 import org.opendaylight.sxp.util.exception.message.UpdateMessageCompositionException;
 import org.opendaylight.sxp.util.filtering.SxpBindingFilter;
+import org.opendaylight.sxp.util.inet.ExpandedBindings;
+import org.opendaylight.sxp.util.inet.PrefixExpansionCache;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.SxpBindingFields;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.CapabilityType;
 import org.slf4j.Logger;
@@ -46,8 +47,10 @@ public final class BindingDispatcher {
     private static final Logger LOG = LoggerFactory.getLogger(BindingDispatcher.class);
 
     private final AtomicInteger partitionSize = new AtomicInteger(0);
+    private final AtomicInteger exportSliceSize = new AtomicInteger(Constants.MESSAGE_EXPORT_SLICE);
     private final ThreadsWorker worker;
     private final SxpNode owner;
+    private final PrefixExpansionCache expansionCache = new PrefixExpansionCache();
 
     /**
      * Default constructor that sets SxpNode
@@ -74,6 +77,26 @@ public final class BindingDispatcher {
         }
     }
 
+    /**
+     * Set max number of Update Messages exported to one peer before export yields to other peers.
+     *
+     * @param exportSliceSize Number of messages exported in one slice
+     * @throws IllegalArgumentException If size of slice is bellow 1
+     */
+    public void setExportSliceSize(int exportSliceSize) throws IllegalArgumentException {
+        if (exportSliceSize < 1) {
+            throw new IllegalArgumentException("Export slice size must be positive. Current value: " + exportSliceSize);
+        }
+        this.exportSliceSize.set(exportSliceSize);
+    }
+
+    /**
+     * @return Max number of Update Messages exported to one peer in one slice
+     */
+    int getExportSliceSize() {
+        return exportSliceSize.get();
+    }
+
     /**
      * @param deleteBindings Bindings that will be deleted
      * @param addBindings    Bindings that will be added
@@ -98,7 +121,7 @@ public final class BindingDispatcher {
      *
      * @return value of partition size
      */
-    private int getPartitionSize() {
+    int getPartitionSize() {
         if (partitionSize.get() == 0) {
             return Math.max(2, Constants.MESSAGE_EXPORT_QUANTITY);
         }
@@ -106,7 +129,24 @@ public final class BindingDispatcher {
     }
 
     /**
-     * Partition data based on pre configured value, expands bindings for legacy connections
+     * @return Cache of subnet expansions shared by all connections of owner
+     */
+    PrefixExpansionCache getExpansionCache() {
+        return expansionCache;
+    }
+
+    /**
+     * @param connection SxpConnection to be checked
+     * @return If subnet bindings must be expanded before export to specified peer
+     */
+    private boolean isExpansionRequired(SxpConnection connection) {
+        return connection.isVersion4() && !connection.getCapabilitiesRemote().contains(CapabilityType.SubnetBindings)
+                || connection.getVersion().getIntValue() < 3;
+    }
+
+    /**
+     * Partition data based on pre configured value, expands bindings for legacy connections.
+     * Provided lists are not modified, expanded bindings are generated lazily during message composition.
      *
      * @param connection     SxpConnection for which data will be partitioned
      * @param deleteBindings Bindings for delete
@@ -118,11 +158,17 @@ public final class BindingDispatcher {
             SxpConnection connection, List<T> deleteBindings, List<T> addBindings) {
         List<BiFunction<SxpConnection, SxpBindingFilter, ByteBuf>> partitions = new ArrayList<>();
         List<T> lastPartition = null;
+        //Bindings sharing attributes are exported together so that their attributes are encoded only once
+        if (connection.isVersion4()) {
+            addBindings = MessageFactory.groupByAttributes(addBindings);
+        }
         //Prefix Expansion for legacy versions
-        if (connection.isVersion4() && !connection.getCapabilitiesRemote().contains(CapabilityType.SubnetBindings)
-                || connection.getVersion().getIntValue() < 3) {
-            expandBindings(deleteBindings, owner.getExpansionQuantity());
-            expandBindings(addBindings, owner.getExpansionQuantity());
+        if (isExpansionRequired(connection)) {
+            final int quantity = owner.getExpansionQuantity();
+            if (quantity > 0) {
+                deleteBindings = new ExpandedBindings<>(deleteBindings, quantity, expansionCache);
+                addBindings = new ExpandedBindings<>(addBindings, quantity, expansionCache);
+            }
         }
         //Split Delete Bindings
         if (deleteBindings != null && !deleteBindings.isEmpty()) {
@@ -183,11 +229,67 @@ public final class BindingDispatcher {
 
             AtomicInteger releaseCounter = releaseCounterPool.get(key);
             releaseCounter.incrementAndGet();
-            exportTasks.add(new UpdateExportTask(connection, messagesPool.get(key), dataPool.get(key), releaseCounter));
+            exportTasks.add(new UpdateExportTask(connection, messagesPool.get(key), dataPool.get(key), releaseCounter,
+                    getExportSliceSize()));
         }
         exportTasks.forEach(e -> worker.executeTaskInSequence(e, ThreadsWorker.WorkerType.OUTBOUND, e.getConnection()));
     }
 
+    /**
+     * Exports to peer only difference between bindings admitted by previous and current outbound filter,
+     * bindings that are no longer admitted are deleted and newly admitted bindings are added.
+     * For peers that require subnet expansion difference is computed over expanded host bindings,
+     * as outbound filter is applied on them during export.
+     *
+     * @param connection SxpConnection on which the export will be performed
+     * @param bindings   Bindings of MasterDatabase
+     * @param oldFilter  Outbound filter used before update or null if there was none
+     * @param newFilter  Outbound filter used after update or null if there is none
+     * @param <T>        Any type extending SxpBindingFields
+     */
+    public <T extends SxpBindingFields> void propagateFilterUpdate(SxpConnection connection, List<T> bindings,
+            SxpBindingFilter oldFilter, SxpBindingFilter newFilter) {
+        if (connection == null || bindings == null || bindings.isEmpty() || oldFilter == newFilter) {
+            return;
+        }
+        List<T> source = bindings, deleteBindings = new ArrayList<>(), addBindings = new ArrayList<>();
+        final int quantity = owner.getExpansionQuantity();
+        if (quantity > 0 && isExpansionRequired(connection)) {
+            source = new ExpandedBindings<>(bindings, quantity, expansionCache);
+        }
+        for (T binding : source) {
+            boolean exported = oldFilter == null || oldFilter.test(binding),
+                    export = newFilter == null || newFilter.test(binding);
+            if (exported && !export) {
+                deleteBindings.add(binding);
+            } else if (!exported && export) {
+                addBindings.add(binding);
+            }
+        }
+        LOG.debug("{} Outbound filter update deletes {} and adds {} bindings", connection, deleteBindings.size(),
+                addBindings.size());
+        propagateUpdate(deleteBindings, addBindings, Collections.singletonList(connection));
+    }
+
+    /**
+     * Exports all bindings of MasterDatabase to specified peer, snapshot of database is taken
+     * when export starts and bindings are encoded and written one partition at a time so memory
+     * used by export does not depend on size of exported database. Export is executed in slices
+     * and yields to incremental updates of other peers.
+     *
+     * @param connection SxpConnection on which the export will be performed
+     */
+    public void propagateFullSync(final SxpConnection connection) {
+        if (connection == null) {
+            return;
+        }
+        worker.executeTaskInSequence(new FullSyncExportTask<>(connection, () -> {
+            synchronized (owner.getDomain(connection.getDomainName())) {
+                return owner.getBindingMasterDatabase(connection.getDomainName()).getBindingsSnapshot();
+            }
+        }, this), ThreadsWorker.WorkerType.OUTBOUND, connection);
+    }
+
     /**
      * Add PurgeAll to queue and afterwards sends it
      *
@@ -9,15 +9,26 @@
 package org.opendaylight.sxp.core.service;
 
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableScheduledFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.net.UnknownHostException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -25,12 +36,19 @@ import org.opendaylight.sxp.core.Configuration;
 import org.opendaylight.sxp.core.SxpConnection;
 import org.opendaylight.sxp.core.SxpDomain;
 import org.opendaylight.sxp.core.SxpNode;
+import org.opendaylight.sxp.core.messaging.AttributeView;
+import org.opendaylight.sxp.core.messaging.UpdateMessageView;
 import org.opendaylight.sxp.core.messaging.legacy.MappingRecord;
 import org.opendaylight.sxp.core.threading.ThreadsWorker;
 import org.opendaylight.sxp.util.database.SxpDatabase;
 import org.opendaylight.sxp.util.database.spi.MasterDatabaseInf;
 import org.opendaylight.sxp.util.database.spi.SxpDatabaseInf;
+import org.opendaylight.sxp.util.exception.message.attribute.AddressLengthException;
+import org.opendaylight.sxp.util.exception.message.attribute.AttributeLengthException;
+import org.opendaylight.sxp.util.exception.message.attribute.AttributeVariantException;
 import org.opendaylight.sxp.util.exception.message.attribute.TlvNotFoundException;
+import org.opendaylight.sxp.util.exception.unknown.UnknownNodeIdException;
+import org.opendaylight.sxp.util.exception.unknown.UnknownPrefixException;
 import org.opendaylight.sxp.util.filtering.SxpBindingFilter;
 import org.opendaylight.sxp.util.inet.NodeIdConv;
 import org.opendaylight.sxp.util.time.TimeConv;
@@ -45,6 +63,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.sxp.
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.sxp.database.fields.binding.database.binding.sources.binding.source.sxp.database.bindings.SxpDatabaseBindingBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.FilterType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.SxpFilterFields;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.AttributeType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.CapabilityType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.NodeId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.TlvType;
@@ -72,10 +91,15 @@ import org.slf4j.LoggerFactory;
 public final class BindingHandler {
 
     private static final Logger LOG = LoggerFactory.getLogger(BindingHandler.class);
+    /**
+     * Time in milliseconds during which expired DeleteHoldDown connections of domain are collected and purged together
+     */
+    public static final int PURGE_BATCH_WINDOW = 500;
     private final AtomicInteger bufferLimit = new AtomicInteger(1);
     private final SxpNode sxpNode;
     private final BindingDispatcher dispatcher;
     private final Map<SxpConnection, Deque<DecodedMessage>> buffer = new HashMap<>();
+    private final Map<String, PurgeBatch> purgeBatches = new HashMap<>();
 
     /**
      * @param node       Owner of Handler
@@ -265,6 +289,130 @@ public final class BindingHandler {
         return prefixes.stream().map(p -> bindingsBuilder.setIpPrefix(p).build()).collect(Collectors.toList());
     }
 
+    /**
+     * Gets prefixes of Attribute from view, prefix Attributes are decoded in place
+     * and single prefix Attributes by full decoding of Attribute
+     *
+     * @param attribute View of Attribute
+     * @return Prefixes of Attribute or empty list if Attribute does not carry prefixes
+     */
+    private static List<IpPrefix> getPrefixes(AttributeView attribute)
+            throws AttributeLengthException, AddressLengthException, UnknownNodeIdException, UnknownPrefixException,
+            TlvNotFoundException, UnknownHostException, AttributeVariantException {
+        switch (attribute.getType()) {
+            case Ipv4AddPrefix:
+            case Ipv6AddPrefix:
+            case Ipv4DeletePrefix:
+            case Ipv6DeletePrefix:
+                return attribute.getPrefixes();
+            case AddIpv4:
+                return Collections.singletonList(
+                        ((AddIpv4Attribute) attribute.toAttribute().getAttributeOptionalFields()).getAddIpv4Attributes()
+                                .getIpPrefix());
+            case AddIpv6:
+                return Collections.singletonList(
+                        ((AddIpv6Attribute) attribute.toAttribute().getAttributeOptionalFields()).getAddIpv6Attributes()
+                                .getIpPrefix());
+            case DelIpv4:
+                return Collections.singletonList(
+                        ((DeleteIpv4Attribute) attribute.toAttribute().getAttributeOptionalFields()).getDeleteIpv4Attributes()
+                                .getIpPrefix());
+            case DelIpv6:
+                return Collections.singletonList(
+                        ((DeleteIpv6Attribute) attribute.toAttribute().getAttributeOptionalFields()).getDeleteIpv6Attributes()
+                                .getIpPrefix());
+            default:
+                return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Process addition of Bindings from view of UpdateMessage without materializing its Attributes,
+     * prefixes following PeerSequence that contains specified NodeId are skipped without being decoded
+     *
+     * @param message    View of UpdateMessage containing data to be proceed
+     * @param filter     SxpBinding filter that will be applied to bindings
+     * @param loopNodeId NodeId used for loop detection or null if loop detection is not used
+     * @return List of new Bindings
+     */
+    public static List<SxpDatabaseBinding> processMessageAddition(UpdateMessageView message, SxpBindingFilter filter,
+            NodeId loopNodeId)
+            throws AttributeLengthException, AddressLengthException, UnknownNodeIdException, UnknownPrefixException,
+            TlvNotFoundException, UnknownHostException, AttributeVariantException {
+        List<SxpDatabaseBinding> bindings = new ArrayList<>();
+        SxpDatabaseBindingBuilder
+                bindingBuilder =
+                new SxpDatabaseBindingBuilder().setTimestamp(TimeConv.toDt(System.currentTimeMillis()));
+        boolean loop = false;
+
+        for (AttributeView attribute : message) {
+            final AttributeType type = attribute.getType();
+            if (type == null) {
+                continue;
+            }
+            switch (type) {
+                case AddIpv4:
+                case AddIpv6:
+                case Ipv4AddPrefix:
+                case Ipv6AddPrefix:
+                    if (!loop) {
+                        for (IpPrefix prefix : getPrefixes(attribute)) {
+                            SxpDatabaseBinding binding = bindingBuilder.setIpPrefix(prefix).build();
+                            if (filter == null || !filter.apply(binding)) {
+                                bindings.add(binding);
+                            }
+                        }
+                    }
+                    break;
+                case PeerSequence:
+                    loop = attribute.containsNodeId(loopNodeId);
+                    if (!loop) {
+                        bindingBuilder.setPeerSequence(NodeIdConv.createPeerSequence(attribute.getNodeIds()));
+                    }
+                    break;
+                case SourceGroupTag:
+                    bindingBuilder.setSecurityGroupTag(new Sgt(attribute.getSgt()));
+                    break;
+            }
+        }
+        return bindings;
+    }
+
+    /**
+     * Process deletion of Bindings from view of UpdateMessage without materializing its Attributes
+     *
+     * @param message View of UpdateMessage containing data to be proceed
+     * @return List of delBindings Bindings
+     */
+    public static List<SxpDatabaseBinding> processMessageDeletion(UpdateMessageView message)
+            throws AttributeLengthException, AddressLengthException, UnknownNodeIdException, UnknownPrefixException,
+            TlvNotFoundException, UnknownHostException, AttributeVariantException {
+        List<SxpDatabaseBinding> bindings = new ArrayList<>();
+        SxpDatabaseBindingBuilder
+                bindingsBuilder =
+                new SxpDatabaseBindingBuilder().setSecurityGroupTag(new Sgt(Configuration.DEFAULT_PREFIX_GROUP))
+                        .setTimestamp(TimeConv.toDt(System.currentTimeMillis()))
+                        .setPeerSequence(new PeerSequenceBuilder().setPeer(new ArrayList<>()).build());
+
+        for (AttributeView attribute : message) {
+            final AttributeType type = attribute.getType();
+            if (type == null || (attribute.isOptional() && (attribute.isPartial() || !attribute.isNonTransitive()))) {
+                continue;
+            }
+            switch (type) {
+                case DelIpv4:
+                case DelIpv6:
+                case Ipv4DeletePrefix:
+                case Ipv6DeletePrefix:
+                    for (IpPrefix prefix : getPrefixes(attribute)) {
+                        bindings.add(bindingsBuilder.setIpPrefix(prefix).build());
+                    }
+                    break;
+            }
+        }
+        return bindings;
+    }
+
     /**
      * Parse UpdateMessageLegacy and process deletion of Bindings into new SxpDatabase
      *
@@ -291,6 +439,25 @@ public final class BindingHandler {
         return bindings;
     }
 
+    /**
+     * Executes task in inbound sequence of connection, if sequence is executed on event loop
+     * task is handed off so that it does not block event loop
+     *
+     * @param worker     ThreadsWorker of connection
+     * @param task       Task to be executed
+     * @param connection SxpConnection which sequence is used
+     * @return ListenableFuture of task
+     */
+    private static <T> ListenableFuture<T> executeInSequence(final ThreadsWorker worker, final Callable<T> task,
+            final SxpConnection connection) {
+        if (worker.isExecutedOnEventLoop(ThreadsWorker.WorkerType.INBOUND)) {
+            return Futures.dereference(worker.executeTaskInSequence(
+                    () -> worker.handOffTaskInSequence(task, ThreadsWorker.WorkerType.INBOUND, connection),
+                    ThreadsWorker.WorkerType.INBOUND, connection));
+        }
+        return worker.executeTaskInSequence(task, ThreadsWorker.WorkerType.INBOUND, connection);
+    }
+
     /**
      * Add Purge to inbound message queue and proceed it
      *
@@ -302,7 +469,8 @@ public final class BindingHandler {
                 buffer.get(connection).clear();
             }
         }
-        return Preconditions.checkNotNull(connection).getOwner().getWorker().executeTaskInSequence(() -> {
+        final ThreadsWorker worker = Preconditions.checkNotNull(connection).getOwner().getWorker();
+        final Callable<Void> purge = () -> {
             final Map<NodeId, SxpBindingFilter>
                     filterMap =
                     SxpDatabase.getInboundFilters(connection.getOwner(), connection.getDomainName());
@@ -317,7 +485,161 @@ public final class BindingHandler {
                 sxpDomain.pushToSharedSxpDatabases(connection.getId(), filter, removed, replace);
             }
             return null;
-        }, ThreadsWorker.WorkerType.INBOUND, connection);
+        };
+        return executeInSequence(worker, purge, connection);
+    }
+
+    /**
+     * Adds connection to batch of connections which bindings will be purged together with other connections
+     * of the same domain added during {@link #PURGE_BATCH_WINDOW}, so that replacements are computed
+     * and change is propagated to peers only once for whole batch.
+     * Batch is canceled if worker of node is shut down before it is purged.
+     *
+     * @param connection SxpConnection which DeleteHoldDown expired
+     * @return ListenableFuture completed after bindings of whole batch were purged
+     */
+    public ListenableFuture<Void> processBatchedPurge(final SxpConnection connection) {
+        synchronized (buffer) {
+            if (buffer.containsKey(Preconditions.checkNotNull(connection))) {
+                buffer.get(connection).clear();
+            }
+        }
+        final String domainName = connection.getDomainName();
+        final ThreadsWorker worker = sxpNode.getWorker();
+        synchronized (purgeBatches) {
+            PurgeBatch batch = purgeBatches.get(domainName);
+            if (batch == null) {
+                final ListenableScheduledFuture<Void> scheduled;
+                try {
+                    scheduled = worker.scheduleTask(() -> purgeBatch(domainName), PURGE_BATCH_WINDOW,
+                            TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    LOG.warn("{} PURGE of connections in domain {} rejected", sxpNode, domainName);
+                    return Futures.immediateCancelledFuture();
+                }
+                purgeBatches.put(domainName, batch = new PurgeBatch());
+                final PurgeBatch scheduledBatch = batch;
+                scheduled.addListener(() -> {
+                    if (scheduled.isCancelled()) {
+                        synchronized (purgeBatches) {
+                            purgeBatches.remove(domainName, scheduledBatch);
+                        }
+                        scheduledBatch.future.cancel(false);
+                    }
+                }, MoreExecutors.directExecutor());
+            }
+            batch.connections.add(connection);
+            return batch.future;
+        }
+    }
+
+    /**
+     * Removes bindings of all connections in batch of domain from SxpDatabase, each connection
+     * in its own inbound sequence, then replaces them and propagates netted change to peers.
+     * Connections that left DeleteHoldDown or PendingOn state before their turn are not purged.
+     *
+     * @param domainName Name of domain which batch will be purged
+     * @return null
+     */
+    Void purgeBatch(final String domainName) {
+        final PurgeBatch batch;
+        synchronized (purgeBatches) {
+            batch = purgeBatches.remove(domainName);
+        }
+        if (batch == null) {
+            return null;
+        }
+        try {
+            final ThreadsWorker worker = sxpNode.getWorker();
+            final SxpDomain domain = sxpNode.getDomain(domainName);
+            final List<SxpConnection> connections = new ArrayList<>();
+            final List<ListenableFuture<List<SxpDatabaseBinding>>> deletes = new ArrayList<>();
+            for (SxpConnection connection : batch.connections) {
+                if (connection.isStateDeleteHoldDown() || connection.isStatePendingOn()) {
+                    connections.add(connection);
+                    deletes.add(executeInSequence(worker, () -> {
+                        if (!connection.isStateDeleteHoldDown() && !connection.isStatePendingOn()) {
+                            return Collections.<SxpDatabaseBinding>emptyList();
+                        }
+                        synchronized (domain) {
+                            return domain.getSxpDatabase().deleteBindings(connection.getId());
+                        }
+                    }, connection));
+                }
+            }
+            final ListenableFuture<List<List<SxpDatabaseBinding>>> deleted = Futures.successfulAsList(deletes);
+            deleted.addListener(() -> {
+                try {
+                    worker.executeTask(() -> completeBatch(domainName, domain, batch, connections,
+                            Futures.getUnchecked(deleted)), ThreadsWorker.WorkerType.INBOUND);
+                } catch (RuntimeException e) {
+                    LOG.error("{} PURGE of connections in domain {} failed", sxpNode, domainName, e);
+                    batch.future.setException(e);
+                }
+            }, MoreExecutors.directExecutor());
+        } catch (RuntimeException e) {
+            LOG.error("{} PURGE of connections in domain {} failed", sxpNode, domainName, e);
+            batch.future.setException(e);
+        }
+        return null;
+    }
+
+    /**
+     * Replaces bindings removed by connections of batch and propagates netted change to peers
+     *
+     * @param domainName  Name of domain of batch
+     * @param domain      Domain of batch
+     * @param batch       Batch being purged
+     * @param connections Connections which bindings were removed
+     * @param deleted     Bindings removed from SxpDatabase by each connection, null if removal failed
+     * @return null
+     */
+    private Void completeBatch(final String domainName, final SxpDomain domain, final PurgeBatch batch,
+            final List<SxpConnection> connections, final List<List<SxpDatabaseBinding>> deleted) {
+        try {
+            final Map<NodeId, SxpBindingFilter> filterMap = SxpDatabase.getInboundFilters(sxpNode, domainName);
+            final List<SxpConnection> sxpConnections = sxpNode.getAllOnSpeakerConnections(domainName);
+            synchronized (domain) {
+                final Map<SxpConnection, List<SxpDatabaseBinding>> removedByConnection = new LinkedHashMap<>();
+                final List<SxpDatabaseBinding> removed = new ArrayList<>();
+                for (int i = 0; i < connections.size(); i++) {
+                    final List<SxpDatabaseBinding> bindings = deleted.get(i);
+                    if (bindings != null && !bindings.isEmpty()) {
+                        removedByConnection.put(connections.get(i), bindings);
+                        removed.addAll(bindings);
+                    }
+                }
+                final List<SxpDatabaseBinding>
+                        replace =
+                        SxpDatabase.getReplaceForBindings(removed, domain.getSxpDatabase(), filterMap);
+                final List<MasterDatabaseBinding>
+                        deletedMaster =
+                        new ArrayList<>(domain.getMasterDatabase().deleteBindings(removed)),
+                        addedMaster =
+                                domain.getMasterDatabase().addBindings(replace);
+                final Set<IpPrefix>
+                        replaced =
+                        addedMaster.stream().map(SxpBindingFields::getIpPrefix).collect(Collectors.toSet());
+                deletedMaster.removeIf(b -> replaced.contains(b.getIpPrefix()));
+                dispatcher.propagateUpdate(deletedMaster, addedMaster, sxpConnections);
+                removedByConnection.forEach((connection, bindings) -> {
+                    final Set<IpPrefix>
+                            prefixes =
+                            bindings.stream().map(SxpBindingFields::getIpPrefix).collect(Collectors.toSet());
+                    domain.pushToSharedSxpDatabases(connection.getId(), connection.getFilter(FilterType.Inbound),
+                            bindings, replace.stream()
+                                    .filter(b -> prefixes.contains(b.getIpPrefix()))
+                                    .collect(Collectors.toList()));
+                });
+                LOG.info("{} PURGE of {} connections in domain {} [Deleted/Replaced] bindings [{}/{}]", sxpNode,
+                        connections.size(), domainName, deletedMaster.size(), addedMaster.size());
+            }
+            batch.future.set(null);
+        } catch (RuntimeException e) {
+            LOG.error("{} PURGE of connections in domain {} failed", sxpNode, domainName, e);
+            batch.future.setException(e);
+        }
+        return null;
     }
 
     /**
@@ -377,7 +699,9 @@ public final class BindingHandler {
     }
 
     /**
-     * Handle received bindings and add them into Sxp/MasterDatabase
+     * Handle received bindings and add them into Sxp/MasterDatabase,
+     * loop detection is executed in sequence of connection and only update of databases shared
+     * by all connections of domain is handed off if connection sequence runs on its event loop
      *
      * @param databaseDelete Bindings received as delete
      * @param databaseAdd    Bindings received as add
@@ -385,13 +709,39 @@ public final class BindingHandler {
      */
     private void pushUpdate(Stream<SxpBindingFields> databaseDelete, Stream<SxpBindingFields> databaseAdd,
             SxpConnection connection) {
-        final SxpDomain domain = sxpNode.getDomain(Objects.requireNonNull(connection).getDomainName());
-        final SxpDatabaseInf sxpDatabase = domain.getSxpDatabase();
-        final MasterDatabaseInf masterDatabase = domain.getMasterDatabase();
+        Objects.requireNonNull(connection);
         // Loop detection.
         if (connection.getCapabilities().contains(CapabilityType.LoopDetection)) {
             databaseAdd = loopDetection(connection.getOwnerId(), databaseAdd);
         }
+        final List<SxpBindingFields>
+                delete =
+                Objects.nonNull(databaseDelete) ? databaseDelete.collect(Collectors.toList()) : null,
+                add =
+                        Objects.nonNull(databaseAdd) ? databaseAdd.collect(Collectors.toList()) : null;
+        final ThreadsWorker worker = connection.getOwner().getWorker();
+        if (worker.isExecutedOnEventLoop(ThreadsWorker.WorkerType.INBOUND)) {
+            worker.handOffTaskInSequence(() -> {
+                updateDatabases(delete, add, connection);
+                return null;
+            }, ThreadsWorker.WorkerType.INBOUND, connection);
+        } else {
+            updateDatabases(delete, add, connection);
+        }
+    }
+
+    /**
+     * Applies received bindings to Sxp/MasterDatabase and propagates changes to all listening peers
+     *
+     * @param databaseDelete Bindings received as delete
+     * @param databaseAdd    Bindings received as add
+     * @param connection     SxpConnection on which bindings were received
+     */
+    private void updateDatabases(List<SxpBindingFields> databaseDelete, List<SxpBindingFields> databaseAdd,
+            SxpConnection connection) {
+        final SxpDomain domain = sxpNode.getDomain(connection.getDomainName());
+        final SxpDatabaseInf sxpDatabase = domain.getSxpDatabase();
+        final MasterDatabaseInf masterDatabase = domain.getMasterDatabase();
         Map<NodeId, SxpBindingFilter> filterMap = SxpDatabase.getInboundFilters(sxpNode, domain.getName());
         SxpBindingFilter<?, ? extends SxpFilterFields> filter = connection.getFilter(FilterType.Inbound);
 
@@ -399,11 +749,11 @@ public final class BindingHandler {
         List<SxpConnection> sxpConnections = sxpNode.getAllOnSpeakerConnections(domain.getName());
         synchronized (domain) {
             if (Objects.nonNull(databaseDelete)) {
-                removed = sxpDatabase.deleteBindings(connection.getId(), databaseDelete.collect(Collectors.toList()));
+                removed = sxpDatabase.deleteBindings(connection.getId(), databaseDelete);
                 replace = SxpDatabase.getReplaceForBindings(removed, sxpDatabase, filterMap);
             }
             if (Objects.nonNull(databaseAdd)) {
-                added = sxpDatabase.addBinding(connection.getId(), databaseAdd.collect(Collectors.toList()));
+                added = sxpDatabase.addBinding(connection.getId(), databaseAdd);
                 if (filter != null)
                     added.removeIf(b -> !filter.test(b));
             }
@@ -420,6 +770,15 @@ public final class BindingHandler {
         }
     }
 
+    /**
+     * Connections of domain waiting for purge of their bindings
+     */
+    private static final class PurgeBatch {
+
+        private final Set<SxpConnection> connections = new LinkedHashSet<>();
+        private final SettableFuture<Void> future = SettableFuture.create();
+    }
+
     /**
      * UpdateMessage wrapper
      */
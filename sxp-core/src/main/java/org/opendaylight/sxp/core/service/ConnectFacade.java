@@ -10,15 +10,15 @@ package org.opendaylight.sxp.core.service;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.AdaptiveRecvByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelException;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
-import io.netty.channel.EventLoopGroup;
-import io.netty.channel.FixedRecvByteBufAllocator;
 import io.netty.channel.RecvByteBufAllocator;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollChannelOption;
-import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.socket.SocketChannel;
@@ -27,18 +27,22 @@ import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.ssl.SslContext;
 import java.net.InetAddress;
 import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
 import org.opendaylight.sxp.core.Configuration;
-import org.opendaylight.sxp.core.Constants;
 import org.opendaylight.sxp.core.SxpConnection;
 import org.opendaylight.sxp.core.SxpNode;
 import org.opendaylight.sxp.core.handler.HandlerFactory;
-import org.opendaylight.sxp.util.inet.Search;
+import org.opendaylight.sxp.core.threading.EventLoopGroups;
+import org.opendaylight.sxp.util.inet.BinaryPrefix;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.SecurityType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.SxpConnectionTemplateFields;
 import org.slf4j.Logger;
@@ -46,10 +50,13 @@ import org.slf4j.LoggerFactory;
 
 public class ConnectFacade {
 
-    private static final EventLoopGroup bossGroup = new EpollEventLoopGroup(1);
-    private static final EventLoopGroup eventLoopGroup = new EpollEventLoopGroup();
     protected static final Logger LOG = LoggerFactory.getLogger(ConnectFacade.class.getName());
 
+    /**
+     * Maximal number of addresses of connection template that get TCP-MD5 key, equal to IPv4 /16
+     */
+    static final long MAX_TEMPLATE_ADDRESSES = 1 << 16;
+
     private static final Predicate<SxpConnection>
             CONNECTION_ENTRY_WITH_MD5_PASSWORD =
             input -> Objects.nonNull(input) && SecurityType.Default.equals(input.getSecurityType()) && Objects.nonNull(
@@ -59,6 +66,17 @@ public class ConnectFacade {
             input -> Objects.nonNull(input) && SecurityType.Default.equals(input.getTemplateSecurityType())
                     && Objects.nonNull(input.getTemplatePassword()) && !input.getTemplatePassword().isEmpty();
 
+    /**
+     * Receive buffer grows up to several maximal sized messages, so that peer sending
+     * lots of Updates is read and decoded in batches instead of message by message
+     *
+     * @return Receive buffer allocator used by SXP channels
+     */
+    private static RecvByteBufAllocator createRecvByteBufAllocator() {
+        return new AdaptiveRecvByteBufAllocator(Configuration.NETTY_RECV_BUFFER_MIN,
+                Configuration.NETTY_RECV_BUFFER_INITIAL, Configuration.NETTY_RECV_BUFFER_MAX);
+    }
+
     /**
      * Create new Connection to Peer
      *
@@ -72,7 +90,8 @@ public class ConnectFacade {
             throw new UnsupportedOperationException(Epoll.unavailabilityCause().getCause());
         }
         final SecurityType securityType = connection.getSecurityType();
-        final Optional<SslContext> clientSslContext = node.getSslContextFactory().getClientContext();
+        final SslContextFactory sslContextFactory = node.getSslContextFactory();
+        final Optional<SslContext> clientSslContext = sslContextFactory.getClientContext();
 
         Bootstrap bootstrap = new Bootstrap();
         if (SecurityType.Default.equals(securityType) && connection.getPassword() != null && !connection.getPassword()
@@ -86,17 +105,16 @@ public class ConnectFacade {
         }
         bootstrap.channel(EpollSocketChannel.class);
         bootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Configuration.NETTY_CONNECT_TIMEOUT_MILLIS);
-        RecvByteBufAllocator recvByteBufAllocator = new FixedRecvByteBufAllocator(Constants.MESSAGE_LENGTH_MAX);
-        bootstrap.option(ChannelOption.RCVBUF_ALLOCATOR, recvByteBufAllocator);
+        bootstrap.option(ChannelOption.RCVBUF_ALLOCATOR, createRecvByteBufAllocator());
         bootstrap.option(ChannelOption.TCP_NODELAY, true);
         bootstrap.localAddress(node.getSourceIp().getHostAddress(), 0);
-        bootstrap.group(eventLoopGroup);
+        bootstrap.group(node.getWorker().getEventLoopGroups().getWorkerGroup());
         bootstrap.handler(new ChannelInitializer<SocketChannel>() {
 
             @Override
             protected void initChannel(SocketChannel ch) throws Exception {
                 if (SecurityType.TLS.equals(securityType)) {
-                    ch.pipeline().addLast(clientSslContext.get().newHandler(ch.alloc()));
+                    ch.pipeline().addLast(sslContextFactory.newClientHandler(ch, connection.getDestination()));
                 }
                 ch.pipeline().addLast(hf.getDecoders());
                 ch.pipeline().addLast(hf.getEncoders());
@@ -118,7 +136,8 @@ public class ConnectFacade {
         if (!Epoll.isAvailable()) {
             throw new UnsupportedOperationException(Epoll.unavailabilityCause().getCause());
         }
-        final Optional<SslContext> serverSslContext = node.getSslContextFactory().getServerContext();
+        final SslContextFactory sslContextFactory = node.getSslContextFactory();
+        final Optional<SslContext> serverSslContext = sslContextFactory.getServerContext();
 
         LOG.trace("Scheduling server creation for node {} with registered passwords {}", node, keyMapping);
         keyMapping.remove(node.getSourceIp());
@@ -126,7 +145,9 @@ public class ConnectFacade {
         bootstrap.channel(EpollServerSocketChannel.class);
         bootstrap.option(EpollChannelOption.TCP_MD5SIG, keyMapping);
         bootstrap.option(ChannelOption.SO_REUSEADDR, true);
-        bootstrap.group(bossGroup, eventLoopGroup);
+        bootstrap.childOption(ChannelOption.RCVBUF_ALLOCATOR, createRecvByteBufAllocator());
+        final EventLoopGroups eventLoopGroups = node.getWorker().getEventLoopGroups();
+        bootstrap.group(eventLoopGroups.getBossGroup(), eventLoopGroups.getWorkerGroup());
         if (Configuration.NETTY_LOGGER_HANDLER) {
             bootstrap.handler(new LoggingHandler(LogLevel.INFO));
         }
@@ -140,7 +161,7 @@ public class ConnectFacade {
                     LOG.warn("{} Closing {} as TLS or Connection not available", node, ch);
                     ch.close();
                 } else if (SecurityType.TLS.equals(connection.getSecurityType())) {
-                    ch.pipeline().addLast(serverSslContext.get().newHandler(ch.alloc()));
+                    ch.pipeline().addLast(sslContextFactory.newServerHandler(ch));
                 }
                 ch.pipeline().addLast(hf.getDecoders());
                 ch.pipeline().addLast(hf.getEncoders());
@@ -149,18 +170,58 @@ public class ConnectFacade {
         return bootstrap.bind(node.getSourceIp(), node.getServerPort());
     }
 
+    /**
+     * Replaces TCP-MD5 keys of running server with actual passwords of node, only keys that changed
+     * are removed or added to server socket and server stays bound
+     *
+     * @param node          SxpNode containing passwords
+     * @param serverChannel Server channel of node
+     * @return If keys were successfully updated
+     */
+    public static boolean updateServerPasswords(final SxpNode node, final Channel serverChannel) {
+        final Map<InetAddress, byte[]> keyMapping = collectAllPasswords(node);
+        keyMapping.remove(node.getSourceIp());
+        LOG.trace("Updating server of node {} with registered passwords {}", node, keyMapping);
+        try {
+            return serverChannel.config().setOption(EpollChannelOption.TCP_MD5SIG, keyMapping);
+        } catch (ChannelException e) {
+            LOG.warn("{} Failed to update TCP-MD5 keys of server", node, e);
+            return false;
+        }
+    }
+
+    /**
+     * Collects TCP-MD5 keys of all connections and templates of node, templates are expanded to their addresses
+     * as keys are installed per address. Key of connection takes precedence over keys of templates
+     * and key of longer template prefix over key of shorter one. Templates covering more than
+     * {@link #MAX_TEMPLATE_ADDRESSES} addresses are skipped.
+     *
+     * @param node SxpNode containing passwords
+     * @return Map of TCP-MD5 keys of peers
+     */
     public static Map<InetAddress, byte[]> collectAllPasswords(final SxpNode node) {
-        Map<InetAddress, byte[]> keyMapping = new HashMap<>();
+        final List<Map.Entry<BinaryPrefix, byte[]>> templates = new ArrayList<>();
         node.getDomains()
                 .forEach(domain -> domain.getConnectionTemplates()
                         .stream()
                         .filter(TEMPLATE_ENTRY_WITH_MD5_PASSWORD)
                         .forEach(template -> {
-                            final byte[] password = template.getTemplatePassword().getBytes(StandardCharsets.US_ASCII);
-                            Search.expandPrefix(template.getTemplatePrefix())
-                                    .forEach(inetAddress -> keyMapping.put(inetAddress, password));
-
+                            final BinaryPrefix prefix = BinaryPrefix.of(template.getTemplatePrefix()).getNetwork();
+                            if (prefix.getHostCount() > MAX_TEMPLATE_ADDRESSES) {
+                                LOG.warn("{} TCP-MD5 key of template {} skipped, it covers more than {} addresses",
+                                        node, prefix, MAX_TEMPLATE_ADDRESSES);
+                                return;
+                            }
+                            templates.add(new AbstractMap.SimpleImmutableEntry<>(prefix,
+                                    template.getTemplatePassword().getBytes(StandardCharsets.US_ASCII)));
                         }));
+        templates.sort(Comparator.comparingInt(template -> template.getKey().getLength()));
+        final Map<InetAddress, byte[]> keyMapping = new HashMap<>();
+        for (Map.Entry<BinaryPrefix, byte[]> template : templates) {
+            for (long i = 0; i < template.getKey().getHostCount(); i++) {
+                keyMapping.put(template.getKey().getHost(i).toInetAddress(), template.getValue());
+            }
+        }
         node.getAllConnections()
                 .stream()
                 .filter(CONNECTION_ENTRY_WITH_MD5_PASSWORD)
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.service;
+
+import com.google.common.base.Preconditions;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.opendaylight.sxp.core.SxpConnection;
+import org.opendaylight.sxp.core.SxpNode;
+import org.opendaylight.sxp.util.time.HashedWheelTimer;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.SxpNodeConnectSchedulingFields;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ConnectScheduler limits outgoing connects of SxpNode, so that retry of many inactive connections
+ * does not open all sockets at once. Connects are started in order of submission while number of
+ * not completed connects is below limit and token bucket allows it. Connect completes when connection
+ * reaches state On, or fails if TCP connect fails, its channel closes or connection goes Off before that.
+ * Peer whose connect failed is not connected again before its exponential backoff with random jitter elapses.
+ */
+public class ConnectScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectScheduler.class);
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 16;
+    public static final int DEFAULT_CONNECT_RATE = 10;
+    public static final int DEFAULT_CONNECT_BURST = 10;
+    public static final long DEFAULT_INITIAL_BACKOFF = 1000;
+    public static final long DEFAULT_MAX_BACKOFF = 120000;
+
+    /**
+     * Failed attempts of peer and time before which peer will not be connected
+     */
+    private static final class Backoff {
+
+        private int failures;
+        private long notBefore;
+    }
+
+    private final SxpNode owner;
+    private final Function<SxpConnection, ChannelFuture> connector;
+    private final int maxInFlight, burst;
+    private final double tokensPerNano;
+    private final long initialBackoffNanos, maxBackoffNanos;
+    private final Set<SxpConnection> pending = new LinkedHashSet<>();
+    private final Set<SxpConnection> inFlight = new HashSet<>();
+    private final Map<SxpConnection, Backoff> backoffs = new HashMap<>();
+    private long failed = 0, lastRefill;
+    private double tokens;
+    private HashedWheelTimer.Timeout timeout;
+    private long timeoutDeadline;
+    private boolean armed = false;
+
+    /**
+     * @param owner          SxpNode which connects are scheduled
+     * @param connector      Function starting connect of connection, may return null if connect was not started
+     * @param maxInFlight    Maximal number of not completed connects
+     * @param rate           Number of connects started per second
+     * @param burst          Number of connects that can be started at once
+     * @param initialBackoff Delay after first failed connect of peer in milliseconds
+     * @param maxBackoff     Upper bound of delay between failed connects of peer in milliseconds
+     */
+    public ConnectScheduler(SxpNode owner, Function<SxpConnection, ChannelFuture> connector, int maxInFlight,
+            int rate, int burst, long initialBackoff, long maxBackoff) {
+        Preconditions.checkArgument(maxInFlight > 0, "Max in flight connects must be positive");
+        Preconditions.checkArgument(rate > 0 && burst > 0, "Connect rate and burst must be positive");
+        Preconditions.checkArgument(initialBackoff > 0 && maxBackoff >= initialBackoff,
+                "Backoff must be positive and not above its maximum");
+        this.owner = Preconditions.checkNotNull(owner);
+        this.connector = Preconditions.checkNotNull(connector);
+        this.maxInFlight = maxInFlight;
+        this.burst = burst;
+        this.tokensPerNano = rate / (double) TimeUnit.SECONDS.toNanos(1);
+        this.initialBackoffNanos = TimeUnit.MILLISECONDS.toNanos(initialBackoff);
+        this.maxBackoffNanos = TimeUnit.MILLISECONDS.toNanos(maxBackoff);
+        this.tokens = burst;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * @param owner      SxpNode which connects are scheduled
+     * @param connector  Function starting connect of connection, may return null if connect was not started
+     * @param scheduling Configured limits of connects, defaults are used for missing values
+     * @return ConnectScheduler using provided limits
+     */
+    public static ConnectScheduler createInstance(SxpNode owner, Function<SxpConnection, ChannelFuture> connector,
+            SxpNodeConnectSchedulingFields scheduling) {
+        if (scheduling == null) {
+            return new ConnectScheduler(owner, connector, DEFAULT_MAX_IN_FLIGHT, DEFAULT_CONNECT_RATE,
+                    DEFAULT_CONNECT_BURST, DEFAULT_INITIAL_BACKOFF, DEFAULT_MAX_BACKOFF);
+        }
+        final long initialBackoff = getOrDefault(scheduling.getInitialBackoff(), DEFAULT_INITIAL_BACKOFF);
+        return new ConnectScheduler(owner, connector,
+                (int) getOrDefault(scheduling.getMaxInFlight(), DEFAULT_MAX_IN_FLIGHT),
+                (int) getOrDefault(scheduling.getConnectRate(), DEFAULT_CONNECT_RATE),
+                (int) getOrDefault(scheduling.getConnectBurst(), DEFAULT_CONNECT_BURST), initialBackoff,
+                Math.max(initialBackoff, getOrDefault(scheduling.getMaxBackoff(), DEFAULT_MAX_BACKOFF)));
+    }
+
+    /**
+     * @param value        Configured value
+     * @param defaultValue Value used if configured one is not present
+     * @return Configured or default value
+     */
+    private static long getOrDefault(Number value, long defaultValue) {
+        return value == null ? defaultValue : value.longValue();
+    }
+
+    /**
+     * Queues connect of connection, connection that is already queued or connecting is ignored
+     *
+     * @param connection SxpConnection to be connected
+     */
+    public void submit(SxpConnection connection) {
+        Preconditions.checkNotNull(connection);
+        synchronized (this) {
+            if (inFlight.contains(connection) || !pending.add(connection)) {
+                return;
+            }
+        }
+        drain(System.nanoTime());
+    }
+
+    /**
+     * Removes queued connect and backoff of connection, connect that is already started is not aborted
+     *
+     * @param connection SxpConnection that will not be connected
+     */
+    public synchronized void remove(SxpConnection connection) {
+        pending.remove(connection);
+        backoffs.remove(connection);
+    }
+
+    /**
+     * Removes all queued connects and backoffs
+     */
+    public synchronized void clear() {
+        pending.clear();
+        backoffs.clear();
+        if (timeout != null) {
+            timeout.cancel();
+            timeout = null;
+        }
+        armed = false;
+    }
+
+    /**
+     * Completes connect of connection that reached state On and resets backoff of its peer
+     *
+     * @param connection SxpConnection that is On
+     */
+    public void connected(SxpConnection connection) {
+        complete(Preconditions.checkNotNull(connection), true);
+    }
+
+    /**
+     * Fails connect of connection that went Off before reaching state On, connection without started
+     * connect is ignored
+     *
+     * @param connection SxpConnection that is Off
+     */
+    public void disconnected(SxpConnection connection) {
+        complete(Preconditions.checkNotNull(connection), false);
+    }
+
+    /**
+     * @return Number of connects waiting for start
+     */
+    public synchronized int getPending() {
+        return pending.size();
+    }
+
+    /**
+     * @return Number of started connects that did not reach state On or fail yet
+     */
+    public synchronized int getInFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * @return Number of connects that failed since creation of scheduler
+     */
+    public synchronized long getFailed() {
+        return failed;
+    }
+
+    /**
+     * Starts queued connects allowed by limits, if some connect has to wait timer is scheduled
+     *
+     * @param now Current time in nanoseconds
+     */
+    void drain(long now) {
+        final List<SxpConnection> ready = new ArrayList<>();
+        synchronized (this) {
+            if (now - lastRefill > 0) {
+                tokens = Math.min(burst, tokens + (now - lastRefill) * tokensPerNano);
+                lastRefill = now;
+            }
+            long wakeUp = Long.MAX_VALUE;
+            for (Iterator<SxpConnection> iterator = pending.iterator();
+                    iterator.hasNext() && inFlight.size() < maxInFlight; ) {
+                final SxpConnection connection = iterator.next();
+                final Backoff backoff = backoffs.get(connection);
+                if (backoff != null && backoff.notBefore - now > 0) {
+                    wakeUp = Math.min(wakeUp, backoff.notBefore - now);
+                    continue;
+                }
+                if (tokens < 1) {
+                    wakeUp = Math.min(wakeUp, (long) Math.ceil((1 - tokens) / tokensPerNano));
+                    break;
+                }
+                tokens--;
+                iterator.remove();
+                inFlight.add(connection);
+                ready.add(connection);
+            }
+            if (wakeUp != Long.MAX_VALUE) {
+                schedule(now, wakeUp);
+            }
+        }
+        ready.forEach(this::connect);
+    }
+
+    /**
+     * Arms timer that drains queue after delay, unless timer expiring sooner is already armed
+     *
+     * @param now        Current time in nanoseconds
+     * @param delayNanos Delay in nanoseconds
+     */
+    private void schedule(long now, long delayNanos) {
+        if (armed && now + delayNanos - timeoutDeadline >= 0) {
+            return;
+        }
+        final int delay = (int) Math.min(Integer.MAX_VALUE, TimeUnit.NANOSECONDS.toMillis(delayNanos) + 1);
+        if (timeout == null || !timeout.rearm(delay, TimeUnit.MILLISECONDS)) {
+            timeout = owner.getWorker().scheduleTimer(this::expired, delay, TimeUnit.MILLISECONDS);
+        }
+        timeoutDeadline = now + delayNanos;
+        armed = true;
+    }
+
+    /**
+     * Task of timer draining queue
+     *
+     * @return null
+     */
+    private Void expired() {
+        synchronized (this) {
+            armed = false;
+        }
+        drain(System.nanoTime());
+        return null;
+    }
+
+    /**
+     * Starts connect of connection, its slot is kept after TCP connect until connection reaches state On
+     * or its channel closes
+     *
+     * @param connection SxpConnection to be connected
+     */
+    private void connect(SxpConnection connection) {
+        final ChannelFuture future;
+        try {
+            future = connector.apply(connection);
+        } catch (RuntimeException e) {
+            LOG.warn("{} Connect of {} could not be started", owner, connection, e);
+            complete(connection, false);
+            return;
+        }
+        if (future == null) {
+            synchronized (this) {
+                inFlight.remove(connection);
+            }
+            drain(System.nanoTime());
+        } else {
+            future.addListener((ChannelFutureListener) f -> {
+                if (f.isSuccess()) {
+                    f.channel().closeFuture().addListener(c -> complete(connection, false));
+                } else {
+                    complete(connection, false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Releases slot of completed connect, failed connect backs off its peer
+     *
+     * @param connection SxpConnection which connect completed
+     * @param success    If connection reached state On
+     */
+    private void complete(SxpConnection connection, boolean success) {
+        final long now = System.nanoTime();
+        synchronized (this) {
+            if (success) {
+                backoffs.remove(connection);
+            }
+            if (!inFlight.remove(connection)) {
+                return;
+            }
+            if (!success) {
+                failed++;
+                backoffs.values().removeIf(b -> now - b.notBefore > maxBackoffNanos);
+                final Backoff backoff = backoffs.computeIfAbsent(connection, c -> new Backoff());
+                final long delay = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(backoff.failures++,
+                        Long.numberOfLeadingZeros(initialBackoffNanos) - 1));
+                backoff.notBefore = now + delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+                LOG.debug("{} Connect of {} failed {} times, next attempt in {} ms", owner, connection,
+                        backoff.failures, TimeUnit.NANOSECONDS.toMillis(backoff.notBefore - now));
+            }
+        }
+        drain(now);
+    }
+}
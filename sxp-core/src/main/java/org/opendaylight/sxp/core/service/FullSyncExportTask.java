@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.service;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import org.opendaylight.sxp.core.SxpConnection;
+import org.opendaylight.sxp.core.messaging.MessageFactory;
+import org.opendaylight.sxp.core.threading.SlicedTask;
+import org.opendaylight.sxp.util.exception.connection.ChannelHandlerContextDiscrepancyException;
+import org.opendaylight.sxp.util.exception.connection.ChannelHandlerContextNotFoundException;
+import org.opendaylight.sxp.util.filtering.SxpBindingFilter;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.SxpBindingFields;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.FilterType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * FullSyncExportTask class contains logic for export of whole MasterDatabase to remote peer,
+ * bindings are pulled from cursor and only one partition is encoded and written at a time.
+ * Export is bulk work executed in slices, so it yields to incremental exports of other peers.
+ * Slice ends once outbound buffer of channel exceeds its high water mark
+ * and next slice is deferred until pending write completes, so slow peer does not hold any thread.
+ *
+ * @param <T> Any type extending SxpBindingFields
+ */
+public final class FullSyncExportTask<T extends SxpBindingFields> implements SlicedTask {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FullSyncExportTask.class);
+
+    private final SxpConnection connection;
+    private final Supplier<Iterator<T>> cursorSupplier;
+    private final BindingDispatcher dispatcher;
+    private final Deque<BiFunction<SxpConnection, SxpBindingFilter, ByteBuf>> pending = new ArrayDeque<>();
+    private Iterator<T> cursor;
+    private ChannelFuture pendingWrite;
+    private int exported = 0;
+
+    /**
+     * Creates Task which will export all bindings provided by cursor to remote peer
+     *
+     * @param connection     Connection on which will be export hold
+     * @param cursorSupplier Supplier of iterator over snapshot of bindings that will be exported,
+     *                       invoked when first slice of export is executed
+     * @param dispatcher     BindingDispatcher used for partitioning of bindings
+     */
+    public FullSyncExportTask(SxpConnection connection, Supplier<Iterator<T>> cursorSupplier,
+            BindingDispatcher dispatcher) {
+        this.connection = Preconditions.checkNotNull(connection);
+        this.cursorSupplier = Preconditions.checkNotNull(cursorSupplier);
+        this.dispatcher = Preconditions.checkNotNull(dispatcher);
+    }
+
+    /**
+     * @return SxpConnection associated with current ExportTask
+     */
+    public SxpConnection getConnection() {
+        return connection;
+    }
+
+    @Override
+    public Void call() throws InterruptedException {
+        while (!executeSlice()) {
+            final ChannelFuture write = pendingWrite;
+            pendingWrite = null;
+            if (write != null) {
+                write.await();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean executeSlice() {
+        if (cursor == null) {
+            if (!connection.isStateOn() || !connection.isModeSpeaker()) {
+                return true;
+            }
+            cursor = Preconditions.checkNotNull(cursorSupplier.get());
+        }
+        final SxpBindingFilter filter = connection.getFilter(FilterType.Outbound);
+        final int partitionSize = dispatcher.getPartitionSize();
+        try {
+            final ChannelHandlerContext
+                    ctx =
+                    connection.getChannelHandlerContext(SxpConnection.ChannelHandlerContextType.SpeakerContext);
+            for (int budget = dispatcher.getExportSliceSize(); budget > 0; budget--) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedException();
+                }
+                if (pending.isEmpty()) {
+                    if (!cursor.hasNext()) {
+                        break;
+                    }
+                    List<T> chunk = new ArrayList<>(partitionSize);
+                    while (chunk.size() < partitionSize && cursor.hasNext()) {
+                        chunk.add(cursor.next());
+                    }
+                    pending.addAll(dispatcher.partitionBindings(connection, null, chunk));
+                    if (pending.isEmpty()) {
+                        continue;
+                    }
+                }
+                ByteBuf message = pending.poll().apply(connection, filter);
+                if (message == null || message.capacity() == 0) {
+                    LOG.warn("{} Cannot export empty message aborting export", connection);
+                    if (message != null) {
+                        message.release();
+                    }
+                    abort();
+                    return true;
+                }
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("{} {} UPDATEv{} {}", connection, exported, connection.getVersion().getIntValue(),
+                            MessageFactory.toString(message));
+                }
+                final ChannelFuture write = ctx.write(message);
+                exported++;
+                if (write != null && ctx.channel() != null && !ctx.channel().isWritable()) {
+                    pendingWrite = write;
+                    break;
+                }
+            }
+            ctx.flush();
+            if (!pending.isEmpty() || cursor.hasNext()) {
+                return false;
+            }
+            connection.setUpdateOrKeepaliveMessageTimestamp();
+            LOG.debug("{} Full sync export finished with {} messages", connection, exported);
+        } catch (ChannelHandlerContextNotFoundException | ChannelHandlerContextDiscrepancyException e) {
+            LOG.warn("{} Cannot find context aborting bindings export.", connection);
+        } catch (InterruptedException e) {
+            LOG.warn("{} Bindings export canceled.", connection, e);
+            Thread.currentThread().interrupt();
+        }
+        abort();
+        return true;
+    }
+
+    @Override
+    public boolean isBulk() {
+        return true;
+    }
+
+    /**
+     * Defers next slice while outbound buffer of channel is over its high water mark,
+     * so that at most one not yet written partition is held in memory
+     *
+     * @param resume Action scheduling next slice
+     * @return If next slice was deferred until last write completes
+     */
+    @Override
+    public boolean deferUntilReady(Runnable resume) {
+        final ChannelFuture write = pendingWrite;
+        pendingWrite = null;
+        if (write == null || write.isDone()) {
+            return false;
+        }
+        write.addListener(future -> resume.run());
+        return true;
+    }
+
+    @Override
+    public void abort() {
+        pending.clear();
+        pendingWrite = null;
+    }
+}
@@ -9,23 +9,34 @@
 package org.opendaylight.sxp.core.service;
 
 import com.google.common.base.Preconditions;
+import io.netty.channel.Channel;
 import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslProvider;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.TrustManagerFactory;
+import org.opendaylight.sxp.core.Configuration;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.PathType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.security.fields.Tls;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.tls.security.fields.Keystore;
@@ -40,29 +51,51 @@ public final class SslContextFactory {
 
     private static final Logger LOG = LoggerFactory.getLogger(SslContextFactory.class);
     private SslContext clientSslContext = null, serverSslContext = null;
+    private final TlsStatistics statistics;
 
     /**
      * @param tlsConfig TLS configuration object, contains keystore locations and
      *                  keystore types
      */
     public SslContextFactory(final Tls tlsConfig) {
+        this(tlsConfig, new TlsStatistics());
+    }
+
+    /**
+     * @param tlsConfig  TLS configuration object, contains keystore locations and
+     *                   keystore types
+     * @param statistics Statistics where handshakes of created handlers are recorded
+     */
+    public SslContextFactory(final Tls tlsConfig, final TlsStatistics statistics) {
+        this.statistics = Preconditions.checkNotNull(statistics);
         try {
             if (Objects.nonNull(tlsConfig)) {
                 final KeyManagerFactory
                         keystoreFactory =
                         getKeyStore(tlsConfig.getKeystore(), tlsConfig.getCertificatePassword());
                 final TrustManagerFactory truststoreFactory = getTrustStore(tlsConfig.getTruststore());
+                final SslProvider provider = getSslProvider();
+                statistics.setProvider(provider.name());
 
                 this.clientSslContext =
                         SslContextBuilder.forClient()
+                                .sslProvider(provider)
                                 .keyManager(keystoreFactory)
                                 .trustManager(truststoreFactory)
+                                .sessionCacheSize(Configuration.TLS_SESSION_CACHE_SIZE)
+                                .sessionTimeout(Configuration.TLS_SESSION_TIMEOUT)
                                 .build();
                 this.serverSslContext =
                         SslContextBuilder.forServer(keystoreFactory)
+                                .sslProvider(provider)
                                 .trustManager(truststoreFactory)
                                 .clientAuth(ClientAuth.REQUIRE)
+                                .sessionCacheSize(Configuration.TLS_SESSION_CACHE_SIZE)
+                                .sessionTimeout(Configuration.TLS_SESSION_TIMEOUT)
                                 .build();
+                if (Objects.nonNull(Configuration.TLS_SESSION_TICKET_KEYS)) {
+                    setTicketKeys(serverSslContext, Configuration.TLS_SESSION_TICKET_KEYS);
+                }
             }
         } catch (final IOException e) {
             LOG.error("IOException - Failed to load keystore / truststore.", e);
@@ -75,6 +108,49 @@ public final class SslContextFactory {
         }
     }
 
+    /**
+     * @return OpenSSL provider if enabled and available, JDK provider otherwise
+     */
+    static SslProvider getSslProvider() {
+        if (Configuration.TLS_OPENSSL) {
+            if (OpenSsl.isAvailable() && OpenSsl.supportsKeyManagerFactory()) {
+                return SslProvider.OPENSSL;
+            }
+            LOG.warn("OpenSSL provider is not available, using JDK provider", OpenSsl.unavailabilityCause());
+        }
+        return SslProvider.JDK;
+    }
+
+    /**
+     * Sets session ticket keys of OpenSSL server context, file contains concatenated keys
+     * each consisting of 16 bytes of name, HMAC key and AES key, the first key is used for new tickets
+     *
+     * @param context  Server SSL context
+     * @param location Path to file with keys
+     * @throws IOException If file cannot be read
+     */
+    private static void setTicketKeys(final SslContext context, final String location) throws IOException {
+        if (!(context.sessionContext() instanceof OpenSslSessionContext)) {
+            LOG.warn("TLS session ticket keys {} are supported only by OpenSSL provider", location);
+            return;
+        }
+        final byte[] keys = Files.readAllBytes(Paths.get(location));
+        final int keySize = OpenSslSessionTicketKey.NAME_SIZE + OpenSslSessionTicketKey.HMAC_KEY_SIZE
+                + OpenSslSessionTicketKey.AES_KEY_SIZE;
+        Preconditions.checkArgument(keys.length > 0 && keys.length % keySize == 0,
+                "Session ticket keys %s must be multiple of %s bytes", location, keySize);
+        final OpenSslSessionTicketKey[] ticketKeys = new OpenSslSessionTicketKey[keys.length / keySize];
+        for (int i = 0, offset = 0; i < ticketKeys.length; i++, offset += keySize) {
+            ticketKeys[i] = new OpenSslSessionTicketKey(
+                    Arrays.copyOfRange(keys, offset, offset + OpenSslSessionTicketKey.NAME_SIZE),
+                    Arrays.copyOfRange(keys, offset + OpenSslSessionTicketKey.NAME_SIZE,
+                            offset + OpenSslSessionTicketKey.NAME_SIZE + OpenSslSessionTicketKey.HMAC_KEY_SIZE),
+                    Arrays.copyOfRange(keys, offset + keySize - OpenSslSessionTicketKey.AES_KEY_SIZE,
+                            offset + keySize));
+        }
+        ((OpenSslSessionContext) context.sessionContext()).setTicketKeys(ticketKeys);
+    }
+
     /**
      * InputStream instance of key - key location is on classpath or specific path
      *
@@ -154,6 +230,35 @@ public final class SslContextFactory {
         return Optional.of(this.clientSslContext);
     }
 
+    /**
+     * Creates client handler, peer address is passed to engine so that its session can be resumed
+     *
+     * @param channel Channel of connection
+     * @param peer    Address of peer
+     * @return SslHandler recording its handshake into statistics
+     */
+    public SslHandler newClientHandler(final Channel channel, final InetSocketAddress peer) {
+        Preconditions.checkState(Objects.nonNull(clientSslContext), "Client SSL context is not available");
+        return statistics.instrument(channel,
+                clientSslContext.newHandler(channel.alloc(), peer.getHostString(), peer.getPort()));
+    }
+
+    /**
+     * @param channel Channel of connection
+     * @return SslHandler recording its handshake into statistics
+     */
+    public SslHandler newServerHandler(final Channel channel) {
+        Preconditions.checkState(Objects.nonNull(serverSslContext), "Server SSL context is not available");
+        return statistics.instrument(channel, serverSslContext.newHandler(channel.alloc()));
+    }
+
+    /**
+     * @return Statistics of handshakes of handlers created by factory
+     */
+    public TlsStatistics getStatistics() {
+        return statistics;
+    }
+
     /**
      * @return Server SSL context used for establishing connections
      */
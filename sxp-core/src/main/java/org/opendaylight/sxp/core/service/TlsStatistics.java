@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.service;
+
+import com.google.common.base.Preconditions;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.ssl.SslHandler;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.net.ssl.SSLSession;
+import org.opendaylight.sxp.core.threading.TaskInstrumentation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * TlsStatistics class counts TLS handshakes of SxpNode and records their times, handshake is considered
+ * resumed if its session was created before the handshake started
+ */
+public final class TlsStatistics implements TlsStatisticsMXBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TlsStatistics.class);
+
+    private final LongAdder fullHandshakes = new LongAdder(), resumedHandshakes = new LongAdder(),
+            failedHandshakes = new LongAdder(), fullHandshakeTime = new LongAdder(),
+            resumedHandshakeTime = new LongAdder();
+    private final LongAccumulator handshakeTimeMax = new LongAccumulator(Math::max, 0);
+    private volatile String provider = "";
+    private ObjectName objectName;
+
+    /**
+     * @param provider Name of SSL provider used by contexts
+     */
+    void setProvider(String provider) {
+        this.provider = Preconditions.checkNotNull(provider);
+    }
+
+    /**
+     * Records result of handshake of handler once it completes, time of handshake is measured
+     * from activation of channel so that it does not include establishment of TCP connection
+     *
+     * @param channel Channel of handler
+     * @param handler SslHandler which handshake will be recorded
+     * @return SslHandler provided
+     */
+    SslHandler instrument(Channel channel, SslHandler handler) {
+        channel.pipeline().addLast(new HandshakeTimer(handler));
+        return handler;
+    }
+
+    /**
+     * Handler starting measurement of handshake when channel becomes active, it is added in front
+     * of SslHandler and removes itself once measurement started
+     */
+    private final class HandshakeTimer extends ChannelInboundHandlerAdapter {
+
+        private final SslHandler handler;
+        private boolean started = false;
+
+        /**
+         * @param handler SslHandler which handshake will be recorded
+         */
+        private HandshakeTimer(SslHandler handler) {
+            this.handler = Preconditions.checkNotNull(handler);
+        }
+
+        @Override
+        public void handlerAdded(ChannelHandlerContext ctx) {
+            if (ctx.channel().isActive()) {
+                start(ctx);
+                ctx.pipeline().remove(this);
+            }
+        }
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) throws Exception {
+            start(ctx);
+            ctx.fireChannelActive();
+            ctx.pipeline().remove(this);
+        }
+
+        /**
+         * @param ctx Context of handler
+         */
+        private void start(ChannelHandlerContext ctx) {
+            if (started) {
+                return;
+            }
+            started = true;
+            final long startedNanos = System.nanoTime(), startedMillis = System.currentTimeMillis();
+            handler.handshakeFuture().addListener(future -> {
+                if (future.isSuccess()) {
+                    final SSLSession session = handler.engine().getSession();
+                    handshakeCompleted(System.nanoTime() - startedNanos,
+                            session != null && session.getCreationTime() < startedMillis);
+                } else {
+                    failedHandshakes.increment();
+                    LOG.debug("{} TLS handshake failed", ctx.channel(), future.cause());
+                }
+            });
+        }
+    }
+
+    /**
+     * @param nanos   Time of handshake in nanoseconds
+     * @param resumed If handshake resumed cached session
+     */
+    void handshakeCompleted(long nanos, boolean resumed) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos));
+        if (resumed) {
+            resumedHandshakes.increment();
+            resumedHandshakeTime.add(micros);
+        } else {
+            fullHandshakes.increment();
+            fullHandshakeTime.add(micros);
+        }
+        handshakeTimeMax.accumulate(micros);
+    }
+
+    @Override
+    public String getProvider() {
+        return provider;
+    }
+
+    @Override
+    public long getHandshakes() {
+        return fullHandshakes.sum() + resumedHandshakes.sum();
+    }
+
+    @Override
+    public long getResumedHandshakes() {
+        return resumedHandshakes.sum();
+    }
+
+    @Override
+    public long getFailedHandshakes() {
+        return failedHandshakes.sum();
+    }
+
+    @Override
+    public double getResumptionRate() {
+        final long handshakes = getHandshakes();
+        return handshakes == 0 ? 0 : 100.0 * resumedHandshakes.sum() / handshakes;
+    }
+
+    @Override
+    public long getFullHandshakeTimeMean() {
+        final long count = fullHandshakes.sum();
+        return count == 0 ? 0 : fullHandshakeTime.sum() / count;
+    }
+
+    @Override
+    public long getResumedHandshakeTimeMean() {
+        final long count = resumedHandshakes.sum();
+        return count == 0 ? 0 : resumedHandshakeTime.sum() / count;
+    }
+
+    @Override
+    public long getHandshakeTimeMax() {
+        return handshakeTimeMax.get();
+    }
+
+    /**
+     * Registers statistics into platform MBeanServer, previous registration is replaced
+     *
+     * @param name Name of owner used in ObjectName
+     */
+    public synchronized void register(String name) {
+        unregister();
+        try {
+            final ObjectName
+                    newName =
+                    new ObjectName(TaskInstrumentation.OBJECT_NAME_DOMAIN + ":type=TlsStatistics,name="
+                            + ObjectName.quote(Preconditions.checkNotNull(name)));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, newName);
+            objectName = newName;
+        } catch (JMException e) {
+            LOG.warn("TLS statistics of {} could not be registered", name, e);
+        }
+    }
+
+    /**
+     * Removes statistics from platform MBeanServer
+     */
+    public synchronized void unregister() {
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (JMException e) {
+                LOG.debug("TLS statistics {} could not be unregistered", objectName, e);
+            }
+            objectName = null;
+        }
+    }
+}
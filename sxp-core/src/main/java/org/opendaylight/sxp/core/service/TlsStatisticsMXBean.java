@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.service;
+
+/**
+ * JMX view of TLS handshake statistics, times are in microseconds measured from activation of channel
+ */
+public interface TlsStatisticsMXBean {
+
+    /**
+     * @return Name of SSL provider used by contexts
+     */
+    String getProvider();
+
+    /**
+     * @return Number of successful handshakes
+     */
+    long getHandshakes();
+
+    /**
+     * @return Number of successful handshakes that resumed cached session
+     */
+    long getResumedHandshakes();
+
+    /**
+     * @return Number of failed handshakes
+     */
+    long getFailedHandshakes();
+
+    /**
+     * @return Percentage of successful handshakes that resumed cached session
+     */
+    double getResumptionRate();
+
+    /**
+     * @return Mean time of successful full handshakes in microseconds
+     */
+    long getFullHandshakeTimeMean();
+
+    /**
+     * @return Mean time of successful resumed handshakes in microseconds
+     */
+    long getResumedHandshakeTimeMean();
+
+    /**
+     * @return Maximal time of successful handshake in microseconds
+     */
+    long getHandshakeTimeMax();
+}
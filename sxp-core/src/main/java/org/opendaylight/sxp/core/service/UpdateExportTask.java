@@ -10,11 +10,13 @@ package org.opendaylight.sxp.core.service;
 
 import com.google.common.base.Preconditions;
 import io.netty.buffer.ByteBuf;
-import java.util.concurrent.Callable;
+import io.netty.channel.ChannelHandlerContext;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import org.opendaylight.sxp.core.Constants;
 import org.opendaylight.sxp.core.SxpConnection;
 import org.opendaylight.sxp.core.messaging.MessageFactory;
+import org.opendaylight.sxp.core.threading.SlicedTask;
 import org.opendaylight.sxp.util.exception.connection.ChannelHandlerContextDiscrepancyException;
 import org.opendaylight.sxp.util.exception.connection.ChannelHandlerContextNotFoundException;
 import org.opendaylight.sxp.util.filtering.SxpBindingFilter;
@@ -23,9 +25,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * UpdateExportTask class contains logic for Binding export
+ * UpdateExportTask class contains logic for Binding export,
+ * export is executed in slices each writing at most configured number of messages
  */
-public final class UpdateExportTask implements Callable<Void> {
+public final class UpdateExportTask implements SlicedTask {
 
     private static final Logger LOG = LoggerFactory.getLogger(UpdateExportTask.class);
 
@@ -33,6 +36,9 @@ public final class UpdateExportTask implements Callable<Void> {
     private final ByteBuf[] generatedMessages;
     private final BiFunction<SxpConnection, SxpBindingFilter, ByteBuf>[] partitions;
     private final AtomicInteger messagesReleaseCounter;
+    private final int sliceSize;
+    private int generated = 0, written = -1;
+    private boolean released = false;
 
     /**
      * Creates Task which will export provided bindings to remote peer
@@ -44,10 +50,27 @@ public final class UpdateExportTask implements Callable<Void> {
      */
     public UpdateExportTask(SxpConnection connection, ByteBuf[] generatedMessages,
             BiFunction<SxpConnection, SxpBindingFilter, ByteBuf>[] partitions, AtomicInteger messagesReleaseCounter) {
+        this(connection, generatedMessages, partitions, messagesReleaseCounter, Constants.MESSAGE_EXPORT_SLICE);
+    }
+
+    /**
+     * Creates Task which will export provided bindings to remote peer
+     *
+     * @param connection             Connection on which will be export hold
+     * @param generatedMessages      Pool of generated messages to export
+     * @param partitions             Pool of bindings from which are messages generated
+     * @param messagesReleaseCounter Monitor for releasing weak references of ByteBuf
+     * @param sliceSize              Max number of messages generated or written in one slice
+     */
+    public UpdateExportTask(SxpConnection connection, ByteBuf[] generatedMessages,
+            BiFunction<SxpConnection, SxpBindingFilter, ByteBuf>[] partitions, AtomicInteger messagesReleaseCounter,
+            int sliceSize) {
+        Preconditions.checkArgument(sliceSize > 0, "Slice size must be positive");
         this.connection = Preconditions.checkNotNull(connection);
         this.generatedMessages = Preconditions.checkNotNull(generatedMessages);
         this.partitions = Preconditions.checkNotNull(partitions);
         this.messagesReleaseCounter = Preconditions.checkNotNull(messagesReleaseCounter);
+        this.sliceSize = sliceSize;
     }
 
     /**
@@ -59,60 +82,96 @@ public final class UpdateExportTask implements Callable<Void> {
 
     @Override
     public Void call() {
+        try {
+            //noinspection StatementWithEmptyBody
+            while (!executeSlice()) {
+            }
+        } catch (InterruptedException e) {
+            LOG.warn("{} Bindings export canceled.", connection, e);
+            abort();
+        }
+        return null;
+    }
+
+    @Override
+    public boolean executeSlice() throws InterruptedException {
         //Generate messages
-        for (int i = 0; i < partitions.length; i++) {
+        for (int budget = sliceSize; generated < partitions.length; generated++) {
+            if (budget == 0) {
+                return false;
+            }
             BiFunction<SxpConnection, SxpBindingFilter, ByteBuf> data;
             synchronized (partitions) {
-                data = partitions[i];
-                partitions[i] = null;
+                data = partitions[generated];
+                partitions[generated] = null;
             }
             if (data != null) {
                 ByteBuf message = data.apply(connection, connection.getFilter(FilterType.Outbound));
                 if (message == null) {
                     LOG.error("{} Generated empty partition.", connection);
-                    return null;
+                    return true;
                 }
                 synchronized (generatedMessages) {
-                    generatedMessages[i] = message;
+                    generatedMessages[generated] = message;
                     generatedMessages.notifyAll();
                 }
+                budget--;
             }
         }
-        //Wait for all messages to be generated and then write them to pipeline
         try {
-            //noinspection ForLoopReplaceableByForEach
-            for (int i = 0; i < generatedMessages.length; i++) {
-                ByteBuf message;
-                do {
-                    synchronized (generatedMessages) {
-                        if ((message = generatedMessages[i]) == null) {
-                            generatedMessages.wait();
+            //Wait for all messages to be generated and then write them to pipeline
+            if (written < 0) {
+                //noinspection ForLoopReplaceableByForEach
+                for (int i = 0; i < generatedMessages.length; i++) {
+                    ByteBuf message;
+                    do {
+                        synchronized (generatedMessages) {
+                            if ((message = generatedMessages[i]) == null) {
+                                generatedMessages.wait();
+                            }
                         }
+                    } while (message == null);
+                    if (message.capacity() == 0) {
+                        LOG.warn("{} Cannot export empty message aborting export", connection);
+                        abort();
+                        return true;
                     }
-                } while (message == null);
-                if (message.capacity() == 0) {
-                    LOG.warn("{} Cannot export empty message aborting export", connection);
-                    freeReferences();
-                    return null;
                 }
+                written = 0;
             }
-            for (int i = 0; i < generatedMessages.length; i++) {
-                connection.getChannelHandlerContext(SxpConnection.ChannelHandlerContextType.SpeakerContext)
-                        .write(generatedMessages[i].duplicate().retain());
+            final ChannelHandlerContext
+                    ctx =
+                    connection.getChannelHandlerContext(SxpConnection.ChannelHandlerContextType.SpeakerContext);
+            for (int budget = sliceSize; written < generatedMessages.length && budget > 0; written++, budget--) {
+                ctx.write(generatedMessages[written].duplicate().retain());
                 if (LOG.isTraceEnabled()) {
-                    LOG.trace("{} {} UPDATEv{} {}", connection, i, connection.getVersion().getIntValue(),
-                            MessageFactory.toString(generatedMessages[i]));
+                    LOG.trace("{} {} UPDATEv{} {}", connection, written, connection.getVersion().getIntValue(),
+                            MessageFactory.toString(generatedMessages[written]));
                 }
             }
-            connection.getChannelHandlerContext(SxpConnection.ChannelHandlerContextType.SpeakerContext).flush();
+            ctx.flush();
+            if (written < generatedMessages.length) {
+                return false;
+            }
             connection.setUpdateOrKeepaliveMessageTimestamp();
         } catch (ChannelHandlerContextNotFoundException | ChannelHandlerContextDiscrepancyException e) {
             LOG.warn("{} Cannot find context aborting bindings export.", connection);
-        } catch (InterruptedException e) {
-            LOG.warn("{} Bindings export canceled.", connection, e);
         }
-        freeReferences();
-        return null;
+        abort();
+        return true;
+    }
+
+    @Override
+    public boolean isBulk() {
+        return false;
+    }
+
+    @Override
+    public void abort() {
+        if (!released) {
+            released = true;
+            freeReferences();
+        }
     }
 
     /**
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AdaptivePoolSizer class periodically samples queue wait time of pool, adds threads quickly
+ * while tasks wait longer than target and removes them one by one when pool is idle
+ */
+final class AdaptivePoolSizer implements Runnable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+
+    private final String name;
+    private final MeteredThreadPoolExecutor executor;
+    private final int minThreads, maxThreads;
+    private final long targetWaitNanos;
+    private long lastQueueWait, lastStarted;
+
+    /**
+     * @param name            Name of pool displayed in logs
+     * @param executor        Pool that will be resized
+     * @param minThreads      Lower bound of threads
+     * @param maxThreads      Upper bound of threads
+     * @param targetWaitNanos Queue wait in nanoseconds above which threads are added
+     */
+    AdaptivePoolSizer(String name, MeteredThreadPoolExecutor executor, int minThreads, int maxThreads,
+            long targetWaitNanos) {
+        Preconditions.checkArgument(minThreads > 0 && minThreads <= maxThreads, "Invalid thread bounds");
+        Preconditions.checkArgument(targetWaitNanos > 0, "Target wait must be positive");
+        this.name = Preconditions.checkNotNull(name);
+        this.executor = Preconditions.checkNotNull(executor);
+        this.minThreads = minThreads;
+        this.maxThreads = maxThreads;
+        this.targetWaitNanos = targetWaitNanos;
+        this.lastQueueWait = executor.getQueueWaitNanos();
+        this.lastStarted = executor.getStartedTasks();
+    }
+
+    @Override
+    public void run() {
+        final long queueWait = executor.getQueueWaitNanos(), started = executor.getStartedTasks();
+        final long sampleWait = queueWait - lastQueueWait, sampleStarted = started - lastStarted;
+        lastQueueWait = queueWait;
+        lastStarted = started;
+
+        final boolean queued = !executor.getQueue().isEmpty();
+        final long averageWait = sampleStarted == 0 ? 0 : sampleWait / sampleStarted;
+        final int threads = executor.getCorePoolSize();
+        if (averageWait > targetWaitNanos || (sampleStarted == 0 && queued)) {
+            if (threads < maxThreads) {
+                final int resized = Math.min(maxThreads, threads * 2);
+                LOG.info("{} pool grows from {} to {} threads, average queue wait {} ms", name, threads, resized,
+                        TimeUnit.NANOSECONDS.toMillis(averageWait));
+                executor.resize(resized);
+            } else {
+                LOG.warn("{} pool saturated with {} threads, average queue wait {} ms", name, threads,
+                        TimeUnit.NANOSECONDS.toMillis(averageWait));
+            }
+        } else if (!queued && averageWait < targetWaitNanos / 4 && threads > minThreads) {
+            LOG.debug("{} pool shrinks from {} to {} threads", name, threads, threads - 1);
+            executor.resize(threads - 1);
+        }
+    }
+}
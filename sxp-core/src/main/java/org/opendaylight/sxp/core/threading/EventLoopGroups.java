@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import com.google.common.base.Preconditions;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * EventLoopGroups class holds Netty event loop groups accepting and serving channels of SxpNode.
+ * Groups are either shared by all nodes or dedicated to one node, so that its channels
+ * do not compete with channels of other nodes.
+ */
+public final class EventLoopGroups implements AutoCloseable {
+
+    /**
+     * Holder of groups shared by all nodes, created on first use
+     */
+    private static final class Shared {
+
+        private static final EventLoopGroups INSTANCE = new EventLoopGroups("SHARED", 0, true);
+    }
+
+    private final String name;
+    private final EventLoopGroup bossGroup, workerGroup;
+    private final boolean shared;
+
+    /**
+     * @param name    Name used for threads of groups
+     * @param threads Number of worker threads, 0 stands for Netty default
+     * @param shared  If groups are shared by all nodes
+     */
+    private EventLoopGroups(String name, int threads, boolean shared) {
+        this.name = Preconditions.checkNotNull(name);
+        this.shared = shared;
+        this.bossGroup = new EpollEventLoopGroup(1, new DefaultThreadFactory("SXP-BOSS-" + name));
+        this.workerGroup = new EpollEventLoopGroup(threads, new DefaultThreadFactory("SXP-EVENT-LOOP-" + name));
+    }
+
+    /**
+     * @return Groups shared by all nodes that do not have dedicated groups
+     */
+    public static EventLoopGroups getShared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * @param name    Name of node used for threads of groups
+     * @param threads Number of worker threads, 0 stands for Netty default
+     * @return Groups dedicated to one node
+     */
+    public static EventLoopGroups createDedicated(String name, int threads) {
+        Preconditions.checkArgument(threads >= 0, "Number of event loop threads cannot be negative");
+        return new EventLoopGroups(name, threads, false);
+    }
+
+    /**
+     * @return Group accepting connections of server channel
+     */
+    public EventLoopGroup getBossGroup() {
+        return bossGroup;
+    }
+
+    /**
+     * @return Group serving connected channels
+     */
+    public EventLoopGroup getWorkerGroup() {
+        return workerGroup;
+    }
+
+    /**
+     * @return If groups are shared by all nodes
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
+    /**
+     * @return Number of tasks waiting in queue of each event loop keyed by name of group and index of loop
+     */
+    public Map<String, Integer> getPendingTasks() {
+        final Map<String, Integer> pendingTasks = new LinkedHashMap<>();
+        addPendingTasks(pendingTasks, "boss", bossGroup);
+        addPendingTasks(pendingTasks, "worker", workerGroup);
+        return pendingTasks;
+    }
+
+    /**
+     * @param pendingTasks Map where pending tasks will be added
+     * @param prefix       Name of group
+     * @param group        Group which loops will be inspected
+     */
+    private static void addPendingTasks(Map<String, Integer> pendingTasks, String prefix, EventLoopGroup group) {
+        int i = 0;
+        for (EventExecutor executor : group) {
+            if (executor instanceof SingleThreadEventExecutor) {
+                pendingTasks.put(prefix + "-" + i, ((SingleThreadEventExecutor) executor).pendingTasks());
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Shuts down dedicated groups, shared groups are left running
+     */
+    @Override
+    public void close() {
+        if (!shared) {
+            bossGroup.shutdownGracefully();
+            workerGroup.shutdownGracefully();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EventLoopGroups[" + name + "]";
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * FairExecutor class dispatches sequenced tasks to executor so that {@link SlicedTask}s
+ * release thread after each slice and continue at the end of executor queue,
+ * slices of bulk tasks are additionally held back while there are non bulk tasks waiting for execution.
+ * Slice of task that is not ready to continue is not scheduled until task resumes it,
+ * so no thread of executor waits for task in the meantime.
+ */
+final class FairExecutor {
+
+    /**
+     * Number of non bulk tasks that can be completed before one held back bulk slice is released
+     */
+    static final int BULK_STARVATION_LIMIT = 16;
+
+    private static final Logger LOG = LoggerFactory.getLogger(FairExecutor.class);
+
+    private final ListeningExecutorService executor;
+    private final Queue<Runnable> bulkBacklog = new ArrayDeque<>();
+    private int pendingTasks = 0, completedTasks = 0;
+
+    /**
+     * @param executor Executor used for execution of tasks
+     */
+    FairExecutor(ListeningExecutorService executor) {
+        this.executor = Preconditions.checkNotNull(executor);
+    }
+
+    /**
+     * Submits task for execution
+     *
+     * @param task Task to be executed
+     * @param <T>  Type of result
+     * @return ListenableFuture that will be completed after task or its last slice finishes
+     */
+    @SuppressWarnings("unchecked")
+    <T> ListenableFuture<T> submit(Callable<T> task) {
+        if (task instanceof SlicedTask) {
+            SettableFuture<Void> result = SettableFuture.create();
+            dispatch((SlicedTask) task, result);
+            return (ListenableFuture<T>) result;
+        }
+        synchronized (this) {
+            pendingTasks++;
+        }
+        final ListenableFuture<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            taskCompleted();
+            throw e;
+        }
+        future.addListener(this::taskCompleted, Runnable::run);
+        return future;
+    }
+
+    /**
+     * @return Executor used for execution of tasks
+     */
+    ListeningExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @return Number of bulk slices held back in favour of other tasks
+     */
+    synchronized int getBacklogSize() {
+        return bulkBacklog.size();
+    }
+
+    /**
+     * Schedules next slice of task
+     *
+     * @param task   Task which slice will be executed
+     * @param result Future of whole task
+     */
+    private void dispatch(final SlicedTask task, final SettableFuture<Void> result) {
+        if (task.isBulk()) {
+            synchronized (this) {
+                if (pendingTasks > 0) {
+                    bulkBacklog.add(() -> execute(() -> executeSlice(task, result), task, result));
+                    return;
+                }
+            }
+            execute(() -> executeSlice(task, result), task, result);
+        } else {
+            synchronized (this) {
+                pendingTasks++;
+            }
+            if (!execute(() -> {
+                try {
+                    executeSlice(task, result);
+                } finally {
+                    taskCompleted();
+                }
+            }, task, result)) {
+                taskCompleted();
+            }
+        }
+    }
+
+    /**
+     * @param slice  Slice to be executed
+     * @param task   Task which slice will be executed
+     * @param result Future of whole task
+     * @return If slice was accepted by executor
+     */
+    private boolean execute(Runnable slice, SlicedTask task, SettableFuture<Void> result) {
+        try {
+            executor.execute(slice);
+            return true;
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Slice of task {} rejected", task.getClass().getSimpleName());
+            task.abort();
+            result.setException(e);
+            return false;
+        }
+    }
+
+    /**
+     * Executes one slice of task and schedules next one if task is not completed,
+     * next slice is scheduled once task is ready to continue
+     *
+     * @param task   Task which slice will be executed
+     * @param result Future of whole task
+     */
+    private void executeSlice(SlicedTask task, SettableFuture<Void> result) {
+        if (result.isDone()) {
+            task.abort();
+            return;
+        }
+        try {
+            if (task.executeSlice()) {
+                result.set(null);
+            } else if (!task.deferUntilReady(() -> dispatch(task, result))) {
+                dispatch(task, result);
+            }
+        } catch (Exception e) {
+            LOG.debug("Task {} failed with {}", task.getClass().getSimpleName(), e);
+            task.abort();
+            result.setException(e);
+        }
+    }
+
+    /**
+     * Marks non bulk task as completed and releases held back bulk slices
+     * when no other task is waiting or bulk slices were held back for too long
+     */
+    private void taskCompleted() {
+        final List<Runnable> released = new ArrayList<>();
+        synchronized (this) {
+            pendingTasks--;
+            if (bulkBacklog.isEmpty()) {
+                return;
+            }
+            completedTasks++;
+            if (pendingTasks == 0) {
+                released.addAll(bulkBacklog);
+                bulkBacklog.clear();
+                completedTasks = 0;
+            } else if (completedTasks >= BULK_STARVATION_LIMIT) {
+                released.add(bulkBacklog.poll());
+                completedTasks = 0;
+            }
+        }
+        released.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * KeyedSerialExecutor class executes tasks submitted under the same key one after another,
+ * while tasks of different keys are executed in parallel by shared executors.
+ * Each key owns mailbox that is drained by executor without any lock,
+ * mailbox is removed as soon as it has no pending task so idle keys do not hold memory.
+ *
+ * @param <K> Type of key specifying sequence of tasks
+ */
+final class KeyedSerialExecutor<K> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KeyedSerialExecutor.class);
+
+    /**
+     * Pending count of mailbox that was removed and will not accept any task
+     */
+    private static final int CLOSED = -1;
+
+    private final ConcurrentMap<K, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final Function<K, FairExecutor> executors;
+
+    /**
+     * @param executors Function resolving executor used for tasks of specific key
+     */
+    KeyedSerialExecutor(Function<K, FairExecutor> executors) {
+        this.executors = Preconditions.checkNotNull(executors);
+    }
+
+    /**
+     * Submits task that will be executed after all tasks previously submitted with the same key
+     *
+     * @param key  Key specifying sequence of task
+     * @param task Task to be executed
+     * @param <T>  Type of result
+     * @return ListenableFuture that can be used to extract result or cancel
+     */
+    <T> ListenableFuture<T> submit(final K key, final Callable<T> task) {
+        Preconditions.checkNotNull(key);
+        final FairExecutor executor = Preconditions.checkNotNull(executors.apply(key));
+        final SettableListenableFuture<T>
+                future =
+                new SettableListenableFuture<>(Preconditions.checkNotNull(task), executor.getExecutor());
+        for (; ; ) {
+            final Mailbox mailbox = mailboxes.computeIfAbsent(key, k -> new Mailbox(k, executor));
+            if (mailbox.offer(future)) {
+                return future;
+            }
+            mailboxes.remove(key, mailbox);
+        }
+    }
+
+    /**
+     * Cancels all tasks of specified key including currently executed one
+     *
+     * @param key                   Key specifying sequence of tasks
+     * @param mayInterruptIfRunning if the thread executing this
+     *                              task should be interrupted; otherwise, in-progress tasks are allowed
+     *                              to complete
+     */
+    void cancel(final K key, final boolean mayInterruptIfRunning) {
+        final Mailbox mailbox = mailboxes.get(Preconditions.checkNotNull(key));
+        if (mailbox != null) {
+            mailbox.cancel(mayInterruptIfRunning);
+        }
+    }
+
+    /**
+     * @return Number of keys that have pending tasks
+     */
+    int size() {
+        return mailboxes.size();
+    }
+
+    /**
+     * Mailbox holds tasks of one key, head of queue is task currently executed.
+     * Pending counter is incremented by producers and decremented after each task is done,
+     * producer that moves counter from zero starts draining and the last completed task
+     * closes mailbox and removes it from map. Drainer that finds queue empty while counter is positive
+     * hands draining off to the producer that did not enqueue its task yet instead of waiting for it.
+     */
+    private final class Mailbox {
+
+        private final K key;
+        private final FairExecutor executor;
+        private final Queue<SettableListenableFuture<?>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean handOff = new AtomicBoolean();
+
+        /**
+         * @param key      Key of mailbox
+         * @param executor Executor used for tasks of mailbox
+         */
+        private Mailbox(K key, FairExecutor executor) {
+            this.key = key;
+            this.executor = executor;
+        }
+
+        /**
+         * @param future Future of task to be added
+         * @return If task was accepted, mailbox that was already closed does not accept any task
+         */
+        private boolean offer(SettableListenableFuture<?> future) {
+            int count;
+            do {
+                count = pending.get();
+                if (count == CLOSED) {
+                    return false;
+                }
+            } while (!pending.compareAndSet(count, count + 1));
+            queue.add(future);
+            if (count == 0 || handOff.compareAndSet(true, false)) {
+                drain();
+            }
+            return true;
+        }
+
+        /**
+         * Starts head task of queue, tasks that were canceled before start are skipped.
+         * If producer claimed its place but did not enqueue task yet, draining is handed off to that producer.
+         */
+        private void drain() {
+            for (; ; ) {
+                final SettableListenableFuture<?> head = queue.peek();
+                if (head == null) {
+                    handOff.set(true);
+                    if (queue.isEmpty() || !handOff.compareAndSet(true, false)) {
+                        return;
+                    }
+                    continue;
+                }
+                if (start(head)) {
+                    return;
+                }
+                queue.poll();
+                if (!release()) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * @param future Future of task to be started
+         * @param <T>    Type of result
+         * @return If task was submitted to executor
+         */
+        private <T> boolean start(SettableListenableFuture<T> future) {
+            synchronized (future) {
+                if (future.isDone()) {
+                    return false;
+                }
+                try {
+                    future.setFuture(executor.submit(future.getTask()));
+                } catch (RejectedExecutionException e) {
+                    LOG.warn("Task {} in sequence rejected", future.getTask().getClass().getSimpleName());
+                    future.cancel(false);
+                    return false;
+                }
+            }
+            future.addListener(this::completed, Runnable::run);
+            return true;
+        }
+
+        /**
+         * Removes completed head task and starts next one
+         */
+        private void completed() {
+            queue.poll();
+            if (release()) {
+                drain();
+            }
+        }
+
+        /**
+         * @return If there is another pending task, otherwise mailbox is closed and removed
+         */
+        private boolean release() {
+            if (pending.decrementAndGet() > 0) {
+                return true;
+            }
+            if (pending.compareAndSet(0, CLOSED)) {
+                mailboxes.remove(key, this);
+            }
+            return false;
+        }
+
+        /**
+         * Cancels queued tasks from the last one so that no task is started by cancellation of its predecessor
+         *
+         * @param mayInterruptIfRunning if the thread executing this
+         *                              task should be interrupted; otherwise, in-progress tasks are allowed
+         *                              to complete
+         */
+        private void cancel(boolean mayInterruptIfRunning) {
+            final List<SettableListenableFuture<?>> futures = new ArrayList<>(queue);
+            for (int i = futures.size() - 1; i >= 0; i--) {
+                if (!futures.get(i).isDone()) {
+                    futures.get(i).cancel(mayInterruptIfRunning);
+                }
+            }
+        }
+    }
+}
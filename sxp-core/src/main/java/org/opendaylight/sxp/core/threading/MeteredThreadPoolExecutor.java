@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import java.util.Objects;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * MeteredThreadPoolExecutor class is fixed size thread pool with unbounded queue,
+ * that measures time which tasks spend in queue before their execution and can be resized
+ */
+public class MeteredThreadPoolExecutor extends ThreadPoolExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MeteredThreadPoolExecutor.class);
+
+    private final LongAdder queueWaitNanos = new LongAdder(), startedTasks = new LongAdder();
+
+    /**
+     * Task wrapper holding time when task was queued
+     */
+    private static final class QueuedTask implements Runnable {
+
+        private final Runnable task;
+        private final long queued = System.nanoTime();
+
+        private QueuedTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+
+    /**
+     * @param threads       Number of threads of pool
+     * @param threadFactory Factory used for creation of threads
+     */
+    public MeteredThreadPoolExecutor(int threads, ThreadFactory threadFactory) {
+        super(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        super.execute(new QueuedTask(Objects.requireNonNull(command)));
+    }
+
+    @Override
+    protected void beforeExecute(Thread thread, Runnable runnable) {
+        super.beforeExecute(thread, runnable);
+        if (runnable instanceof QueuedTask) {
+            queueWaitNanos.add(System.nanoTime() - ((QueuedTask) runnable).queued);
+            startedTasks.increment();
+        }
+    }
+
+    @Override
+    protected void afterExecute(Runnable runnable, Throwable throwable) {
+        super.afterExecute(runnable, throwable);
+        if (Objects.nonNull(throwable)) {
+            LOG.debug("Task {} failed with {}", runnable, throwable);
+        }
+    }
+
+    /**
+     * @return Total time in nanoseconds that started tasks spent in queue
+     */
+    public long getQueueWaitNanos() {
+        return queueWaitNanos.sum();
+    }
+
+    /**
+     * @return Number of tasks that were taken from queue and started
+     */
+    public long getStartedTasks() {
+        return startedTasks.sum();
+    }
+
+    /**
+     * Changes number of threads of pool, running tasks are not affected
+     *
+     * @param threads New number of threads
+     */
+    public synchronized void resize(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        if (threads > getMaximumPoolSize()) {
+            setMaximumPoolSize(threads);
+            setCorePoolSize(threads);
+        } else {
+            setCorePoolSize(threads);
+            setMaximumPoolSize(threads);
+        }
+    }
+}
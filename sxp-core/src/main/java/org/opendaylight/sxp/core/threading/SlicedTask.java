@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import java.util.concurrent.Callable;
+
+/**
+ * SlicedTask represents task that can be executed in bounded slices,
+ * when executed in sequence by ThreadsWorker thread is released after every slice
+ * so that tasks of other sequences can be interleaved with it.
+ * Slice must not wait for I/O, task that cannot continue returns from slice
+ * and defers its next slice via {@link #deferUntilReady(Runnable)}.
+ * Calling {@link #call()} executes all remaining slices at once.
+ */
+public interface SlicedTask extends Callable<Void> {
+
+    /**
+     * Executes next slice of task
+     *
+     * @return If task was completed and there are no more slices to execute
+     * @throws Exception If slice execution failed
+     */
+    boolean executeSlice() throws Exception;
+
+    /**
+     * @return If task represents bulk work that yields to non bulk tasks waiting for execution
+     */
+    boolean isBulk();
+
+    /**
+     * Defers next slice of task until task can continue, invoked after every slice that did not complete task
+     *
+     * @param resume Action scheduling next slice, invoked at most once and only if slice was deferred
+     * @return If next slice was deferred, otherwise it is scheduled immediately
+     */
+    default boolean deferUntilReady(Runnable resume) {
+        return false;
+    }
+
+    /**
+     * Releases resources held by task, invoked when task was canceled or failed before its last slice
+     */
+    void abort();
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.opendaylight.sxp.core.SxpConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * TaskInstrumentation class wraps tasks of ThreadsWorker and collects their statistics per WorkerType
+ * and per connection which sequence they were executed in, statistics can be exposed through JMX
+ */
+public final class TaskInstrumentation implements TaskInstrumentationMXBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TaskInstrumentation.class);
+
+    public static final String OBJECT_NAME_DOMAIN = "org.opendaylight.sxp";
+
+    private final Map<ThreadsWorker.WorkerType, TaskStatistics> workers = new EnumMap<>(ThreadsWorker.WorkerType.class);
+    private final ConcurrentMap<SxpConnection, Map<ThreadsWorker.WorkerType, TaskStatistics>>
+            connections =
+            new ConcurrentHashMap<>();
+    private final Supplier<EventLoopGroups> eventLoopGroups;
+    private ObjectName objectName;
+
+    /**
+     * Task wrapper recording time of its submission, start and completion
+     *
+     * @param <T> Type of result
+     */
+    private static final class InstrumentedTask<T> implements Callable<T> {
+
+        private static final int QUEUED = 0, STARTED = 1, CANCELLED = 2;
+
+        private final Callable<T> task;
+        private final TaskStatistics workerStatistics, connectionStatistics;
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private final long submitted = System.nanoTime();
+
+        private InstrumentedTask(Callable<T> task, TaskStatistics workerStatistics,
+                TaskStatistics connectionStatistics) {
+            this.task = task;
+            this.workerStatistics = workerStatistics;
+            this.connectionStatistics = connectionStatistics;
+            workerStatistics.submitted();
+            if (connectionStatistics != null) {
+                connectionStatistics.submitted();
+            }
+        }
+
+        @Override
+        public T call() throws Exception {
+            final long started = System.nanoTime();
+            if (state.compareAndSet(QUEUED, STARTED)) {
+                workerStatistics.started(started - submitted);
+                if (connectionStatistics != null) {
+                    connectionStatistics.started(started - submitted);
+                }
+            }
+            boolean success = false;
+            try {
+                final T result = task.call();
+                success = true;
+                return result;
+            } finally {
+                final long run = System.nanoTime() - started;
+                workerStatistics.finished(run, success);
+                if (connectionStatistics != null) {
+                    connectionStatistics.finished(run, success);
+                }
+            }
+        }
+
+        /**
+         * Task was rejected by executor
+         */
+        private void rejected() {
+            workerStatistics.rejected();
+            if (connectionStatistics != null) {
+                connectionStatistics.rejected();
+            }
+        }
+
+        /**
+         * Future of task completed, task that did not start was cancelled
+         */
+        private void done() {
+            if (state.compareAndSet(QUEUED, CANCELLED)) {
+                workerStatistics.cancelled();
+                if (connectionStatistics != null) {
+                    connectionStatistics.cancelled();
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+
+    /**
+     * Submits task to executor
+     *
+     * @param <T> Type of result
+     */
+    @FunctionalInterface
+    interface Submitter<T> {
+
+        /**
+         * @param task Task to be submitted
+         * @return ListenableFuture of task
+         */
+        ListenableFuture<T> submit(Callable<T> task);
+    }
+
+    public TaskInstrumentation() {
+        this(EventLoopGroups::getShared);
+    }
+
+    /**
+     * @param eventLoopGroups Supplier of event loop groups serving channels of owner
+     */
+    public TaskInstrumentation(Supplier<EventLoopGroups> eventLoopGroups) {
+        this.eventLoopGroups = Preconditions.checkNotNull(eventLoopGroups);
+        for (ThreadsWorker.WorkerType type : ThreadsWorker.WorkerType.values()) {
+            workers.put(type, new TaskStatistics());
+        }
+    }
+
+    /**
+     * Wraps task and submits it using provided submitter
+     *
+     * @param task       Task to be executed
+     * @param type       WorkerType of executor
+     * @param connection SxpConnection which sequence executes task or null
+     * @param submitter  Function submitting wrapped task
+     * @param <T>        Type of result
+     * @return ListenableFuture of task
+     */
+    <T> ListenableFuture<T> submit(Callable<T> task, ThreadsWorker.WorkerType type, SxpConnection connection,
+            Submitter<T> submitter) {
+        final InstrumentedTask<T>
+                instrumentedTask =
+                new InstrumentedTask<>(Objects.requireNonNull(task), workers.get(type),
+                        connection == null ? null : connections.computeIfAbsent(connection,
+                                c -> createStatistics()).get(type));
+        final ListenableFuture<T> future;
+        try {
+            future = submitter.submit(instrumentedTask);
+        } catch (RuntimeException e) {
+            instrumentedTask.rejected();
+            throw e;
+        }
+        future.addListener(instrumentedTask::done, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    /**
+     * @return Statistics of connection for all WorkerTypes
+     */
+    private static Map<ThreadsWorker.WorkerType, TaskStatistics> createStatistics() {
+        final Map<ThreadsWorker.WorkerType, TaskStatistics> statistics = new EnumMap<>(ThreadsWorker.WorkerType.class);
+        for (ThreadsWorker.WorkerType type : ThreadsWorker.WorkerType.values()) {
+            statistics.put(type, new TaskStatistics());
+        }
+        return statistics;
+    }
+
+    /**
+     * Removes statistics of connection
+     *
+     * @param connection SxpConnection which statistics will be removed
+     */
+    void remove(SxpConnection connection) {
+        connections.remove(Preconditions.checkNotNull(connection));
+    }
+
+    /**
+     * @param type WorkerType specifying executor
+     * @return Statistics of all tasks executed by specified executor
+     */
+    public TaskStatistics getStatistics(ThreadsWorker.WorkerType type) {
+        return workers.get(Preconditions.checkNotNull(type));
+    }
+
+    /**
+     * @param connection SxpConnection which statistics will be returned
+     * @param type       WorkerType specifying executor
+     * @return Statistics of tasks executed in sequence of connection or null if connection has none
+     */
+    public TaskStatistics getStatistics(SxpConnection connection, ThreadsWorker.WorkerType type) {
+        final Map<ThreadsWorker.WorkerType, TaskStatistics> statistics = connections.get(connection);
+        return statistics == null ? null : statistics.get(Preconditions.checkNotNull(type));
+    }
+
+    /**
+     * @return Connections which have statistics
+     */
+    public Iterable<SxpConnection> getConnections() {
+        return Collections.unmodifiableSet(connections.keySet());
+    }
+
+    @Override
+    public Map<String, Snapshot> getWorkerStatistics() {
+        final Map<String, Snapshot> snapshots = new HashMap<>();
+        workers.forEach((type, statistics) -> snapshots.put(type.name(), new Snapshot(statistics)));
+        return snapshots;
+    }
+
+    @Override
+    public Map<String, Snapshot> getConnectionStatistics() {
+        final Map<String, Snapshot> snapshots = new HashMap<>();
+        connections.forEach((connection, statistics) -> statistics.forEach((type, s) -> {
+            if (s.getSubmitted() > 0) {
+                snapshots.put(getName(connection) + "/" + type.name(), new Snapshot(s));
+            }
+        }));
+        return snapshots;
+    }
+
+    @Override
+    public Map<String, Integer> getEventLoopPendingTasks() {
+        return eventLoopGroups.get().getPendingTasks();
+    }
+
+    /**
+     * @param connection SxpConnection which name will be returned
+     * @return Address and port of peer
+     */
+    public static String getName(SxpConnection connection) {
+        return connection.getDestination() == null ? connection.toString() : connection.getDestination()
+                .getAddress()
+                .getHostAddress() + ":" + connection.getDestination().getPort();
+    }
+
+    /**
+     * Registers statistics into platform MBeanServer, previous registration is replaced
+     *
+     * @param name Name of owner of ThreadsWorker used in ObjectName
+     */
+    synchronized void register(String name) {
+        unregister();
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName
+                    newName =
+                    new ObjectName(OBJECT_NAME_DOMAIN + ":type=TaskInstrumentation,name=" + ObjectName.quote(name));
+            server.registerMBean(this, newName);
+            objectName = newName;
+        } catch (JMException e) {
+            LOG.warn("Task statistics of {} could not be registered", name, e);
+        }
+    }
+
+    /**
+     * Removes statistics from platform MBeanServer
+     */
+    synchronized void unregister() {
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (JMException e) {
+                LOG.debug("Task statistics {} could not be unregistered", objectName, e);
+            }
+            objectName = null;
+        }
+    }
+}
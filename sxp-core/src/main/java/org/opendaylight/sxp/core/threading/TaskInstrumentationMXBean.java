@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import java.beans.ConstructorProperties;
+import java.util.Map;
+
+/**
+ * JMX view of task statistics of ThreadsWorker, times are in microseconds
+ */
+public interface TaskInstrumentationMXBean {
+
+    /**
+     * @return Statistics of tasks keyed by name of WorkerType
+     */
+    Map<String, Snapshot> getWorkerStatistics();
+
+    /**
+     * @return Statistics of tasks executed in sequence of connection keyed by peer address and WorkerType
+     */
+    Map<String, Snapshot> getConnectionStatistics();
+
+    /**
+     * @return Number of tasks waiting in queues of event loops serving channels, keyed by name of group
+     * and index of loop
+     */
+    Map<String, Integer> getEventLoopPendingTasks();
+
+    /**
+     * Immutable snapshot of TaskStatistics
+     */
+    final class Snapshot {
+
+        private final long submitted, completed, failed, rejected, cancelled, queueDepth, waitTimeMean,
+                waitTime99thPercentile, runTimeMean, runTime99thPercentile;
+        private final long[] waitTimeHistogram, runTimeHistogram;
+
+        /**
+         * @param statistics Statistics which snapshot will be taken
+         */
+        public Snapshot(TaskStatistics statistics) {
+            this(statistics.getSubmitted(), statistics.getCompleted(), statistics.getFailed(),
+                    statistics.getRejected(), statistics.getCancelled(), statistics.getQueueDepth(),
+                    statistics.getWaitTime().getMean(), statistics.getWaitTime().getPercentile(99),
+                    statistics.getRunTime().getMean(), statistics.getRunTime().getPercentile(99),
+                    statistics.getWaitTime().getBuckets(), statistics.getRunTime().getBuckets());
+        }
+
+        @ConstructorProperties({"submitted", "completed", "failed", "rejected", "cancelled", "queueDepth",
+                "waitTimeMean", "waitTime99thPercentile", "runTimeMean", "runTime99thPercentile", "waitTimeHistogram",
+                "runTimeHistogram"})
+        public Snapshot(long submitted, long completed, long failed, long rejected, long cancelled, long queueDepth,
+                long waitTimeMean, long waitTime99thPercentile, long runTimeMean, long runTime99thPercentile,
+                long[] waitTimeHistogram, long[] runTimeHistogram) {
+            this.submitted = submitted;
+            this.completed = completed;
+            this.failed = failed;
+            this.rejected = rejected;
+            this.cancelled = cancelled;
+            this.queueDepth = queueDepth;
+            this.waitTimeMean = waitTimeMean;
+            this.waitTime99thPercentile = waitTime99thPercentile;
+            this.runTimeMean = runTimeMean;
+            this.runTime99thPercentile = runTime99thPercentile;
+            this.waitTimeHistogram = waitTimeHistogram.clone();
+            this.runTimeHistogram = runTimeHistogram.clone();
+        }
+
+        public long getSubmitted() {
+            return submitted;
+        }
+
+        public long getCompleted() {
+            return completed;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public long getCancelled() {
+            return cancelled;
+        }
+
+        public long getQueueDepth() {
+            return queueDepth;
+        }
+
+        public long getWaitTimeMean() {
+            return waitTimeMean;
+        }
+
+        public long getWaitTime99thPercentile() {
+            return waitTime99thPercentile;
+        }
+
+        public long getRunTimeMean() {
+            return runTimeMean;
+        }
+
+        public long getRunTime99thPercentile() {
+            return runTime99thPercentile;
+        }
+
+        /**
+         * @return Counts of tasks in power of two microsecond buckets, see {@link TaskStatistics.Histogram}
+         */
+        public long[] getWaitTimeHistogram() {
+            return waitTimeHistogram.clone();
+        }
+
+        /**
+         * @return Counts of tasks in power of two microsecond buckets, see {@link TaskStatistics.Histogram}
+         */
+        public long[] getRunTimeHistogram() {
+            return runTimeHistogram.clone();
+        }
+    }
+}
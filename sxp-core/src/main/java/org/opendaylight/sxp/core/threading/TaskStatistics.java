@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TaskStatistics class counts tasks of one WorkerType or connection and records histograms
+ * of time that tasks spent in queue and time of their execution
+ */
+public final class TaskStatistics {
+
+    private final LongAdder submitted = new LongAdder(), completed = new LongAdder(), failed = new LongAdder(),
+            rejected = new LongAdder(), cancelled = new LongAdder(), queued = new LongAdder();
+    private final Histogram waitTime = new Histogram(), runTime = new Histogram();
+
+    /**
+     * Histogram of durations with buckets of power of two microseconds, bucket 0 contains durations
+     * below one microsecond and bucket i durations in range [2^(i-1), 2^i) microseconds
+     */
+    public static final class Histogram {
+
+        public static final int BUCKETS = 32;
+
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+        private final LongAdder sum = new LongAdder();
+
+        private Histogram() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * @param nanos Duration in nanoseconds
+         */
+        void record(long nanos) {
+            final long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos));
+            buckets[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros))].increment();
+            sum.add(micros);
+        }
+
+        /**
+         * @return Number of recorded durations in each bucket
+         */
+        public long[] getBuckets() {
+            final long[] counts = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets[i].sum();
+            }
+            return counts;
+        }
+
+        /**
+         * @return Number of recorded durations
+         */
+        public long getCount() {
+            long count = 0;
+            for (LongAdder bucket : buckets) {
+                count += bucket.sum();
+            }
+            return count;
+        }
+
+        /**
+         * @return Mean of recorded durations in microseconds
+         */
+        public long getMean() {
+            final long count = getCount();
+            return count == 0 ? 0 : sum.sum() / count;
+        }
+
+        /**
+         * @param percentile Percentile in range (0, 100]
+         * @return Upper bound of bucket in microseconds containing specified percentile of recorded durations
+         */
+        public long getPercentile(double percentile) {
+            final long[] counts = getBuckets();
+            long count = 0;
+            for (long c : counts) {
+                count += c;
+            }
+            final long rank = (long) Math.ceil(count * Math.min(100, percentile) / 100);
+            long cumulative = 0;
+            for (int i = 0; i < BUCKETS && count > 0; i++) {
+                if ((cumulative += counts[i]) >= rank) {
+                    return 1L << i;
+                }
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Task was accepted by executor
+     */
+    void submitted() {
+        submitted.increment();
+        queued.increment();
+    }
+
+    /**
+     * Task counted as submitted was rejected by executor
+     */
+    void rejected() {
+        submitted.decrement();
+        queued.decrement();
+        rejected.increment();
+    }
+
+    /**
+     * Task was cancelled before its start
+     */
+    void cancelled() {
+        queued.decrement();
+        cancelled.increment();
+    }
+
+    /**
+     * Task was taken from queue
+     *
+     * @param waitNanos Time that task spent in queue in nanoseconds
+     */
+    void started(long waitNanos) {
+        queued.decrement();
+        waitTime.record(waitNanos);
+    }
+
+    /**
+     * Task finished its execution
+     *
+     * @param runNanos Time of execution in nanoseconds
+     * @param success  If task completed without failure
+     */
+    void finished(long runNanos, boolean success) {
+        runTime.record(runNanos);
+        if (success) {
+            completed.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    /**
+     * @return Number of tasks accepted by executor
+     */
+    public long getSubmitted() {
+        return submitted.sum();
+    }
+
+    /**
+     * @return Number of tasks completed without failure
+     */
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * @return Number of tasks that failed
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * @return Number of tasks rejected by executor
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return Number of tasks cancelled before their start
+     */
+    public long getCancelled() {
+        return cancelled.sum();
+    }
+
+    /**
+     * @return Number of submitted tasks that were not started nor cancelled yet
+     */
+    public long getQueueDepth() {
+        return Math.max(0, queued.sum());
+    }
+
+    /**
+     * @return Histogram of time that tasks spent in queue
+     */
+    public Histogram getWaitTime() {
+        return waitTime;
+    }
+
+    /**
+     * @return Histogram of time of task execution
+     */
+    public Histogram getRunTime() {
+        return runTime;
+    }
+}
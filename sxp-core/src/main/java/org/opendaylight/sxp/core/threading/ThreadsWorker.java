@@ -14,21 +14,24 @@ import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.ListeningScheduledExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.HashMap;
+import io.netty.util.concurrent.EventExecutor;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.opendaylight.sxp.core.SxpConnection;
+import org.opendaylight.sxp.util.time.HashedWheelTimer;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.InboundExecutionType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.SxpNodeThreadingFields;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,19 +48,38 @@ public class ThreadsWorker implements AutoCloseable {
     }
 
 
+    /**
+     * ExecutionMode enum specifies where per connection inbound tasks executed in sequence are run
+     */
+    public enum ExecutionMode {
+        /**
+         * Tasks are executed by inbound executor
+         */
+        POOLED,
+        /**
+         * Tasks are executed by event loop of connection channel, work shared by all connections
+         * is handed off to inbound executor
+         */
+        EVENT_LOOP
+    }
+
+
     private static final class QueueKey {
 
         private final WorkerType workerType;
         private final SxpConnection connection;
+        private final boolean handOff;
 
         private QueueKey(WorkerType workerType) {
             this.workerType = Preconditions.checkNotNull(workerType);
             this.connection = null;
+            this.handOff = false;
         }
 
-        private QueueKey(WorkerType workerType, SxpConnection connection) {
+        private QueueKey(WorkerType workerType, SxpConnection connection, boolean handOff) {
             this.workerType = Preconditions.checkNotNull(workerType);
             this.connection = Preconditions.checkNotNull(connection);
+            this.handOff = handOff;
         }
 
         @Override
@@ -69,21 +91,47 @@ public class ThreadsWorker implements AutoCloseable {
                 return false;
             }
             QueueKey queueKey = (QueueKey) o;
-            return workerType == queueKey.workerType && Objects.equals(connection, queueKey.connection);
+            return workerType == queueKey.workerType && handOff == queueKey.handOff && Objects.equals(connection,
+                    queueKey.connection);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(workerType, connection);
+            return Objects.hash(workerType, connection, handOff);
         }
     }
 
 
     private static final Logger LOG = LoggerFactory.getLogger(ThreadsWorker.class.getName());
 
+    /**
+     * Period in milliseconds in which adaptive pools are resized
+     */
+    public static final long ADAPTIVE_SIZING_PERIOD = 1000;
+    /**
+     * Default queue wait in milliseconds above which adaptive pools grow
+     */
+    public static final long DEFAULT_TARGET_QUEUE_WAIT = 50;
+    /**
+     * Duration in milliseconds of one tick of timer wheel
+     */
+    public static final long TIMER_TICK = 100;
+    /**
+     * Number of ticks in timer wheel
+     */
+    public static final int TIMER_TICKS_PER_WHEEL = 512;
+
     private final ListeningScheduledExecutorService scheduledExecutorService;
     private final ListeningExecutorService executorService, executorServiceOutbound, executorServiceInbound;
-    private final Map<QueueKey, Deque<SettableListenableFuture>> dequeMap = new HashMap<>(WorkerType.values().length);
+    private final Map<WorkerType, FairExecutor> fairExecutors = new EnumMap<>(WorkerType.class);
+    private final Map<EventExecutor, FairExecutor> eventLoopExecutors = new ConcurrentHashMap<>();
+    private final KeyedSerialExecutor<QueueKey> sequences = new KeyedSerialExecutor<>(this::getSequenceExecutor);
+    private volatile ExecutionMode executionMode = ExecutionMode.POOLED;
+    private final Map<WorkerType, ExecutorService> pools = new EnumMap<>(WorkerType.class);
+    private final List<ListenableScheduledFuture<?>> poolSizers = new ArrayList<>();
+    private final HashedWheelTimer timer;
+    private volatile TaskInstrumentation instrumentation;
+    private volatile EventLoopGroups eventLoopGroups;
 
     /**
      * Custom ThreadsWorker constructor
@@ -95,9 +143,6 @@ public class ThreadsWorker implements AutoCloseable {
      */
     public ThreadsWorker(ScheduledExecutorService scheduledExecutorService, ExecutorService executorService,
             ExecutorService executorServiceInbound, ExecutorService executorServiceOutbound) {
-        for (WorkerType workerType : WorkerType.values()) {
-            dequeMap.put(new QueueKey(workerType), new ArrayDeque<>());
-        }
         this.scheduledExecutorService =
                 MoreExecutors.listeningDecorator(Preconditions.checkNotNull(scheduledExecutorService));
         this.executorService = MoreExecutors.listeningDecorator(Preconditions.checkNotNull(executorService));
@@ -105,6 +150,17 @@ public class ThreadsWorker implements AutoCloseable {
                 MoreExecutors.listeningDecorator(Preconditions.checkNotNull(executorServiceInbound));
         this.executorServiceOutbound =
                 MoreExecutors.listeningDecorator(Preconditions.checkNotNull(executorServiceOutbound));
+        for (WorkerType workerType : WorkerType.values()) {
+            fairExecutors.put(workerType, new FairExecutor(getExecutor(workerType)));
+        }
+        pools.put(WorkerType.DEFAULT, executorService);
+        pools.put(WorkerType.INBOUND, executorServiceInbound);
+        pools.put(WorkerType.OUTBOUND, executorServiceOutbound);
+        final ThreadFactory timerFactory =
+                new ThreadFactoryBuilder().setNameFormat("TIMER-WHEEL-%d").setDaemon(true).build();
+        this.timer =
+                new HashedWheelTimer(timerFactory, this.scheduledExecutorService, TIMER_TICK, TimeUnit.MILLISECONDS,
+                        TIMER_TICKS_PER_WHEEL);
     }
 
     /**
@@ -129,6 +185,162 @@ public class ThreadsWorker implements AutoCloseable {
                 generateExecutor(inPool, "INBOUND"), generateExecutor(outPool, "OUTBOUND"));
     }
 
+    /**
+     * Creates ThreadsWorker according to configuration of node
+     *
+     * @param name        Name of node used for threads of dedicated event loops
+     * @param threadPools Configuration of thread pools, values that are not present are replaced by defaults
+     * @param inPool      Default inbound executor poll size
+     * @param defaultPool Default executor poll size
+     * @param outPool     Default outbound executor poll size
+     * @param timers      Default timer executor poll size
+     * @return ThreadsWorker with configured pools
+     */
+    public static ThreadsWorker createInstance(String name, SxpNodeThreadingFields threadPools, int inPool,
+            int defaultPool, int outPool, int timers) {
+        if (threadPools == null) {
+            return new ThreadsWorker(inPool, defaultPool, outPool, timers);
+        }
+        final int inbound = getOrDefault(threadPools.getInboundThreads(), inPool),
+                outbound = getOrDefault(threadPools.getOutboundThreads(), outPool);
+        final ThreadsWorker
+                worker =
+                new ThreadsWorker(inbound, getOrDefault(threadPools.getDefaultThreads(), defaultPool), outbound,
+                        getOrDefault(threadPools.getTimerThreads(), timers));
+        if (InboundExecutionType.EventLoop.equals(threadPools.getInboundExecution())) {
+            worker.setExecutionMode(ExecutionMode.EVENT_LOOP);
+        }
+        if (Boolean.TRUE.equals(threadPools.isAdaptive())) {
+            worker.setAdaptivePoolSizing(Math.max(inbound, getOrDefault(threadPools.getMaxInboundThreads(), inbound)),
+                    Math.max(outbound, getOrDefault(threadPools.getMaxOutboundThreads(), outbound)),
+                    threadPools.getTargetQueueWait() == null ? DEFAULT_TARGET_QUEUE_WAIT : threadPools
+                            .getTargetQueueWait(), TimeUnit.MILLISECONDS);
+        }
+        worker.setInstrumentation(Boolean.TRUE.equals(threadPools.isInstrumentation()));
+        if (Boolean.TRUE.equals(threadPools.isDedicatedEventLoop())) {
+            worker.setEventLoopGroups(
+                    EventLoopGroups.createDedicated(Preconditions.checkNotNull(name),
+                            getOrDefault(threadPools.getEventLoopThreads(), 0)));
+        }
+        return worker;
+    }
+
+    /**
+     * @param value        Configured value
+     * @param defaultValue Value used if configured one is not present
+     * @return Configured or default value
+     */
+    private static int getOrDefault(Integer value, int defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Enables periodic resizing of inbound and outbound pools according to time that tasks wait in their queues,
+     * current pool sizes are used as lower bounds. Pools not created by {@link #generateExecutor(int, String)}
+     * are not resized.
+     *
+     * @param maxInbound      Upper bound of inbound threads
+     * @param maxOutbound     Upper bound of outbound threads
+     * @param targetQueueWait Queue wait above which threads are added
+     * @param unit            Time unit of target queue wait
+     */
+    public synchronized void setAdaptivePoolSizing(int maxInbound, int maxOutbound, long targetQueueWait,
+            TimeUnit unit) {
+        poolSizers.forEach(f -> f.cancel(false));
+        poolSizers.clear();
+        addPoolSizer(WorkerType.INBOUND, maxInbound, unit.toNanos(targetQueueWait));
+        addPoolSizer(WorkerType.OUTBOUND, maxOutbound, unit.toNanos(targetQueueWait));
+    }
+
+    /**
+     * @param type            Type of pool that will be resized
+     * @param maxThreads      Upper bound of threads
+     * @param targetWaitNanos Queue wait in nanoseconds above which threads are added
+     */
+    private void addPoolSizer(WorkerType type, int maxThreads, long targetWaitNanos) {
+        if (!(pools.get(type) instanceof MeteredThreadPoolExecutor)) {
+            LOG.warn("Adaptive sizing of {} pool is not supported by {}", type, pools.get(type));
+            return;
+        }
+        final MeteredThreadPoolExecutor pool = (MeteredThreadPoolExecutor) pools.get(type);
+        final int minThreads = pool.getCorePoolSize();
+        poolSizers.add(scheduledExecutorService.scheduleAtFixedRate(
+                new AdaptivePoolSizer(type.name(), pool, minThreads, Math.max(minThreads, maxThreads),
+                        targetWaitNanos), ADAPTIVE_SIZING_PERIOD, ADAPTIVE_SIZING_PERIOD, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Enables or disables collection of task statistics, disabled instrumentation adds no overhead to tasks.
+     * Statistics are reset when instrumentation is enabled again.
+     *
+     * @param enabled If statistics of tasks will be collected
+     */
+    public synchronized void setInstrumentation(boolean enabled) {
+        if (enabled && instrumentation == null) {
+            instrumentation = new TaskInstrumentation(this::getEventLoopGroups);
+        } else if (!enabled && instrumentation != null) {
+            instrumentation.unregister();
+            instrumentation = null;
+        }
+    }
+
+    /**
+     * @return Statistics of tasks or null if instrumentation is disabled
+     */
+    public TaskInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    /**
+     * Exposes statistics of tasks through JMX if instrumentation is enabled
+     *
+     * @param name Name of owner of ThreadsWorker
+     */
+    public synchronized void registerInstrumentation(String name) {
+        if (instrumentation != null) {
+            instrumentation.register(Preconditions.checkNotNull(name));
+        }
+    }
+
+    /**
+     * Submits task, if instrumentation is enabled task is wrapped so that its statistics are collected.
+     * {@link SlicedTask}s are not wrapped as they are dispatched by FairExecutor slice by slice.
+     *
+     * @param task       Task to be submitted
+     * @param type       WorkerType specifying type of executor
+     * @param connection SxpConnection which sequence executes task or null
+     * @param submitter  Function submitting task
+     * @return ListenableFuture that can be used to extract result or cancel
+     */
+    private <T> ListenableFuture<T> submit(Callable<T> task, WorkerType type, SxpConnection connection,
+            TaskInstrumentation.Submitter<T> submitter) {
+        final TaskInstrumentation taskInstrumentation = instrumentation;
+        if (taskInstrumentation == null || task instanceof SlicedTask) {
+            return submitter.submit(task);
+        }
+        return taskInstrumentation.submit(task, type, connection, submitter);
+    }
+
+    /**
+     * @param eventLoopGroups Event loop groups used by channels created after this call,
+     *                        replaced dedicated groups are shut down
+     */
+    public synchronized void setEventLoopGroups(EventLoopGroups eventLoopGroups) {
+        final EventLoopGroups previous = this.eventLoopGroups;
+        this.eventLoopGroups = Preconditions.checkNotNull(eventLoopGroups);
+        if (previous != null && previous != eventLoopGroups) {
+            previous.close();
+        }
+    }
+
+    /**
+     * @return Event loop groups serving channels, groups shared by all nodes if no dedicated groups were set
+     */
+    public EventLoopGroups getEventLoopGroups() {
+        final EventLoopGroups groups = eventLoopGroups;
+        return groups == null ? EventLoopGroups.getShared() : groups;
+    }
+
     /**
      * Gets specified executor
      *
@@ -146,6 +358,67 @@ public class ThreadsWorker implements AutoCloseable {
         }
     }
 
+    /**
+     * Gets dispatcher of tasks executed in sequence for specified executor
+     *
+     * @param type Type specifying executor service
+     * @return FairExecutor specified by type
+     */
+    private FairExecutor getFairExecutor(WorkerType type) {
+        return fairExecutors.get(type);
+    }
+
+    /**
+     * Gets dispatcher of tasks executed in sequence specified by key, sequences of connection
+     * are in {@link ExecutionMode#EVENT_LOOP} mode pinned to event loop of connection if it has any,
+     * dispatcher of event loop is dropped once the event loop terminates
+     *
+     * @param key QueueKey specifying sequence
+     * @return FairExecutor used for sequence
+     */
+    private FairExecutor getSequenceExecutor(QueueKey key) {
+        if (!key.handOff && key.connection != null && isExecutedOnEventLoop(key.workerType)) {
+            final EventExecutor eventLoop = key.connection.getEventLoop();
+            if (eventLoop != null && !eventLoop.isShuttingDown()) {
+                final FairExecutor executor = eventLoopExecutors.get(eventLoop);
+                if (executor != null) {
+                    return executor;
+                }
+                final FairExecutor created = new FairExecutor(MoreExecutors.listeningDecorator(eventLoop)),
+                        previous = eventLoopExecutors.putIfAbsent(eventLoop, created);
+                if (previous != null) {
+                    return previous;
+                }
+                eventLoop.terminationFuture().addListener(f -> eventLoopExecutors.remove(eventLoop, created));
+                return created;
+            }
+        }
+        return getFairExecutor(key.workerType);
+    }
+
+    /**
+     * @param executionMode Mode specifying where per connection inbound tasks will be executed,
+     *                      sequences already pending keep their executor until they are drained
+     */
+    public void setExecutionMode(ExecutionMode executionMode) {
+        this.executionMode = Preconditions.checkNotNull(executionMode);
+    }
+
+    /**
+     * @return Gets mode specifying where per connection inbound tasks are executed
+     */
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * @param type WorkerType specifying type of executor
+     * @return If per connection tasks of specified type are executed on event loop of connection
+     */
+    public boolean isExecutedOnEventLoop(WorkerType type) {
+        return executionMode == ExecutionMode.EVENT_LOOP && WorkerType.INBOUND.equals(type);
+    }
+
     /**
      * Schedule and execute task after specified period in ListeningScheduledExecutorService
      *
@@ -156,10 +429,25 @@ public class ThreadsWorker implements AutoCloseable {
      * @throws NullPointerException If task is null
      */
     public <T> ListenableScheduledFuture<T> scheduleTask(Callable<T> task, int period, TimeUnit unit) {
-        LOG.debug("Scheduled task {} wit period {} {}", Objects.requireNonNull(task).getClass(), period, unit);
+        LOG.debug("Scheduled task {} with period {} {}", Objects.requireNonNull(task).getClass(), period, unit);
         return scheduledExecutorService.schedule(task, period, unit);
     }
 
+    /**
+     * Schedule task after specified period in timer wheel shared by all timers of node,
+     * expired task is executed by ListeningScheduledExecutorService
+     *
+     * @param task   Callable task which will be scheduled
+     * @param period Time after which task will be executed
+     * @param unit   Time unit of period
+     * @return Timeout that can be used to re-arm or cancel task
+     * @throws NullPointerException If task is null
+     */
+    public HashedWheelTimer.Timeout scheduleTimer(Callable<?> task, int period, TimeUnit unit) {
+        LOG.debug("Scheduled timer {} with period {} {}", Objects.requireNonNull(task).getClass(), period, unit);
+        return timer.newTimeout(task, period, unit);
+    }
+
     /**
      * Adds and execute task in ListeningExecutorService
      *
@@ -170,7 +458,7 @@ public class ThreadsWorker implements AutoCloseable {
      */
     public <T> ListenableFuture<T> executeTask(Callable<T> task, WorkerType type) {
         LOG.debug("Execute task {}", Objects.requireNonNull(task).getClass());
-        return getExecutor(type).submit(Objects.requireNonNull(task));
+        return submit(task, type, null, getExecutor(type)::submit);
     }
 
     /**
@@ -182,11 +470,16 @@ public class ThreadsWorker implements AutoCloseable {
      */
     public <T> ListenableFuture<T> executeTaskInSequence(final Callable<T> task, final WorkerType type) {
         LOG.debug("Execute in sequence task {}", Objects.requireNonNull(task).getClass());
-        return executeTaskInSequence(Objects.requireNonNull(task), new QueueKey(type));
+        final QueueKey key = new QueueKey(type);
+        return submit(task, type, null, t -> sequences.submit(key, t));
     }
 
     /**
-     * Execute tasks preserving their order, and execution will on specified executor
+     * Execute tasks preserving their order, and execution will on specified executor.
+     * If task is {@link SlicedTask} thread is released after each of its slices so that tasks
+     * queued with other connections are interleaved with it, slices of bulk tasks are postponed
+     * while there are other tasks waiting for execution. Sequence of connection is released
+     * as soon as it has no pending task.
      *
      * @param task       Callable task that will be executed
      * @param type       WorkerType specifying type of executor
@@ -195,7 +488,25 @@ public class ThreadsWorker implements AutoCloseable {
      */
     public <T> ListenableFuture<T> executeTaskInSequence(final Callable<T> task, final WorkerType type,
             final SxpConnection connection) {
-        return executeTaskInSequence(Objects.requireNonNull(task), new QueueKey(type, connection));
+        final QueueKey key = new QueueKey(type, connection, false);
+        return submit(Objects.requireNonNull(task), type, connection, t -> sequences.submit(key, t));
+    }
+
+    /**
+     * Execute tasks preserving their order on executor specified by type even if tasks of connection
+     * are executed on its event loop, used for hand off of work shared by all connections
+     * like updates of MasterDatabase. If tasks of connection are not executed on event loop
+     * task is added to the same sequence as by {@link #executeTaskInSequence(Callable, WorkerType, SxpConnection)}
+     *
+     * @param task       Callable task that will be executed
+     * @param type       WorkerType specifying type of executor
+     * @param connection SxpConnection specified as additional key
+     * @return ListenableFuture that can be used to extract result or cancel
+     */
+    public <T> ListenableFuture<T> handOffTaskInSequence(final Callable<T> task, final WorkerType type,
+            final SxpConnection connection) {
+        final QueueKey key = new QueueKey(type, connection, isExecutedOnEventLoop(type));
+        return submit(Objects.requireNonNull(task), type, connection, t -> sequences.submit(key, t));
     }
 
     /**
@@ -207,11 +518,11 @@ public class ThreadsWorker implements AutoCloseable {
      * @param type                  WorkerType specifying type of executor
      */
     public void cancelTasksInSequence(final boolean mayInterruptIfRunning, final WorkerType type) {
-        cancelTasksInSequence(mayInterruptIfRunning, new QueueKey(type));
+        sequences.cancel(new QueueKey(type), mayInterruptIfRunning);
     }
 
     /**
-     * Cancel all task queued in sequence of specified worker
+     * Cancel all task queued in sequence of specified worker including tasks handed off by connection
      *
      * @param mayInterruptIfRunning if the thread executing this
      *                              task should be interrupted; otherwise, in-progress tasks are allowed
@@ -221,7 +532,20 @@ public class ThreadsWorker implements AutoCloseable {
      */
     public void cancelTasksInSequence(final boolean mayInterruptIfRunning, final WorkerType type,
             final SxpConnection connection) {
-        cancelTasksInSequence(mayInterruptIfRunning, new QueueKey(type, connection));
+        sequences.cancel(new QueueKey(type, connection, false), mayInterruptIfRunning);
+        sequences.cancel(new QueueKey(type, connection, true), mayInterruptIfRunning);
+    }
+
+    /**
+     * Removes statistics of tasks executed in sequences of connection
+     *
+     * @param connection SxpConnection which statistics will be removed
+     */
+    public void removeInstrumentation(final SxpConnection connection) {
+        final TaskInstrumentation taskInstrumentation = instrumentation;
+        if (taskInstrumentation != null) {
+            taskInstrumentation.remove(connection);
+        }
     }
 
     /**
@@ -233,7 +557,10 @@ public class ThreadsWorker implements AutoCloseable {
      * @throws NullPointerException If task is null
      */
     public ListenableFuture executeTask(Runnable task, WorkerType type) {
-        return getExecutor(type).submit(Objects.requireNonNull(task));
+        if (instrumentation == null) {
+            return getExecutor(type).submit(Objects.requireNonNull(task));
+        }
+        return submit(Executors.callable(Objects.requireNonNull(task)), type, null, getExecutor(type)::submit);
     }
 
     /**
@@ -247,82 +574,6 @@ public class ThreadsWorker implements AutoCloseable {
         Preconditions.checkNotNull(task).addListener(Objects.requireNonNull(listener), executorService);
     }
 
-    /**
-     * Execute task in specified worker or if queue is not empty add it there
-     *
-     * @param task Task on which listener will be added.
-     * @param key  QueueKey specifying que where task will be executed
-     * @return ListenableFuture that can be used to extract result or cancel
-     */
-    private <T> ListenableFuture<T> executeTaskInSequence(final Callable<T> task, final QueueKey key) {
-        synchronized (dequeMap) {
-            if (!dequeMap.containsKey(key)) {
-                dequeMap.put(key, new ArrayDeque<>());
-            }
-        }
-        synchronized (dequeMap.get(key)) {
-            SettableListenableFuture<T> future = new SettableListenableFuture<>(task, getExecutor(key.workerType));
-            dequeMap.get(key).addLast(future);
-            if (dequeMap.get(key).size() == 1) {
-                ListenableFuture<T> callback = future.getExecutor().submit(future.getTask());
-                callback.addListener(() -> {
-                    synchronized (dequeMap.get(key)) {
-                        dequeMap.get(key).pollFirst();
-                        sequenceRecursion(key);
-                    }
-                }, getExecutor(key.workerType));
-                return callback;
-            } else {
-                return future;
-            }
-        }
-    }
-
-    /**
-     * Recursively call next task in queue
-     *
-     * @param key QueueKey specifying que where task will be executed
-     */
-    private void sequenceRecursion(final QueueKey key) {
-        SettableListenableFuture future = dequeMap.get(key).peekFirst();
-        if (future != null) {
-            if (!future.isDone()) {
-                future.setFuture(future.getExecutor().submit(future.getTask())).addListener(() -> {
-                    synchronized (dequeMap.get(key)) {
-                        dequeMap.get(key).pollFirst();
-                        sequenceRecursion(key);
-                    }
-                }, future.getExecutor());
-            } else {
-                dequeMap.get(key).pollFirst();
-                sequenceRecursion(key);
-            }
-        }
-    }
-
-    /**
-     * Cancel all remaining tasks in queue
-     *
-     * @param mayInterruptIfRunning if the thread executing this
-     *                              task should be interrupted; otherwise, in-progress tasks are allowed
-     *                              to complete
-     * @param key                   QueueKey specifying que where task will be executed
-     */
-    private void cancelTasksInSequence(final boolean mayInterruptIfRunning, QueueKey key) {
-        synchronized (dequeMap) {
-            if (dequeMap.get(key) == null) {
-                return;
-            }
-        }
-        synchronized (dequeMap.get(key)) {
-            dequeMap.get(key)
-                    .stream()
-                    .filter(task -> !task.isDone())
-                    .forEach(task -> task.cancel(mayInterruptIfRunning));
-            dequeMap.get(key).clear();
-        }
-    }
-
     /**
      * @param threads  num of uses threads
      * @param poolName Pool name displayed in logs
@@ -335,17 +586,7 @@ public class ThreadsWorker implements AutoCloseable {
         } else {
             threadFactory = new ThreadFactoryBuilder().setNameFormat(poolName + "-%d").build();
         }
-        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
-                threadFactory) {
-
-            @Override
-            protected void afterExecute(Runnable runnable, Throwable throwable) {
-                super.afterExecute(runnable, throwable);
-                if (Objects.nonNull(throwable)) {
-                    LOG.debug("Task {} failed with {}", runnable, throwable);
-                }
-            }
-        };
+        return new MeteredThreadPoolExecutor(threads, threadFactory);
     }
 
     /**
@@ -374,6 +615,17 @@ public class ThreadsWorker implements AutoCloseable {
 
     @Override
     public void close() {
+        synchronized (this) {
+            poolSizers.forEach(f -> f.cancel(false));
+            poolSizers.clear();
+            if (instrumentation != null) {
+                instrumentation.unregister();
+            }
+            if (eventLoopGroups != null) {
+                eventLoopGroups.close();
+            }
+        }
+        timer.close();
         scheduledExecutorService.shutdown();
         executorService.shutdown();
         executorServiceInbound.shutdown();
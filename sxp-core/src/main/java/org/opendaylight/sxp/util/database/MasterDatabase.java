@@ -9,10 +9,12 @@
 package org.opendaylight.sxp.util.database;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import org.opendaylight.sxp.util.database.spi.MasterDatabaseInf;
+import org.opendaylight.sxp.util.inet.BinaryPrefix;
 import org.opendaylight.sxp.util.time.TimeConv;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.SxpBindingFields;
@@ -49,7 +51,7 @@ public abstract class MasterDatabase implements MasterDatabaseInf {
                             b.getIpPrefix());
             if (binding == null || getPeerSequenceLength(b) < getPeerSequenceLength(binding) || (
                     getPeerSequenceLength(b) == getPeerSequenceLength(binding)
-                            && TimeConv.toLong(b.getTimestamp()) > TimeConv.toLong(binding.getTimestamp()))) {
+                            && TimeConv.compare(b.getTimestamp(), binding.getTimestamp()) > 0)) {
                 prefixMap.put(b.getIpPrefix(), new MasterDatabaseBindingBuilder(b).build());
                 remove.apply(b.getIpPrefix());
             }
@@ -57,6 +59,11 @@ public abstract class MasterDatabase implements MasterDatabaseInf {
         return prefixMap;
     }
 
+    @Override
+    public Iterator<MasterDatabaseBinding> getBindingsSnapshot() {
+        return getBindings().iterator();
+    }
+
     public static <T extends SxpBindingFields> int getPeerSequenceLength(T b) {
         return b == null || b.getPeerSequence() == null
                 || b.getPeerSequence().getPeer() == null ? 0 : b.getPeerSequence().getPeer().size();
@@ -72,9 +79,7 @@ public abstract class MasterDatabase implements MasterDatabaseInf {
     private static <T extends SxpBindingFields> boolean ignoreBinding(T binding) {
         if (binding == null)
             return true;
-        return binding.getIpPrefix().getIpv6Prefix() != null && "0:0:0:0:0:0:0:0/0".equals(
-                binding.getIpPrefix().getIpv6Prefix().getValue()) || (binding.getIpPrefix().getIpv4Prefix() != null
-                && "0.0.0.0/0".equals(binding.getIpPrefix().getIpv4Prefix().getValue()));
+        return BinaryPrefix.of(binding.getIpPrefix()).isDefault();
     }
 
     @Override
@@ -9,11 +9,12 @@
 package org.opendaylight.sxp.util.database;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import org.opendaylight.sxp.util.inet.BinaryPrefix;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.SxpBindingFields;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBinding;
@@ -24,39 +25,49 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.mast
  */
 public class MasterDatabaseImpl extends MasterDatabase {
 
-    private final Map<IpPrefix, MasterDatabaseBinding> bindingMap = new HashMap<>();
-    private final Map<IpPrefix, MasterDatabaseBinding> localBindingMap = new HashMap<>();
+    private final Map<BinaryPrefix, MasterDatabaseBinding> bindingMap = new HashMap<>();
+    private final Map<BinaryPrefix, MasterDatabaseBinding> localBindingMap = new HashMap<>();
 
     @Override
     synchronized public List<MasterDatabaseBinding> getBindings() {
         List<MasterDatabaseBinding> bindings = new ArrayList<>(bindingMap.values());
-        Set<IpPrefix>
-                ipPrefixSet =
-                bindings.parallelStream().map(SxpBindingFields::getIpPrefix).collect(Collectors.toSet());
-        getLocalBindings().forEach(b -> {
-            if (!ipPrefixSet.contains(b.getIpPrefix()))
+        localBindingMap.forEach((p, b) -> {
+            if (!bindingMap.containsKey(p))
                 bindings.add(b);
         });
         return bindings;
     }
 
+    @Override
+    synchronized public Iterator<MasterDatabaseBinding> getBindingsSnapshot() {
+        MasterDatabaseBinding[] snapshot = new MasterDatabaseBinding[bindingMap.size() + localBindingMap.size()];
+        int size = 0;
+        for (MasterDatabaseBinding binding : bindingMap.values()) {
+            snapshot[size++] = binding;
+        }
+        for (Map.Entry<BinaryPrefix, MasterDatabaseBinding> entry : localBindingMap.entrySet()) {
+            if (!bindingMap.containsKey(entry.getKey()))
+                snapshot[size++] = entry.getValue();
+        }
+        return Arrays.asList(snapshot).subList(0, size).iterator();
+    }
+
     @Override
     synchronized public List<MasterDatabaseBinding> getLocalBindings() {
         return new ArrayList<>(localBindingMap.values());
     }
 
     private <T extends SxpBindingFields> List<MasterDatabaseBinding> addBindings(List<T> bindings,
-            Map<IpPrefix, MasterDatabaseBinding> map) {
+            Map<BinaryPrefix, MasterDatabaseBinding> map) {
         List<MasterDatabaseBinding> added = new ArrayList<>();
         if (map == null || bindings == null || bindings.isEmpty())
             return added;
         Map<IpPrefix, MasterDatabaseBinding>
                 prefixMap =
-                filterIncomingBindings(bindings, map::get, p -> map.remove(p) != null);
-        if (!prefixMap.isEmpty()) {
-            map.putAll(prefixMap);
-            added.addAll(prefixMap.values());
-        }
+                filterIncomingBindings(bindings, p -> map.get(BinaryPrefix.of(p)),
+                        p -> map.remove(BinaryPrefix.of(p)) != null);
+        prefixMap.forEach((p, b) -> map.put(BinaryPrefix.of(p), b));
+        added.addAll(prefixMap.values());
         return added;
     }
 
@@ -67,16 +78,17 @@ public class MasterDatabaseImpl extends MasterDatabase {
      * @return Deleted bindings
      */
     private <T extends SxpBindingFields> List<MasterDatabaseBinding> deleteBindings(List<T> bindings,
-            Map<IpPrefix, MasterDatabaseBinding> map) {
+            Map<BinaryPrefix, MasterDatabaseBinding> map) {
         List<MasterDatabaseBinding> removed = new ArrayList<>();
         if (map == null || bindings == null || bindings.isEmpty())
             return removed;
         bindings.forEach(b -> {
-            if (map.containsKey(b.getIpPrefix()) && map.get(b.getIpPrefix())
-                    .getSecurityGroupTag()
+            final BinaryPrefix prefix = BinaryPrefix.of(b.getIpPrefix());
+            final MasterDatabaseBinding binding = map.get(prefix);
+            if (binding != null && binding.getSecurityGroupTag()
                     .getValue()
                     .equals(b.getSecurityGroupTag().getValue())) {
-                removed.add(map.remove(b.getIpPrefix()));
+                removed.add(map.remove(prefix));
             }
         });
         return removed;
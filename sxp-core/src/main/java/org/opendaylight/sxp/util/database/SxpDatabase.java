@@ -19,6 +19,7 @@ import java.util.stream.Collectors;
 import org.opendaylight.sxp.core.SxpNode;
 import org.opendaylight.sxp.util.database.spi.SxpDatabaseInf;
 import org.opendaylight.sxp.util.filtering.SxpBindingFilter;
+import org.opendaylight.sxp.util.inet.BinaryPrefix;
 import org.opendaylight.sxp.util.time.TimeConv;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.SxpBindingFields;
@@ -174,9 +175,7 @@ public abstract class SxpDatabase implements SxpDatabaseInf {
     private static <T extends SxpBindingFields> boolean ignoreBinding(T binding) {
         if (binding == null)
             return true;
-        return binding.getIpPrefix().getIpv6Prefix() != null && "0:0:0:0:0:0:0:0/0".equals(
-                binding.getIpPrefix().getIpv6Prefix().getValue()) || (binding.getIpPrefix().getIpv4Prefix() != null
-                && "0.0.0.0/0".equals(binding.getIpPrefix().getIpv4Prefix().getValue()));
+        return BinaryPrefix.of(binding.getIpPrefix()).isDefault();
     }
 
     /**
@@ -223,7 +222,7 @@ public abstract class SxpDatabase implements SxpDatabaseInf {
                 if (binding == null || MasterDatabase.getPeerSequenceLength(b) < MasterDatabase.getPeerSequenceLength(
                         binding) || (
                         MasterDatabase.getPeerSequenceLength(b) == MasterDatabase.getPeerSequenceLength(binding)
-                                && TimeConv.toLong(b.getTimestamp()) > TimeConv.toLong(binding.getTimestamp()))) {
+                                && TimeConv.compare(b.getTimestamp(), binding.getTimestamp()) > 0)) {
                     prefixMap.put(b.getIpPrefix(), b);
                 }
             });
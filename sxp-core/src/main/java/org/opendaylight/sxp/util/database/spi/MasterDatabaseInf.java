@@ -8,6 +8,7 @@
 
 package org.opendaylight.sxp.util.database.spi;
 
+import java.util.Iterator;
 import java.util.List;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.SxpBindingFields;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBinding;
@@ -22,6 +23,14 @@ public interface MasterDatabaseInf {
      */
     List<MasterDatabaseBinding> getBindings();
 
+    /**
+     * Creates cursor over point-in-time copy of all bindings stored in MasterDatabase,
+     * changes made to MasterDatabase after this call are not visible through returned cursor
+     *
+     * @return Iterator over all bindings stored in MasterDatabase
+     */
+    Iterator<MasterDatabaseBinding> getBindingsSnapshot();
+
     /**
      * @return Local bindings stored in MasterDatabase
      */
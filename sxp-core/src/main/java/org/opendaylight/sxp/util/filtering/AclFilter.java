@@ -8,12 +8,8 @@
 
 package org.opendaylight.sxp.util.filtering;
 
-import static org.opendaylight.sxp.util.ArraysUtil.getBitAddress;
-
-import java.util.BitSet;
 import java.util.Comparator;
-import org.opendaylight.sxp.util.inet.IpPrefixConv;
-import org.opendaylight.sxp.util.inet.Search;
+import org.opendaylight.sxp.util.inet.BinaryPrefix;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.SxpBindingFields;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.FilterEntriesFields;
@@ -84,18 +80,10 @@ public final class AclFilter<T extends FilterEntriesFields> extends SxpBindingFi
                 (aclMatch.getIpAddress().getIpv4Address() != null && aclMatch.getWildcardMask().getIpv4Address() != null
                         && prefix.getIpv4Prefix() != null) || (aclMatch.getIpAddress().getIpv6Address() != null
                         && aclMatch.getWildcardMask().getIpv6Address() != null && prefix.getIpv6Prefix() != null))) {
-            boolean result = true;
-            int addressLength = prefix.getIpv4Prefix() != null ? 32 : 128;
-            BitSet address = getBitAddress(Search.getAddress(aclMatch.getIpAddress()));
-            BitSet addressMask = getBitAddress(Search.getAddress(aclMatch.getWildcardMask()));
-            BitSet binding = getBitAddress(IpPrefixConv.toString(prefix).split("/")[0]);
-
-            for (int i = 0; i < addressLength; i++) {
-                if (!addressMask.get(i) && address.get(i) != binding.get(i)) {
-                    result = false;
-                    break;
-                }
-            }
+            boolean
+                    result =
+                    BinaryPrefix.of(aclMatch.getIpAddress())
+                            .matchesWildcard(BinaryPrefix.of(prefix), BinaryPrefix.of(aclMatch.getWildcardMask()));
             if (aclMatch.getMask() != null) {
                 return result && filterAclMask(aclMatch.getMask(), prefix);
             }
@@ -114,12 +102,12 @@ public final class AclFilter<T extends FilterEntriesFields> extends SxpBindingFi
      */
     private boolean filterAclMask(Mask mask, IpPrefix prefix) {
         if (mask != null && mask.getAddressMask() != null && mask.getWildcardMask() != null) {
-            BitSet bitMask = getBitAddress(Search.getAddress(mask.getAddressMask()));
-            BitSet bitWildcardMask = getBitAddress(Search.getAddress(mask.getWildcardMask()));
-            int bindingMask = Integer.parseInt(IpPrefixConv.toString(prefix).split("/")[1]);
-            if (bitWildcardMask.get(bindingMask) || !bitMask.get(bindingMask)) {
+            BinaryPrefix bitMask = BinaryPrefix.of(mask.getAddressMask());
+            BinaryPrefix bitWildcardMask = BinaryPrefix.of(mask.getWildcardMask());
+            int bindingMask = BinaryPrefix.of(prefix).getLength();
+            if (bitWildcardMask.testBit(bindingMask) || !bitMask.testBit(bindingMask)) {
                 for (bindingMask--; bindingMask >= 0; bindingMask--) {
-                    if (!bitWildcardMask.get(bindingMask) && !bitMask.get(bindingMask)) {
+                    if (!bitWildcardMask.testBit(bindingMask) && !bitMask.testBit(bindingMask)) {
                         return false;
                     }
                 }
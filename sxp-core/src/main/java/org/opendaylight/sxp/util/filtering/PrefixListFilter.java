@@ -8,11 +8,8 @@
 
 package org.opendaylight.sxp.util.filtering;
 
-import static org.opendaylight.sxp.util.ArraysUtil.getBitAddress;
-
-import java.util.BitSet;
 import java.util.Comparator;
-import org.opendaylight.sxp.util.inet.IpPrefixConv;
+import org.opendaylight.sxp.util.inet.BinaryPrefix;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.SxpBindingFields;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.FilterEntriesFields;
@@ -88,15 +85,13 @@ public class PrefixListFilter<T extends FilterEntriesFields> extends SxpBindingF
         if (prefixListMatch != null && (
                 (prefixListMatch.getIpPrefix().getIpv4Prefix() != null && prefix.getIpv4Prefix() != null) || (
                         prefixListMatch.getIpPrefix().getIpv6Prefix() != null && prefix.getIpv6Prefix() != null))) {
-            BitSet address = getBitAddress(IpPrefixConv.toString(prefixListMatch.getIpPrefix()).split("/")[0]);
-            int addressMask = Integer.parseInt(IpPrefixConv.toString(prefixListMatch.getIpPrefix()).split("/")[1]);
-            BitSet binding = getBitAddress(IpPrefixConv.toString(prefix).split("/")[0]);
-            int bindingMask = Integer.parseInt(IpPrefixConv.toString(prefix).split("/")[1]);
+            BinaryPrefix address = BinaryPrefix.of(prefixListMatch.getIpPrefix());
+            int addressMask = address.getLength();
+            BinaryPrefix binding = BinaryPrefix.of(prefix);
+            int bindingMask = binding.getLength();
 
-            for (int i = 0; i < addressMask; i++) {
-                if (binding.get(i) != address.get(i)) {
-                    return 0;
-                }
+            if (!binding.matches(address, addressMask)) {
+                return 0;
             }
             if (prefixListMatch.getMask() != null) {
                 int mask = prefixListMatch.getMask().getMaskValue().getValue();
@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.util.inet;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.net.InetAddresses;
+import io.netty.buffer.ByteBuf;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+
+/**
+ * BinaryPrefix class is canonical binary form of IpPrefix, address is held as two longs
+ * with most significant bit of address at highest bit of first long and IPv4 address occupying upper half of it.
+ * Instances are interned and IpPrefixes created by {@link #toIpPrefix()} remember their binary form,
+ * so prefixes decoded from messages are parsed once and then compared, masked and encoded without Strings.
+ */
+public final class BinaryPrefix implements Comparable<BinaryPrefix> {
+
+    public static final long DEFAULT_CACHE_SIZE = 1 << 18;
+
+    private static final Interner<BinaryPrefix> INTERNER = Interners.newWeakInterner();
+    /**
+     * Binary forms of IpPrefixes created by {@link #toIpPrefix()}, weak keys are compared by identity
+     * so only those instances hit, other instances are parsed without being inserted
+     */
+    private static final Cache<IpPrefix, BinaryPrefix>
+            PREFIX_CACHE =
+            CacheBuilder.newBuilder().weakKeys().maximumSize(DEFAULT_CACHE_SIZE).build();
+
+    private final boolean ipv6;
+    private final long high, low;
+    private final int length;
+
+    /**
+     * @param ipv6   If address is IPv6
+     * @param high   Upper 64 bits of address
+     * @param low    Lower 64 bits of address
+     * @param length Length of prefix
+     */
+    private BinaryPrefix(boolean ipv6, long high, long low, int length) {
+        if (length < 0 || length > (ipv6 ? 128 : 32)) {
+            throw new IllegalArgumentException("Illegal prefix length " + length);
+        }
+        this.ipv6 = ipv6;
+        this.high = high;
+        this.low = low;
+        this.length = length;
+    }
+
+    /**
+     * Gets binary form of IpPrefix, prefix is parsed unless it was created by {@link #toIpPrefix()}
+     *
+     * @param prefix IpPrefix to be converted
+     * @return Interned BinaryPrefix
+     * @throws IllegalArgumentException If prefix has illegal format
+     */
+    public static BinaryPrefix of(IpPrefix prefix) {
+        final BinaryPrefix binary = PREFIX_CACHE.getIfPresent(Preconditions.checkNotNull(prefix));
+        return binary != null ? binary : INTERNER.intern(parse(prefix.getValue(), prefix.getIpv4Prefix() == null));
+    }
+
+    /**
+     * Gets binary form of IpAddress as host prefix
+     *
+     * @param address IpAddress to be converted
+     * @return Interned BinaryPrefix
+     * @throws IllegalArgumentException If address has illegal format
+     */
+    public static BinaryPrefix of(IpAddress address) {
+        final boolean ipv6 = Preconditions.checkNotNull(address).getIpv4Address() == null;
+        final char[] value = Search.getAddress(address).toCharArray();
+        return INTERNER.intern(parseAddress(value, 0, value.length, ipv6, ipv6 ? 128 : 32));
+    }
+
+    /**
+     * @param address InetAddress to be converted
+     * @return Interned host BinaryPrefix
+     */
+    public static BinaryPrefix of(InetAddress address) {
+        final byte[] bytes = Preconditions.checkNotNull(address).getAddress();
+        return of(bytes, bytes.length * 8);
+    }
+
+    /**
+     * @param address Address of prefix, 4 or 16 bytes long
+     * @param length  Length of prefix
+     * @return Interned BinaryPrefix
+     * @throws IllegalArgumentException If address or length are illegal
+     */
+    public static BinaryPrefix of(byte[] address, int length) {
+        Preconditions.checkArgument(address.length == 4 || address.length == 16, "Illegal address length %s",
+                address.length);
+        long high = 0, low = 0;
+        for (int i = 0; i < 8; i++) {
+            high = high << 8 | (i < address.length ? address[i] & 0xFF : 0);
+            low = low << 8 | (i + 8 < address.length ? address[i + 8] & 0xFF : 0);
+        }
+        return INTERNER.intern(new BinaryPrefix(address.length == 16, high, low, length));
+    }
+
+    /**
+     * Parse prefix in form address/length
+     *
+     * @param value Characters of prefix
+     * @param ipv6  If address is IPv6
+     * @return Parsed BinaryPrefix
+     */
+    private static BinaryPrefix parse(char[] value, boolean ipv6) {
+        final int start = value.length > 0 && value[0] == '/' ? 1 : 0;
+        int slash = value.length - 1;
+        while (slash >= start && value[slash] != '/') {
+            slash--;
+        }
+        if (slash <= start || slash == value.length - 1) {
+            throw illegalPrefix(value);
+        }
+        return parseAddress(value, start, slash, ipv6, parseNumber(value, slash + 1, value.length));
+    }
+
+    /**
+     * Parse address part of prefix, IPv4 addresses are parsed without creating InetAddress
+     *
+     * @param value  Characters containing address
+     * @param from   Index of first character of address
+     * @param to     Index behind last character of address
+     * @param ipv6   If address is IPv6
+     * @param length Length of prefix
+     * @return Parsed BinaryPrefix
+     */
+    private static BinaryPrefix parseAddress(char[] value, int from, int to, boolean ipv6, int length) {
+        if (ipv6) {
+            return of(InetAddresses.forString(new String(value, from, to - from)).getAddress(), length);
+        }
+        long address = 0;
+        int octets = 0;
+        for (int i = from, dot; i < to; i = dot + 1) {
+            dot = i;
+            while (dot < to && value[dot] != '.') {
+                dot++;
+            }
+            final int octet = parseNumber(value, i, dot);
+            if (octet > 0xFF || ++octets > 4) {
+                throw illegalPrefix(value);
+            }
+            address = address << 8 | octet;
+        }
+        if (octets != 4) {
+            throw illegalPrefix(value);
+        }
+        return new BinaryPrefix(false, address << 32, 0, length);
+    }
+
+    /**
+     * @param value Characters containing decimal number
+     * @param from  Index of first digit
+     * @param to    Index behind last digit
+     * @return Parsed number
+     */
+    private static int parseNumber(char[] value, int from, int to) {
+        if (from >= to || to - from > 3) {
+            throw illegalPrefix(value);
+        }
+        int number = 0;
+        for (int i = from; i < to; i++) {
+            if (value[i] < '0' || value[i] > '9') {
+                throw illegalPrefix(value);
+            }
+            number = number * 10 + value[i] - '0';
+        }
+        return number;
+    }
+
+    /**
+     * @param value Characters of prefix
+     * @return Exception describing illegal prefix
+     */
+    private static IllegalArgumentException illegalPrefix(char[] value) {
+        return new IllegalArgumentException("Illegal prefix " + String.valueOf(value));
+    }
+
+    /**
+     * @param bits Number of leading bits
+     * @return Mask of leading bits in upper long
+     */
+    private static long highMask(int bits) {
+        return bits <= 0 ? 0 : bits >= 64 ? -1L : -1L << (64 - bits);
+    }
+
+    /**
+     * @param bits Number of leading bits
+     * @return Mask of leading bits in lower long
+     */
+    private static long lowMask(int bits) {
+        return bits <= 64 ? 0 : bits >= 128 ? -1L : -1L << (128 - bits);
+    }
+
+    public boolean isIpv6() {
+        return ipv6;
+    }
+
+    /**
+     * @return Length of prefix
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @return Number of bits of address
+     */
+    public int getAddressBits() {
+        return ipv6 ? 128 : 32;
+    }
+
+    /**
+     * @return If prefix represents single host
+     */
+    public boolean isHost() {
+        return length == getAddressBits();
+    }
+
+    /**
+     * @return Number of host addresses covered by prefix, limited by {@link Long#MAX_VALUE}
+     */
+    public long getHostCount() {
+        final int hostBits = getAddressBits() - length;
+        return hostBits >= Long.SIZE - 1 ? Long.MAX_VALUE : 1L << hostBits;
+    }
+
+    /**
+     * @return If prefix is 0.0.0.0/0 or 0:0:0:0:0:0:0:0/0
+     */
+    public boolean isDefault() {
+        return length == 0 && high == 0 && low == 0;
+    }
+
+    /**
+     * @param bit Index of bit counted from most significant bit of address
+     * @return If bit is set, bits outside of address are not set
+     */
+    public boolean testBit(int bit) {
+        if (bit < 0 || bit >= getAddressBits()) {
+            return false;
+        }
+        return ((bit < 64 ? high >>> (63 - bit) : low >>> (127 - bit)) & 1) != 0;
+    }
+
+    /**
+     * @param index Index of byte of address
+     * @return Byte of address
+     */
+    public byte getByte(int index) {
+        return (byte) (index < 8 ? high >>> (56 - 8 * index) : low >>> (56 - 8 * (index - 8)));
+    }
+
+    /**
+     * @return New Byte Array containing address
+     */
+    public byte[] getAddress() {
+        final byte[] address = new byte[ipv6 ? 16 : 4];
+        for (int i = 0; i < address.length; i++) {
+            address[i] = getByte(i);
+        }
+        return address;
+    }
+
+    /**
+     * Writes leading bytes of address into buffer
+     *
+     * @param buffer Buffer where address will be written
+     * @param bytes  Number of leading bytes to be written
+     */
+    public void writeAddress(ByteBuf buffer, int bytes) {
+        for (int i = 0; i < bytes; i++) {
+            buffer.writeByte(getByte(i));
+        }
+    }
+
+    /**
+     * @param other BinaryPrefix to compare
+     * @param bits  Number of leading bits compared
+     * @return If both prefixes are of same family and their leading bits are equal
+     */
+    public boolean matches(BinaryPrefix other, int bits) {
+        return ipv6 == other.ipv6 && ((high ^ other.high) & highMask(bits)) == 0
+                && ((low ^ other.low) & lowMask(bits)) == 0;
+    }
+
+    /**
+     * @param other    BinaryPrefix to compare
+     * @param wildcard Wildcard whose set bits are ignored
+     * @return If both prefixes are of same family and all bits not set in wildcard are equal
+     */
+    public boolean matchesWildcard(BinaryPrefix other, BinaryPrefix wildcard) {
+        return ipv6 == other.ipv6 && ((high ^ other.high) & ~wildcard.high) == 0
+                && ((low ^ other.low) & ~wildcard.low) == 0;
+    }
+
+    /**
+     * @return Prefix with bits behind its length cleared
+     */
+    public BinaryPrefix getNetwork() {
+        final long networkHigh = high & highMask(length), networkLow = low & lowMask(length);
+        if (networkHigh == high && networkLow == low) {
+            return this;
+        }
+        return INTERNER.intern(new BinaryPrefix(ipv6, networkHigh, networkLow, length));
+    }
+
+    /**
+     * @param index Index of host within prefix
+     * @return Host prefix with specified index
+     * @throws IllegalArgumentException If index is out of prefix
+     */
+    public BinaryPrefix getHost(long index) {
+        Preconditions.checkArgument(index >= 0 && index < getHostCount(), "Host index out of prefix");
+        final BinaryPrefix network = getNetwork();
+        long hostHigh = network.high, hostLow = network.low;
+        if (ipv6) {
+            hostLow += index;
+            if (Long.compareUnsigned(hostLow, network.low) < 0) {
+                hostHigh++;
+            }
+        } else {
+            hostHigh += index << 32;
+        }
+        return INTERNER.intern(new BinaryPrefix(ipv6, hostHigh, hostLow, getAddressBits()));
+    }
+
+    /**
+     * @return InetAddress of prefix
+     */
+    public InetAddress toInetAddress() {
+        try {
+            return InetAddress.getByAddress(getAddress());
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates IpPrefix and caches its binary form
+     *
+     * @return IpPrefix representing this prefix
+     */
+    public IpPrefix toIpPrefix() {
+        final IpPrefix prefix = new IpPrefix(toString().toCharArray());
+        PREFIX_CACHE.put(prefix, this);
+        return prefix;
+    }
+
+    @Override
+    public int compareTo(BinaryPrefix other) {
+        int result = Boolean.compare(ipv6, other.ipv6);
+        if (result == 0) {
+            result = Long.compareUnsigned(high, other.high);
+        }
+        if (result == 0) {
+            result = Long.compareUnsigned(low, other.low);
+        }
+        return result == 0 ? Integer.compare(length, other.length) : result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BinaryPrefix)) {
+            return false;
+        }
+        final BinaryPrefix that = (BinaryPrefix) o;
+        return ipv6 == that.ipv6 && high == that.high && low == that.low && length == that.length;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(high);
+        result = 31 * result + Long.hashCode(low);
+        return 31 * result + (ipv6 ? 256 : 0) + length;
+    }
+
+    /**
+     * @return Prefix in same format as prefixes decoded from messages
+     */
+    @Override
+    public String toString() {
+        if (ipv6) {
+            final InetAddress address = toInetAddress();
+            // IPv4 mapped addresses are returned as IPv4 by InetAddress
+            return (address instanceof Inet4Address ? "::ffff:" : "") + address.getHostAddress() + "/" + length;
+        }
+        return ((high >>> 56) & 0xFF) + "." + ((high >>> 48) & 0xFF) + "." + ((high >>> 40) & 0xFF) + "." + (
+                (high >>> 32) & 0xFF) + "/" + length;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.util.inet;
+
+import com.google.common.base.Preconditions;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.SxpBindingFields;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBindingBuilder;
+
+/**
+ * ExpandedBindings class represents read only view of bindings where subnet prefixes are
+ * replaced by their expanded host prefixes. Source list is not modified and expanded
+ * bindings are created only when they are accessed.
+ *
+ * @param <T> SxpBindingFields ancestors
+ */
+public final class ExpandedBindings<T extends SxpBindingFields> extends AbstractList<T> implements RandomAccess {
+
+    private final List<T> sources;
+    private final IpPrefix[][] expansions;
+    private final int[] offsets;
+    private final int size;
+
+    /**
+     * @param bindings List of bindings that will be expanded
+     * @param quantity Expansion limit of each subnet binding
+     * @param cache    Cache of already expanded subnet prefixes
+     */
+    public ExpandedBindings(List<T> bindings, int quantity, PrefixExpansionCache cache) {
+        Preconditions.checkNotNull(cache);
+        int capacity = bindings == null ? 0 : bindings.size();
+        this.sources = new ArrayList<>(capacity);
+        this.expansions = new IpPrefix[capacity][];
+        this.offsets = new int[capacity];
+        int length = 0;
+        if (bindings != null) {
+            for (T binding : bindings) {
+                IpPrefix[] expansion = null;
+                int count = 1;
+                if (quantity > 0 && !isHost(binding.getIpPrefix())) {
+                    expansion = cache.expand(binding.getIpPrefix(), quantity);
+                    count = Math.min(expansion.length, quantity);
+                }
+                if (count > 0) {
+                    expansions[sources.size()] = expansion;
+                    offsets[sources.size()] = length;
+                    sources.add(binding);
+                    length += count;
+                }
+            }
+        }
+        this.size = length;
+    }
+
+    /**
+     * @param prefix IpPrefix to be checked
+     * @return If prefix represents single host
+     */
+    private static boolean isHost(IpPrefix prefix) {
+        return BinaryPrefix.of(prefix).isHost();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int source = Arrays.binarySearch(offsets, 0, sources.size(), index);
+        if (source < 0) {
+            source = -source - 2;
+        }
+        T binding = sources.get(source);
+        if (expansions[source] == null) {
+            return binding;
+        }
+        return (T) new MasterDatabaseBindingBuilder(binding).setIpPrefix(expansions[source][index - offsets[source]])
+                .build();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
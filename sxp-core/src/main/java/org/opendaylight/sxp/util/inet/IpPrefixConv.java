@@ -9,6 +9,8 @@
 package org.opendaylight.sxp.util.inet;
 
 import com.google.common.net.InetAddresses;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import java.net.Inet4Address;
 import java.net.Inet6Address;
 import java.net.InetAddress;
@@ -18,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.opendaylight.sxp.core.Configuration;
 import org.opendaylight.sxp.util.ArraysUtil;
+import org.opendaylight.sxp.util.exception.message.attribute.AddressLengthException;
 import org.opendaylight.sxp.util.exception.unknown.UnknownPrefixException;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 
@@ -34,27 +37,36 @@ public final class IpPrefixConv {
     }
 
     /**
-     * Decode Byte Array representing IpPrefix into IpPrefix
+     * Decode IpPrefix at reader index of ByteBuf and move reader index behind it
      *
      * @param ipPrefixType Type of IpPrefix (IPv4/IPv6)
-     * @param array        Array representing IpPrefix
+     * @param buffer       ByteBuf representing IpPrefix
      * @param compact      If prefix is compact
      * @return IpPrefix decoded from specified data
      * @throws UnknownPrefixException If address isn't in IPv4 or IPv6 format
      * @throws UnknownHostException   If address has illegal format
+     * @throws AddressLengthException If prefix exceeds readable bytes of ByteBuf
      */
-    private static IpPrefix _decode(IpPrefixType ipPrefixType, byte[] array, boolean compact)
-            throws UnknownPrefixException, UnknownHostException {
-        int blength = getBytesLength(array[0]);
-        byte[] bprefix = ArraysUtil.readBytes(array, compact ? 1 : 4, blength);
-
-        byte[] prefix = ArraysUtil.copy(bprefix);
+    private static IpPrefix _decode(IpPrefixType ipPrefixType, ByteBuf buffer, boolean compact)
+            throws UnknownPrefixException, UnknownHostException, AddressLengthException {
+        if (buffer.readableBytes() < (compact ? 1 : 4)) {
+            throw new AddressLengthException();
+        }
+        int length = buffer.readUnsignedByte();
+        if (!compact) {
+            buffer.skipBytes(3);
+        }
+        int blength = getBytesLength(length);
         // Add complement bytes.
-        if (ipPrefixType.equals(IpPrefixType.IPV4_PREFIX) && bprefix.length < 4) {
-            prefix = ArraysUtil.combine(prefix, new byte[4 - prefix.length]);
-        } else if (ipPrefixType.equals(IpPrefixType.IPV6_PREFIX) && bprefix.length < 16) {
-            prefix = ArraysUtil.combine(prefix, new byte[16 - prefix.length]);
+        byte[] prefix = new byte[ipPrefixType.equals(IpPrefixType.IPV4_PREFIX) ? 4 : 16];
+        if (blength > prefix.length) {
+            throw new UnknownPrefixException("Not " + (prefix.length == 4 ? "IPv4" : "IPv6") + " format [\"/"
+                    + length + "\"]");
         }
+        if (buffer.readableBytes() < blength) {
+            throw new AddressLengthException();
+        }
+        buffer.readBytes(prefix, 0, blength);
 
         InetAddress inetAddress = InetAddress.getByAddress(prefix);
         if (ipPrefixType.equals(IpPrefixType.IPV4_PREFIX) && !(inetAddress instanceof Inet4Address)) {
@@ -62,12 +74,7 @@ public final class IpPrefixConv {
         } else if (ipPrefixType.equals(IpPrefixType.IPV6_PREFIX) && !(inetAddress instanceof Inet6Address)) {
             throw new UnknownPrefixException("Not IPv6 format [\"" + inetAddress + "\"]");
         }
-        String _prefix = inetAddress.toString();
-        if (_prefix.startsWith("/")) {
-            _prefix = _prefix.substring(1);
-        }
-        _prefix += "/" + (0xFF & array[0]);
-        return new IpPrefix(_prefix.toCharArray());
+        return BinaryPrefix.of(prefix, length).toIpPrefix();
     }
 
     /**
@@ -89,23 +96,22 @@ public final class IpPrefixConv {
     }
 
     /**
-     * Decode Byte Array representing IpPrefixes into List of IpPrefixes
+     * Decode readable bytes of ByteBuf representing IpPrefixes into List of IpPrefixes
      *
      * @param ipPrefixType Type of IpPrefix (IPv4/IPv6)
-     * @param array        Array representing IpPrefixes
+     * @param buffer       ByteBuf representing IpPrefixes
      * @param compact      If prefixes are compact
      * @return List of IpPrefixes decoded from specified data
      * @throws UnknownPrefixException If one of addresses isn't in IPv4 or IPv6 format
      * @throws UnknownHostException   If one of addresses has illegal format
+     * @throws AddressLengthException If one of prefixes exceeds provided data
      */
-    private static List<IpPrefix> decode(IpPrefixConv.IpPrefixType ipPrefixType, byte[] array, boolean compact)
-            throws UnknownPrefixException, UnknownHostException {
+    private static List<IpPrefix> decode(IpPrefixConv.IpPrefixType ipPrefixType, ByteBuf buffer, boolean compact)
+            throws UnknownPrefixException, UnknownHostException, AddressLengthException {
         List<IpPrefix> prefixes = new ArrayList<>();
-        while (array != null && array.length != 0) {
+        while (buffer.isReadable()) {
             // Reserved octets (not)presented.
-            IpPrefix ipPrefix = _decode(ipPrefixType, array, compact);
-            prefixes.add(ipPrefix);
-            array = ArraysUtil.readBytes(array, (compact ? 1 : 4) + getBytesLength(getPrefixLength(ipPrefix)));
+            prefixes.add(_decode(ipPrefixType, buffer, compact));
         }
         return prefixes;
     }
@@ -118,10 +124,27 @@ public final class IpPrefixConv {
      * @return List of IpPrefixes decoded from specified data
      * @throws UnknownPrefixException If one of addresses isn't in IPv4
      * @throws UnknownHostException   If one of addresses has illegal format
+     * @throws AddressLengthException If one of prefixes exceeds provided data
      */
     public static List<IpPrefix> decodeIpv4(byte[] array, boolean compact)
-            throws UnknownHostException, UnknownPrefixException {
-        return decode(IpPrefixType.IPV4_PREFIX, array, compact);
+            throws UnknownHostException, UnknownPrefixException, AddressLengthException {
+        return readIpv4(array == null ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(array), compact);
+    }
+
+    /**
+     * Decode readable bytes of ByteBuf representing IpPrefixes(IPv4) into List of IpPrefixes,
+     * reader index is moved behind decoded data
+     *
+     * @param buffer  ByteBuf representing IpPrefixes
+     * @param compact If prefixes are compact
+     * @return List of IpPrefixes decoded from specified data
+     * @throws UnknownPrefixException If one of addresses isn't in IPv4
+     * @throws UnknownHostException   If one of addresses has illegal format
+     * @throws AddressLengthException If one of prefixes exceeds provided data
+     */
+    public static List<IpPrefix> readIpv4(ByteBuf buffer, boolean compact)
+            throws UnknownHostException, UnknownPrefixException, AddressLengthException {
+        return decode(IpPrefixType.IPV4_PREFIX, buffer, compact);
     }
 
     /**
@@ -132,10 +155,27 @@ public final class IpPrefixConv {
      * @return List of IpPrefixes decoded from specified data
      * @throws UnknownPrefixException If one of addresses isn't in IPv6
      * @throws UnknownHostException   If one of addresses has illegal format
+     * @throws AddressLengthException If one of prefixes exceeds provided data
      */
     public static List<IpPrefix> decodeIpv6(byte[] array, boolean compact)
-            throws UnknownHostException, UnknownPrefixException {
-        return decode(IpPrefixType.IPV6_PREFIX, array, compact);
+            throws UnknownHostException, UnknownPrefixException, AddressLengthException {
+        return readIpv6(array == null ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(array), compact);
+    }
+
+    /**
+     * Decode readable bytes of ByteBuf representing IpPrefixes(IPv6) into List of IpPrefixes,
+     * reader index is moved behind decoded data
+     *
+     * @param buffer  ByteBuf representing IpPrefixes
+     * @param compact If prefixes are compact
+     * @return List of IpPrefixes decoded from specified data
+     * @throws UnknownPrefixException If one of addresses isn't in IPv6
+     * @throws UnknownHostException   If one of addresses has illegal format
+     * @throws AddressLengthException If one of prefixes exceeds provided data
+     */
+    public static List<IpPrefix> readIpv6(ByteBuf buffer, boolean compact)
+            throws UnknownHostException, UnknownPrefixException, AddressLengthException {
+        return decode(IpPrefixType.IPV6_PREFIX, buffer, compact);
     }
 
     /**
@@ -146,7 +186,10 @@ public final class IpPrefixConv {
      * @return If IpPrefixes are equal
      */
     public static boolean equalTo(IpPrefix prefix1, IpPrefix prefix2) {
-        return toString(prefix1).equals(toString(prefix2));
+        if (prefix1 == null || prefix2 == null) {
+            return prefix1 == prefix2;
+        }
+        return BinaryPrefix.of(prefix1).equals(BinaryPrefix.of(prefix2));
     }
 
     /**
@@ -156,7 +199,7 @@ public final class IpPrefixConv {
      * @return Length of Byte Array for specified length
      */
     public static int getBytesLength(int prefixLength) {
-        return (int) Math.ceil((0xFF & prefixLength) / 8.0);
+        return ((0xFF & prefixLength) + 7) >> 3;
     }
 
     /**
@@ -166,12 +209,7 @@ public final class IpPrefixConv {
      * @return Length of specified IpPrefix
      */
     public static int getPrefixLength(IpPrefix ipPrefix) {
-        String _ipPrefix = new String(ipPrefix.getValue());
-        int i = _ipPrefix.lastIndexOf('/');
-        if (i == -1) {
-            return i;
-        }
-        return Integer.parseInt(_ipPrefix.substring(i + 1));
+        return BinaryPrefix.of(ipPrefix).getLength();
     }
 
     /**
@@ -211,20 +249,33 @@ public final class IpPrefixConv {
      * @return Byte Array representing specified IpPrefix
      */
     public static byte[] toBytes(IpPrefix prefix) {
-        String _prefix = new String(prefix.getValue());
-        if (_prefix.startsWith("/")) {
-            _prefix = _prefix.substring(1);
-        }
-        int i = _prefix.lastIndexOf('/');
-        if (i != -1) {
-            _prefix = _prefix.substring(0, i);
-        }
-        int length = getPrefixLength(prefix);
-        byte[] bprefix = trimPrefix(InetAddresses.forString(_prefix).getAddress(), getBytesLength(length));
-        if (Configuration.SET_COMPOSITION_ATTRIBUTE_COMPACT_NO_RESERVED_FIELDS) {
-            return ArraysUtil.combine(new byte[] {ArraysUtil.int2bytes(length)[3]}, bprefix);
+        final BinaryPrefix binary = BinaryPrefix.of(prefix);
+        final ByteBuf buffer = Unpooled.buffer(getEncodedLength(binary));
+        write(buffer, binary);
+        return buffer.array();
+    }
+
+    /**
+     * @param prefix BinaryPrefix to be encoded
+     * @return Number of bytes of encoded prefix
+     */
+    public static int getEncodedLength(BinaryPrefix prefix) {
+        return (Configuration.SET_COMPOSITION_ATTRIBUTE_COMPACT_NO_RESERVED_FIELDS ? 1 : 4) + getBytesLength(
+                prefix.getLength());
+    }
+
+    /**
+     * Writes prefix length followed by significant bytes of address
+     *
+     * @param buffer Buffer where prefix will be written
+     * @param prefix BinaryPrefix to be written
+     */
+    public static void write(ByteBuf buffer, BinaryPrefix prefix) {
+        buffer.writeByte(prefix.getLength());
+        if (!Configuration.SET_COMPOSITION_ATTRIBUTE_COMPACT_NO_RESERVED_FIELDS) {
+            buffer.writeMedium(0);
         }
-        return ArraysUtil.combine(new byte[] {ArraysUtil.int2bytes(length)[3], 0x00, 0x00, 0x00}, bprefix);
+        prefix.writeAddress(buffer, getBytesLength(prefix.getLength()));
     }
 
     /**
@@ -234,11 +285,15 @@ public final class IpPrefixConv {
      * @return Byte Array representing specified IpPrefixes
      */
     public static byte[] toBytes(List<IpPrefix> prefixes) {
-        byte[] array = new byte[0];
+        int length = 0;
+        for (IpPrefix prefix : prefixes) {
+            length += getEncodedLength(BinaryPrefix.of(prefix));
+        }
+        final ByteBuf buffer = Unpooled.buffer(length);
         for (IpPrefix prefix : prefixes) {
-            array = ArraysUtil.combine(array, toBytes(prefix));
+            write(buffer, BinaryPrefix.of(prefix));
         }
-        return array;
+        return buffer.array();
     }
 
     /**
@@ -9,6 +9,8 @@
 package org.opendaylight.sxp.util.inet;
 
 import com.google.common.net.InetAddresses;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
@@ -17,6 +19,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.opendaylight.sxp.util.ArraysUtil;
+import org.opendaylight.sxp.util.exception.message.attribute.AttributeLengthException;
 import org.opendaylight.sxp.util.exception.unknown.UnknownNodeIdException;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IetfInetUtil;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.peer.sequence.fields.PeerSequence;
@@ -110,15 +113,35 @@ public final class NodeIdConv {
      *
      * @param array Byte Array that will be decoded
      * @return List of NodeIds decoded from specified array
-     * @throws UnknownHostException   If one of addresses has illegal format
-     * @throws UnknownNodeIdException If one of addresses isn't in IPv4 format
+     * @throws UnknownHostException     If one of addresses has illegal format
+     * @throws UnknownNodeIdException   If one of addresses isn't in IPv4 format
+     * @throws AttributeLengthException If length of array is not multiple of IPv4 address length
      */
-    public static List<NodeId> decode(byte[] array) throws UnknownHostException, UnknownNodeIdException {
-        List<NodeId> nodesIds = new ArrayList<>();
-        while (array != null && array.length != 0) {
-            NodeId nodeId = _decode(array);
-            nodesIds.add(nodeId);
-            array = ArraysUtil.readBytes(array, IpPrefixConv.getBytesLength(32));
+    public static List<NodeId> decode(byte[] array)
+            throws UnknownHostException, UnknownNodeIdException, AttributeLengthException {
+        return read(array == null ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(array));
+    }
+
+    /**
+     * Decode Node specific identifications from readable bytes of ByteBuf,
+     * reader index is moved behind decoded data
+     *
+     * @param buffer ByteBuf that will be decoded
+     * @return List of NodeIds decoded from specified buffer
+     * @throws UnknownHostException     If one of addresses has illegal format
+     * @throws UnknownNodeIdException   If one of addresses isn't in IPv4 format
+     * @throws AttributeLengthException If readable bytes are not multiple of IPv4 address length
+     */
+    public static List<NodeId> read(ByteBuf buffer)
+            throws UnknownHostException, UnknownNodeIdException, AttributeLengthException {
+        if (buffer.readableBytes() % 4 != 0) {
+            throw new AttributeLengthException();
+        }
+        List<NodeId> nodesIds = new ArrayList<>(buffer.readableBytes() / 4);
+        byte[] address = new byte[IpPrefixConv.getBytesLength(32)];
+        while (buffer.isReadable()) {
+            buffer.readBytes(address);
+            nodesIds.add(createNodeId(InetAddress.getByAddress(address)));
         }
         return nodesIds;
     }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.util.inet;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+
+/**
+ * PrefixExpansionCache class holds host prefixes generated by expansion of subnet prefixes,
+ * so that one subnet exported to multiple peers that does not support subnet bindings is expanded only once
+ */
+public final class PrefixExpansionCache {
+
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 1 << 18;
+    public static final long DEFAULT_EXPIRE_AFTER_ACCESS = 5;
+
+    private final Cache<BinaryPrefix, IpPrefix[]> cache;
+
+    /**
+     * Creates cache holding at most {@link #DEFAULT_MAXIMUM_WEIGHT} host prefixes
+     */
+    public PrefixExpansionCache() {
+        this(DEFAULT_MAXIMUM_WEIGHT);
+    }
+
+    /**
+     * @param maximumWeight Maximal number of host prefixes held by cache
+     */
+    public PrefixExpansionCache(long maximumWeight) {
+        Preconditions.checkArgument(maximumWeight > 0, "Maximum weight must be positive");
+        this.cache =
+                CacheBuilder.newBuilder()
+                        .maximumWeight(maximumWeight)
+                        .weigher((BinaryPrefix k, IpPrefix[] v) -> v.length)
+                        .expireAfterAccess(DEFAULT_EXPIRE_AFTER_ACCESS, TimeUnit.MINUTES)
+                        .build();
+    }
+
+    /**
+     * Expands specified subnet prefix into host prefixes, result may contain more than requested
+     * quantity of prefixes if it was previously expanded with higher limit.
+     * Returned array is shared and must not be modified.
+     *
+     * @param prefix   IpPrefix to be expanded
+     * @param quantity Minimal number of host prefixes that will be returned if subnet is big enough
+     * @return Array of host prefixes created by expansion
+     */
+    public IpPrefix[] expand(IpPrefix prefix, int quantity) {
+        Preconditions.checkNotNull(prefix);
+        final BinaryPrefix binaryPrefix = BinaryPrefix.of(prefix);
+        IpPrefix[] expanded = cache.getIfPresent(binaryPrefix);
+        if (expanded == null || (expanded.length < quantity && expanded.length < binaryPrefix.getHostCount())) {
+            expanded =
+                    Search.expandPrefix(binaryPrefix, quantity)
+                            .map(BinaryPrefix::toIpPrefix)
+                            .toArray(IpPrefix[]::new);
+            cache.put(binaryPrefix, expanded);
+        }
+        return expanded;
+    }
+
+    /**
+     * @return Number of subnet prefixes currently held by cache
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all expansions held by cache
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -9,18 +9,16 @@
 package org.opendaylight.sxp.util.inet;
 
 import com.google.common.base.Preconditions;
-import com.google.common.net.InetAddresses;
 import java.net.InetAddress;
 import java.net.NetworkInterface;
 import java.net.SocketException;
 import java.util.ArrayList;
-import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import org.opendaylight.sxp.util.exception.connection.NoNetworkInterfacesException;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IetfInetUtil;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.SxpBindingFields;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBindingBuilder;
@@ -73,10 +71,8 @@ public final class Search {
     public static <T extends SxpBindingFields> List<T> expandBindings(List<T> bindings, int quantity) {
         if (quantity > 0 && bindings != null && !bindings.isEmpty()) {
             List<T> toAdd = new ArrayList<>();
-            bindings.removeIf(b -> {
-                int len = IpPrefixConv.getPrefixLength(b.getIpPrefix());
-                return (len != 32 && len != 128) && toAdd.addAll(expandBinding(b, quantity));
-            });
+            bindings.removeIf(
+                    b -> !BinaryPrefix.of(b.getIpPrefix()).isHost() && toAdd.addAll(expandBinding(b, quantity)));
             bindings.addAll(toAdd);
         }
         return bindings;
@@ -92,14 +88,8 @@ public final class Search {
      */
     public static <T extends SxpBindingFields> List<T> expandBinding(T binding, int quantity) {
         final MasterDatabaseBindingBuilder bindingBuilder = new MasterDatabaseBindingBuilder(binding);
-        return expandPrefix(binding.getIpPrefix(), quantity).map(inetAddress -> {
-            if (binding.getIpPrefix().getIpv4Prefix() != null) {
-                bindingBuilder.setIpPrefix(new IpPrefix(IetfInetUtil.INSTANCE.ipv4PrefixFor(inetAddress, 32)));
-            } else {
-                bindingBuilder.setIpPrefix(new IpPrefix(IetfInetUtil.INSTANCE.ipv6PrefixFor(inetAddress, 128)));
-            }
-            return (T) bindingBuilder.build();
-        }).collect(Collectors.toList());
+        return expandPrefix(BinaryPrefix.of(binding.getIpPrefix()), quantity).map(
+                host -> (T) bindingBuilder.setIpPrefix(host.toIpPrefix()).build()).collect(Collectors.toList());
     }
 
     /**
@@ -116,22 +106,17 @@ public final class Search {
      * @return Stream of InetAddresses created by expansion
      */
     public static Stream<InetAddress> expandPrefix(final IpPrefix prefix, final long limit) {
-        int prefixLength = IpPrefixConv.getPrefixLength(prefix),
-                addressFamily =
-                        prefix.getIpv4Prefix() != null ? 32 : 128;
-        byte[] address = InetAddresses.forString(IpPrefixConv.toString(prefix).split("/")[0]).getAddress(), address_;
-        BitSet bitSet = BitSet.valueOf(address);
-        if (bitSet.length() >= prefixLength)
-            bitSet.clear(prefixLength, bitSet.length());
-        address_ = bitSet.toByteArray();
-        for (int i = 0; i < address.length; i++) {
-            address[i] = i < address_.length ? address_[i] : 0;
-        }
+        return expandPrefix(BinaryPrefix.of(prefix), limit).map(BinaryPrefix::toInetAddress);
+    }
 
-        addressFamily -= Integer.parseInt(IpPrefixConv.toString(prefix).split("/")[1]);
-        return Stream.iterate(IetfInetUtil.INSTANCE.inetAddressFor(IetfInetUtil.INSTANCE.ipAddressFor(address)),
-                InetAddresses::increment)
-                .limit(Math.min(addressFamily > 0 ? (long) Math.pow(2, addressFamily) : 0, limit));
+    /**
+     * @param prefix BinaryPrefix to be expanded
+     * @param limit  Limit of expansion
+     * @return Stream of host prefixes created by expansion, host prefix is not expanded
+     */
+    public static Stream<BinaryPrefix> expandPrefix(final BinaryPrefix prefix, final long limit) {
+        final long count = prefix.isHost() ? 0 : Math.min(prefix.getHostCount(), limit);
+        return LongStream.range(0, Math.max(count, 0)).mapToObj(prefix::getHost);
     }
 
     /**
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.util.time;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HashedWheelTimer class schedules large number of coarse grained timers like SXP protocol timers.
+ * Timers are kept in doubly linked buckets of wheel indexed by their expiration tick, so that arm, re-arm
+ * and cancel are constant time operations and re-armed timer does not allocate any new object.
+ * Single worker thread advances wheel every tick and hands expired timers to executor.
+ */
+public final class HashedWheelTimer implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    private enum State {
+        PENDING, RUNNING, DONE, CANCELLED
+    }
+
+    private final Timeout[] wheel;
+    private final int mask;
+    private final long tickNanos;
+    private final Executor executor;
+    private final Thread worker;
+    private final long startTime = System.nanoTime();
+    private long tick = 0;
+    private int size = 0;
+    private boolean started = false, closed = false;
+
+    /**
+     * @param threadFactory ThreadFactory used to create worker thread of wheel
+     * @param executor      Executor used for execution of expired timers
+     * @param tickDuration  Duration of one tick
+     * @param unit          Time unit of tick duration
+     * @param ticksPerWheel Number of buckets in wheel, rounded up to the power of two
+     */
+    public HashedWheelTimer(ThreadFactory threadFactory, Executor executor, long tickDuration, TimeUnit unit,
+            int ticksPerWheel) {
+        Preconditions.checkArgument(tickDuration > 0, "Tick duration must be positive");
+        Preconditions.checkArgument(ticksPerWheel > 0 && ticksPerWheel <= 1 << 30,
+                "Ticks per wheel must be in range 1..2^30");
+        this.executor = Preconditions.checkNotNull(executor);
+        this.tickNanos = Preconditions.checkNotNull(unit).toNanos(tickDuration);
+        this.wheel = new Timeout[ticksPerWheel == 1 ? 1 : Integer.highestOneBit(ticksPerWheel - 1) << 1];
+        this.mask = wheel.length - 1;
+        this.worker = Preconditions.checkNotNull(threadFactory).newThread(this::advance);
+    }
+
+    /**
+     * Schedules task to be executed once after specified delay
+     *
+     * @param task  Task to be executed
+     * @param delay Time after which task will be executed
+     * @param unit  Time unit of delay
+     * @return Timeout that can be used to re-arm or cancel task
+     * @throws IllegalStateException If timer was closed
+     */
+    public Timeout newTimeout(Callable<?> task, long delay, TimeUnit unit) {
+        final Timeout timeout = new Timeout(Preconditions.checkNotNull(task));
+        synchronized (this) {
+            Preconditions.checkState(!closed, "Timer was closed");
+            if (!started) {
+                started = true;
+                worker.start();
+            }
+            link(timeout, unit.toNanos(delay));
+        }
+        return timeout;
+    }
+
+    /**
+     * @return Number of timers that are waiting for expiration
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Stops worker thread, timers that did not expire are canceled
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (int i = 0; i < wheel.length; i++) {
+                for (Timeout timeout = wheel[i]; timeout != null; timeout = timeout.next) {
+                    timeout.state = State.CANCELLED;
+                }
+                wheel[i] = null;
+            }
+            size = 0;
+        }
+        worker.interrupt();
+    }
+
+    /**
+     * Places timeout into bucket of its expiration tick, never into bucket of already processed tick
+     *
+     * @param timeout    Timeout to be placed
+     * @param delayNanos Delay of expiration in nanoseconds
+     */
+    private void link(Timeout timeout, long delayNanos) {
+        final long elapsed = System.nanoTime() - startTime + Math.max(0, delayNanos);
+        timeout.deadline = Math.max(tick + 1, (elapsed + tickNanos - 1) / tickNanos);
+        timeout.state = State.PENDING;
+        final int bucket = (int) (timeout.deadline & mask);
+        timeout.prev = null;
+        timeout.next = wheel[bucket];
+        if (wheel[bucket] != null) {
+            wheel[bucket].prev = timeout;
+        }
+        wheel[bucket] = timeout;
+        size++;
+    }
+
+    /**
+     * Removes pending timeout from its bucket
+     *
+     * @param timeout Timeout to be removed
+     */
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            wheel[(int) (timeout.deadline & mask)] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = timeout.next = null;
+        size--;
+    }
+
+    /**
+     * Worker loop that waits for next tick and dispatches timeouts expired in it
+     */
+    private void advance() {
+        final List<Timeout> expired = new ArrayList<>();
+        for (; ; ) {
+            final long deadline;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                deadline = startTime + (tick + 1) * tickNanos;
+            }
+            long sleep;
+            while ((sleep = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, sleep);
+                if (Thread.interrupted() && isClosed()) {
+                    return;
+                }
+            }
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                tick++;
+                Timeout timeout = wheel[(int) (tick & mask)];
+                while (timeout != null) {
+                    final Timeout next = timeout.next;
+                    if (timeout.deadline <= tick) {
+                        unlink(timeout);
+                        timeout.state = State.RUNNING;
+                        expired.add(timeout);
+                    }
+                    timeout = next;
+                }
+            }
+            for (Timeout timeout : expired) {
+                try {
+                    executor.execute(timeout);
+                } catch (RejectedExecutionException e) {
+                    LOG.warn("Timer task {} rejected", timeout.task.getClass().getSimpleName());
+                    timeout.cancel();
+                }
+            }
+            expired.clear();
+        }
+    }
+
+    /**
+     * @return If timer was closed
+     */
+    private synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Timeout represents task scheduled in wheel, its state is guarded by owning wheel.
+     * Expired timeout can be re-armed even from its own task so that periodic timers reuse single instance.
+     */
+    public class Timeout implements Runnable {
+
+        private final Callable<?> task;
+        private State state = State.PENDING;
+        private long deadline;
+        private Timeout prev, next;
+
+        /**
+         * @param task Task executed after expiration
+         */
+        Timeout(Callable<?> task) {
+            this.task = task;
+        }
+
+        /**
+         * @return Task executed after expiration
+         */
+        public Callable<?> getTask() {
+            return task;
+        }
+
+        /**
+         * Schedules task again after specified delay, pending expiration is discarded
+         *
+         * @param delay Time after which task will be executed
+         * @param unit  Time unit of delay
+         * @return If timeout was re-armed, canceled timeout cannot be re-armed
+         */
+        public boolean rearm(long delay, TimeUnit unit) {
+            synchronized (HashedWheelTimer.this) {
+                if (state == State.CANCELLED) {
+                    return false;
+                }
+                if (state == State.PENDING) {
+                    unlink(this);
+                }
+                link(this, unit.toNanos(delay));
+                return true;
+            }
+        }
+
+        /**
+         * Cancels timeout, task that is already executed is not interrupted but cannot be re-armed anymore
+         *
+         * @return If timeout was pending or its task was executed
+         */
+        public boolean cancel() {
+            synchronized (HashedWheelTimer.this) {
+                if (state == State.DONE || state == State.CANCELLED) {
+                    return false;
+                }
+                if (state == State.PENDING) {
+                    unlink(this);
+                }
+                state = State.CANCELLED;
+                return true;
+            }
+        }
+
+        /**
+         * @return If timeout was canceled
+         */
+        public boolean isCancelled() {
+            synchronized (HashedWheelTimer.this) {
+                return state == State.CANCELLED;
+            }
+        }
+
+        /**
+         * @return If timeout was canceled or its task completed without being re-armed
+         */
+        public boolean isDone() {
+            synchronized (HashedWheelTimer.this) {
+                return state == State.DONE || state == State.CANCELLED;
+            }
+        }
+
+        @Override
+        public void run() {
+            synchronized (HashedWheelTimer.this) {
+                if (state != State.RUNNING) {
+                    return;
+                }
+            }
+            try {
+                task.call();
+            } catch (Exception e) {
+                LOG.warn("Timer task {} failed with {}", task.getClass().getSimpleName(), e);
+            } finally {
+                synchronized (HashedWheelTimer.this) {
+                    if (state == State.RUNNING) {
+                        state = State.DONE;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -8,29 +8,63 @@
 
 package org.opendaylight.sxp.util.time;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.TimeZone;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
 
+/**
+ * TimeConv converts epoch milliseconds used internally to DateAndTime used by datastore and RPCs.
+ * Conversions are lock free, value of the last converted second is cached as all timestamps
+ * created during processing of one burst of messages share it.
+ */
 public final class TimeConv {
 
-    private static final DateFormat DF = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss'Z'");
+
+    private static volatile ZoneId zone = ZoneId.systemDefault();
+    private static volatile CachedTime cached;
 
     private TimeConv() {
     }
 
+    /**
+     * Last converted second together with its DateAndTime representation
+     */
+    private static final class CachedTime {
+
+        private final long second;
+        private final ZoneId zone;
+        private final DateAndTime dateAndTime;
+
+        private CachedTime(long second, ZoneId zone, DateAndTime dateAndTime) {
+            this.second = second;
+            this.zone = zone;
+            this.dateAndTime = dateAndTime;
+        }
+    }
+
     /**
      * Converts Long to DateAndTime with accuracy to seconds
      *
      * @param currentTime Long value that will be converted
      * @return DateAndTime generated from specified value
      */
-    public static synchronized DateAndTime toDt(long currentTime) {
-        return new DateAndTime(DF.format(new Date(currentTime)));
+    public static DateAndTime toDt(long currentTime) {
+        final long second = Math.floorDiv(currentTime, 1000);
+        final ZoneId zoneId = zone;
+        final CachedTime time = cached;
+        if (time != null && time.second == second && time.zone == zoneId) {
+            return time.dateAndTime;
+        }
+        final DateAndTime
+                dateAndTime =
+                new DateAndTime(FORMAT.format(LocalDateTime.ofInstant(Instant.ofEpochSecond(second), zoneId)));
+        cached = new CachedTime(second, zoneId, dateAndTime);
+        return dateAndTime;
     }
 
     /**
@@ -39,9 +73,9 @@ public final class TimeConv {
      *
      * @param timeZone Time zone to be set
      */
-    public static synchronized void setTimeZone(String timeZone) {
+    public static void setTimeZone(String timeZone) {
         if (timeZone != null) {
-            DF.setTimeZone(TimeZone.getTimeZone(timeZone));
+            zone = TimeZone.getTimeZone(timeZone).toZoneId();
         } else {
             throw new IllegalArgumentException("TimeZone cannot be null");
         }
@@ -53,16 +87,34 @@ public final class TimeConv {
      * @param dateAndTime DateAndValue that will be converted
      * @return Long value representing specified value
      */
-    public static synchronized long toLong(DateAndTime dateAndTime) {
+    public static long toLong(DateAndTime dateAndTime) {
         if (dateAndTime == null || dateAndTime.getValue() == null || dateAndTime.getValue().isEmpty()) {
             return -1;
         }
-        Calendar calendar = Calendar.getInstance();
+        final ZoneId zoneId = zone;
+        final CachedTime time = cached;
+        if (time != null && time.zone == zoneId && time.dateAndTime.getValue().equals(dateAndTime.getValue())) {
+            return time.second * 1000;
+        }
         try {
-            calendar.setTime(DF.parse(dateAndTime.getValue()));
-        } catch (ParseException e) {
+            return LocalDateTime.parse(dateAndTime.getValue(), FORMAT).atZone(zoneId).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
             throw new IllegalArgumentException("Unrecognized date and time format: \"" + dateAndTime.getValue() + "\"");
         }
-        return calendar.getTimeInMillis();
+    }
+
+    /**
+     * Compares two DateAndTime values without conversion if they are equal
+     *
+     * @param first  DateAndTime to be compared
+     * @param second DateAndTime to be compared
+     * @return Negative value, zero or positive value if first is before, equal to or after second
+     */
+    public static int compare(DateAndTime first, DateAndTime second) {
+        if (first == second || first != null && second != null && first.getValue() != null && first.getValue()
+                .equals(second.getValue())) {
+            return 0;
+        }
+        return Long.compare(toLong(first), toLong(second));
     }
 }
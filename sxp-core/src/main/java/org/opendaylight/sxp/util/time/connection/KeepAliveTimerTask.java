@@ -19,7 +19,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.TimerTyp
 /**
  * KeepAliveTimerTask is used by SXP speaker to send KEEPALIVE message
  * in order to indicate to the listener that the connection remains live.
- * (The default timer period is 1/3 of HoldTimerTask period)
+ * (The default timer period is 1/3 of Hold Time)
  */
 public class KeepAliveTimerTask extends SxpTimerTask<Void> {
 
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.util.time.node;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.sxp.core.SxpConnection;
+import org.opendaylight.sxp.core.SxpNode;
+import org.opendaylight.sxp.core.handler.MessageDecoder;
+import org.opendaylight.sxp.util.exception.connection.ChannelHandlerContextDiscrepancyException;
+import org.opendaylight.sxp.util.exception.connection.ChannelHandlerContextNotFoundException;
+import org.opendaylight.sxp.util.exception.message.ErrorMessageException;
+import org.opendaylight.sxp.util.time.HashedWheelTimer;
+import org.opendaylight.sxp.util.time.SxpTimerTask;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.ErrorSubCode;
+
+/**
+ * HoldTimeSweeper is used by SXP Listeners of node for detection of connections that are no longer live.
+ * Instead of timer per connection, connections are registered with their negotiated Hold Time and
+ * grouped into buckets of the same Hold Time. Each bucket is swept three times per its Hold Time,
+ * so that processing of KEEPALIVE or UPDATE message only stores timestamp of connection.
+ */
+public class HoldTimeSweeper extends SxpTimerTask<Void> {
+
+    private final SxpNode owner;
+    private final Map<Integer, Bucket> buckets = new HashMap<>();
+    private final Map<SxpConnection, Registration> registrations = new HashMap<>();
+    private HashedWheelTimer.Timeout timeout;
+
+    /**
+     * Connection together with its bucket and time of its registration
+     */
+    private static final class Registration {
+
+        private final SxpConnection connection;
+        private final Bucket bucket;
+        private final long registered;
+
+        private Registration(SxpConnection connection, Bucket bucket, long registered) {
+            this.connection = connection;
+            this.bucket = bucket;
+            this.registered = registered;
+        }
+    }
+
+    /**
+     * Bucket of connections with the same Hold Time, array is replaced on every change
+     * so that sweep works with consistent snapshot without locking
+     */
+    private static final class Bucket {
+
+        private final long holdTimeNanos, sweepPeriodNanos;
+        private volatile Registration[] registrations = new Registration[0];
+        private long nextSweep;
+
+        /**
+         * @param holdTime Hold Time of connections in seconds
+         * @param period   Period of sweeper in seconds
+         */
+        private Bucket(int holdTime, int period) {
+            this.holdTimeNanos = TimeUnit.SECONDS.toNanos(holdTime);
+            this.sweepPeriodNanos = TimeUnit.SECONDS.toNanos(Math.max(period, holdTime / 3));
+            this.nextSweep = System.nanoTime() + sweepPeriodNanos;
+        }
+
+        /**
+         * @param registration Registration to be added
+         */
+        private void add(Registration registration) {
+            final Registration[] newRegistrations = Arrays.copyOf(registrations, registrations.length + 1);
+            newRegistrations[registrations.length] = registration;
+            registrations = newRegistrations;
+        }
+
+        /**
+         * @param registration Registration to be removed
+         */
+        private void remove(Registration registration) {
+            final Registration[] oldRegistrations = registrations;
+            for (int i = 0; i < oldRegistrations.length; i++) {
+                if (oldRegistrations[i] == registration) {
+                    final Registration[] newRegistrations = new Registration[oldRegistrations.length - 1];
+                    System.arraycopy(oldRegistrations, 0, newRegistrations, 0, i);
+                    System.arraycopy(oldRegistrations, i + 1, newRegistrations, i, newRegistrations.length - i);
+                    registrations = newRegistrations;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Constructor that sets sweep period, and set node which connections will be checked
+     *
+     * @param owner  SxpNode that sweeper belongs to
+     * @param period Value representing time in Seconds after which buckets are checked for sweep
+     */
+    public HoldTimeSweeper(SxpNode owner, int period) {
+        super(period);
+        Preconditions.checkArgument(period > 0, "Sweep period must be positive");
+        this.owner = Preconditions.checkNotNull(owner);
+    }
+
+    /**
+     * Starts checking of connection liveness, connection already registered is moved to bucket of new Hold Time
+     *
+     * @param connection SxpConnection which liveness will be checked
+     * @param holdTime   Hold Time of connection in Seconds
+     */
+    public synchronized void register(SxpConnection connection, int holdTime) {
+        Preconditions.checkArgument(holdTime > 0, "Hold time must be positive");
+        unregister(Preconditions.checkNotNull(connection));
+        final Bucket bucket = buckets.computeIfAbsent(holdTime, h -> new Bucket(h, getPeriod()));
+        final Registration registration = new Registration(connection, bucket, System.nanoTime());
+        bucket.add(registration);
+        registrations.put(connection, registration);
+        if (timeout == null) {
+            timeout = owner.getWorker().scheduleTimer(this, getPeriod(), TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Stops checking of connection liveness
+     *
+     * @param connection SxpConnection which liveness will not be checked anymore
+     */
+    public synchronized void unregister(SxpConnection connection) {
+        final Registration registration = registrations.remove(connection);
+        if (registration != null) {
+            registration.bucket.remove(registration);
+            if (registration.bucket.registrations.length == 0) {
+                buckets.values().remove(registration.bucket);
+            }
+        }
+    }
+
+    /**
+     * @param connection SxpConnection to be checked
+     * @return If liveness of connection is checked
+     */
+    public synchronized boolean isRegistered(SxpConnection connection) {
+        return registrations.containsKey(connection);
+    }
+
+    @Override
+    public Void call() {
+        LOG.debug(owner + " {} [{}]", getClass().getSimpleName(), getPeriod());
+        sweep(System.nanoTime());
+        synchronized (this) {
+            if (registrations.isEmpty()) {
+                timeout = null;
+            } else if (timeout != null && !timeout.rearm(getPeriod(), TimeUnit.SECONDS)) {
+                timeout = owner.getWorker().scheduleTimer(this, getPeriod(), TimeUnit.SECONDS);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks connections of buckets which sweep period elapsed
+     *
+     * @param now Current time in nanoseconds
+     */
+    void sweep(long now) {
+        final Bucket[] due;
+        synchronized (this) {
+            due = buckets.values().stream().filter(b -> now - b.nextSweep >= 0).toArray(Bucket[]::new);
+            for (Bucket bucket : due) {
+                bucket.nextSweep = now + bucket.sweepPeriodNanos;
+            }
+        }
+        for (Bucket bucket : due) {
+            for (Registration registration : bucket.registrations) {
+                if (now - Math.max(registration.connection.getLastSeenNanos(), registration.registered)
+                        > bucket.holdTimeNanos) {
+                    expire(registration);
+                }
+            }
+        }
+    }
+
+    /**
+     * Notifies peer about expired Hold Time and moves connection into DeleteHoldDown
+     *
+     * @param registration Registration of SxpConnection which Hold Time expired
+     */
+    private void expire(Registration registration) {
+        final SxpConnection connection = registration.connection;
+        synchronized (this) {
+            if (registrations.get(connection) != registration) {
+                return;
+            }
+            unregister(connection);
+        }
+        if (!connection.isStateOn() || !connection.isModeListener() || !connection.isVersion4()) {
+            return;
+        }
+        try {
+            MessageDecoder.sendErrorMessage(
+                    connection.getChannelHandlerContext(SxpConnection.ChannelHandlerContextType.ListenerContext),
+                    new ErrorMessageException(null, ErrorSubCode.UnacceptableHoldTime, null), connection);
+            connection.setDeleteHoldDownTimer();
+            LOG.info("{} State to DeleteHoldDown", connection);
+        } catch (ChannelHandlerContextNotFoundException | ChannelHandlerContextDiscrepancyException e) {
+            LOG.warn(connection.getOwner() + " {} {} | {}", getClass().getSimpleName(), e.getClass().getSimpleName(),
+                    e.getMessage());
+        }
+    }
+}
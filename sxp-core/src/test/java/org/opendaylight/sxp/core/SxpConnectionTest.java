@@ -45,6 +45,7 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.opendaylight.sxp.core.service.BindingDispatcher;
 import org.opendaylight.sxp.core.service.BindingHandler;
+import org.opendaylight.sxp.core.service.ConnectScheduler;
 import org.opendaylight.sxp.core.service.UpdateExportTask;
 import org.opendaylight.sxp.core.threading.ThreadsWorker;
 import org.opendaylight.sxp.util.database.spi.MasterDatabaseInf;
@@ -54,6 +55,8 @@ import org.opendaylight.sxp.util.exception.connection.SocketAddressNotRecognized
 import org.opendaylight.sxp.util.exception.message.ErrorMessageException;
 import org.opendaylight.sxp.util.exception.unknown.UnknownTimerTypeException;
 import org.opendaylight.sxp.util.filtering.SxpBindingFilter;
+import org.opendaylight.sxp.util.time.HashedWheelTimer;
+import org.opendaylight.sxp.util.time.node.HoldTimeSweeper;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.PortNumber;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.filter.rev150911.FilterSpecific;
@@ -101,12 +104,13 @@ public class SxpConnectionTest {
     private static SxpConnection sxpConnection;
     private static SxpDatabaseInf sxpDatabase;
     private static ThreadsWorker worker;
+    private static HoldTimeSweeper holdTimeSweeper;
 
     @Before
     public void init() throws Exception {
         worker = mock(ThreadsWorker.class);
-        when(worker.scheduleTask(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(
-                mock(ListenableScheduledFuture.class));
+        when(worker.scheduleTimer(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(
+                mock(HashedWheelTimer.Timeout.class));
         when(worker.executeTask(any(Runnable.class), any(ThreadsWorker.WorkerType.class))).thenReturn(
                 mock(ListenableFuture.class));
         when(worker.executeTask(any(Callable.class), any(ThreadsWorker.WorkerType.class))).thenReturn(
@@ -127,6 +131,9 @@ public class SxpConnectionTest {
         PowerMockito.when(sxpNode.getHoldTimeMin()).thenReturn(60);
         PowerMockito.when(sxpNode.getHoldTimeMinAcceptable()).thenReturn(60);
         PowerMockito.when(sxpNode.getWorker()).thenReturn(worker);
+        PowerMockito.when(sxpNode.getConnectScheduler()).thenReturn(mock(ConnectScheduler.class));
+        holdTimeSweeper = new HoldTimeSweeper(sxpNode, 1);
+        PowerMockito.when(sxpNode.getHoldTimeSweeper()).thenReturn(holdTimeSweeper);
         sxpConnection =
                 SxpConnection.create(sxpNode, mockConnection(ConnectionMode.None, ConnectionState.On), DOMAIN_NAME);
     }
@@ -204,20 +211,36 @@ public class SxpConnectionTest {
 
     @Test
     public void testPurgeBindings() throws Exception {
+        when(worker.scheduleTask(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(
+                mock(ListenableScheduledFuture.class));
         ArgumentCaptor<Runnable> argument = ArgumentCaptor.forClass(Runnable.class);
+        sxpConnection.setState(ConnectionState.DeleteHoldDown);
         sxpConnection.purgeBindings();
         verify(sxpNode.getWorker()).addListener(any(ListenableFuture.class), argument.capture());
-        verify(sxpNode.getWorker()).executeTaskInSequence(any(Callable.class), eq(ThreadsWorker.WorkerType.INBOUND),
-                eq(sxpConnection));
+        verify(sxpNode.getWorker()).scheduleTask(any(Callable.class), eq(BindingHandler.PURGE_BATCH_WINDOW),
+                eq(TimeUnit.MILLISECONDS));
         argument.getValue().run();
         assertEquals(ConnectionState.Off, sxpConnection.getState());
     }
 
+    @Test
+    public void testPurgeBindingsReconnected() throws Exception {
+        when(worker.scheduleTask(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(
+                mock(ListenableScheduledFuture.class));
+        ArgumentCaptor<Runnable> argument = ArgumentCaptor.forClass(Runnable.class);
+        sxpConnection.setState(ConnectionState.DeleteHoldDown);
+        sxpConnection.purgeBindings();
+        verify(sxpNode.getWorker()).addListener(any(ListenableFuture.class), argument.capture());
+        sxpConnection.setState(ConnectionState.On);
+        argument.getValue().run();
+        assertEquals(ConnectionState.On, sxpConnection.getState());
+    }
+
     @Test
     public void testSetDeleteHoldDownTimer() throws Exception {
-        ListenableScheduledFuture future = mock(ListenableScheduledFuture.class);
+        HashedWheelTimer.Timeout future = mock(HashedWheelTimer.Timeout.class);
         when(future.isDone()).thenReturn(false);
-        when(worker.scheduleTask(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(future);
+        when(worker.scheduleTimer(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(future);
 
         sxpConnection.setTimer(TimerType.ReconciliationTimer, 60);
         sxpConnection.setDeleteHoldDownTimer();
@@ -228,9 +251,9 @@ public class SxpConnectionTest {
 
     @Test
     public void testSetReconciliationTimer() throws Exception {
-        ListenableScheduledFuture future = mock(ListenableScheduledFuture.class);
+        HashedWheelTimer.Timeout future = mock(HashedWheelTimer.Timeout.class);
         when(future.isDone()).thenReturn(true);
-        when(worker.scheduleTask(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(future);
+        when(worker.scheduleTimer(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(future);
 
         sxpConnection.setReconciliationTimer();
         assertNotNull(sxpConnection.getTimer(TimerType.ReconciliationTimer));
@@ -263,7 +286,7 @@ public class SxpConnectionTest {
         sxpConnection.setStateOff(context);
         assertNull(sxpConnection.getTimer(TimerType.DeleteHoldDownTimer));
         assertNull(sxpConnection.getTimer(TimerType.ReconciliationTimer));
-        assertNull(sxpConnection.getTimer(TimerType.HoldTimer));
+        assertFalse(holdTimeSweeper.isRegistered(sxpConnection));
         assertNotNull(sxpConnection.getTimer(TimerType.KeepAliveTimer));
 
         //Speaker Down
@@ -277,15 +300,25 @@ public class SxpConnectionTest {
         sxpConnection.setStateOff(context1);
         assertNotNull(sxpConnection.getTimer(TimerType.DeleteHoldDownTimer));
         assertNotNull(sxpConnection.getTimer(TimerType.ReconciliationTimer));
-        assertNotNull(sxpConnection.getTimer(TimerType.HoldTimer));
+        assertTrue(holdTimeSweeper.isRegistered(sxpConnection));
         assertNull(sxpConnection.getTimer(TimerType.KeepAliveTimer));
     }
 
+    @Test
+    public void testSetStateCompletesConnect() throws Exception {
+        final ConnectScheduler scheduler = sxpNode.getConnectScheduler();
+        sxpConnection.setStateOn();
+        verify(scheduler).connected(sxpConnection);
+
+        sxpConnection.setStateOff();
+        verify(scheduler).disconnected(sxpConnection);
+    }
+
     @Test
     public void testSetTimer() throws Exception {
-        ListenableScheduledFuture future = mock(ListenableScheduledFuture.class);
+        HashedWheelTimer.Timeout future = mock(HashedWheelTimer.Timeout.class);
         when(future.isDone()).thenReturn(false);
-        when(worker.scheduleTask(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(future);
+        when(worker.scheduleTimer(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(future);
 
         sxpConnection.setTimer(TimerType.DeleteHoldDownTimer, 0);
         assertNull(sxpConnection.getTimer(TimerType.DeleteHoldDownTimer));
@@ -584,6 +617,20 @@ public class SxpConnectionTest {
         assertNotNull(sxpConnection.getFilter(FilterType.Outbound));
     }
 
+    @Test
+    public void testPutFilterDifferentialExport() throws Exception {
+        sxpConnection =
+                SxpConnection.create(sxpNode, mockConnection(ConnectionMode.Speaker, ConnectionState.On), DOMAIN_NAME);
+        sxpConnection.markChannelHandlerContext(mock(ChannelHandlerContext.class),
+                SxpConnection.ChannelHandlerContextType.SpeakerContext);
+        sxpConnection.setCapabilitiesRemote(Configuration.getCapabilities(Version.Version4).getCapability());
+
+        sxpConnection.putFilter(getFilter(FilterType.Outbound, "TEST"));
+        verify(sxpNode.getWorker()).executeTaskInSequence(any(Callable.class),
+                eq(ThreadsWorker.WorkerType.OUTBOUND), eq(sxpConnection));
+        verify(sxpNode.getWorker(), never()).addListener(any(ListenableFuture.class), any(Runnable.class));
+    }
+
     @Test
     public void testGetGroupName() throws Exception {
         assertNull(sxpConnection.getGroupName(FilterType.Inbound));
@@ -724,4 +771,50 @@ public class SxpConnectionTest {
         verify(worker, times(2)).executeTaskInSequence(any(Callable.class), eq(ThreadsWorker.WorkerType.INBOUND),
                 eq(sxpConnection));
     }
+
+    @Test
+    public void testProcessUpdateMessageBatch() throws Exception {
+        sxpConnection.setNodeIdRemote(new NodeId("6.6.6.6"));
+        sxpConnection.beginInboundBatch();
+        sxpConnection.processUpdateMessage(mock(UpdateMessageLegacy.class));
+        sxpConnection.processUpdateMessage(mock(UpdateMessage.class));
+        verify(worker, never()).executeTaskInSequence(any(Callable.class), eq(ThreadsWorker.WorkerType.INBOUND),
+                eq(sxpConnection));
+
+        sxpConnection.completeInboundBatch();
+        verify(worker).executeTaskInSequence(any(Callable.class), eq(ThreadsWorker.WorkerType.INBOUND),
+                eq(sxpConnection));
+
+        sxpConnection.completeInboundBatch();
+        verify(worker).executeTaskInSequence(any(Callable.class), eq(ThreadsWorker.WorkerType.INBOUND),
+                eq(sxpConnection));
+    }
+
+    @Test
+    public void testProcessUpdateMessageBatchFailure() throws Exception {
+        final UpdateMessageLegacy message1 = mock(UpdateMessageLegacy.class),
+                message2 = mock(UpdateMessageLegacy.class);
+        final IllegalStateException failure1 = new IllegalStateException("first"),
+                failure2 = new IllegalStateException("second");
+        when(message1.getMappingRecord()).thenThrow(failure1);
+        when(message2.getMappingRecord()).thenThrow(failure2);
+        sxpConnection.setNodeIdRemote(new NodeId("6.6.6.6"));
+        sxpConnection.beginInboundBatch();
+        sxpConnection.processUpdateMessage(message1);
+        sxpConnection.processUpdateMessage(message2);
+        sxpConnection.completeInboundBatch();
+
+        final ArgumentCaptor<Callable> taskCaptor = ArgumentCaptor.forClass(Callable.class);
+        verify(worker).executeTaskInSequence(taskCaptor.capture(), eq(ThreadsWorker.WorkerType.INBOUND),
+                eq(sxpConnection));
+        try {
+            taskCaptor.getValue().call();
+            fail("Failure of batched update was not propagated");
+        } catch (IllegalStateException e) {
+            assertEquals(failure1, e);
+            assertEquals(1, e.getSuppressed().length);
+            assertEquals(failure2, e.getSuppressed()[0]);
+        }
+        verify(message2).getMappingRecord();
+    }
 }
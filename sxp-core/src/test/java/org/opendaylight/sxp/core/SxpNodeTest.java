@@ -17,13 +17,13 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.anyList;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.ListenableFuture;
-import com.google.common.util.concurrent.ListenableScheduledFuture;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import java.net.InetAddress;
@@ -50,6 +50,7 @@ import org.opendaylight.sxp.util.database.spi.SxpDatabaseInf;
 import org.opendaylight.sxp.util.exception.node.DomainNotFoundException;
 import org.opendaylight.sxp.util.exception.unknown.UnknownTimerTypeException;
 import org.opendaylight.sxp.util.inet.NodeIdConv;
+import org.opendaylight.sxp.util.time.HashedWheelTimer;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
@@ -113,8 +114,8 @@ public class SxpNodeTest {
         worker = mock(ThreadsWorker.class);
         ListenableFuture future = mock(ListenableFuture.class);
         when(future.isDone()).thenReturn(true);
-        when(worker.scheduleTask(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(
-                mock(ListenableScheduledFuture.class));
+        when(worker.scheduleTimer(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(
+                mock(HashedWheelTimer.Timeout.class));
         when(worker.executeTask(any(Runnable.class), any(ThreadsWorker.WorkerType.class))).thenReturn(future);
         when(worker.executeTask(any(Callable.class), any(ThreadsWorker.WorkerType.class))).thenReturn(future);
         when(worker.executeTaskInSequence(any(Callable.class), any(ThreadsWorker.WorkerType.class),
@@ -319,16 +320,50 @@ public class SxpNodeTest {
         node.addConnection(mockConnection(ConnectionMode.Speaker, ConnectionState.PendingOn));
         node.addConnection(mockConnection(ConnectionMode.Listener, ConnectionState.On));
         node.openConnections();
-        verify(worker, times(5)).executeTask(any(Runnable.class), any(ThreadsWorker.WorkerType.class));
+        verify(worker, times(1)).executeTask(any(Runnable.class), any(ThreadsWorker.WorkerType.class));
         node.addConnection(mockConnection(ConnectionMode.Speaker, ConnectionState.Off));
         node.openConnections();
-        verify(worker, times(7)).executeTask(argument.capture(), any(ThreadsWorker.WorkerType.class));
+        verify(worker, times(2)).executeTask(argument.capture(), any(ThreadsWorker.WorkerType.class));
 
         PowerMockito.mockStatic(ConnectFacade.class);
         argument.getValue().run();
         PowerMockito.verifyStatic();
     }
 
+    @Test
+    public void testUpdateMD5keys() throws Exception {
+        PowerMockito.mockStatic(ConnectFacade.class);
+        PowerMockito.when(ConnectFacade.updateServerPasswords(any(SxpNode.class), any(Channel.class)))
+                .thenReturn(true);
+        ArgumentCaptor<Callable> argument = ArgumentCaptor.forClass(Callable.class);
+        node.updateMD5keys();
+        node.addConnection(mockConnection(ConnectionMode.Listener, ConnectionState.On));
+        verify(worker).scheduleTask(argument.capture(), eq(SxpNode.MD5_UPDATE_BATCH_WINDOW),
+                eq(TimeUnit.MILLISECONDS));
+
+        argument.getValue().call();
+        PowerMockito.verifyStatic();
+        ConnectFacade.updateServerPasswords(any(SxpNode.class), any(Channel.class));
+
+        node.updateMD5keys();
+        verify(worker, times(2)).scheduleTask(any(Callable.class), anyInt(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void testUpdateMD5keysRetry() throws Exception {
+        PowerMockito.mockStatic(ConnectFacade.class);
+        PowerMockito.when(ConnectFacade.updateServerPasswords(any(SxpNode.class), any(Channel.class)))
+                .thenReturn(false);
+        ArgumentCaptor<Callable> argument = ArgumentCaptor.forClass(Callable.class);
+        node.updateMD5keys();
+        verify(worker).scheduleTask(argument.capture(), eq(SxpNode.MD5_UPDATE_BATCH_WINDOW),
+                eq(TimeUnit.MILLISECONDS));
+
+        argument.getValue().call();
+        verify(worker, times(2)).scheduleTask(any(Callable.class), eq(SxpNode.MD5_UPDATE_BATCH_WINDOW),
+                eq(TimeUnit.MILLISECONDS));
+    }
+
     @Test
     public void testSetTimer() throws Exception {
         node.setTimer(TimerType.RetryOpenTimer, 0);
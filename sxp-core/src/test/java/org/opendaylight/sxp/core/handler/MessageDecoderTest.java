@@ -10,6 +10,7 @@ package org.opendaylight.sxp.core.handler;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -21,6 +22,7 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandler;
 import io.netty.handler.codec.DecoderException;
+import io.netty.util.DefaultAttributeMap;
 import java.io.IOException;
 import java.net.SocketAddress;
 import org.junit.Before;
@@ -28,6 +30,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Matchers;
 import org.opendaylight.sxp.core.SxpConnection;
 import org.opendaylight.sxp.core.SxpNode;
@@ -38,6 +41,8 @@ import org.opendaylight.sxp.util.exception.message.UpdateMessageConnectionStateE
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.ConnectionState;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.ErrorCodeNonExtended;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.sxp.messages.Notification;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.sxp.messages.PurgeAllMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.sxp.messages.UpdateMessage;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
@@ -66,6 +71,8 @@ public class MessageDecoderTest {
         Channel channel = mock(Channel.class);
         when(channel.localAddress()).thenReturn(mock(SocketAddress.class));
         when(channel.remoteAddress()).thenReturn(mock(SocketAddress.class));
+        final DefaultAttributeMap attributes = new DefaultAttributeMap();
+        when(channel.attr(MessageDecoder.CONNECTION)).thenReturn(attributes.attr(MessageDecoder.CONNECTION));
         when(channelHandlerContext.channel()).thenReturn(channel);
     }
 
@@ -140,6 +147,25 @@ public class MessageDecoderTest {
         }
     }
 
+    @Test
+    public void testChannelReadBoundConnection() throws Exception {
+        ByteBuf byteBuf = mock(ByteBuf.class);
+        PowerMockito.when(context.executeParseInput(any(ByteBuf.class))).thenReturn(mock(Notification.class));
+
+        decoder.channelActive(channelHandlerContext);
+        for (int i = 0; i < 3; i++) {
+            when(byteBuf.readableBytes()).thenReturn(1, 0);
+            decoder.channelRead(channelHandlerContext, byteBuf);
+        }
+        verify(sxpNode).getConnection(any(SocketAddress.class));
+        verify(context, times(3)).executeInputMessageStrategy(any(ChannelHandlerContext.class),
+                any(SxpConnection.class), any(Notification.class));
+
+        decoder.channelInactive(channelHandlerContext);
+        verify(sxpNode).getConnection(any(SocketAddress.class));
+        verify(context).executeChannelInactivationStrategy(any(ChannelHandlerContext.class), any(SxpConnection.class));
+    }
+
     @Test
     public void testExceptionCaught() throws Exception {
         decoder.exceptionCaught(channelHandlerContext, new DecoderException("error"));
@@ -170,4 +196,38 @@ public class MessageDecoderTest {
         decoder.channelReadComplete(channelHandlerContext);
         verify(channelHandlerContext).flush();
     }
+
+    @Test
+    public void testChannelReadCompleteBatch() throws Exception {
+        ByteBuf byteBuf = mock(ByteBuf.class);
+        PowerMockito.when(context.executeParseInput(any(ByteBuf.class))).thenReturn(mock(UpdateMessage.class));
+
+        decoder.channelActive(channelHandlerContext);
+        for (int i = 0; i < 2; i++) {
+            when(byteBuf.readableBytes()).thenReturn(1, 0);
+            decoder.channelRead(channelHandlerContext, byteBuf);
+        }
+        verify(connection, times(2)).beginInboundBatch();
+        verify(connection, never()).completeInboundBatch();
+
+        decoder.channelReadComplete(channelHandlerContext);
+        verify(connection).completeInboundBatch();
+        verify(channelHandlerContext).flush();
+    }
+
+    @Test
+    public void testChannelReadBatchPurgeAll() throws Exception {
+        ByteBuf byteBuf = mock(ByteBuf.class);
+        final Notification update = mock(UpdateMessage.class), purgeAll = mock(PurgeAllMessage.class);
+        PowerMockito.when(context.executeParseInput(any(ByteBuf.class))).thenReturn(update, purgeAll);
+        when(byteBuf.readableBytes()).thenReturn(1, 1, 0);
+
+        decoder.channelActive(channelHandlerContext);
+        decoder.channelRead(channelHandlerContext, byteBuf);
+        InOrder inOrder = inOrder(connection, context);
+        inOrder.verify(context).executeInputMessageStrategy(channelHandlerContext, connection, update);
+        inOrder.verify(connection).completeInboundBatch();
+        inOrder.verify(connection).beginInboundBatch();
+        inOrder.verify(context).executeInputMessageStrategy(channelHandlerContext, connection, purgeAll);
+    }
 }
@@ -9,14 +9,19 @@
 package org.opendaylight.sxp.core.messaging;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Mockito.mock;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import java.util.ArrayList;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opendaylight.sxp.util.exception.message.attribute.AttributeLengthException;
 import org.opendaylight.sxp.util.exception.message.attribute.AttributeNotFoundException;
 import org.opendaylight.sxp.util.exception.message.attribute.AttributeVariantException;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.AttributeType;
@@ -60,6 +65,29 @@ public class AttributeListTest {
         assertNotNull(attributes.get(AttributeType.HoldTime));
     }
 
+    @Test
+    public void testDecodeByteBuf() throws Exception {
+        ByteBuf buffer = Unpooled.wrappedBuffer(new byte[] {0, 80, 6, 4, 2, 0, 1, 0, 80, 7, 4, 0, 10, 0, 20});
+        buffer.skipBytes(1);
+        AttributeList attributes = AttributeList.decode(buffer);
+        assertEquals(2, attributes.size());
+        assertFalse(buffer.isReadable());
+        assertNotNull(attributes.get(AttributeType.Capabilities));
+        assertNotNull(attributes.get(AttributeType.HoldTime));
+    }
+
+    @Test
+    public void testDecodeException() throws Exception {
+        exception.expect(AttributeLengthException.class);
+        AttributeList.decode(new byte[] {80, 6, 4, 2, 0, 1, 0, 80, 7, 4, 0, 10});
+    }
+
+    @Test
+    public void testDecodePeerSequenceException() throws Exception {
+        exception.expect(AttributeLengthException.class);
+        AttributeList.decode(Unpooled.wrappedBuffer(new byte[] {80, 16, 6, 127, 0, 0, 1, 127, 0}));
+    }
+
     @Test
     public void testGet() throws Exception {
         assertNotNull(attributes.get(AttributeType.HoldTime));
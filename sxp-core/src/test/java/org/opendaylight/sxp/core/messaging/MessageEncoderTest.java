@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.messaging;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import io.netty.buffer.ByteBuf;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opendaylight.sxp.util.ArraysUtil;
+import org.opendaylight.sxp.util.exception.message.attribute.AttributeVariantException;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.AttributeType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.AttributeVariant;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.FlagsFields;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.MessageType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.attributes.fields.Attribute;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.attributes.fields.AttributeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.attributes.fields.attribute.attribute.optional.fields.UnrecognizedAttribute;
+
+public class MessageEncoderTest {
+
+    @Rule public ExpectedException exception = ExpectedException.none();
+
+    private Attribute getAttribute(AttributeType type, AttributeVariant variant, FlagsFields.Flags flags,
+            byte[] value) {
+        AttributeBuilder builder = new AttributeBuilder();
+        builder.setAttributeVariant(variant);
+        builder.setFlags(flags);
+        builder.setType(type);
+        builder.setLength(value.length);
+        builder.setValue(value);
+        builder.setAttributeOptionalFields(mock(UnrecognizedAttribute.class));
+        return builder.build();
+    }
+
+    private byte[] toBytes(ByteBuf message) {
+        byte[] _message = new byte[message.readableBytes()];
+        message.readBytes(_message);
+        message.release();
+        return _message;
+    }
+
+    private byte[] getHeader(int length, MessageType type) {
+        return ArraysUtil.combine(ArraysUtil.int2bytes(length + 8), ArraysUtil.int2bytes(type.getIntValue()));
+    }
+
+    private List<IpPrefix> getPrefixes(int count) {
+        List<IpPrefix> prefixes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            prefixes.add(new IpPrefix(("10." + (i / 256) + "." + (i % 256) + ".0/24").toCharArray()));
+        }
+        return prefixes;
+    }
+
+    @Test
+    public void testAddAttribute() throws Exception {
+        AttributeList attributes = new AttributeList();
+        attributes.add(getAttribute(AttributeType.HoldTime, AttributeVariant.Compact,
+                new FlagsFields.Flags(false, true, false, false, false), new byte[] {0, 10}));
+        attributes.add(getAttribute(AttributeType.Capabilities, AttributeVariant.CompactExtendedLength,
+                new FlagsFields.Flags(true, true, false, false, false), new byte[] {1, 2, 3}));
+        attributes.add(getAttribute(AttributeType.Unspecified, AttributeVariant.NonCompact,
+                new FlagsFields.Flags(false, false, false, false, false), new byte[] {}));
+
+        MessageEncoder encoder = new MessageEncoder(MessageType.Open);
+        for (Attribute attribute : attributes) {
+            encoder.addAttribute(attribute);
+        }
+        byte[] expected = attributes.toBytes();
+        assertEquals(expected.length, encoder.getPayloadLength());
+        assertArrayEquals(ArraysUtil.combine(getHeader(expected.length, MessageType.Open), expected),
+                toBytes(encoder.encode()));
+    }
+
+    @Test
+    public void testAddAttributeException() throws Exception {
+        exception.expect(AttributeVariantException.class);
+        new MessageEncoder(MessageType.Open).addAttribute(
+                getAttribute(AttributeType.Unspecified, AttributeVariant.None,
+                        new FlagsFields.Flags(false, false, false, false, false), new byte[] {}));
+    }
+
+    @Test
+    public void testAddPrefixAttribute() throws Exception {
+        for (int count : new int[] {0, 1, 63, 64, 200}) {
+            List<IpPrefix> prefixes = getPrefixes(count);
+            AttributeList attributes = new AttributeList();
+            attributes.add(AttributeFactory.createIpv4AddPrefix(prefixes, AttributeFactory._onpCe));
+            byte[] expected = attributes.toBytes();
+
+            MessageEncoder encoder = new MessageEncoder(MessageType.Update);
+            encoder.addPrefixAttribute(AttributeType.Ipv4AddPrefix, AttributeFactory._onpCe, prefixes);
+            assertEquals(expected.length, encoder.getPayloadLength());
+            assertArrayEquals(ArraysUtil.combine(getHeader(expected.length, MessageType.Update), expected),
+                    toBytes(encoder.encode()));
+        }
+    }
+
+    @Test
+    public void testAddPrefixAttributeExtendedLength() throws Exception {
+        MessageEncoder encoder = new MessageEncoder(MessageType.Update);
+        encoder.addPrefixAttribute(AttributeType.Ipv4AddPrefix, AttributeFactory._onpCe, getPrefixes(64));
+        byte[] message = toBytes(encoder.encode());
+        assertEquals(AttributeFactory._onpCe + 8, message[8]);
+        assertEquals(AttributeType.Ipv4AddPrefix.getIntValue(), message[9]);
+        assertEquals(256, ((message[10] & 0xFF) << 8) | (message[11] & 0xFF));
+        assertEquals(8 + 4 + 256, message.length);
+    }
+
+    @Test
+    public void testAddBytes() throws Exception {
+        MessageEncoder encoder = new MessageEncoder(MessageType.Keepalive);
+        encoder.addInt(4).addBytes(new byte[] {1, 2});
+        assertEquals(6, encoder.getPayloadLength());
+        assertArrayEquals(new byte[] {0, 0, 0, 14, 0, 0, 0, 6, 0, 0, 0, 4, 1, 2}, toBytes(encoder.encode()));
+    }
+}
@@ -12,6 +12,7 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -23,10 +24,12 @@ import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opendaylight.sxp.core.Constants;
 import org.opendaylight.sxp.util.exception.ErrorCodeDataLengthException;
 import org.opendaylight.sxp.util.exception.message.ErrorMessageException;
 import org.opendaylight.sxp.util.exception.message.attribute.AttributeNotFoundException;
 import org.opendaylight.sxp.util.exception.unknown.UnknownPrefixException;
+import org.opendaylight.sxp.util.exception.unknown.UnknownSxpMessageTypeException;
 import org.opendaylight.sxp.util.inet.NodeIdConv;
 import org.opendaylight.sxp.util.time.TimeConv;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
@@ -150,6 +153,69 @@ public class MessageFactoryTest {
         assertArrayEquals(new byte[] {0, 0, 0, 8, 0, 0, 0, 5}, toBytes(message));
     }
 
+    private MasterDatabaseBinding getBinding(int sgt, String prefix, String... peers) throws UnknownPrefixException {
+        List<NodeId> peerSequence = new ArrayList<>();
+        for (String peer : peers) {
+            peerSequence.add(NodeIdConv.createNodeId(peer));
+        }
+        return new MasterDatabaseBindingBuilder(getBinding(sgt, prefix)).setPeerSequence(
+                NodeIdConv.createPeerSequence(peerSequence)).build();
+    }
+
+    @Test
+    public void testGroupByAttributes() throws Exception {
+        assertNull(MessageFactory.groupByAttributes(null));
+        List<SxpBindingFields> bindings = new ArrayList<>();
+        bindings.add(getBinding(20, "1.1.1.1/32"));
+        bindings.add(getBinding(30, "2.2.2.2/32"));
+        bindings.add(getBinding(20, "3.3.3.3/32", "127.0.0.1"));
+        bindings.add(getBinding(20, "4.4.4.4/32"));
+        bindings.add(getBinding(30, "5.5.5.5/32"));
+        bindings.add(getBinding(20, "6.6.6.6/32", "127.0.0.1"));
+
+        List<SxpBindingFields> grouped = MessageFactory.groupByAttributes(bindings);
+        assertEquals(6, bindings.size());
+        assertEquals("1.1.1.1/32", grouped.get(0).getIpPrefix().getIpv4Prefix().getValue());
+        assertEquals("4.4.4.4/32", grouped.get(1).getIpPrefix().getIpv4Prefix().getValue());
+        assertEquals("2.2.2.2/32", grouped.get(2).getIpPrefix().getIpv4Prefix().getValue());
+        assertEquals("5.5.5.5/32", grouped.get(3).getIpPrefix().getIpv4Prefix().getValue());
+        assertEquals("3.3.3.3/32", grouped.get(4).getIpPrefix().getIpv4Prefix().getValue());
+        assertEquals("6.6.6.6/32", grouped.get(5).getIpPrefix().getIpv4Prefix().getValue());
+    }
+
+    @Test
+    public void testCreateUpdateGrouped() throws Exception {
+        List<CapabilityType> capabilityTypes = new ArrayList<>();
+        capabilityTypes.add(CapabilityType.Ipv4Unicast);
+        capabilityTypes.add(CapabilityType.Ipv6Unicast);
+        List<SxpBindingFields> add = new ArrayList<>();
+        for (int i = 0; i < Constants.MESSAGE_EXPORT_QUANTITY; i++) {
+            add.add(i % 3 == 0 ? getBinding(10 + i % 10, "2001::" + Integer.toHexString(i + 1) + "/128",
+                    "10.0.0." + i % 2) : getBinding(10 + i % 10, "10.1." + i + ".0/24", "10.0.0." + i % 2));
+        }
+
+        byte[] ungrouped = toBytes(MessageFactory.createUpdate(null, add, nodeId, capabilityTypes, null, false)),
+                grouped = toBytes(MessageFactory.createUpdate(null, add, nodeId, capabilityTypes, null, true));
+        assertTrue(grouped.length < ungrouped.length / 2);
+
+        ByteBuf message = PooledByteBufAllocator.DEFAULT.buffer(grouped.length);
+        message.writeBytes(grouped);
+        UpdateMessage notification = (UpdateMessage) MessageFactory.parse(Version.Version4, message);
+        message.release();
+        assertEquals(add.size(), notification.getAttribute().stream().mapToInt(a -> {
+            if (a.getAttributeOptionalFields() instanceof Ipv4AddPrefixAttribute) {
+                return ((Ipv4AddPrefixAttribute) a.getAttributeOptionalFields()).getIpv4AddPrefixAttributes()
+                        .getIpPrefix()
+                        .size();
+            } else if (a.getAttributeOptionalFields() instanceof Ipv6AddPrefixAttribute) {
+                return ((Ipv6AddPrefixAttribute) a.getAttributeOptionalFields()).getIpv6AddPrefixAttributes()
+                        .getIpPrefix()
+                        .size();
+            }
+            return 0;
+        }).sum());
+    }
+
     @Test
     public void testCreateUpdate() throws Exception {
         List<SxpBindingFields> add = new ArrayList<>(), dell = new ArrayList<>();
@@ -453,6 +519,43 @@ public class MessageFactoryTest {
         MessageFactory.parse(Version.Version4, message);
     }
 
+    @Test
+    public void testParseException2() throws Exception {
+        byte[] msg = new byte[] {0, 0, 0, 20, 0, 0, 0, 3, 16, 17, 2, 78};
+        ByteBuf message = PooledByteBufAllocator.DEFAULT.buffer(msg.length);
+        message.writeBytes(msg);
+        exception.expect(ErrorMessageException.class);
+        MessageFactory.parse(Version.Version4, message);
+    }
+
+    @Test
+    public void testParseException3() throws Exception {
+        byte[] msg = new byte[] {0, 0, 0, 8, 0, 0, 0, 99};
+        ByteBuf message = PooledByteBufAllocator.DEFAULT.buffer(msg.length);
+        message.writeBytes(msg);
+        exception.expect(UnknownSxpMessageTypeException.class);
+        MessageFactory.parse(Version.Version4, message);
+    }
+
+    @Test
+    public void testDecodeUpdateByteBuf() throws Exception {
+        byte[] payload = new byte[] {-1, -1, 16, 17, 2, 78, 32, 16, 11, 5, 30, 10, 10, 10, 10};
+        ByteBuf message = PooledByteBufAllocator.DEFAULT.buffer(payload.length);
+        message.writeBytes(payload);
+        message.skipBytes(2);
+
+        UpdateMessage notification = (UpdateMessage) MessageFactory.decodeUpdate(message);
+        assertFalse(message.isReadable());
+        message.release();
+        assertEquals(21, (int) notification.getLength());
+        assertArrayEquals(new byte[] {16, 17, 2, 78, 32, 16, 11, 5, 30, 10, 10, 10, 10}, notification.getPayload());
+        assertEquals(2, notification.getAttribute().size());
+        assertTrue(((Ipv4AddPrefixAttribute) AttributeList.get(notification.getAttribute(),
+                AttributeType.Ipv4AddPrefix)).getIpv4AddPrefixAttributes()
+                .getIpPrefix()
+                .contains(new IpPrefix("10.10.10.10/30".toCharArray())));
+    }
+
     @Test
     public void testDecodeCapabilities() throws Exception {
         List<CapabilityType>
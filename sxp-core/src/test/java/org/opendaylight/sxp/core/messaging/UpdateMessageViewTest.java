@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.messaging;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opendaylight.sxp.util.ArraysUtil;
+import org.opendaylight.sxp.util.exception.message.attribute.AddressLengthException;
+import org.opendaylight.sxp.util.exception.message.attribute.AttributeLengthException;
+import org.opendaylight.sxp.util.inet.NodeIdConv;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.AttributeType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.MessageType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.Version;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.attributes.fields.Attribute;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.sxp.messages.Notification;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.sxp.messages.UpdateMessage;
+
+public class UpdateMessageViewTest {
+
+    @Rule public ExpectedException exception = ExpectedException.none();
+
+    private List<IpPrefix> prefixes;
+    private byte[] payload;
+
+    @Before
+    public void init() throws Exception {
+        prefixes = new ArrayList<>();
+        prefixes.add(new IpPrefix("10.0.0.0/24".toCharArray()));
+        prefixes.add(new IpPrefix("10.1.1.1/32".toCharArray()));
+        List<Attribute> attributes = new ArrayList<>();
+        attributes.add(AttributeFactory.createPeerSequence(
+                Arrays.asList(new NodeId("1.1.1.1"), new NodeId("2.2.2.2"))));
+        attributes.add(AttributeFactory.createSourceGroupTag(25));
+        attributes.add(AttributeFactory.createIpv4AddPrefix(prefixes, AttributeFactory._onpCe));
+        payload = AttributeList.create(attributes).toBytes();
+    }
+
+    @Test
+    public void testCreate() throws Exception {
+        UpdateMessageView view = UpdateMessageView.create(payload.clone());
+        assertEquals(MessageType.Update, view.getType());
+        assertEquals(8 + payload.length, (int) view.getLength());
+        assertArrayEquals(payload, view.getPayload());
+
+        List<AttributeType> types = new ArrayList<>();
+        view.forEach(a -> types.add(a.getType()));
+        assertEquals(Arrays.asList(AttributeType.PeerSequence, AttributeType.SourceGroupTag,
+                AttributeType.Ipv4AddPrefix), types);
+    }
+
+    @Test
+    public void testCreateException() throws Exception {
+        exception.expect(AttributeLengthException.class);
+        UpdateMessageView.create(ArraysUtil.readBytes(payload, 0, payload.length - 1));
+    }
+
+    @Test
+    public void testCreateException2() throws Exception {
+        exception.expect(AddressLengthException.class);
+        UpdateMessageView.create(
+                new byte[] {AttributeFactory._onpCe, (byte) AttributeType.Ipv4AddPrefix.getIntValue(), 2, 33, 10});
+    }
+
+    @Test
+    public void testAttributeView() throws Exception {
+        Iterator<AttributeView> iterator = UpdateMessageView.create(payload).iterator();
+
+        AttributeView attribute = iterator.next();
+        assertFalse(attribute.isOptional());
+        assertTrue(attribute.isCompact());
+        assertTrue(attribute.containsNodeId(new NodeId("2.2.2.2")));
+        assertFalse(attribute.containsNodeId(new NodeId("3.3.3.3")));
+        assertFalse(attribute.containsNodeId(null));
+        List<NodeId> nodeIds = attribute.getNodeIds();
+        assertEquals(2, nodeIds.size());
+        assertEquals("2.2.2.2", NodeIdConv.toString(nodeIds.get(1)));
+
+        attribute = iterator.next();
+        assertEquals(25, attribute.getSgt());
+        assertEquals(2, attribute.getValue().readableBytes());
+
+        attribute = iterator.next();
+        assertTrue(attribute.isCompact());
+        assertFalse(attribute.isExtendedLength());
+        assertEquals(prefixes, attribute.getPrefixes());
+        List<String> visited = new ArrayList<>();
+        assertEquals(2, attribute.forEachPrefix((address, length) -> visited.add(
+                (address[0] & 0xFF) + "." + (address[1] & 0xFF) + "." + (address[2] & 0xFF) + "." + (address[3]
+                        & 0xFF) + "/" + length)));
+        assertEquals(Arrays.asList("10.0.0.0/24", "10.1.1.1/32"), visited);
+        assertEquals(AttributeType.Ipv4AddPrefix, attribute.toAttribute().getType());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testParse() throws Exception {
+        ByteBuf message = PooledByteBufAllocator.DEFAULT.buffer();
+        message.writeInt(8 + payload.length).writeInt(MessageType.Update.getIntValue()).writeBytes(payload);
+
+        Notification notification = MessageFactory.parse(Version.Version4, message, true);
+        assertTrue(notification instanceof UpdateMessageView);
+        UpdateMessage updateMessage = ((UpdateMessageView) notification).toUpdateMessage();
+        assertEquals(3, updateMessage.getAttribute().size());
+        assertEquals(AttributeType.Ipv4AddPrefix, updateMessage.getAttribute().get(2).getType());
+        message.release();
+    }
+}
@@ -17,19 +17,26 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.netty.buffer.ByteBuf;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.function.BiFunction;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.opendaylight.sxp.core.Configuration;
 import org.opendaylight.sxp.core.SxpConnection;
 import org.opendaylight.sxp.core.SxpNode;
+import org.opendaylight.sxp.core.behavior.Context;
 import org.opendaylight.sxp.core.threading.ThreadsWorker;
+import org.opendaylight.sxp.util.filtering.SxpBindingFilter;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.Sgt;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.SxpBindingFields;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBindingBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.Version;
@@ -38,7 +45,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 @RunWith(PowerMockRunner.class)
-@PrepareForTest({SxpNode.class})
+@PrepareForTest({SxpNode.class, Context.class})
 public class BindingDispatcherTest {
 
     @Rule public ExpectedException exception = ExpectedException.none();
@@ -126,6 +133,32 @@ public class BindingDispatcherTest {
         assertEquals(0, partitions.size());
     }
 
+    @Test
+    public void testPartitionBindingsGroupedByAttributes() throws Exception {
+        final SxpConnection connection = mockConnection(Version.Version4);
+        final Context context = PowerMockito.mock(Context.class);
+        when(connection.getContext()).thenReturn(context);
+        final MasterDatabaseBindingBuilder bindingBuilder = new MasterDatabaseBindingBuilder();
+        final List<SxpBindingFields> bindings = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            bindings.add(bindingBuilder.setIpPrefix(new IpPrefix(("1.1.1." + i + "/32").toCharArray()))
+                    .setSecurityGroupTag(new Sgt(10 + i % 2))
+                    .build());
+        }
+
+        final List<BiFunction<SxpConnection, SxpBindingFilter, ByteBuf>>
+                partitions =
+                dispatcher.partitionBindings(connection, null, bindings);
+        assertEquals(1, partitions.size());
+        partitions.get(0).apply(connection, null);
+
+        final ArgumentCaptor<List> addBindings = ArgumentCaptor.forClass(List.class);
+        verify(context).executeUpdateMessageStrategy(eq(connection), any(List.class), addBindings.capture(),
+                any(SxpBindingFilter.class));
+        assertEquals(Arrays.asList(bindings.get(0), bindings.get(2), bindings.get(1), bindings.get(3)),
+                addBindings.getValue());
+    }
+
     @Test
     public void testPropagateUpdate() throws Exception {
         dispatcher.setPartitionSize(5);
@@ -153,6 +186,35 @@ public class BindingDispatcherTest {
                 any(SxpConnection.class));
     }
 
+    private SxpBindingFilter mockFilter(String... admitted) {
+        SxpBindingFilter filter = mock(SxpBindingFilter.class);
+        List<SxpBindingFields> bindings = getBindings(admitted);
+        when(filter.test(any(SxpBindingFields.class))).thenAnswer(
+                invocation -> bindings.stream()
+                        .anyMatch(b -> b.getIpPrefix()
+                                .equals(((SxpBindingFields) invocation.getArguments()[0]).getIpPrefix())));
+        return filter;
+    }
+
+    @Test
+    public void testPropagateFilterUpdate() throws Exception {
+        SxpConnection connection = mockConnection(Version.Version4);
+        SxpBindingFilter filter = mockFilter("1.1.1.1/32", "2.2.2.2/32");
+
+        dispatcher.propagateFilterUpdate(connection, getBindings("1.1.1.1/32", "2.2.2.2/32"), null, null);
+        dispatcher.propagateFilterUpdate(connection, getBindings("1.1.1.1/32", "2.2.2.2/32"), filter, filter);
+        dispatcher.propagateFilterUpdate(connection, getBindings("1.1.1.1/32", "2.2.2.2/32"), null, filter);
+        dispatcher.propagateFilterUpdate(connection, getBindings("1.1.1.1/32", "2.2.2.2/32"), filter,
+                mockFilter("1.1.1.1/32", "2.2.2.2/32"));
+        verify(worker, never()).executeTaskInSequence(any(Callable.class), eq(ThreadsWorker.WorkerType.OUTBOUND),
+                any(SxpConnection.class));
+
+        dispatcher.propagateFilterUpdate(connection, getBindings("1.1.1.1/32", "2.2.2.2/32", "3.3.3.3/32"),
+                filter, mockFilter("2.2.2.2/32", "3.3.3.3/32"));
+        verify(worker).executeTaskInSequence(any(Callable.class), eq(ThreadsWorker.WorkerType.OUTBOUND),
+                eq(connection));
+    }
+
     @Test
     public void testSendPurgeAllMessage() throws Exception {
         SxpConnection connection = mockConnection(Version.Version4);
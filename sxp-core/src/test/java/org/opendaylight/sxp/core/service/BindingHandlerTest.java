@@ -9,20 +9,29 @@
 package org.opendaylight.sxp.core.service;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableScheduledFuture;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Rule;
@@ -34,6 +43,8 @@ import org.opendaylight.sxp.core.SxpConnection;
 import org.opendaylight.sxp.core.SxpDomain;
 import org.opendaylight.sxp.core.SxpNode;
 import org.opendaylight.sxp.core.messaging.AttributeFactory;
+import org.opendaylight.sxp.core.messaging.AttributeList;
+import org.opendaylight.sxp.core.messaging.UpdateMessageView;
 import org.opendaylight.sxp.core.messaging.legacy.LegacyAttributeFactory;
 import org.opendaylight.sxp.core.threading.ThreadsWorker;
 import org.opendaylight.sxp.util.database.MasterDatabaseImpl;
@@ -266,6 +277,10 @@ public class BindingHandlerTest {
         return updateMessageBuilder.build();
     }
 
+    private UpdateMessageView getMessageView(List<Attribute> attributes) throws Exception {
+        return UpdateMessageView.create(AttributeList.create(attributes).toBytes());
+    }
+
     private UpdateMessageLegacy getMessageLegacy(List<MappingRecord> mappingRecords) {
         UpdateMessageLegacyBuilder updateMessageBuilder = new UpdateMessageLegacyBuilder();
         updateMessageBuilder.setType(MessageType.Update);
@@ -351,6 +366,29 @@ public class BindingHandlerTest {
         assertDatabase(bindings, ipPrefixes);
     }
 
+    @Test
+    public void testProcessMessageAdditionView() throws Exception {
+        List<IpPrefix> ipPrefixes = getIpPrefixes("127.0.0.0/32", "127.0.10.2/32");
+        ipPrefixes.addAll(getIpPrefixes("2001:0:0:0:0:0:0:1/128", "2001:0:0:0:0:0:0:0/64"));
+
+        List<SxpDatabaseBinding>
+                bindings =
+                BindingHandler.processMessageAddition(getMessageView(getAddition().subList(0, 6)), null, null);
+        assertDatabase(bindings, ipPrefixes);
+        assertEquals(25, bindings.get(0).getSecurityGroupTag().getValue().intValue());
+        assertEquals("1.1.1.1", bindings.get(0).getPeerSequence().getPeer().get(0).getNodeId().getValue());
+        assertEquals(45, bindings.get(3).getSecurityGroupTag().getValue().intValue());
+    }
+
+    @Test
+    public void testProcessMessageAdditionViewLoop() throws Exception {
+        List<SxpDatabaseBinding>
+                bindings =
+                BindingHandler.processMessageAddition(getMessageView(getAddition().subList(0, 6)), null,
+                        new NodeId("1.1.1.1"));
+        assertDatabase(bindings, getIpPrefixes("2001:0:0:0:0:0:0:1/128", "2001:0:0:0:0:0:0:0/64"));
+    }
+
     @Test
     public void testProcessMessageAdditionLegacy() throws Exception {
         List<IpPrefix> ipPrefixes = new ArrayList<>();
@@ -381,6 +419,17 @@ public class BindingHandlerTest {
         assertDatabase(bindings, ipPrefixes);
     }
 
+    @Test
+    public void testProcessMessageDeletionView() throws Exception {
+        List<IpPrefix> ipPrefixes = getIpPrefixes("127.0.0.0/32", "127.0.10.2/32");
+        ipPrefixes.addAll(getIpPrefixes("2001:0:0:0:0:0:0:1/128", "2001:0:0:0:0:0:0:0/64"));
+
+        List<SxpDatabaseBinding>
+                bindings =
+                BindingHandler.processMessageDeletion(getMessageView(getDeletion().subList(0, 2)));
+        assertDatabase(bindings, ipPrefixes);
+    }
+
     @Test
     public void testProcessMessageDeletionLegacy() throws Exception {
         List<IpPrefix> ipPrefixes = new ArrayList<>();
@@ -402,6 +451,95 @@ public class BindingHandlerTest {
         verify(worker).executeTaskInSequence(any(Callable.class), eq(ThreadsWorker.WorkerType.INBOUND), eq(connection));
     }
 
+    @Test
+    public void testProcessBatchedPurge() throws Exception {
+        final BindingDispatcher dispatcher = PowerMockito.mock(BindingDispatcher.class);
+        handler = new BindingHandler(sxpNode, dispatcher);
+        when(worker.scheduleTask(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(
+                mock(ListenableScheduledFuture.class));
+        when(worker.executeTaskInSequence(any(Callable.class), any(ThreadsWorker.WorkerType.class),
+                any(SxpConnection.class))).thenAnswer(
+                invocation -> Futures.immediateFuture(((Callable) invocation.getArguments()[0]).call()));
+        when(worker.executeTask(any(Callable.class), any(ThreadsWorker.WorkerType.class))).thenAnswer(
+                invocation -> Futures.immediateFuture(((Callable) invocation.getArguments()[0]).call()));
+        final SxpConnection connection1 = mock(SxpConnection.class), connection2 = mock(SxpConnection.class),
+                connection3 = mock(SxpConnection.class), listener = mock(SxpConnection.class);
+        when(connection1.getDomainName()).thenReturn("default");
+        when(connection1.getId()).thenReturn(NodeId.getDefaultInstance("0.0.0.1"));
+        when(connection1.isStateDeleteHoldDown()).thenReturn(true);
+        when(connection2.getDomainName()).thenReturn("default");
+        when(connection2.getId()).thenReturn(NodeId.getDefaultInstance("0.0.0.2"));
+        when(connection2.isStatePendingOn()).thenReturn(true);
+        when(connection3.getDomainName()).thenReturn("default");
+        when(connection3.getId()).thenReturn(NodeId.getDefaultInstance("0.0.0.4"));
+        when(listener.getId()).thenReturn(NodeId.getDefaultInstance("0.0.0.3"));
+        when(listener.isModeListener()).thenReturn(true);
+        List<SxpConnection> connections = new ArrayList<>();
+        connections.add(listener);
+        PowerMockito.when(sxpNode.getAllConnections("default")).thenReturn(connections);
+
+        final List<SxpDatabaseBinding> bindings1 = new ArrayList<>(), bindings2 = new ArrayList<>(),
+                bindings3 = new ArrayList<>(), bindings4 = new ArrayList<>();
+        bindings1.add(getBinding("5.5.5.5/32", 20, new PeerSequenceBuilder().setPeer(new ArrayList<>()).build()));
+        bindings2.add(getBinding("5.5.5.5/32", 30, new PeerSequenceBuilder().setPeer(new ArrayList<>()).build()));
+        bindings2.add(getBinding("6.6.6.6/32", 40, new PeerSequenceBuilder().setPeer(new ArrayList<>()).build()));
+        bindings3.add(getBinding("5.5.5.5/32", 50, new PeerSequenceBuilder().setPeer(new ArrayList<>()).build()));
+        bindings4.add(getBinding("7.7.7.7/32", 60, new PeerSequenceBuilder().setPeer(new ArrayList<>()).build()));
+        sxpDatabaseInf.addBinding(connection1.getId(), bindings1);
+        sxpDatabaseInf.addBinding(connection2.getId(), bindings2);
+        sxpDatabaseInf.addBinding(listener.getId(), bindings3);
+        sxpDatabaseInf.addBinding(connection3.getId(), bindings4);
+        masterDatabaseInf.addBindings(bindings1);
+        masterDatabaseInf.addBindings(bindings2.subList(1, 2));
+        masterDatabaseInf.addBindings(bindings4);
+
+        final ListenableFuture<Void> future1 = handler.processBatchedPurge(connection1),
+                future2 = handler.processBatchedPurge(connection2),
+                future3 = handler.processBatchedPurge(connection3);
+        verify(worker, times(1)).scheduleTask(any(Callable.class), eq(BindingHandler.PURGE_BATCH_WINDOW),
+                eq(TimeUnit.MILLISECONDS));
+        assertFalse(future1.isDone());
+
+        handler.purgeBatch("default");
+        assertTrue(future1.isDone());
+        assertTrue(future2.isDone());
+        assertTrue(future3.isDone());
+        verify(worker).executeTaskInSequence(any(Callable.class), eq(ThreadsWorker.WorkerType.INBOUND),
+                eq(connection1));
+        verify(worker).executeTaskInSequence(any(Callable.class), eq(ThreadsWorker.WorkerType.INBOUND),
+                eq(connection2));
+        assertTrue(sxpDatabaseInf.getBindings(connection1.getId()).isEmpty());
+        assertTrue(sxpDatabaseInf.getBindings(connection2.getId()).isEmpty());
+        assertFalse(sxpDatabaseInf.getBindings(connection3.getId()).isEmpty());
+        assertDatabase(masterDatabaseInf.getBindings(), getIpPrefixes("5.5.5.5/32", "7.7.7.7/32"));
+
+        ArgumentCaptor<List> deleted = ArgumentCaptor.forClass(List.class), added = ArgumentCaptor.forClass(List.class);
+        verify(dispatcher).propagateUpdate(deleted.capture(), added.capture(), any(List.class));
+        assertDatabase(deleted.getValue(), getIpPrefixes("6.6.6.6/32"));
+        assertDatabase(added.getValue(), getIpPrefixes("5.5.5.5/32"));
+
+        handler.processBatchedPurge(connection1);
+        verify(worker, times(2)).scheduleTask(any(Callable.class), eq(BindingHandler.PURGE_BATCH_WINDOW),
+                eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testProcessBatchedPurgeCanceled() throws Exception {
+        final ListenableScheduledFuture scheduled = mock(ListenableScheduledFuture.class);
+        final ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+        when(worker.scheduleTask(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(scheduled);
+
+        final ListenableFuture<Void> future = handler.processBatchedPurge(connection);
+        verify(scheduled).addListener(listener.capture(), any(Executor.class));
+        when(scheduled.isCancelled()).thenReturn(true);
+        listener.getValue().run();
+        assertTrue(future.isCancelled());
+
+        when(worker.scheduleTask(any(Callable.class), anyInt(), any(TimeUnit.class))).thenThrow(
+                new RejectedExecutionException());
+        assertTrue(handler.processBatchedPurge(connection).isCancelled());
+    }
+
     @Test
     public void testProcessUpdate() throws Exception {
         List<SxpBindingFields> add = new ArrayList<>(), dell = new ArrayList<>();
@@ -448,6 +586,25 @@ public class BindingHandlerTest {
         assertDatabase(masterDatabaseInf.getBindings(), getIpPrefixes("5.5.5.5/32", "15.5.15.0/24"));
     }
 
+    @Test
+    public void testProcessUpdateEventLoop() throws Exception {
+        ArgumentCaptor<Callable> handOffCaptor = ArgumentCaptor.forClass(Callable.class);
+        when(worker.isExecutedOnEventLoop(ThreadsWorker.WorkerType.INBOUND)).thenReturn(true);
+        when(worker.handOffTaskInSequence(handOffCaptor.capture(), any(ThreadsWorker.WorkerType.class),
+                any(SxpConnection.class))).thenReturn(mock(ListenableFuture.class));
+        List<SxpBindingFields> add = new ArrayList<>();
+        add.add(getBinding("5.5.5.5/32", 20, new PeerSequenceBuilder().setPeer(new ArrayList<>()).build()));
+
+        handler.processUpdate(new ArrayList<>(), add, connection);
+        taskCaptor.getValue().call();
+        verify(worker).handOffTaskInSequence(any(Callable.class), eq(ThreadsWorker.WorkerType.INBOUND),
+                eq(connection));
+        assertTrue(masterDatabaseInf.getBindings().isEmpty());
+
+        handOffCaptor.getValue().call();
+        assertDatabase(masterDatabaseInf.getBindings(), getIpPrefixes("5.5.5.5/32"));
+    }
+
     @Test
     public void testSetBufferLimit() throws Exception {
         handler.setBufferLimit(25);
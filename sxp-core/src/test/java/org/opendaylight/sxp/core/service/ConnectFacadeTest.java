@@ -8,31 +8,51 @@
 
 package org.opendaylight.sxp.core.service;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyMap;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelException;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.handler.ssl.SslContext;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.opendaylight.sxp.core.SxpConnection;
+import org.opendaylight.sxp.core.SxpDomain;
 import org.opendaylight.sxp.core.SxpNode;
 import org.opendaylight.sxp.core.handler.HandlerFactory;
 import org.opendaylight.sxp.core.handler.MessageDecoder;
+import org.opendaylight.sxp.core.threading.EventLoopGroups;
+import org.opendaylight.sxp.core.threading.ThreadsWorker;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.SecurityType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.SxpConnectionTemplateFields;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.sxp.connection.templates.fields.connection.templates.ConnectionTemplate;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.sxp.connection.templates.fields.connection.templates.ConnectionTemplateBuilder;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 @RunWith(PowerMockRunner.class)
-@PrepareForTest({SxpNode.class, SslContextFactory.class})
+@PrepareForTest({SxpNode.class, SxpDomain.class, SslContextFactory.class})
 public class ConnectFacadeTest {
 
     private static SxpNode sxpNode;
@@ -45,6 +65,9 @@ public class ConnectFacadeTest {
         PowerMockito.when(sxpNode.getPassword()).thenReturn("cisco");
         PowerMockito.when(sxpNode.getSourceIp()).thenReturn(InetAddress.getByName("127.0.0.1"));
         PowerMockito.when(sxpNode.getSslContextFactory()).thenReturn(contextFactory);
+        final ThreadsWorker worker = mock(ThreadsWorker.class);
+        when(worker.getEventLoopGroups()).thenReturn(EventLoopGroups.getShared());
+        PowerMockito.when(sxpNode.getWorker()).thenReturn(worker);
         PowerMockito.when(contextFactory.getClientContext()).thenReturn(Optional.of(mock(SslContext.class)));
         PowerMockito.when(contextFactory.getServerContext()).thenReturn(Optional.of(mock(SslContext.class)));
     }
@@ -98,4 +121,49 @@ public class ConnectFacadeTest {
         channel.close().get();
     }
 
+    private static ConnectionTemplate getTemplate(String prefix, String password) {
+        return new ConnectionTemplateBuilder().setTemplatePrefix(new IpPrefix(prefix.toCharArray()))
+                .setTemplatePassword(password)
+                .setTemplateSecurityType(SecurityType.Default)
+                .build();
+    }
+
+    @Test
+    public void testCollectAllPasswords() throws Exception {
+        final SxpDomain domain = PowerMockito.mock(SxpDomain.class);
+        PowerMockito.when(domain.getConnectionTemplates()).thenReturn(
+                Arrays.<SxpConnectionTemplateFields>asList(getTemplate("10.0.0.2/31", "b"), getTemplate("10.0.0.0/24", "a"),
+                        getTemplate("2001:db8::/96", "a")));
+        PowerMockito.when(sxpNode.getDomains()).thenReturn(Collections.singletonList(domain));
+        final SxpConnection connection = mock(SxpConnection.class);
+        when(connection.getPassword()).thenReturn("c");
+        when(connection.getSecurityType()).thenReturn(SecurityType.Default);
+        when(connection.getDestination()).thenReturn(new InetSocketAddress("10.0.0.1", 64999));
+        PowerMockito.when(sxpNode.getAllConnections()).thenReturn(Collections.singletonList(connection));
+
+        final Map<InetAddress, byte[]> keys = ConnectFacade.collectAllPasswords(sxpNode);
+        assertEquals(256, keys.size());
+        assertArrayEquals("a".getBytes(), keys.get(InetAddress.getByName("10.0.0.0")));
+        assertArrayEquals("c".getBytes(), keys.get(InetAddress.getByName("10.0.0.1")));
+        assertArrayEquals("b".getBytes(), keys.get(InetAddress.getByName("10.0.0.2")));
+        assertArrayEquals("b".getBytes(), keys.get(InetAddress.getByName("10.0.0.3")));
+        assertArrayEquals("a".getBytes(), keys.get(InetAddress.getByName("10.0.0.255")));
+        assertNull(keys.get(InetAddress.getByName("2001:db8::1")));
+    }
+
+    @Test
+    public void testUpdateServerPasswords() throws Exception {
+        Channel channel = mock(Channel.class);
+        ChannelConfig config = mock(ChannelConfig.class);
+        when(channel.config()).thenReturn(config);
+        when(config.setOption(eq(EpollChannelOption.TCP_MD5SIG), anyMap())).thenReturn(true);
+
+        assertTrue(ConnectFacade.updateServerPasswords(sxpNode, channel));
+        verify(config).setOption(eq(EpollChannelOption.TCP_MD5SIG), anyMap());
+
+        when(config.setOption(eq(EpollChannelOption.TCP_MD5SIG), anyMap())).thenThrow(
+                new ChannelException("error"));
+        assertFalse(ConnectFacade.updateServerPasswords(sxpNode, channel));
+    }
+
 }
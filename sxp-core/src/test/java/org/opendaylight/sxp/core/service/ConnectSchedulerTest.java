@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.util.concurrent.GenericFutureListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.opendaylight.sxp.core.SxpConnection;
+import org.opendaylight.sxp.core.SxpNode;
+import org.opendaylight.sxp.core.threading.ThreadsWorker;
+import org.opendaylight.sxp.util.time.HashedWheelTimer;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({SxpNode.class})
+public class ConnectSchedulerTest {
+
+    private static SxpNode sxpNode;
+    private static ThreadsWorker worker;
+    private static List<SxpConnection> connected;
+    private static List<ChannelFuture> futures, closeFutures;
+
+    @Before
+    public void init() throws Exception {
+        sxpNode = PowerMockito.mock(SxpNode.class);
+        worker = mock(ThreadsWorker.class);
+        when(worker.scheduleTimer(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(
+                mock(HashedWheelTimer.Timeout.class));
+        PowerMockito.when(sxpNode.getWorker()).thenReturn(worker);
+        connected = new ArrayList<>();
+        futures = new ArrayList<>();
+        closeFutures = new ArrayList<>();
+    }
+
+    private ConnectScheduler getScheduler(int maxInFlight, int rate, int burst) {
+        return new ConnectScheduler(sxpNode, connection -> {
+            final ChannelFuture future = mock(ChannelFuture.class), closeFuture = mock(ChannelFuture.class);
+            final Channel channel = mock(Channel.class);
+            when(channel.closeFuture()).thenReturn(closeFuture);
+            when(future.channel()).thenReturn(channel);
+            connected.add(connection);
+            futures.add(future);
+            closeFutures.add(closeFuture);
+            return future;
+        }, maxInFlight, rate, burst, 1000, 8000);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void complete(int index, boolean success) throws Exception {
+        final ChannelFuture future = futures.get(index);
+        final ArgumentCaptor<GenericFutureListener> listener = ArgumentCaptor.forClass(GenericFutureListener.class);
+        verify(future).addListener(listener.capture());
+        when(future.isSuccess()).thenReturn(success);
+        listener.getValue().operationComplete(future);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void close(int index) throws Exception {
+        final ChannelFuture future = closeFutures.get(index);
+        final ArgumentCaptor<GenericFutureListener> listener = ArgumentCaptor.forClass(GenericFutureListener.class);
+        verify(future).addListener(listener.capture());
+        listener.getValue().operationComplete(future);
+    }
+
+    @Test
+    public void testMaxInFlight() throws Exception {
+        final ConnectScheduler scheduler = getScheduler(2, 100, 10);
+        final SxpConnection connection1 = mock(SxpConnection.class), connection2 = mock(SxpConnection.class),
+                connection3 = mock(SxpConnection.class);
+        scheduler.submit(connection1);
+        scheduler.submit(connection2);
+        scheduler.submit(connection3);
+        scheduler.submit(connection1);
+        assertEquals(2, connected.size());
+        assertEquals(2, scheduler.getInFlight());
+        assertEquals(1, scheduler.getPending());
+
+        complete(0, true);
+        assertEquals(2, connected.size());
+        assertEquals(2, scheduler.getInFlight());
+
+        scheduler.connected(connection1);
+        assertEquals(3, connected.size());
+        assertEquals(connection3, connected.get(2));
+        assertEquals(2, scheduler.getInFlight());
+        assertEquals(0, scheduler.getPending());
+        assertEquals(0, scheduler.getFailed());
+    }
+
+    @Test
+    public void testRate() throws Exception {
+        final ConnectScheduler scheduler = getScheduler(10, 1, 2);
+        for (int i = 0; i < 3; i++) {
+            scheduler.submit(mock(SxpConnection.class));
+        }
+        assertEquals(2, connected.size());
+        assertEquals(1, scheduler.getPending());
+        verify(worker).scheduleTimer(any(Callable.class), anyInt(), any(TimeUnit.class));
+
+        scheduler.drain(System.nanoTime() + TimeUnit.SECONDS.toNanos(2));
+        assertEquals(3, connected.size());
+        assertEquals(0, scheduler.getPending());
+    }
+
+    @Test
+    public void testBackoff() throws Exception {
+        final ConnectScheduler scheduler = getScheduler(10, 100, 10);
+        final SxpConnection connection = mock(SxpConnection.class);
+        scheduler.submit(connection);
+        complete(0, false);
+        assertEquals(1, scheduler.getFailed());
+        assertEquals(0, scheduler.getInFlight());
+
+        scheduler.submit(connection);
+        assertEquals(1, connected.size());
+        assertEquals(1, scheduler.getPending());
+        verify(worker).scheduleTimer(any(Callable.class), anyInt(), any(TimeUnit.class));
+
+        scheduler.drain(System.nanoTime() + TimeUnit.SECONDS.toNanos(1));
+        assertEquals(2, connected.size());
+        complete(1, false);
+        assertEquals(2, scheduler.getFailed());
+
+        scheduler.submit(connection);
+        scheduler.drain(System.nanoTime());
+        assertEquals(2, connected.size());
+        scheduler.drain(System.nanoTime() + TimeUnit.SECONDS.toNanos(2));
+        assertEquals(3, connected.size());
+        complete(2, true);
+        scheduler.connected(connection);
+
+        scheduler.submit(connection);
+        assertEquals(4, connected.size());
+    }
+
+    @Test
+    public void testOpenFailure() throws Exception {
+        final ConnectScheduler scheduler = getScheduler(10, 100, 10);
+        final SxpConnection connection1 = mock(SxpConnection.class), connection2 = mock(SxpConnection.class);
+        scheduler.submit(connection1);
+        scheduler.submit(connection2);
+        complete(0, true);
+        complete(1, true);
+        assertEquals(2, scheduler.getInFlight());
+
+        scheduler.disconnected(connection1);
+        close(1);
+        assertEquals(0, scheduler.getInFlight());
+        assertEquals(2, scheduler.getFailed());
+
+        scheduler.submit(connection1);
+        assertEquals(2, connected.size());
+        assertEquals(1, scheduler.getPending());
+
+        close(0);
+        scheduler.disconnected(connection2);
+        assertEquals(2, scheduler.getFailed());
+    }
+
+    @Test
+    public void testNotStarted() throws Exception {
+        final ConnectScheduler
+                scheduler =
+                new ConnectScheduler(sxpNode, connection -> null, 1, 100, 10, 1000, 8000);
+        scheduler.submit(mock(SxpConnection.class));
+        scheduler.submit(mock(SxpConnection.class));
+        assertEquals(0, scheduler.getInFlight());
+        assertEquals(0, scheduler.getPending());
+        assertEquals(0, scheduler.getFailed());
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        final ConnectScheduler scheduler = getScheduler(1, 100, 10);
+        final SxpConnection connection1 = mock(SxpConnection.class), connection2 = mock(SxpConnection.class);
+        scheduler.submit(connection1);
+        scheduler.submit(connection2);
+        scheduler.remove(connection2);
+        assertEquals(0, scheduler.getPending());
+
+        scheduler.submit(connection2);
+        scheduler.clear();
+        complete(0, true);
+        assertEquals(1, connected.size());
+        verify(worker, never()).scheduleTimer(any(Callable.class), anyInt(), any(TimeUnit.class));
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.service;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultChannelPromise;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.opendaylight.sxp.core.Configuration;
+import org.opendaylight.sxp.core.SxpConnection;
+import org.opendaylight.sxp.core.SxpNode;
+import org.opendaylight.sxp.core.behavior.Context;
+import org.opendaylight.sxp.core.threading.ThreadsWorker;
+import org.opendaylight.sxp.util.exception.connection.ChannelHandlerContextNotFoundException;
+import org.opendaylight.sxp.util.filtering.SxpBindingFilter;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBinding;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBindingBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.protocol.rev141002.Version;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({Context.class, SxpNode.class})
+public class FullSyncExportTaskTest {
+
+    private static SxpConnection connection;
+    private static ChannelHandlerContext ctx;
+    private static Channel channel;
+    private static ByteBuf byteBuf;
+    private static BindingDispatcher dispatcher;
+
+    private List<MasterDatabaseBinding> getBindings(String... strings) {
+        List<MasterDatabaseBinding> bindings = new ArrayList<>();
+        MasterDatabaseBindingBuilder bindingBuilder = new MasterDatabaseBindingBuilder();
+        for (String s : strings) {
+            bindings.add(bindingBuilder.setIpPrefix(new IpPrefix(s.toCharArray())).build());
+        }
+        return bindings;
+    }
+
+    @Before
+    public void init() throws Exception {
+        SxpNode sxpNode = PowerMockito.mock(SxpNode.class);
+        PowerMockito.when(sxpNode.getWorker()).thenReturn(mock(ThreadsWorker.class));
+        dispatcher = new BindingDispatcher(sxpNode);
+        dispatcher.setPartitionSize(2);
+        dispatcher.setExportSliceSize(1);
+
+        connection = mock(SxpConnection.class);
+        when(connection.isStateOn()).thenReturn(true);
+        when(connection.isModeSpeaker()).thenReturn(true);
+        Context context = PowerMockito.mock(Context.class);
+        when(connection.getContext()).thenReturn(context);
+        when(connection.getVersion()).thenReturn(Version.Version4);
+        when(connection.isVersion4()).thenReturn(true);
+        when(connection.getCapabilitiesRemote()).thenReturn(
+                Configuration.getCapabilities(Version.Version4).getCapability());
+        byteBuf = mock(ByteBuf.class);
+        when(byteBuf.capacity()).thenReturn(10);
+        PowerMockito.when(context.executeUpdateMessageStrategy(any(SxpConnection.class), anyList(), anyList(),
+                any(SxpBindingFilter.class))).thenReturn(byteBuf);
+
+        ctx = mock(ChannelHandlerContext.class);
+        channel = mock(Channel.class);
+        when(channel.isWritable()).thenReturn(true);
+        when(ctx.channel()).thenReturn(channel);
+        when(connection.getChannelHandlerContext(any(SxpConnection.ChannelHandlerContextType.class))).thenReturn(ctx);
+    }
+
+    @Test
+    public void testCall() throws Exception {
+        new FullSyncExportTask<>(connection,
+                getBindings("1.1.1.1/32", "2.2.2.2/32", "3.3.3.3/32", "4.4.4.4/32", "5.5.5.5/32")::iterator,
+                dispatcher).call();
+        verify(ctx, times(3)).write(byteBuf);
+        verify(ctx, times(3)).flush();
+        verify(connection).setUpdateOrKeepaliveMessageTimestamp();
+    }
+
+    @Test
+    public void testExecuteSlice() throws Exception {
+        FullSyncExportTask<MasterDatabaseBinding>
+                task =
+                new FullSyncExportTask<>(connection,
+                        getBindings("1.1.1.1/32", "2.2.2.2/32", "3.3.3.3/32", "4.4.4.4/32")::iterator, dispatcher);
+        assertTrue(task.isBulk());
+        assertFalse(task.executeSlice());
+        verify(ctx).write(byteBuf);
+        assertTrue(task.executeSlice());
+        verify(ctx, times(2)).write(byteBuf);
+        verify(connection).setUpdateOrKeepaliveMessageTimestamp();
+    }
+
+    @Test
+    public void testExecuteSliceNotWritable() throws Exception {
+        dispatcher.setExportSliceSize(5);
+        final ChannelPromise write = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+        when(ctx.write(byteBuf)).thenReturn(write);
+        when(channel.isWritable()).thenReturn(false);
+        FullSyncExportTask<MasterDatabaseBinding>
+                task =
+                new FullSyncExportTask<>(connection,
+                        getBindings("1.1.1.1/32", "2.2.2.2/32", "3.3.3.3/32", "4.4.4.4/32")::iterator, dispatcher);
+        assertFalse(task.executeSlice());
+        verify(ctx).write(byteBuf);
+        verify(ctx).flush();
+
+        final Runnable resume = mock(Runnable.class);
+        assertTrue(task.deferUntilReady(resume));
+        verify(resume, never()).run();
+        when(channel.isWritable()).thenReturn(true);
+        write.setSuccess();
+        verify(resume).run();
+        assertFalse(task.deferUntilReady(resume));
+
+        assertTrue(task.executeSlice());
+        verify(ctx, times(2)).write(byteBuf);
+    }
+
+    @Test
+    public void testSlowPeerDoesNotBlockFastPeer() throws Exception {
+        final ThreadsWorker worker = new ThreadsWorker(1, 1, 1, 1);
+        try {
+            final ChannelPromise write = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+            when(ctx.write(byteBuf)).thenReturn(write);
+            when(channel.isWritable()).thenReturn(false);
+
+            final SxpConnection fastConnection = mock(SxpConnection.class);
+            when(fastConnection.isStateOn()).thenReturn(true);
+            when(fastConnection.isModeSpeaker()).thenReturn(true);
+            when(fastConnection.getContext()).thenReturn(connection.getContext());
+            when(fastConnection.getVersion()).thenReturn(Version.Version4);
+            when(fastConnection.isVersion4()).thenReturn(true);
+            when(fastConnection.getCapabilitiesRemote()).thenReturn(
+                    Configuration.getCapabilities(Version.Version4).getCapability());
+            final ChannelHandlerContext fastCtx = mock(ChannelHandlerContext.class);
+            final Channel fastChannel = mock(Channel.class);
+            when(fastChannel.isWritable()).thenReturn(true);
+            when(fastCtx.channel()).thenReturn(fastChannel);
+            when(fastConnection.getChannelHandlerContext(any(SxpConnection.ChannelHandlerContextType.class)))
+                    .thenReturn(fastCtx);
+
+            final ListenableFuture<Void>
+                    slow =
+                    worker.executeTaskInSequence(new FullSyncExportTask<>(connection,
+                                    getBindings("1.1.1.1/32", "2.2.2.2/32", "3.3.3.3/32", "4.4.4.4/32")::iterator,
+                                    dispatcher), ThreadsWorker.WorkerType.OUTBOUND, connection),
+                    fast =
+                    worker.executeTaskInSequence(new FullSyncExportTask<>(fastConnection,
+                                    getBindings("1.1.1.1/32", "2.2.2.2/32", "3.3.3.3/32", "4.4.4.4/32")::iterator,
+                                    dispatcher), ThreadsWorker.WorkerType.OUTBOUND, fastConnection);
+            fast.get(5, TimeUnit.SECONDS);
+            verify(fastCtx, times(2)).write(byteBuf);
+            assertFalse(slow.isDone());
+
+            when(channel.isWritable()).thenReturn(true);
+            write.setSuccess();
+            slow.get(5, TimeUnit.SECONDS);
+            verify(ctx, times(2)).write(byteBuf);
+        } finally {
+            worker.close();
+        }
+    }
+
+    @Test
+    public void testExecuteSliceConnectionOff() throws Exception {
+        when(connection.isStateOn()).thenReturn(false);
+        assertTrue(new FullSyncExportTask<>(connection, getBindings("1.1.1.1/32")::iterator,
+                dispatcher).executeSlice());
+        verify(ctx, never()).write(byteBuf);
+    }
+
+    @Test
+    public void testCallEmptyMessage() throws Exception {
+        when(byteBuf.capacity()).thenReturn(0);
+        new FullSyncExportTask<>(connection, getBindings("1.1.1.1/32", "2.2.2.2/32", "3.3.3.3/32")::iterator,
+                dispatcher).call();
+        verify(ctx, never()).write(byteBuf);
+        verify(byteBuf).release();
+        verify(connection, never()).setUpdateOrKeepaliveMessageTimestamp();
+    }
+
+    @Test
+    public void testCallContextNotFound() throws Exception {
+        when(connection.getChannelHandlerContext(any(SxpConnection.ChannelHandlerContextType.class))).thenThrow(
+                new ChannelHandlerContextNotFoundException());
+        new FullSyncExportTask<>(connection, getBindings("1.1.1.1/32")::iterator, dispatcher).call();
+        verify(ctx, never()).write(byteBuf);
+        verify(connection, never()).setUpdateOrKeepaliveMessageTimestamp();
+    }
+}
@@ -8,7 +8,11 @@
 
 package org.opendaylight.sxp.core.service;
 
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslProvider;
 import java.io.File;
+import java.net.InetSocketAddress;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -93,4 +97,31 @@ public class SslContextFactoryTest {
         Assert.assertTrue(contextFactory.getServerContext().get().isServer());
     }
 
+    @Test
+    public void getSslProvider() throws Exception {
+        Assert.assertEquals(SslProvider.JDK, SslContextFactory.getSslProvider());
+        Assert.assertEquals(SslProvider.JDK.name(), new SslContextFactory(tls).getStatistics().getProvider());
+    }
+
+    @Test
+    public void newHandler() throws Exception {
+        contextFactory = new SslContextFactory(tls);
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        final SslHandler clientHandler =
+                contextFactory.newClientHandler(channel, new InetSocketAddress("127.0.0.1", 64999));
+        Assert.assertTrue(clientHandler.engine().getUseClientMode());
+        Assert.assertEquals("127.0.0.1", clientHandler.engine().getPeerHost());
+        Assert.assertEquals(64999, clientHandler.engine().getPeerPort());
+        Assert.assertFalse(contextFactory.newServerHandler(channel).engine().getUseClientMode());
+        channel.finishAndReleaseAll();
+
+        contextFactory = new SslContextFactory(null);
+        try {
+            contextFactory.newServerHandler(channel);
+            Assert.fail("Should fail as server context is missing");
+        } catch (IllegalStateException e) {
+            //NOP
+        }
+    }
+
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandler;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLSession;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class TlsStatisticsTest {
+
+    private TlsStatistics statistics;
+
+    @Before
+    public void init() throws Exception {
+        statistics = new TlsStatistics();
+    }
+
+    @Test
+    public void testHandshakeCompleted() throws Exception {
+        assertEquals(0, statistics.getResumptionRate(), 0);
+        assertEquals(0, statistics.getFullHandshakeTimeMean());
+
+        statistics.handshakeCompleted(TimeUnit.MILLISECONDS.toNanos(10), false);
+        statistics.handshakeCompleted(TimeUnit.MILLISECONDS.toNanos(30), false);
+        statistics.handshakeCompleted(TimeUnit.MILLISECONDS.toNanos(2), true);
+        statistics.handshakeCompleted(TimeUnit.MILLISECONDS.toNanos(4), true);
+
+        assertEquals(4, statistics.getHandshakes());
+        assertEquals(2, statistics.getResumedHandshakes());
+        assertEquals(50, statistics.getResumptionRate(), 0);
+        assertEquals(20000, statistics.getFullHandshakeTimeMean());
+        assertEquals(3000, statistics.getResumedHandshakeTimeMean());
+        assertEquals(30000, statistics.getHandshakeTimeMax());
+    }
+
+    /**
+     * @param creationTime Creation time of session of handler
+     * @param promise      Handshake future of handler
+     * @return SslHandler mock
+     */
+    private static SslHandler mockHandler(long creationTime, Promise<Channel> promise) {
+        final SslHandler handler = mock(SslHandler.class);
+        final SSLEngine engine = mock(SSLEngine.class);
+        final SSLSession session = mock(SSLSession.class);
+        when(session.getCreationTime()).thenReturn(creationTime);
+        when(engine.getSession()).thenReturn(session);
+        when(handler.engine()).thenReturn(engine);
+        when(handler.handshakeFuture()).thenReturn(promise);
+        return handler;
+    }
+
+    @Test
+    public void testInstrument() throws Exception {
+        final Channel channel = new EmbeddedChannel();
+        final Promise<Channel>
+                full = ImmediateEventExecutor.INSTANCE.newPromise(),
+                resumed = ImmediateEventExecutor.INSTANCE.newPromise(),
+                failed = ImmediateEventExecutor.INSTANCE.newPromise();
+
+        statistics.instrument(new EmbeddedChannel(), mockHandler(Long.MAX_VALUE, full));
+        statistics.instrument(new EmbeddedChannel(), mockHandler(0, resumed));
+        statistics.instrument(new EmbeddedChannel(), mockHandler(0, failed));
+        full.setSuccess(channel);
+        resumed.setSuccess(channel);
+        failed.setFailure(new SSLException("handshake"));
+
+        assertEquals(2, statistics.getHandshakes());
+        assertEquals(1, statistics.getResumedHandshakes());
+        assertEquals(1, statistics.getFailedHandshakes());
+    }
+
+    @Test
+    public void testInstrumentInactiveChannel() throws Exception {
+        final Channel channel = mock(Channel.class);
+        final ChannelPipeline pipeline = mock(ChannelPipeline.class);
+        final ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+        when(channel.pipeline()).thenReturn(pipeline);
+        when(ctx.channel()).thenReturn(channel);
+        when(ctx.pipeline()).thenReturn(pipeline);
+        final Promise<Channel> connecting = ImmediateEventExecutor.INSTANCE.newPromise(),
+                handshake = ImmediateEventExecutor.INSTANCE.newPromise();
+
+        statistics.instrument(channel, mockHandler(Long.MAX_VALUE, connecting));
+        final ArgumentCaptor<ChannelHandler> timer = ArgumentCaptor.forClass(ChannelHandler.class);
+        verify(pipeline).addLast(timer.capture());
+        timer.getValue().handlerAdded(ctx);
+        connecting.setFailure(new SSLException("connect"));
+        assertEquals(0, statistics.getFailedHandshakes());
+        verify(pipeline, never()).remove(timer.getValue());
+
+        statistics.instrument(channel, mockHandler(Long.MAX_VALUE, handshake));
+        verify(pipeline, times(2)).addLast(timer.capture());
+        timer.getValue().handlerAdded(ctx);
+        ((ChannelInboundHandler) timer.getValue()).channelActive(ctx);
+        handshake.setSuccess(channel);
+        assertEquals(1, statistics.getHandshakes());
+        verify(ctx).fireChannelActive();
+        verify(pipeline).remove(timer.getValue());
+    }
+}
@@ -9,9 +9,12 @@
 package org.opendaylight.sxp.core.service;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.anyList;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -84,4 +87,22 @@ public class UpdateExportTaskTest {
         exportTask.call();
         verify(connection).setUpdateOrKeepaliveMessageTimestamp();
     }
+
+    @Test
+    public void testExecuteSlice() throws Exception {
+        ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+        when(connection.getChannelHandlerContext(any(SxpConnection.ChannelHandlerContextType.class))).thenReturn(ctx);
+        exportTask =
+                new UpdateExportTask(connection, new ByteBuf[3], new BiFunction[] {parttions[0], parttions[0],
+                        parttions[0]}, atomicInteger, 1);
+        assertFalse(exportTask.isBulk());
+        for (int i = 0; i < 4; i++) {
+            assertFalse(exportTask.executeSlice());
+        }
+        assertTrue(exportTask.executeSlice());
+        verify(ctx, times(3)).write(any());
+        verify(ctx, times(3)).flush();
+        verify(connection).setUpdateOrKeepaliveMessageTimestamp();
+        assertEquals(0, atomicInteger.get());
+    }
 }
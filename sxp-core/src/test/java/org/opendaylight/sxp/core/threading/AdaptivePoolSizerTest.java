@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class AdaptivePoolSizerTest {
+
+    @Rule public ExpectedException exception = ExpectedException.none();
+
+    private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(50);
+    private MeteredThreadPoolExecutor executor;
+    private LinkedBlockingQueue<Runnable> queue;
+    private AdaptivePoolSizer sizer;
+
+    @Before
+    public void init() throws Exception {
+        executor = mock(MeteredThreadPoolExecutor.class);
+        queue = new LinkedBlockingQueue<>();
+        when(executor.getQueue()).thenReturn(queue);
+        when(executor.getCorePoolSize()).thenReturn(2);
+        sizer = new AdaptivePoolSizer("INBOUND", executor, 2, 5, TARGET);
+    }
+
+    @Test
+    public void testGrow() throws Exception {
+        when(executor.getQueueWaitNanos()).thenReturn(10 * TARGET);
+        when(executor.getStartedTasks()).thenReturn(5L);
+        sizer.run();
+        verify(executor).resize(4);
+
+        when(executor.getCorePoolSize()).thenReturn(4);
+        when(executor.getQueueWaitNanos()).thenReturn(20 * TARGET);
+        when(executor.getStartedTasks()).thenReturn(10L);
+        sizer.run();
+        verify(executor).resize(5);
+    }
+
+    @Test
+    public void testGrowStalledQueue() throws Exception {
+        queue.add(mock(Runnable.class));
+        sizer.run();
+        verify(executor).resize(4);
+    }
+
+    @Test
+    public void testSaturated() throws Exception {
+        when(executor.getCorePoolSize()).thenReturn(5);
+        when(executor.getQueueWaitNanos()).thenReturn(10 * TARGET);
+        when(executor.getStartedTasks()).thenReturn(5L);
+        sizer.run();
+        verify(executor, never()).resize(anyInt());
+    }
+
+    @Test
+    public void testShrink() throws Exception {
+        when(executor.getCorePoolSize()).thenReturn(4);
+        sizer.run();
+        verify(executor).resize(3);
+    }
+
+    @Test
+    public void testShrinkLowerBound() throws Exception {
+        sizer.run();
+        verify(executor, never()).resize(anyInt());
+    }
+
+    @Test
+    public void testStable() throws Exception {
+        when(executor.getCorePoolSize()).thenReturn(4);
+        when(executor.getQueueWaitNanos()).thenReturn(TARGET / 2);
+        when(executor.getStartedTasks()).thenReturn(1L);
+        sizer.run();
+        verify(executor, never()).resize(anyInt());
+    }
+
+    @Test
+    public void testInvalidBounds() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        new AdaptivePoolSizer("OUTBOUND", executor, 5, 2, TARGET);
+    }
+}
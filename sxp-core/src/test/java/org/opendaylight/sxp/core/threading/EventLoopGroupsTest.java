@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class EventLoopGroupsTest {
+
+    @Test
+    public void testGetShared() throws Exception {
+        final EventLoopGroups shared = EventLoopGroups.getShared();
+        assertTrue(shared.isShared());
+        assertEquals(shared, EventLoopGroups.getShared());
+        shared.close();
+        assertFalse(shared.getWorkerGroup().isShuttingDown());
+    }
+
+    @Test
+    public void testCreateDedicated() throws Exception {
+        final EventLoopGroups dedicated = EventLoopGroups.createDedicated("test", 2);
+        assertFalse(dedicated.isShared());
+        assertNotEquals(EventLoopGroups.getShared().getWorkerGroup(), dedicated.getWorkerGroup());
+        dedicated.close();
+        assertTrue(dedicated.getWorkerGroup().isShuttingDown());
+        assertTrue(dedicated.getBossGroup().isShuttingDown());
+    }
+
+    @Test
+    public void testGetPendingTasks() throws Exception {
+        final EventLoopGroups dedicated = EventLoopGroups.createDedicated("test", 2);
+        try {
+            final CountDownLatch latch = new CountDownLatch(1);
+            dedicated.getWorkerGroup().next().execute(() -> {
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Map<String, Integer> pendingTasks = dedicated.getPendingTasks();
+            assertEquals(3, pendingTasks.size());
+            assertEquals(0, (int) pendingTasks.get("boss-0"));
+            assertTrue(pendingTasks.containsKey("worker-0"));
+            assertTrue(pendingTasks.containsKey("worker-1"));
+            latch.countDown();
+        } finally {
+            dedicated.close();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FairExecutorTest {
+
+    private ListeningExecutorService executorService;
+    private FairExecutor executor;
+    private List<String> trace;
+
+    private class TestSlicedTask implements SlicedTask {
+
+        private final String name;
+        private final boolean bulk;
+        private int slices;
+        private final AtomicInteger aborted = new AtomicInteger();
+
+        private TestSlicedTask(String name, int slices, boolean bulk) {
+            this.name = name;
+            this.slices = slices;
+            this.bulk = bulk;
+        }
+
+        @Override
+        public boolean executeSlice() throws Exception {
+            trace.add(name);
+            return --slices == 0;
+        }
+
+        @Override
+        public boolean isBulk() {
+            return bulk;
+        }
+
+        @Override
+        public void abort() {
+            aborted.incrementAndGet();
+        }
+
+        @Override
+        public Void call() throws Exception {
+            //noinspection StatementWithEmptyBody
+            while (!executeSlice()) {
+            }
+            return null;
+        }
+    }
+
+    @Before
+    public void init() throws Exception {
+        executorService = MoreExecutors.listeningDecorator(Executors.newSingleThreadExecutor());
+        executor = new FairExecutor(executorService);
+        trace = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executorService.shutdownNow();
+    }
+
+    private CountDownLatch blockExecutor() {
+        final CountDownLatch latch = new CountDownLatch(1);
+        executor.submit(() -> latch.await(5, TimeUnit.SECONDS));
+        return latch;
+    }
+
+    @Test
+    public void testSubmitSlicedTask() throws Exception {
+        TestSlicedTask task = new TestSlicedTask("A", 3, false);
+        executor.submit(task).get(5, TimeUnit.SECONDS);
+        assertEquals(3, trace.size());
+        assertEquals(0, task.aborted.get());
+    }
+
+    @Test
+    public void testSubmitInterleaving() throws Exception {
+        CountDownLatch latch = blockExecutor();
+        ListenableFuture<Void> first = executor.submit(new TestSlicedTask("A", 2, false)),
+                second = executor.submit(new TestSlicedTask("B", 2, false));
+        latch.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertEquals(4, trace.size());
+        assertEquals("A", trace.get(0));
+        assertEquals("B", trace.get(1));
+        assertEquals("A", trace.get(2));
+        assertEquals("B", trace.get(3));
+    }
+
+    @Test
+    public void testSubmitBulkPriority() throws Exception {
+        CountDownLatch latch = blockExecutor();
+        ListenableFuture<Void> bulk = executor.submit(new TestSlicedTask("B", 3, true));
+        assertEquals(1, executor.getBacklogSize());
+        executor.submit(() -> trace.add("I"));
+        executor.submit(() -> trace.add("I"));
+        latch.countDown();
+        bulk.get(5, TimeUnit.SECONDS);
+        assertEquals(5, trace.size());
+        assertEquals("I", trace.get(0));
+        assertEquals("I", trace.get(1));
+        assertEquals("B", trace.get(2));
+        assertEquals(0, executor.getBacklogSize());
+    }
+
+    @Test
+    public void testSubmitBulkStarvation() throws Exception {
+        CountDownLatch latch = blockExecutor();
+        ListenableFuture<Void> bulk = executor.submit(new TestSlicedTask("B", 1, true));
+        final AtomicInteger remaining = new AtomicInteger(FairExecutor.BULK_STARVATION_LIMIT * 2);
+        final List<Callable<Boolean>> chain = new ArrayList<>();
+        chain.add(() -> {
+            if (remaining.decrementAndGet() > 0) {
+                executor.submit(chain.get(0));
+            }
+            return trace.add("I");
+        });
+        executor.submit(chain.get(0));
+        latch.countDown();
+        bulk.get(5, TimeUnit.SECONDS);
+        assertTrue(trace.indexOf("B") <= FairExecutor.BULK_STARVATION_LIMIT);
+    }
+
+    @Test
+    public void testSubmitDeferredSlice() throws Exception {
+        final List<Runnable> resumes = Collections.synchronizedList(new ArrayList<>());
+        TestSlicedTask slow = new TestSlicedTask("S", 2, true) {
+
+            @Override
+            public boolean deferUntilReady(Runnable resume) {
+                resumes.add(resume);
+                return true;
+            }
+        };
+        ListenableFuture<Void> slowFuture = executor.submit(slow);
+        ListenableFuture<Void> fast = executor.submit(new TestSlicedTask("F", 3, true));
+        fast.get(5, TimeUnit.SECONDS);
+        assertFalse(slowFuture.isDone());
+        assertEquals(1, resumes.size());
+
+        resumes.get(0).run();
+        slowFuture.get(5, TimeUnit.SECONDS);
+        assertEquals(5, trace.size());
+        assertEquals("S", trace.get(4));
+    }
+
+    @Test
+    public void testSubmitCanceled() throws Exception {
+        CountDownLatch latch = blockExecutor();
+        TestSlicedTask task = new TestSlicedTask("A", 3, false);
+        ListenableFuture<Void> future = executor.submit(task);
+        future.cancel(false);
+        latch.countDown();
+        executor.submit(() -> null).get(5, TimeUnit.SECONDS);
+        assertTrue(trace.isEmpty());
+        assertEquals(1, task.aborted.get());
+    }
+
+    @Test
+    public void testSubmitRejected() throws Exception {
+        executorService.shutdown();
+        TestSlicedTask task = new TestSlicedTask("A", 3, true);
+        try {
+            executor.submit(task).get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+        assertEquals(1, task.aborted.get());
+    }
+}
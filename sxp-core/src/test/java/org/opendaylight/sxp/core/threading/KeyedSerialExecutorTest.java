@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class KeyedSerialExecutorTest {
+
+    private ListeningExecutorService executorService;
+    private KeyedSerialExecutor<Integer> executor;
+
+    @Before
+    public void init() throws Exception {
+        executorService = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(4));
+        final FairExecutor fairExecutor = new FairExecutor(executorService);
+        executor = new KeyedSerialExecutor<>(key -> fairExecutor);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testSubmitOrdering() throws Exception {
+        final List<List<Integer>> traces = new ArrayList<>();
+        final List<ListenableFuture<Void>> futures = new ArrayList<>();
+        for (int key = 0; key < 8; key++) {
+            traces.add(Collections.synchronizedList(new ArrayList<>()));
+        }
+        for (int i = 0; i < 100; i++) {
+            for (int key = 0; key < 8; key++) {
+                final List<Integer> trace = traces.get(key);
+                final int value = i;
+                futures.add(executor.submit(key, (Callable<Void>) () -> {
+                    trace.add(value);
+                    return null;
+                }));
+            }
+        }
+        for (ListenableFuture<Void> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        for (List<Integer> trace : traces) {
+            assertEquals(100, trace.size());
+            for (int i = 0; i < trace.size(); i++) {
+                assertEquals(i, (int) trace.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testSubmitConcurrentProducers() throws Exception {
+        final ExecutorService producers = Executors.newFixedThreadPool(4);
+        final List<List<Integer>> traces = new ArrayList<>();
+        final List<Future<List<ListenableFuture<Void>>>> submitted = new ArrayList<>();
+        try {
+            for (int producer = 0; producer < 4; producer++) {
+                final List<Integer> trace = Collections.synchronizedList(new ArrayList<>());
+                traces.add(trace);
+                submitted.add(producers.submit(() -> {
+                    final List<ListenableFuture<Void>> futures = new ArrayList<>();
+                    for (int i = 0; i < 1000; i++) {
+                        final int value = i;
+                        futures.add(executor.submit(1, (Callable<Void>) () -> {
+                            trace.add(value);
+                            return null;
+                        }));
+                    }
+                    return futures;
+                }));
+            }
+            for (Future<List<ListenableFuture<Void>>> futures : submitted) {
+                for (ListenableFuture<Void> future : futures.get(5, TimeUnit.SECONDS)) {
+                    future.get(5, TimeUnit.SECONDS);
+                }
+            }
+        } finally {
+            producers.shutdownNow();
+        }
+        for (List<Integer> trace : traces) {
+            assertEquals(1000, trace.size());
+            for (int i = 0; i < trace.size(); i++) {
+                assertEquals(i, (int) trace.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testSubmitIdleKeyEviction() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ListenableFuture<Void> future = executor.submit(1, () -> {
+            latch.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        assertEquals(1, executor.size());
+
+        latch.countDown();
+        future.get(5, TimeUnit.SECONDS);
+        for (int i = 0; executor.size() != 0 && i < 50; i++) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        assertEquals(0, executor.size());
+
+        assertEquals("done", executor.submit(1, () -> "done").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSubmitIndependentKeys() throws Exception {
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final ListenableFuture<Void> blocked = executor.submit(1, () -> {
+            blocker.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        assertEquals("free", executor.submit(2, () -> "free").get(5, TimeUnit.SECONDS));
+        assertFalse(blocked.isDone());
+        blocker.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final int[] monitor = {0};
+        final ListenableFuture<Void> running = executor.submit(1, () -> {
+            started.countDown();
+            TimeUnit.SECONDS.sleep(10);
+            return null;
+        });
+        final ListenableFuture<Void> queued = executor.submit(1, () -> {
+            monitor[0]++;
+            return null;
+        });
+        started.await(5, TimeUnit.SECONDS);
+
+        executor.cancel(1, true);
+        assertTrue(running.isCancelled());
+        assertTrue(queued.isCancelled());
+
+        assertEquals("next", executor.submit(1, () -> "next").get(5, TimeUnit.SECONDS));
+        assertEquals(0, monitor[0]);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class MeteredThreadPoolExecutorTest {
+
+    @Rule public ExpectedException exception = ExpectedException.none();
+
+    private MeteredThreadPoolExecutor executor;
+
+    @Before
+    public void init() throws Exception {
+        executor = new MeteredThreadPoolExecutor(1, Executors.defaultThreadFactory());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testQueueWait() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        final Future<?> queued = executor.submit(() -> {
+        });
+        TimeUnit.MILLISECONDS.sleep(100);
+        latch.countDown();
+        queued.get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, executor.getStartedTasks());
+        assertTrue(executor.getQueueWaitNanos() >= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    public void testResize() throws Exception {
+        executor.resize(4);
+        assertEquals(4, executor.getCorePoolSize());
+        assertEquals(4, executor.getMaximumPoolSize());
+        executor.resize(2);
+        assertEquals(2, executor.getCorePoolSize());
+        assertEquals(2, executor.getMaximumPoolSize());
+
+        exception.expect(IllegalArgumentException.class);
+        executor.resize(0);
+    }
+}
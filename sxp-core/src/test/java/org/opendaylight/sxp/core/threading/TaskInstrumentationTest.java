@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.core.threading;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.sxp.core.SxpConnection;
+
+public class TaskInstrumentationTest {
+
+    private TaskInstrumentation instrumentation;
+    private ListeningExecutorService executor;
+
+    @Before
+    public void init() {
+        instrumentation = new TaskInstrumentation();
+        executor = MoreExecutors.listeningDecorator(Executors.newSingleThreadExecutor());
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSubmit() throws Exception {
+        final SxpConnection connection = mock(SxpConnection.class);
+        instrumentation.submit(() -> true, ThreadsWorker.WorkerType.INBOUND, null, executor::submit)
+                .get(5, TimeUnit.SECONDS);
+        final ListenableFuture<Boolean>
+                future =
+                instrumentation.submit(() -> {
+                    throw new IllegalStateException();
+                }, ThreadsWorker.WorkerType.INBOUND, connection, executor::submit);
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+
+        final TaskStatistics statistics = instrumentation.getStatistics(ThreadsWorker.WorkerType.INBOUND);
+        assertEquals(2, statistics.getSubmitted());
+        assertEquals(1, statistics.getCompleted());
+        assertEquals(1, statistics.getFailed());
+        assertEquals(0, statistics.getQueueDepth());
+        assertEquals(2, statistics.getWaitTime().getCount());
+        assertEquals(2, statistics.getRunTime().getCount());
+        assertEquals(0, instrumentation.getStatistics(ThreadsWorker.WorkerType.OUTBOUND).getSubmitted());
+
+        final TaskStatistics
+                connectionStatistics =
+                instrumentation.getStatistics(connection, ThreadsWorker.WorkerType.INBOUND);
+        assertEquals(1, connectionStatistics.getSubmitted());
+        assertEquals(1, connectionStatistics.getFailed());
+        assertEquals(0, connectionStatistics.getCompleted());
+
+        instrumentation.remove(connection);
+        assertNull(instrumentation.getStatistics(connection, ThreadsWorker.WorkerType.INBOUND));
+    }
+
+    @Test
+    public void testRejected() throws Exception {
+        try {
+            instrumentation.submit(() -> true, ThreadsWorker.WorkerType.OUTBOUND, null, task -> {
+                throw new RejectedExecutionException();
+            });
+            fail();
+        } catch (RejectedExecutionException e) {
+            final TaskStatistics statistics = instrumentation.getStatistics(ThreadsWorker.WorkerType.OUTBOUND);
+            assertEquals(0, statistics.getSubmitted());
+            assertEquals(1, statistics.getRejected());
+            assertEquals(0, statistics.getQueueDepth());
+        }
+    }
+
+    @Test
+    public void testCancelled() throws Exception {
+        final ListenableFuture<Boolean>
+                future =
+                instrumentation.submit(() -> true, ThreadsWorker.WorkerType.DEFAULT, null,
+                        ListenableFutureTask::create);
+        final TaskStatistics statistics = instrumentation.getStatistics(ThreadsWorker.WorkerType.DEFAULT);
+        assertEquals(1, statistics.getQueueDepth());
+        future.cancel(false);
+        assertEquals(0, statistics.getQueueDepth());
+        assertEquals(1, statistics.getCancelled());
+        assertEquals(0, statistics.getWaitTime().getCount());
+    }
+
+    @Test
+    public void testGetStatistics() throws Exception {
+        final SxpConnection connection = mock(SxpConnection.class);
+        instrumentation.submit(() -> true, ThreadsWorker.WorkerType.OUTBOUND, connection, executor::submit)
+                .get(5, TimeUnit.SECONDS);
+
+        final Map<String, TaskInstrumentationMXBean.Snapshot> workers = instrumentation.getWorkerStatistics();
+        assertEquals(ThreadsWorker.WorkerType.values().length, workers.size());
+        assertEquals(1, workers.get(ThreadsWorker.WorkerType.OUTBOUND.name()).getCompleted());
+        assertEquals(TaskStatistics.Histogram.BUCKETS,
+                workers.get(ThreadsWorker.WorkerType.OUTBOUND.name()).getRunTimeHistogram().length);
+
+        final Map<String, TaskInstrumentationMXBean.Snapshot>
+                connections =
+                instrumentation.getConnectionStatistics();
+        assertEquals(1, connections.size());
+        assertEquals(1, connections.get(TaskInstrumentation.getName(connection) + "/"
+                + ThreadsWorker.WorkerType.OUTBOUND.name()).getSubmitted());
+    }
+
+    @Test
+    public void testGetEventLoopPendingTasks() throws Exception {
+        final EventLoopGroups dedicated = EventLoopGroups.createDedicated("test", 1);
+        try {
+            instrumentation = new TaskInstrumentation(() -> dedicated);
+            final Map<String, Integer> pendingTasks = instrumentation.getEventLoopPendingTasks();
+            assertEquals(2, pendingTasks.size());
+            assertEquals(0, (int) pendingTasks.get("boss-0"));
+            assertTrue(pendingTasks.containsKey("worker-0"));
+        } finally {
+            dedicated.close();
+        }
+    }
+
+    @Test
+    public void testHistogram() throws Exception {
+        final TaskStatistics statistics = new TaskStatistics();
+        for (int i = 0; i < 99; i++) {
+            statistics.finished(TimeUnit.MICROSECONDS.toNanos(3), true);
+        }
+        statistics.finished(TimeUnit.MILLISECONDS.toNanos(1), true);
+        assertEquals(100, statistics.getRunTime().getCount());
+        assertEquals(4, statistics.getRunTime().getPercentile(99));
+        assertEquals(1024, statistics.getRunTime().getPercentile(100));
+        assertEquals((99 * 3 + 1000) / 100, statistics.getRunTime().getMean());
+        assertEquals(99, statistics.getRunTime().getBuckets()[2]);
+    }
+}
@@ -9,15 +9,27 @@
 package org.opendaylight.sxp.core.threading;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.ListeningScheduledExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import java.util.Map;
 import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
@@ -28,6 +40,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.opendaylight.sxp.core.SxpConnection;
+import org.opendaylight.sxp.util.time.HashedWheelTimer;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.InboundExecutionType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.node.rev160308.network.topology.topology.node.ThreadPoolsBuilder;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
@@ -73,6 +88,14 @@ public class ThreadsWorkerTest {
         verify(scheduledExecutorService).schedule(any(Callable.class), anyInt(), any(TimeUnit.class));
     }
 
+    @Test
+    public void testScheduleTimer() throws Exception {
+        worker = new ThreadsWorker();
+        HashedWheelTimer.Timeout scheduled = worker.scheduleTimer(callable, 1, TimeUnit.SECONDS);
+        assertFalse(scheduled.isDone());
+        verify(scheduledExecutorService, timeout(5000)).execute(scheduled);
+    }
+
     @Test
     public void testExecuteTaskCallable() throws Exception {
         worker = new ThreadsWorker();
@@ -446,4 +469,139 @@ public class ThreadsWorkerTest {
         assertEquals(0, monitor[0]);
         assertEquals(80, monitor[1]);
     }
+
+    @Test
+    public void testExecuteTaskInSequence_Sliced() throws Exception {
+        PowerMockito.when(MoreExecutors.listeningDecorator(any(AbstractExecutorService.class))).thenCallRealMethod();
+        PowerMockito.when(MoreExecutors.listeningDecorator(any(ScheduledExecutorService.class))).thenCallRealMethod();
+        worker = new ThreadsWorker();
+        final StringBuilder samples = new StringBuilder();
+
+        worker.executeTaskInSequence(new SlicedTask() {
+
+            private int slices = 3;
+
+            @Override
+            public boolean executeSlice() throws Exception {
+                samples.append("S");
+                return --slices == 0;
+            }
+
+            @Override
+            public boolean isBulk() {
+                return true;
+            }
+
+            @Override
+            public void abort() {
+            }
+
+            @Override
+            public Void call() throws Exception {
+                return null;
+            }
+        }, ThreadsWorker.WorkerType.OUTBOUND, connection);
+        final CountDownLatch latch = new CountDownLatch(1);
+        worker.addListener(worker.executeTaskInSequence((Callable<Void>) () -> {
+            samples.append("T");
+            return null;
+        }, ThreadsWorker.WorkerType.OUTBOUND, connection), latch::countDown);
+        latch.await(5, TimeUnit.SECONDS);
+
+        assertEquals("SSST", samples.toString());
+    }
+
+    @Test
+    public void testExecuteTaskInSequence_EventLoop() throws Exception {
+        PowerMockito.when(MoreExecutors.listeningDecorator(any(AbstractExecutorService.class))).thenCallRealMethod();
+        PowerMockito.when(MoreExecutors.listeningDecorator(any(ScheduledExecutorService.class))).thenCallRealMethod();
+        worker = new ThreadsWorker();
+        final EventLoop eventLoop = new DefaultEventLoop();
+        when(connection.getEventLoop()).thenReturn(eventLoop);
+        try {
+            assertFalse(worker.isExecutedOnEventLoop(ThreadsWorker.WorkerType.INBOUND));
+            worker.setExecutionMode(ThreadsWorker.ExecutionMode.EVENT_LOOP);
+            assertTrue(worker.isExecutedOnEventLoop(ThreadsWorker.WorkerType.INBOUND));
+            assertFalse(worker.isExecutedOnEventLoop(ThreadsWorker.WorkerType.OUTBOUND));
+
+            assertTrue(worker.executeTaskInSequence(eventLoop::inEventLoop, ThreadsWorker.WorkerType.INBOUND,
+                    connection).get(5, TimeUnit.SECONDS));
+            assertFalse(worker.handOffTaskInSequence(eventLoop::inEventLoop, ThreadsWorker.WorkerType.INBOUND,
+                    connection).get(5, TimeUnit.SECONDS));
+            assertFalse(worker.executeTaskInSequence(eventLoop::inEventLoop, ThreadsWorker.WorkerType.OUTBOUND,
+                    connection).get(5, TimeUnit.SECONDS));
+
+            worker.setExecutionMode(ThreadsWorker.ExecutionMode.POOLED);
+            assertFalse(worker.executeTaskInSequence(eventLoop::inEventLoop, ThreadsWorker.WorkerType.INBOUND,
+                    connection).get(5, TimeUnit.SECONDS));
+        } finally {
+            eventLoop.shutdownGracefully();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExecuteTaskInSequence_EventLoopTerminated() throws Exception {
+        PowerMockito.when(MoreExecutors.listeningDecorator(any(AbstractExecutorService.class))).thenCallRealMethod();
+        PowerMockito.when(MoreExecutors.listeningDecorator(any(ScheduledExecutorService.class))).thenCallRealMethod();
+        worker = new ThreadsWorker();
+        worker.setExecutionMode(ThreadsWorker.ExecutionMode.EVENT_LOOP);
+        final EventLoop eventLoop = new DefaultEventLoop();
+        when(connection.getEventLoop()).thenReturn(eventLoop);
+        final Map<EventExecutor, FairExecutor> eventLoopExecutors =
+                (Map<EventExecutor, FairExecutor>) PowerMockito.field(ThreadsWorker.class, "eventLoopExecutors")
+                        .get(worker);
+
+        assertTrue(worker.executeTaskInSequence(eventLoop::inEventLoop, ThreadsWorker.WorkerType.INBOUND,
+                connection).get(5, TimeUnit.SECONDS));
+        assertEquals(1, eventLoopExecutors.size());
+
+        eventLoop.shutdownGracefully(0, 0, TimeUnit.SECONDS).await(5, TimeUnit.SECONDS);
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!eventLoopExecutors.isEmpty() && System.nanoTime() - deadline < 0) {
+            Thread.sleep(10);
+        }
+        assertTrue(eventLoopExecutors.isEmpty());
+    }
+
+    @Test
+    public void testCreateInstance() throws Exception {
+        worker = ThreadsWorker.createInstance("node", null, 2, 2, 2, 1);
+        assertEquals(ThreadsWorker.ExecutionMode.POOLED, worker.getExecutionMode());
+        assertNull(worker.getInstrumentation());
+        worker.close();
+
+        worker = ThreadsWorker.createInstance("node", new ThreadPoolsBuilder().setInboundThreads(4)
+                .setInboundExecution(InboundExecutionType.EventLoop)
+                .setAdaptive(true)
+                .setMaxInboundThreads(16)
+                .setTargetQueueWait(20L)
+                .setInstrumentation(true)
+                .build(), 2, 2, 2, 1);
+        assertEquals(ThreadsWorker.ExecutionMode.EVENT_LOOP, worker.getExecutionMode());
+        assertNotNull(worker.getInstrumentation());
+        verify(scheduledExecutorService, times(2)).scheduleAtFixedRate(any(Runnable.class),
+                eq(ThreadsWorker.ADAPTIVE_SIZING_PERIOD), eq(ThreadsWorker.ADAPTIVE_SIZING_PERIOD),
+                eq(TimeUnit.MILLISECONDS));
+        worker.close();
+
+        worker = ThreadsWorker.createInstance("node", new ThreadPoolsBuilder().setDedicatedEventLoop(true)
+                .setEventLoopThreads(1)
+                .build(), 2, 2, 2, 1);
+        assertFalse(worker.getEventLoopGroups().isShared());
+        assertEquals("EventLoopGroups[node]", worker.getEventLoopGroups().toString());
+    }
+
+    @Test
+    public void testSetInstrumentation() throws Exception {
+        worker = new ThreadsWorker();
+        assertNull(worker.getInstrumentation());
+        worker.setInstrumentation(true);
+        final TaskInstrumentation instrumentation = worker.getInstrumentation();
+        assertNotNull(instrumentation);
+        worker.setInstrumentation(true);
+        assertEquals(instrumentation, worker.getInstrumentation());
+        worker.setInstrumentation(false);
+        assertNull(worker.getInstrumentation());
+    }
 }
@@ -9,10 +9,12 @@
 package org.opendaylight.sxp.util.database;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
@@ -22,6 +24,7 @@ import org.opendaylight.sxp.util.time.TimeConv;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.Sgt;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.SxpBindingFields;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBinding;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBindingBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.peer.sequence.fields.PeerSequenceBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.peer.sequence.fields.peer.sequence.PeerBuilder;
@@ -184,6 +187,24 @@ public class MasterDatabaseImplTest {
         assertEquals(0, database.getBindings().size());
     }
 
+    @Test
+    public void testGetBindingsSnapshot() throws Exception {
+        assertFalse(database.getBindingsSnapshot().hasNext());
+
+        database.addBindings(mergeBindings(getBinding("1.1.1.1/32", 100, "10.10.10.10"),
+                getBinding("2.2.2.2/32", 2000, "20.20.20.20")));
+        database.addLocalBindings(mergeBindings(getBinding("2.2.2.2/32", 20), getBinding("3.3.3.3/32", 30)));
+
+        Iterator<MasterDatabaseBinding> cursor = database.getBindingsSnapshot();
+        database.deleteBindings(mergeBindings(getBinding("1.1.1.1/32", 100, "10.10.10.10")));
+
+        List<MasterDatabaseBinding> snapshot = new ArrayList<>();
+        cursor.forEachRemaining(snapshot::add);
+        assertEquals(3, snapshot.size());
+        assertBindings(snapshot, mergeBindings(getBinding("1.1.1.1/32", 100, "10.10.10.10"),
+                getBinding("2.2.2.2/32", 2000, "20.20.20.20"), getBinding("3.3.3.3/32", 30)));
+    }
+
     @Test
     public void testToString() throws Exception {
         assertEquals("MasterDatabaseImpl\n", database.toString());
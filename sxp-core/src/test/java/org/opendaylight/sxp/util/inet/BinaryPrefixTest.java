@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.util.inet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.net.InetAddresses;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+
+public class BinaryPrefixTest {
+
+    private static BinaryPrefix of(String prefix) {
+        return BinaryPrefix.of(new IpPrefix(prefix.toCharArray()));
+    }
+
+    @Test
+    public void testOfIpv4() throws Exception {
+        BinaryPrefix prefix = of("130.4.102.1/24");
+        assertFalse(prefix.isIpv6());
+        assertEquals(24, prefix.getLength());
+        assertEquals(32, prefix.getAddressBits());
+        assertArrayEquals(new byte[] {(byte) 130, 4, 102, 1}, prefix.getAddress());
+        assertEquals("130.4.102.1/24", prefix.toString());
+    }
+
+    @Test
+    public void testOfIpv6() throws Exception {
+        BinaryPrefix prefix = of("2001:db8::ff00:42:8329/120");
+        assertTrue(prefix.isIpv6());
+        assertEquals(120, prefix.getLength());
+        assertEquals(128, prefix.getAddressBits());
+        assertArrayEquals(InetAddresses.forString("2001:db8::ff00:42:8329").getAddress(), prefix.getAddress());
+        assertEquals(prefix, of("2001:db8:0:0:0:ff00:42:8329/120"));
+    }
+
+    @Test
+    public void testInterning() throws Exception {
+        IpPrefix ipPrefix = new IpPrefix("10.0.0.0/8".toCharArray());
+        assertSame(BinaryPrefix.of(ipPrefix), BinaryPrefix.of(ipPrefix));
+        assertSame(BinaryPrefix.of(ipPrefix), of("10.0.0.0/8"));
+        assertSame(of("10.0.0.1/32"), BinaryPrefix.of(new IpAddress("10.0.0.1".toCharArray())));
+        assertSame(of("10.0.0.1/32"), BinaryPrefix.of(InetAddresses.forString("10.0.0.1")));
+        assertSame(of("10.0.0.0/8"), BinaryPrefix.of(new byte[] {10, 0, 0, 0}, 8));
+        assertSame(of("2001:db8::1/128"), BinaryPrefix.of(new IpAddress("2001:db8::1".toCharArray())));
+    }
+
+    @Test
+    public void testToIpPrefix() throws Exception {
+        BinaryPrefix prefix = of("2001:db8::1/64");
+        IpPrefix ipPrefix = prefix.toIpPrefix();
+        assertSame(prefix, BinaryPrefix.of(ipPrefix));
+        assertEquals(new IpPrefix("127.0.0.1/32".toCharArray()), of("127.0.0.1/32").toIpPrefix());
+    }
+
+    @Test
+    public void testIsHost() throws Exception {
+        assertTrue(of("5.5.5.5/32").isHost());
+        assertTrue(of("2001:db8::1/128").isHost());
+        assertFalse(of("2001:db8::1/32").isHost());
+        assertFalse(of("5.5.5.0/24").isHost());
+    }
+
+    @Test
+    public void testIsDefault() throws Exception {
+        assertTrue(of("0.0.0.0/0").isDefault());
+        assertTrue(of("::/0").isDefault());
+        assertTrue(of("0:0:0:0:0:0:0:0/0").isDefault());
+        assertFalse(of("0.0.0.0/8").isDefault());
+    }
+
+    @Test
+    public void testTestBit() throws Exception {
+        BinaryPrefix prefix = of("128.0.0.1/32");
+        assertTrue(prefix.testBit(0));
+        assertFalse(prefix.testBit(1));
+        assertTrue(prefix.testBit(31));
+        assertFalse(prefix.testBit(32));
+
+        prefix = of("::1/128");
+        assertFalse(prefix.testBit(0));
+        assertTrue(prefix.testBit(127));
+        assertFalse(prefix.testBit(128));
+    }
+
+    @Test
+    public void testMatches() throws Exception {
+        assertTrue(of("10.1.1.1/32").matches(of("10.1.1.0/24"), 24));
+        assertTrue(of("10.1.1.1/32").matches(of("10.1.0.0/16"), 20));
+        assertFalse(of("10.1.17.1/32").matches(of("10.1.0.0/16"), 20));
+        assertFalse(of("10.1.1.1/32").matches(of("::a01:101/128"), 32));
+        assertTrue(of("2001:db8::1/128").matches(of("2001:db8::/64"), 64));
+        assertFalse(of("2001:db9::1/128").matches(of("2001:db8::/64"), 64));
+    }
+
+    @Test
+    public void testMatchesWildcard() throws Exception {
+        BinaryPrefix wildcard = of("0.0.0.255/32");
+        assertTrue(of("10.1.1.1/32").matchesWildcard(of("10.1.1.200/32"), wildcard));
+        assertFalse(of("10.1.1.1/32").matchesWildcard(of("10.1.2.1/32"), wildcard));
+    }
+
+    @Test
+    public void testGetNetwork() throws Exception {
+        assertSame(of("10.1.1.0/24"), of("10.1.1.1/24").getNetwork());
+        assertSame(of("10.1.0.0/20"), of("10.1.15.255/20").getNetwork());
+        assertSame(of("2001:db8::/64"), of("2001:db8::1/64").getNetwork());
+    }
+
+    @Test
+    public void testGetHost() throws Exception {
+        assertEquals(256, of("10.1.1.1/24").getHostCount());
+        assertEquals(Long.MAX_VALUE, of("2001:db8::/64").getHostCount());
+        assertSame(of("10.1.1.5/32"), of("10.1.1.1/24").getHost(5));
+        assertSame(of("2001:db8::ff/128"), of("2001:db8::/120").getHost(255));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetHostException() throws Exception {
+        of("10.1.1.1/24").getHost(256);
+    }
+
+    @Test
+    public void testCompareTo() throws Exception {
+        assertTrue(of("10.0.0.0/8").compareTo(of("10.0.0.0/16")) < 0);
+        assertTrue(of("10.0.0.0/8").compareTo(of("9.0.0.0/8")) > 0);
+        assertTrue(of("200.0.0.0/8").compareTo(of("::/0")) < 0);
+        assertEquals(0, of("10.0.0.0/8").compareTo(of("10.0.0.0/8")));
+        assertNotEquals(of("10.0.0.0/8"), of("10.0.0.0/16"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfException() throws Exception {
+        BinaryPrefix.of(new byte[] {10, 0, 0, 0}, 33);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfException2() throws Exception {
+        BinaryPrefix.of(new byte[] {10, 0, 0}, 24);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfIpAddressException() throws Exception {
+        BinaryPrefix.of(new IpAddress("10.0.0.256".toCharArray()));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.util.inet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBinding;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.master.database.fields.MasterDatabaseBindingBuilder;
+
+public class ExpandedBindingsTest {
+
+    private PrefixExpansionCache cache;
+
+    private List<MasterDatabaseBinding> getBindings(String... strings) {
+        List<MasterDatabaseBinding> bindings = new ArrayList<>();
+        MasterDatabaseBindingBuilder bindingBuilder = new MasterDatabaseBindingBuilder();
+        for (String s : strings) {
+            bindings.add(bindingBuilder.setIpPrefix(new IpPrefix(s.toCharArray())).build());
+        }
+        return bindings;
+    }
+
+    @Before
+    public void init() throws Exception {
+        cache = new PrefixExpansionCache();
+    }
+
+    @Test
+    public void testSize() throws Exception {
+        assertEquals(0, new ExpandedBindings<>(null, 20, cache).size());
+        assertEquals(2, new ExpandedBindings<>(getBindings("127.0.0.5/24"), 2, cache).size());
+        assertEquals(1, new ExpandedBindings<>(getBindings("127.0.0.5/32"), 20, cache).size());
+        assertEquals(21, new ExpandedBindings<>(getBindings("127.0.0.5/32", "8.8.8.8/24"), 20, cache).size());
+        assertEquals(2, new ExpandedBindings<>(getBindings("127.0.0.5/32", "8.8.8.8/24"), 0, cache).size());
+    }
+
+    @Test
+    public void testGet() throws Exception {
+        List<MasterDatabaseBinding> bindings = getBindings("127.0.0.5/32", "8.8.8.0/30", "1.1.1.1/32");
+        List<MasterDatabaseBinding> expanded = new ExpandedBindings<>(bindings, 20, cache);
+
+        assertEquals(3, bindings.size());
+        assertEquals(Search.expandBindings(getBindings("8.8.8.0/30"), 20).size() + 2, expanded.size());
+        assertSame(bindings.get(0), expanded.get(0));
+        assertSame(bindings.get(2), expanded.get(expanded.size() - 1));
+        for (int i = 1; i < expanded.size() - 1; i++) {
+            assertEquals(32, IpPrefixConv.getPrefixLength(expanded.get(i).getIpPrefix()));
+            assertTrue(new String(expanded.get(i).getIpPrefix().getValue()).startsWith("8.8.8."));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() throws Exception {
+        new ExpandedBindings<>(getBindings("127.0.0.5/32"), 20, cache).get(1);
+    }
+
+    @Test
+    public void testSharedExpansion() throws Exception {
+        new ExpandedBindings<>(getBindings("8.8.8.8/24"), 20, cache);
+        new ExpandedBindings<>(getBindings("8.8.8.8/24"), 10, cache);
+        assertEquals(1, cache.size());
+    }
+}
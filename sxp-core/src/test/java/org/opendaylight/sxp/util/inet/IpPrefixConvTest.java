@@ -14,13 +14,18 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import java.net.Inet4Address;
 import java.net.Inet6Address;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.opendaylight.sxp.util.exception.message.attribute.AddressLengthException;
+import org.opendaylight.sxp.util.exception.unknown.UnknownPrefixException;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefixBuilder;
 
@@ -72,6 +77,38 @@ public class IpPrefixConvTest {
                 new byte[] {-128, 32, 1, 13, -72, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 32, 32, 1, 0, -40}, true));
     }
 
+    @Test
+    public void testReadIpv4() throws Exception {
+        ByteBuf buffer = Unpooled.wrappedBuffer(new byte[] {32, 0, 0, 0, 127, 0, 0, 1, 16, 0, 0, 0, 0, 0});
+        List<IpPrefix> cmp = new ArrayList<>();
+        cmp.add(ipPrefix1);
+        cmp.add(ipPrefix2);
+        assertEquals(cmp, IpPrefixConv.readIpv4(buffer, false));
+        assertFalse(buffer.isReadable());
+    }
+
+    @Test
+    public void testReadIpv6() throws Exception {
+        ByteBuf buffer = Unpooled.wrappedBuffer(new byte[] {-128, 32, 1, 13, -72, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1});
+        assertEquals(Collections.singletonList(ipPrefix3), IpPrefixConv.readIpv6(buffer, true));
+        assertFalse(buffer.isReadable());
+    }
+
+    @Test(expected = UnknownPrefixException.class)
+    public void testReadIpv4Exception() throws Exception {
+        IpPrefixConv.readIpv4(Unpooled.wrappedBuffer(new byte[] {40, 127, 0, 0, 1, 1}), true);
+    }
+
+    @Test(expected = AddressLengthException.class)
+    public void testReadIpv4Truncated() throws Exception {
+        IpPrefixConv.readIpv4(Unpooled.wrappedBuffer(new byte[] {32, 127, 0, 0}), true);
+    }
+
+    @Test(expected = AddressLengthException.class)
+    public void testReadIpv6TruncatedHeader() throws Exception {
+        IpPrefixConv.readIpv6(Unpooled.wrappedBuffer(new byte[] {-128, 0}), false);
+    }
+
     @Test
     public void testEqualTo() throws Exception {
         assertTrue(IpPrefixConv.equalTo(ipPrefix1, ipPrefix1));
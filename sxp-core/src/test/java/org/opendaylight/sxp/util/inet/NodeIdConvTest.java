@@ -15,11 +15,14 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import java.net.Inet4Address;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.opendaylight.sxp.util.exception.message.attribute.AttributeLengthException;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.peer.sequence.fields.PeerSequenceBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.sxp.database.rev160308.peer.sequence.fields.peer.sequence.Peer;
@@ -90,6 +93,19 @@ public class NodeIdConvTest {
         assertNotEquals(nodeIds2, NodeIdConv.decode(new byte[] {127, 0, 0, 1, 0, 0, 0, 1, 127, 124, 56, 1}));
     }
 
+    @Test
+    public void testRead() throws Exception {
+        ByteBuf buffer = Unpooled.wrappedBuffer(new byte[] {-1, 127, 0, 0, 1, 0, 0, 0, 1, 127, 124, 56, 1});
+        buffer.skipBytes(1);
+        assertEquals(nodeIds1, NodeIdConv.read(buffer));
+        assertFalse(buffer.isReadable());
+    }
+
+    @Test(expected = AttributeLengthException.class)
+    public void testReadMalformedLength() throws Exception {
+        NodeIdConv.read(Unpooled.wrappedBuffer(new byte[] {127, 0, 0, 1, 127, 0}));
+    }
+
     @Test
     public void testEqualTo() throws Exception {
         assertTrue(NodeIdConv.equalTo(node1, node1));
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.util.inet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+
+public class PrefixExpansionCacheTest {
+
+    private PrefixExpansionCache cache;
+
+    @Before
+    public void init() throws Exception {
+        cache = new PrefixExpansionCache();
+    }
+
+    @Test
+    public void testExpand() throws Exception {
+        IpPrefix prefix = new IpPrefix("127.0.0.0/24".toCharArray());
+        IpPrefix[] expanded = cache.expand(prefix, 20);
+        assertEquals(20, expanded.length);
+        assertSame(expanded, cache.expand(prefix, 10));
+        assertSame(expanded, cache.expand(new IpPrefix("127.0.0.0/24".toCharArray()), 20));
+
+        IpPrefix[] bigger = cache.expand(prefix, 40);
+        assertNotSame(expanded, bigger);
+        assertEquals(40, bigger.length);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testExpandIpv6() throws Exception {
+        IpPrefix[] expanded = cache.expand(new IpPrefix("2001:0:0:0:0:0:0:0/120".toCharArray()), 5);
+        assertEquals(5, expanded.length);
+        for (IpPrefix prefix : expanded) {
+            assertEquals(128, IpPrefixConv.getPrefixLength(prefix));
+        }
+    }
+
+    @Test
+    public void testExpandWholeSubnet() throws Exception {
+        IpPrefix prefix = new IpPrefix("127.0.0.0/30".toCharArray());
+        IpPrefix[] expanded = cache.expand(prefix, 50);
+        assertSame(expanded, cache.expand(prefix, 100));
+    }
+
+    @Test
+    public void testInvalidateAll() throws Exception {
+        cache.expand(new IpPrefix("127.0.0.0/24".toCharArray()), 20);
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWeight() throws Exception {
+        new PrefixExpansionCache(0);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.util.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HashedWheelTimerTest {
+
+    private HashedWheelTimer timer;
+
+    @Before
+    public void init() throws Exception {
+        timer = new HashedWheelTimer(Executors.defaultThreadFactory(), Runnable::run, 10, TimeUnit.MILLISECONDS, 8);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        timer.close();
+    }
+
+    @Test
+    public void testNewTimeout() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final HashedWheelTimer.Timeout timeout = timer.newTimeout(() -> {
+            latch.countDown();
+            return null;
+        }, 150, TimeUnit.MILLISECONDS);
+        assertEquals(1, timer.size());
+        assertFalse(timeout.isDone());
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        for (int i = 0; !timeout.isDone() && i < 50; i++) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertTrue(timeout.isDone());
+        assertFalse(timeout.isCancelled());
+        assertEquals(0, timer.size());
+    }
+
+    @Test
+    public void testRearm() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(3);
+        final AtomicReference<HashedWheelTimer.Timeout> self = new AtomicReference<>();
+        final AtomicInteger instances = new AtomicInteger();
+        self.set(timer.newTimeout(() -> {
+            latch.countDown();
+            if (latch.getCount() > 0) {
+                assertTrue(self.get().rearm(20, TimeUnit.MILLISECONDS));
+            }
+            instances.incrementAndGet();
+            return null;
+        }, 20, TimeUnit.MILLISECONDS));
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(3, instances.get());
+
+        final HashedWheelTimer.Timeout pending = timer.newTimeout(() -> null, 1, TimeUnit.HOURS);
+        assertTrue(pending.rearm(2, TimeUnit.HOURS));
+        assertEquals(1, timer.size());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        final AtomicInteger executed = new AtomicInteger();
+        final HashedWheelTimer.Timeout timeout = timer.newTimeout(() -> executed.incrementAndGet(), 50,
+                TimeUnit.MILLISECONDS);
+        assertTrue(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        assertTrue(timeout.isDone());
+        assertFalse(timeout.cancel());
+        assertFalse(timeout.rearm(10, TimeUnit.MILLISECONDS));
+        assertEquals(0, timer.size());
+
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertEquals(0, executed.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testClose() throws Exception {
+        final HashedWheelTimer.Timeout timeout = timer.newTimeout(() -> null, 1, TimeUnit.HOURS);
+        timer.close();
+        assertTrue(timeout.isCancelled());
+        assertEquals(0, timer.size());
+        timer.newTimeout(() -> null, 1, TimeUnit.HOURS);
+    }
+}
@@ -24,7 +24,6 @@ import org.junit.runner.RunWith;
 import org.opendaylight.sxp.core.SxpConnection;
 import org.opendaylight.sxp.core.SxpNode;
 import org.opendaylight.sxp.util.time.connection.DeleteHoldDownTimerTask;
-import org.opendaylight.sxp.util.time.connection.HoldTimerTask;
 import org.opendaylight.sxp.util.time.connection.KeepAliveTimerTask;
 import org.opendaylight.sxp.util.time.connection.ReconcilationTimerTask;
 import org.opendaylight.sxp.util.time.node.RetryOpenTimerTask;
@@ -89,27 +88,6 @@ public class SxpTimerTaskTest {
         verify(sxpConnection, times(2)).setTimer(TimerType.KeepAliveTimer, timerTask.getPeriod());
     }
 
-    @Test
-    public void testHoldTimerTask() throws Exception {
-        HoldTimerTask timerTask = new HoldTimerTask(sxpConnection, 0);
-        when(sxpConnection.getTimestampUpdateOrKeepAliveMessage()).thenReturn(2 * System.currentTimeMillis());
-
-        timerTask.call();
-        verify(sxpConnection).setTimer(TimerType.HoldTimer, timerTask.getPeriod());
-
-        when(sxpConnection.isStateOn()).thenReturn(false);
-        timerTask.call();
-        verify(sxpConnection, times(1)).setTimer(TimerType.HoldTimer, timerTask.getPeriod());
-
-        when(sxpConnection.isStateOn()).thenReturn(true);
-        when(sxpConnection.getTimestampUpdateOrKeepAliveMessage()).thenReturn(0l);
-        when(sxpConnection.getChannelHandlerContext(any(SxpConnection.ChannelHandlerContextType.class))).thenReturn(
-                mock(ChannelHandlerContext.class));
-        timerTask.call();
-        verify(sxpConnection).setDeleteHoldDownTimer();
-
-    }
-
     @Test
     public void testDeleteHoldDOwnTimerTask() throws Exception {
         when(sxpConnection.isStateDeleteHoldDown()).thenReturn(true);
@@ -9,6 +9,9 @@
 package org.opendaylight.sxp.util.time;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -51,6 +54,29 @@ public class TimeConvTest {
         assertEquals(-1, TimeConv.toLong(time));
     }
 
+    @Test
+    public void testToDtCached() throws Exception {
+        TimeConv.setTimeZone("GMT+1");
+        DateAndTime time = TimeConv.toDt(660815000);
+        assertSame(time, TimeConv.toDt(660815999));
+        assertEquals(660815000, TimeConv.toLong(time));
+        assertNotSame(time, TimeConv.toDt(660816000));
+
+        TimeConv.setTimeZone("GMT+2");
+        assertEquals("1970-01-08T17:33:35Z", TimeConv.toDt(660815000).getValue());
+    }
+
+    @Test
+    public void testCompare() throws Exception {
+        TimeConv.setTimeZone("GMT+1");
+        assertEquals(0, TimeConv.compare(null, null));
+        assertEquals(0, TimeConv.compare(new DateAndTime("1970-01-08T16:33:35Z"),
+                new DateAndTime("1970-01-08T16:33:35Z")));
+        assertTrue(TimeConv.compare(new DateAndTime("1970-01-08T16:33:36Z"),
+                new DateAndTime("1970-01-08T16:33:35Z")) > 0);
+        assertTrue(TimeConv.compare(null, new DateAndTime("1970-01-08T16:33:35Z")) < 0);
+    }
+
     @Test
     public void testSetTimeZone() throws Exception {
         try {
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.sxp.util.time.node;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.ChannelHandlerContext;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.opendaylight.sxp.core.SxpConnection;
+import org.opendaylight.sxp.core.SxpNode;
+import org.opendaylight.sxp.core.threading.ThreadsWorker;
+import org.opendaylight.sxp.util.time.HashedWheelTimer;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({SxpNode.class})
+public class HoldTimeSweeperTest {
+
+    private static ThreadsWorker worker;
+    private static SxpConnection connection;
+    private static HoldTimeSweeper sweeper;
+
+    @Before
+    public void init() throws Exception {
+        SxpNode sxpNode = PowerMockito.mock(SxpNode.class);
+        worker = mock(ThreadsWorker.class);
+        when(worker.scheduleTimer(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(
+                mock(HashedWheelTimer.Timeout.class));
+        PowerMockito.when(sxpNode.getWorker()).thenReturn(worker);
+        connection = mock(SxpConnection.class);
+        when(connection.isStateOn()).thenReturn(true);
+        when(connection.isModeListener()).thenReturn(true);
+        when(connection.isVersion4()).thenReturn(true);
+        when(connection.getLastSeenNanos()).thenReturn(Long.MIN_VALUE);
+        when(connection.getChannelHandlerContext(any(SxpConnection.ChannelHandlerContextType.class))).thenReturn(
+                mock(ChannelHandlerContext.class));
+        sweeper = new HoldTimeSweeper(sxpNode, 1);
+    }
+
+    @Test
+    public void testRegister() throws Exception {
+        sweeper.register(connection, 90);
+        sweeper.register(connection, 120);
+        assertTrue(sweeper.isRegistered(connection));
+        verify(worker).scheduleTimer(sweeper, 1, TimeUnit.SECONDS);
+
+        sweeper.unregister(connection);
+        assertFalse(sweeper.isRegistered(connection));
+    }
+
+    @Test
+    public void testSweepAlive() throws Exception {
+        sweeper.register(connection, 90);
+        final long now = System.nanoTime() + TimeUnit.SECONDS.toNanos(120);
+        when(connection.getLastSeenNanos()).thenReturn(now - TimeUnit.SECONDS.toNanos(10));
+
+        sweeper.sweep(now);
+        assertTrue(sweeper.isRegistered(connection));
+        verify(connection, never()).setDeleteHoldDownTimer();
+    }
+
+    @Test
+    public void testSweepExpired() throws Exception {
+        sweeper.register(connection, 90);
+        sweeper.sweep(System.nanoTime() + TimeUnit.SECONDS.toNanos(30));
+        verify(connection, never()).setDeleteHoldDownTimer();
+
+        sweeper.sweep(System.nanoTime() + TimeUnit.SECONDS.toNanos(120));
+        assertFalse(sweeper.isRegistered(connection));
+        verify(connection).setDeleteHoldDownTimer();
+
+        sweeper.sweep(System.nanoTime() + TimeUnit.SECONDS.toNanos(240));
+        verify(connection, times(1)).setDeleteHoldDownTimer();
+    }
+
+    @Test
+    public void testSweepConnectionOff() throws Exception {
+        when(connection.isStateOn()).thenReturn(false);
+        sweeper.register(connection, 90);
+
+        sweeper.sweep(System.nanoTime() + TimeUnit.SECONDS.toNanos(120));
+        assertFalse(sweeper.isRegistered(connection));
+        verify(connection, never()).setDeleteHoldDownTimer();
+    }
+
+    @Test
+    public void testCall() throws Exception {
+        HashedWheelTimer.Timeout timeout = mock(HashedWheelTimer.Timeout.class);
+        when(timeout.rearm(anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(worker.scheduleTimer(any(Callable.class), anyInt(), any(TimeUnit.class))).thenReturn(timeout);
+        sweeper.register(connection, 90);
+
+        sweeper.call();
+        verify(timeout).rearm(1, TimeUnit.SECONDS);
+
+        sweeper.unregister(connection);
+        sweeper.call();
+        verify(timeout, times(1)).rearm(eq(1L), any(TimeUnit.class));
+    }
+}